@@ -2,8 +2,14 @@ package dev.pjc1991.commerce;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.data.r2dbc.R2dbcRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
 
-@SpringBootApplication
+/**
+ * R2DBC 는 읽기 전용 적립금 API (MemberPointReadServer) 에서만 사용합니다.
+ * ConnectionFactory 가 등록되면 JDBC DataSource 가 구성되지 않으므로, 이 애플리케이션에서는 R2DBC 자동 구성을 사용하지 않습니다.
+ */
+@SpringBootApplication(exclude = {R2dbcAutoConfiguration.class, R2dbcRepositoriesAutoConfiguration.class})
 public class CommerceApplication {
 
 	public static void main(String[] args) {
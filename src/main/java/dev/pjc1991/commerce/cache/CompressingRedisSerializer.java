@@ -0,0 +1,127 @@
+package dev.pjc1991.commerce.cache;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 압축 직렬화
+ * 다른 직렬화 결과가 기준 크기 이상이면 Deflate 로 압축합니다. 작은 값은 압축하지 않고 그대로 저장합니다.
+ * 첫 바이트로 압축 여부를 구분하고, 압축한 값은 원래 크기를 함께 저장해서 한 번에 해제합니다.
+ * 첫 바이트가 알 수 없는 값이라면 이 직렬화를 적용하기 전에 저장된 값으로 보고 그대로 역직렬화합니다.
+ *
+ * @param <T> 값 타입
+ */
+public class CompressingRedisSerializer<T> implements RedisSerializer<T> {
+
+    // 압축하지 않은 값 : [0][값]
+    private static final byte RAW = 0;
+
+    // 압축한 값 : [1][원래 크기 (4 bytes)][Deflate]
+    private static final byte DEFLATE = 1;
+
+    private static final int DEFLATE_HEADER_SIZE = 1 + Integer.BYTES;
+
+    private final RedisSerializer<T> delegate;
+    private final int threshold;
+
+    /**
+     * 생성자
+     *
+     * @param delegate  값을 바이트로 바꿀 직렬화
+     * @param threshold 압축할 최소 크기 (bytes), 0 이하라면 압축하지 않습니다.
+     */
+    public CompressingRedisSerializer(RedisSerializer<T> delegate, int threshold) {
+        this.delegate = delegate;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        byte[] bytes = delegate.serialize(value);
+        if (bytes == null) {
+            return null;
+        }
+        if (threshold <= 0 || bytes.length < threshold) {
+            return raw(bytes);
+        }
+
+        byte[] compressed = deflate(bytes);
+        // 압축해도 줄어들지 않는 값은 해제하는 비용을 들이지 않도록 그대로 저장합니다.
+        if (compressed.length >= bytes.length) {
+            return raw(bytes);
+        }
+        return ByteBuffer.allocate(DEFLATE_HEADER_SIZE + compressed.length)
+                .put(DEFLATE)
+                .putInt(bytes.length)
+                .put(compressed)
+                .array();
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        return switch (bytes[0]) {
+            case RAW -> delegate.deserialize(Arrays.copyOfRange(bytes, 1, bytes.length));
+            case DEFLATE -> delegate.deserialize(inflate(bytes));
+            default -> delegate.deserialize(bytes);
+        };
+    }
+
+    private static byte[] raw(byte[] bytes) {
+        byte[] raw = new byte[bytes.length + 1];
+        raw[0] = RAW;
+        System.arraycopy(bytes, 0, raw, 1, bytes.length);
+        return raw;
+    }
+
+    private static byte[] deflate(byte[] bytes) {
+        // 캐시는 자주 읽고 쓰므로 압축률보다 속도를 우선합니다.
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(bytes);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] bytes) {
+        int length = ByteBuffer.wrap(bytes, 1, Integer.BYTES).getInt();
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes, DEFLATE_HEADER_SIZE, bytes.length - DEFLATE_HEADER_SIZE);
+            byte[] out = new byte[length];
+            int offset = 0;
+            while (offset < length && !inflater.finished()) {
+                int inflated = inflater.inflate(out, offset, length - offset);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                offset += inflated;
+            }
+            if (offset != length) {
+                throw new SerializationException("압축된 캐시 값의 크기가 다릅니다. 기대한 크기 : " + length + ", 해제한 크기 : " + offset);
+            }
+            return out;
+        } catch (DataFormatException e) {
+            throw new SerializationException("압축된 캐시 값을 해제하지 못했습니다.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package dev.pjc1991.commerce.cache;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 스스로 만료 시점을 가진 캐시 값
+ * 값이 더 이상 맞지 않게 되는 시점을 알고 있다면, 고정된 유효 시간 대신 그 시점에 캐시에서 사라지도록 합니다.
+ * L1 캐시 (TwoLevelCache) 와 이 값을 저장하는 L2 캐시는 설정된 최대 유효 시간과 만료 시점 중 먼저 오는 때에 만료합니다.
+ */
+public interface ExpiringCacheValue {
+
+    /**
+     * 캐시 값의 만료 시점
+     *
+     * @return 만료 시점 (만료 시점이 없다면 null)
+     */
+    LocalDateTime getExpireAt();
+
+    /**
+     * 최대 유효 시간과 만료 시점 중 먼저 오는 때까지 남은 시간을 계산합니다.
+     *
+     * @param value  캐시 값
+     * @param maxTtl 최대 유효 시간
+     * @param now    기준 시점
+     * @return 남은 유효 시간 (이미 만료되었다면 0)
+     */
+    static Duration timeToLive(Object value, Duration maxTtl, LocalDateTime now) {
+        if (!(value instanceof ExpiringCacheValue expiring) || expiring.getExpireAt() == null) {
+            return maxTtl;
+        }
+        Duration untilExpire = Duration.between(now, expiring.getExpireAt());
+        if (untilExpire.isNegative()) {
+            return Duration.ZERO;
+        }
+        return untilExpire.compareTo(maxTtl) < 0 ? untilExpire : maxTtl;
+    }
+}
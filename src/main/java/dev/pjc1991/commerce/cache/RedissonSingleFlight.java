@@ -0,0 +1,62 @@
+package dev.pjc1991.commerce.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 여러 노드의 캐시 미스 요청 합치기
+ * 한 JVM 안의 요청을 합친 뒤, 노드마다 하나씩 남은 요청은 Redisson 잠금으로 한 번에 하나씩 값을 읽어옵니다.
+ * 잠금을 기다린 노드는 값을 읽어오는 함수 안에서 먼저 L2 캐시를 다시 확인하므로, 앞선 노드가 저장한 값을 사용합니다.
+ *
+ * 잠금을 얻지 못하면 (Redis 장애, 오래 걸리는 조회) 기다리지 않고 직접 읽어옵니다. 합치지 못할 뿐 결과는 같습니다.
+ */
+@Slf4j
+public class RedissonSingleFlight extends SingleFlight {
+
+    private static final String LOCK_PREFIX = "cache:single-flight:";
+
+    private final Supplier<RedissonClient> redissonClient;
+    private final Duration waitTime;
+    private final Duration leaseTime;
+
+    /**
+     * 생성자
+     *
+     * @param redissonClient Redisson 클라이언트 (Redisson 은 생성할 때 Redis 에 연결하므로, 처음 값을 읽어올 때 가져옵니다.)
+     * @param waitTime       잠금을 기다리는 최대 시간
+     * @param leaseTime      잠금을 유지하는 최대 시간 (값을 읽어오던 노드가 종료되어도 이 시간이 지나면 풀립니다.)
+     */
+    public RedissonSingleFlight(Supplier<RedissonClient> redissonClient, Duration waitTime, Duration leaseTime) {
+        this.redissonClient = redissonClient;
+        this.waitTime = waitTime;
+        this.leaseTime = leaseTime;
+    }
+
+    @Override
+    protected <T> T load(String key, Callable<T> loader) throws Exception {
+        RLock lock = redissonClient.get().getLock(LOCK_PREFIX + key);
+        boolean locked = false;
+        try {
+            locked = lock.tryLock(waitTime.toMillis(), leaseTime.toMillis(), TimeUnit.MILLISECONDS);
+            if (!locked) {
+                log.debug("캐시 미스 잠금을 기다리는 시간이 지났습니다. 잠금 없이 값을 읽어옵니다. 키 : {}", key);
+            }
+        } catch (RuntimeException e) {
+            log.warn("캐시 미스 잠금을 얻지 못했습니다. 잠금 없이 값을 읽어옵니다. 키 : {}", key, e);
+        }
+
+        try {
+            return loader.call();
+        } finally {
+            if (locked && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+}
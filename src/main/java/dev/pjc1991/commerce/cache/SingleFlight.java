@@ -0,0 +1,99 @@
+package dev.pjc1991.commerce.cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 캐시 미스 요청 합치기 (single flight)
+ * 같은 키의 값을 읽어오는 요청이 동시에 여러 개 들어오면, 먼저 들어온 요청 하나만 값을 읽어오고 나머지는 그 결과를 기다립니다.
+ * 캐시가 한꺼번에 삭제된 직후 (만료 처리, Redis 재시작) 같은 회원의 합계를 조회하는 요청이 각자 데이터베이스를 조회하지 않도록 합니다.
+ *
+ * 한 JVM 안의 요청만 합칩니다. 여러 노드의 요청까지 합치려면 RedissonSingleFlight 를 사용합니다.
+ */
+public class SingleFlight {
+
+    // 값을 읽어오는 중인 키와 그 결과
+    private final ConcurrentMap<String, CompletableFuture<Object>> flights = new ConcurrentHashMap<>();
+
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder joins = new LongAdder();
+
+    /**
+     * 같은 키의 요청이 값을 읽어오는 중이라면 그 결과를 기다리고, 아니라면 직접 읽어옵니다.
+     * 값을 읽어오다 예외가 발생하면 기다리던 요청도 같은 예외를 받습니다.
+     *
+     * @param key    키
+     * @param loader 값을 읽어오는 함수
+     * @return 읽어온 값
+     * @throws Exception 값을 읽어오다 발생한 예외
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Callable<T> loader) throws Exception {
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> running = flights.putIfAbsent(key, flight);
+        if (running != null) {
+            joins.increment();
+            return (T) await(running);
+        }
+
+        loads.increment();
+        try {
+            T value = load(key, loader);
+            flight.complete(value);
+            return value;
+        } catch (Throwable e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(key, flight);
+        }
+    }
+
+    /**
+     * 값을 읽어옵니다. 같은 키에 대해 한 JVM 에서 한 번에 한 요청만 호출합니다.
+     *
+     * @param key    키
+     * @param loader 값을 읽어오는 함수
+     * @return 읽어온 값
+     * @throws Exception 값을 읽어오다 발생한 예외
+     */
+    protected <T> T load(String key, Callable<T> loader) throws Exception {
+        return loader.call();
+    }
+
+    /**
+     * 직접 값을 읽어온 요청 수
+     */
+    public long getLoads() {
+        return loads.sum();
+    }
+
+    /**
+     * 다른 요청의 결과를 기다린 요청 수
+     */
+    public long getJoins() {
+        return joins.sum();
+    }
+
+    private static Object await(CompletableFuture<Object> running) throws Exception {
+        try {
+            return running.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception exception) {
+                throw exception;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package dev.pjc1991.commerce.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 2단계 캐시
+ * JVM 안의 L1 캐시 (Caffeine) 를 먼저 조회하고, 없을 때만 L2 캐시 (Redis) 를 조회합니다.
+ * L2 에서 찾은 값은 L1 에 저장하므로, 같은 키를 다시 조회할 때는 Redis 를 왕복하지 않습니다.
+ * 캐시를 초기화하면 L1, L2 를 모두 초기화하고, 다른 노드의 L1 도 초기화되도록 Redis pub/sub 으로 알립니다.
+ * L1 의 키는 다른 노드에서 받은 초기화 메시지와 비교할 수 있도록 문자열로 저장합니다.
+ *
+ * L1 은 L2 에서 읽은 값만 보관합니다. L2 가 값을 직접 갱신하거나 저장을 거부할 수 있으므로, 저장한 값을 L1 에 그대로 두지 않습니다.
+ * L2 를 조회하는 동안 초기화가 일어났다면 조회한 값이 이전 값일 수 있으므로 L1 에서 지웁니다.
+ *
+ * L1, L2 에 모두 없는 키를 동시에 여러 요청이 읽어오면 (@Cacheable(sync = true)), SingleFlight 로 한 요청만 값을 읽어오고 나머지는 그 결과를 사용합니다.
+ */
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final Cache remote;
+    private final TwoLevelCacheManager cacheManager;
+    private final SingleFlight singleFlight;
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder localMisses = new LongAdder();
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder remoteMisses = new LongAdder();
+
+    // L1 초기화 횟수 (L2 를 조회하는 동안 초기화가 일어났는지 확인합니다.)
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * 생성자
+     *
+     * @param name         캐시 이름
+     * @param local        L1 캐시 (Caffeine)
+     * @param remote       L2 캐시 (Redis)
+     * @param cacheManager 다른 노드에 초기화 메시지를 보낼 캐시 매니저
+     * @param singleFlight 캐시 미스 요청 합치기
+     */
+    public TwoLevelCache(String name, com.github.benmanes.caffeine.cache.Cache<String, Object> local, Cache remote, TwoLevelCacheManager cacheManager, SingleFlight singleFlight) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.cacheManager = cacheManager;
+        this.singleFlight = singleFlight;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = toLocalKey(key);
+        Object stored = local.getIfPresent(localKey);
+        if (stored != null) {
+            localHits.increment();
+            return new SimpleValueWrapper(fromStoreValue(stored));
+        }
+        localMisses.increment();
+
+        long invalidationsBefore = invalidations.get();
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper == null) {
+            remoteMisses.increment();
+            return null;
+        }
+        remoteHits.increment();
+        local.put(localKey, toStoreValue(wrapper.get()));
+        // 초기화는 횟수를 먼저 올린 뒤 L1 에서 지우므로, 저장한 뒤에 횟수가 같다면 이후의 초기화가 이 값을 지웁니다.
+        if (invalidations.get() != invalidationsBefore) {
+            local.invalidate(localKey);
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        Object value = wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값의 타입이 다릅니다. 캐시 : " + name + ", 기대한 타입 : " + type.getName() + ", 값 : " + value);
+        }
+        return (T) value;
+    }
+
+    /**
+     * 캐시에 없다면 값을 읽어와서 L2 에 저장합니다.
+     * 같은 키를 읽어오는 중인 요청이 있다면 직접 읽어오지 않고 그 결과를 기다립니다.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+
+        try {
+            return singleFlight.execute(name + "::" + toLocalKey(key), () -> load(key, valueLoader));
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T load(Object key, Callable<T> valueLoader) throws Exception {
+        // 차례를 기다리는 동안 앞선 요청 (다른 노드) 이 L2 에 저장했을 수 있으므로 다시 확인합니다.
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        T value = valueLoader.call();
+        put(key, value);
+        return value;
+    }
+
+    /**
+     * L2 에 저장합니다. L1 에는 다음 조회에서 L2 의 값을 읽어서 저장합니다.
+     */
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return remote.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = toLocalKey(key);
+        remote.evict(key);
+        evictLocal(List.of(localKey));
+        cacheManager.publishEvict(name, List.of(localKey));
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        clearLocal();
+        cacheManager.publishClear(name);
+    }
+
+    /**
+     * 이 노드의 L1 캐시만 초기화합니다.
+     * 다른 노드에서 초기화 메시지를 받았거나, L2 를 직접 초기화했을 때 사용합니다.
+     *
+     * @param keys 초기화할 키 (문자열)
+     */
+    public void evictLocal(Collection<String> keys) {
+        invalidations.incrementAndGet();
+        local.invalidateAll(keys);
+    }
+
+    /**
+     * 이 노드의 L1 캐시를 모두 초기화합니다.
+     */
+    public void clearLocal() {
+        invalidations.incrementAndGet();
+        local.invalidateAll();
+    }
+
+    /**
+     * L1 캐시 적중률
+     *
+     * @return L1 적중 횟수 / L1 조회 횟수 (조회가 없었다면 0)
+     */
+    public double getLocalHitRatio() {
+        return ratio(localHits.sum(), localMisses.sum());
+    }
+
+    /**
+     * L2 캐시 적중률
+     * L1 에서 찾지 못해 L2 를 조회한 요청 중 L2 에서 찾은 비율입니다.
+     *
+     * @return L2 적중 횟수 / L2 조회 횟수 (조회가 없었다면 0)
+     */
+    public double getRemoteHitRatio() {
+        return ratio(remoteHits.sum(), remoteMisses.sum());
+    }
+
+    public long getLocalHits() {
+        return localHits.sum();
+    }
+
+    public long getLocalMisses() {
+        return localMisses.sum();
+    }
+
+    public long getRemoteHits() {
+        return remoteHits.sum();
+    }
+
+    public long getRemoteMisses() {
+        return remoteMisses.sum();
+    }
+
+    /**
+     * L1 캐시에 저장된 항목 수 (추정치)
+     *
+     * @return 항목 수
+     */
+    public long getLocalSize() {
+        return local.estimatedSize();
+    }
+
+    private static double ratio(long hits, long misses) {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    private static String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    // Caffeine 은 null 을 저장하지 않으므로, null 은 NullValue 로 바꿔서 저장합니다.
+    private static Object toStoreValue(Object value) {
+        return value == null ? NullValue.INSTANCE : value;
+    }
+
+    private static Object fromStoreValue(Object stored) {
+        return stored == NullValue.INSTANCE ? null : stored;
+    }
+}
@@ -0,0 +1,246 @@
+package dev.pjc1991.commerce.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 2단계 캐시 매니저
+ * 지정한 캐시는 JVM 안의 L1 캐시 (크기, 시간 제한) 와 Redis L2 캐시를 함께 사용하는 TwoLevelCache 로 감싸고,
+ * 나머지 캐시는 L2 캐시 매니저의 캐시를 그대로 사용합니다.
+ * 캐시를 초기화하면 Redis pub/sub 채널로 초기화 메시지를 보내고, 다른 노드는 메시지를 받아 자신의 L1 캐시를 초기화합니다.
+ * 메시지가 유실되더라도 L1 캐시는 expireAfterWrite 가 지나면 만료되므로, 노드 사이의 불일치는 그 시간 안으로 제한됩니다.
+ * 만료 시점을 가진 값 (ExpiringCacheValue) 은 그 시점이 먼저 오면 그때 만료됩니다.
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    // 메시지 구분자 (노드 아이디, 캐시 이름, 키를 한 줄에 하나씩 보냅니다.)
+    private static final String SEPARATOR = "\n";
+
+    // 메시지 하나에 담을 키의 최대 개수
+    private static final int KEYS_PER_MESSAGE = 1000;
+
+    private final CacheManager remoteCacheManager;
+    private final Set<String> localCacheNames;
+    private final long maximumSize;
+    private final Duration expireAfterWrite;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String channel;
+    private final MeterRegistry meterRegistry;
+    private final SingleFlight singleFlight;
+
+    // 자신이 보낸 초기화 메시지를 구분하기 위한 노드 아이디
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    /**
+     * 생성자
+     *
+     * @param remoteCacheManager  L2 캐시 매니저 (Redis)
+     * @param localCacheNames     L1 캐시를 함께 사용할 캐시 이름
+     * @param maximumSize         캐시별 L1 캐시의 최대 항목 수
+     * @param expireAfterWrite    L1 캐시 항목의 유효 시간
+     * @param stringRedisTemplate 초기화 메시지를 보낼 Redis 템플릿
+     * @param channel             초기화 메시지 채널
+     * @param meterRegistry       적중률 지표를 등록할 레지스트리
+     * @param singleFlight        캐시 미스 요청 합치기 (모든 L1 캐시가 함께 사용합니다.)
+     */
+    public TwoLevelCacheManager(
+            CacheManager remoteCacheManager
+            , Collection<String> localCacheNames
+            , long maximumSize
+            , Duration expireAfterWrite
+            , StringRedisTemplate stringRedisTemplate
+            , String channel
+            , MeterRegistry meterRegistry
+            , SingleFlight singleFlight
+    ) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.localCacheNames = Set.copyOf(localCacheNames);
+        this.maximumSize = maximumSize;
+        this.expireAfterWrite = expireAfterWrite;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.channel = channel;
+        this.meterRegistry = meterRegistry;
+        this.singleFlight = singleFlight;
+
+        FunctionCounter.builder("cache.single-flight", singleFlight, SingleFlight::getLoads)
+                .tag("result", "load")
+                .description("캐시 미스 중 직접 값을 읽어온 요청 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.single-flight", singleFlight, SingleFlight::getJoins)
+                .tag("result", "join")
+                .description("캐시 미스 중 다른 요청의 결과를 기다린 요청 수")
+                .register(meterRegistry);
+    }
+
+    public SingleFlight getSingleFlight() {
+        return singleFlight;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        if (!localCacheNames.contains(name)) {
+            return remoteCacheManager.getCache(name);
+        }
+        TwoLevelCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, key -> createCache(key, remote));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    /**
+     * L2 캐시를 직접 초기화한 뒤, 이 노드와 다른 노드의 L1 캐시를 초기화합니다.
+     * 캐시 추상화를 거치지 않고 Redis 에서 키를 일괄 삭제했을 때 사용합니다.
+     *
+     * @param name 캐시 이름
+     * @param keys 초기화할 키
+     */
+    public void broadcastEvict(String name, Collection<?> keys) {
+        if (!localCacheNames.contains(name) || keys.isEmpty()) {
+            return;
+        }
+        List<String> localKeys = keys.stream().map(String::valueOf).toList();
+        TwoLevelCache cache = caches.get(name);
+        if (cache != null) {
+            cache.evictLocal(localKeys);
+        }
+        // 이 노드에서 아직 사용하지 않은 캐시라도 다른 노드에는 L1 캐시가 있을 수 있으므로 메시지는 항상 보냅니다.
+        publishEvict(name, localKeys);
+    }
+
+    /**
+     * 다른 노드에 L1 캐시 초기화 메시지를 보냅니다.
+     *
+     * @param name 캐시 이름
+     * @param keys 초기화할 키 (문자열)
+     */
+    void publishEvict(String name, List<String> keys) {
+        for (int from = 0; from < keys.size(); from += KEYS_PER_MESSAGE) {
+            List<String> chunk = keys.subList(from, Math.min(from + KEYS_PER_MESSAGE, keys.size()));
+            publish(nodeId + SEPARATOR + name + SEPARATOR + String.join(SEPARATOR, chunk));
+        }
+    }
+
+    /**
+     * 다른 노드에 L1 캐시 전체 초기화 메시지를 보냅니다. (키가 없는 메시지)
+     *
+     * @param name 캐시 이름
+     */
+    void publishClear(String name) {
+        publish(nodeId + SEPARATOR + name);
+    }
+
+    /**
+     * 다른 노드의 초기화 메시지를 받아서 이 노드의 L1 캐시를 초기화합니다.
+     * 자신이 보낸 메시지는 이미 초기화했으므로 무시합니다.
+     *
+     * @param message 초기화 메시지
+     * @param pattern 구독한 채널 패턴
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] lines = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR);
+        if (lines.length < 2 || nodeId.equals(lines[0])) {
+            return;
+        }
+
+        TwoLevelCache cache = caches.get(lines[1]);
+        if (cache == null) {
+            return;
+        }
+        if (lines.length == 2) {
+            cache.clearLocal();
+            return;
+        }
+        cache.evictLocal(new ArrayList<>(Arrays.asList(lines).subList(2, lines.length)));
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    private void publish(String message) {
+        try {
+            stringRedisTemplate.convertAndSend(channel, message);
+        } catch (RuntimeException e) {
+            // 메시지를 보내지 못해도 다른 노드의 L1 캐시는 유효 시간이 지나면 만료됩니다.
+            log.error("캐시 초기화 메시지를 보내지 못했습니다. 채널 : {}", channel, e);
+        }
+    }
+
+    private TwoLevelCache createCache(String name, Cache remote) {
+        // 만료 시점을 가진 값 (ExpiringCacheValue) 은 expireAfterWrite 보다 먼저 만료될 수 있습니다.
+        com.github.benmanes.caffeine.cache.Cache<String, Object> local = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, Object>() {
+                    @Override
+                    public long expireAfterCreate(String key, Object value, long currentTime) {
+                        return ExpiringCacheValue.timeToLive(value, expireAfterWrite, LocalDateTime.now()).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Object value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Object value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+        TwoLevelCache cache = new TwoLevelCache(name, local, remote, this, singleFlight);
+
+        // 캐시별 L1, L2 적중률과 조회 횟수를 지표로 등록합니다.
+        Gauge.builder("cache.l1.hit.ratio", cache, TwoLevelCache::getLocalHitRatio)
+                .tag("cache", name)
+                .description("L1 (JVM) 캐시 적중률")
+                .register(meterRegistry);
+        Gauge.builder("cache.l2.hit.ratio", cache, TwoLevelCache::getRemoteHitRatio)
+                .tag("cache", name)
+                .description("L1 에서 찾지 못한 요청 중 L2 (Redis) 캐시 적중률")
+                .register(meterRegistry);
+        Gauge.builder("cache.l1.size", cache, TwoLevelCache::getLocalSize)
+                .tag("cache", name)
+                .description("L1 (JVM) 캐시 항목 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.l1.gets", cache, TwoLevelCache::getLocalHits).tags("cache", name, "result", "hit").register(meterRegistry);
+        FunctionCounter.builder("cache.l1.gets", cache, TwoLevelCache::getLocalMisses).tags("cache", name, "result", "miss").register(meterRegistry);
+        FunctionCounter.builder("cache.l2.gets", cache, TwoLevelCache::getRemoteHits).tags("cache", name, "result", "hit").register(meterRegistry);
+        FunctionCounter.builder("cache.l2.gets", cache, TwoLevelCache::getRemoteMisses).tags("cache", name, "result", "miss").register(meterRegistry);
+        return cache;
+    }
+}
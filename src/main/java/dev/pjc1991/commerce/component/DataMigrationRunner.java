@@ -0,0 +1,111 @@
+package dev.pjc1991.commerce.component;
+
+import dev.pjc1991.commerce.domain.DataMigration;
+import dev.pjc1991.commerce.repository.DataMigrationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 데이터 마이그레이션 실행기
+ * data.sql 은 기동할 때마다 실행되므로, 스키마 갱신 (ddl-auto) 으로 추가된 컬럼과 테이블의 기존 데이터를 채우는 백필은
+ * db/migration 의 버전별 스크립트 (V{버전}__{설명}.sql) 로 두고, 버전마다 한 번만 실행합니다.
+ * 실행한 버전은 DATA_MIGRATION 테이블에 기록하고, 기록된 버전은 다시 실행하지 않습니다.
+ *
+ * 스키마 갱신과 data.sql 이 끝난 뒤, 스케쥴과 웹 서버가 시작되기 전에 실행됩니다. (DependsOnDatabaseInitialization)
+ * 버전 기록과 스크립트는 한 트랜잭션에서 실행되므로, 여러 노드가 동시에 기동해도 버전을 먼저 기록한 노드만 스크립트를 실행합니다.
+ */
+@Slf4j
+@Component
+@DependsOnDatabaseInitialization
+public class DataMigrationRunner implements InitializingBean {
+
+    private static final String LOCATION = "classpath:db/migration/V*__*.sql";
+    private static final Pattern FILE_NAME = Pattern.compile("V(\\d+)__(\\w+)\\.sql");
+
+    private final DataMigrationRepository dataMigrationRepository;
+    private final DataSource dataSource;
+    private final TransactionTemplate transactionTemplate;
+
+    public DataMigrationRunner(
+            DataMigrationRepository dataMigrationRepository
+            , DataSource dataSource
+            , PlatformTransactionManager transactionManager
+    ) {
+        this.dataMigrationRepository = dataMigrationRepository;
+        this.dataSource = dataSource;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        migrate();
+    }
+
+    /**
+     * 아직 실행하지 않은 마이그레이션을 버전 순서대로 실행합니다.
+     * 스크립트가 실패하면 기동을 중단하고, 다음 기동에서 그 버전부터 다시 실행합니다.
+     *
+     * @return 실행한 마이그레이션의 개수
+     */
+    public int migrate() throws IOException {
+        int applied = 0;
+        for (Resource script : getScripts()) {
+            Matcher matcher = FILE_NAME.matcher(script.getFilename());
+            matcher.matches();
+            int version = Integer.parseInt(matcher.group(1));
+            String description = matcher.group(2);
+            if (dataMigrationRepository.existsById(version)) {
+                continue;
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    // 버전을 먼저 기록해서, 같은 버전을 실행하려는 다른 노드는 이 트랜잭션이 끝날 때까지 기다리게 합니다.
+                    dataMigrationRepository.saveAndFlush(new DataMigration(version, description));
+                    ResourceDatabasePopulator populator = new ResourceDatabasePopulator(script);
+                    populator.setSqlScriptEncoding(StandardCharsets.UTF_8.name());
+                    populator.execute(dataSource);
+                });
+            } catch (DataIntegrityViolationException e) {
+                log.info("데이터 마이그레이션 V{} ({}) 은 다른 노드가 이미 실행했습니다.", version, description);
+                continue;
+            }
+            log.info("데이터 마이그레이션 V{} ({}) 을 실행했습니다.", version, description);
+            applied++;
+        }
+        return applied;
+    }
+
+    /**
+     * 마이그레이션 스크립트를 버전 순서대로 조회합니다.
+     *
+     * @return 마이그레이션 스크립트 목록
+     */
+    private List<Resource> getScripts() throws IOException {
+        return Arrays.stream(new PathMatchingResourcePatternResolver().getResources(LOCATION))
+                .filter(resource -> resource.getFilename() != null && FILE_NAME.matcher(resource.getFilename()).matches())
+                .sorted(Comparator.comparingInt(resource -> {
+                    Matcher matcher = FILE_NAME.matcher(resource.getFilename());
+                    matcher.matches();
+                    return Integer.parseInt(matcher.group(1));
+                }))
+                .toList();
+    }
+}
@@ -2,13 +2,16 @@ package dev.pjc1991.commerce.config;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import redis.embedded.RedisServer;
 
 import java.io.IOException;
+import java.net.ServerSocket;
 
+@Slf4j
 @Configuration
 @Profile("dev")
 public class EmbeddedRedisConfig {
@@ -20,10 +23,23 @@ public class EmbeddedRedisConfig {
 
     @PostConstruct
     public void redisServer() throws IOException {
+        // 같은 JVM 의 다른 애플리케이션 컨텍스트 (테스트) 가 이미 서버를 실행했다면 그 서버를 함께 사용합니다.
+        if (isPortInUse()) {
+            log.info("포트 {} 에서 이미 Redis 가 실행 중이므로 내장 Redis 를 실행하지 않습니다.", port);
+            return;
+        }
         redisServer = new RedisServer(port);
         redisServer.start();
     }
 
+    private boolean isPortInUse() {
+        try (ServerSocket ignored = new ServerSocket(port)) {
+            return false;
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
     @PreDestroy
     public void stopRedis() throws IOException {
         if (redisServer != null) {
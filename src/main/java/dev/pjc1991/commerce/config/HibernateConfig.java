@@ -0,0 +1,22 @@
+package dev.pjc1991.commerce.config;
+
+import dev.pjc1991.commerce.domain.AssignedIdInterceptor;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate 설정
+ */
+@Configuration
+public class HibernateConfig {
+
+    /**
+     * 식별자를 미리 발급받는 엔티티 (AssignedIdEntity) 를 새 엔티티로 저장할 수 있도록 인터셉터를 등록합니다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer assignedIdInterceptorCustomizer() {
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.INTERCEPTOR, new AssignedIdInterceptor());
+    }
+}
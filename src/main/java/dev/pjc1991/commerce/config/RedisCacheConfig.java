@@ -1,19 +1,35 @@
 package dev.pjc1991.commerce.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.pjc1991.commerce.cache.CompressingRedisSerializer;
+import dev.pjc1991.commerce.cache.RedissonSingleFlight;
+import dev.pjc1991.commerce.cache.SingleFlight;
+import dev.pjc1991.commerce.cache.TwoLevelCacheManager;
+import dev.pjc1991.commerce.member.component.MemberRedisSerializer;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.CacheManager;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.support.CompositeCacheManager;
+import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.List;
 
 @Configuration
 @EnableCaching
@@ -23,16 +39,68 @@ public class RedisCacheConfig {
     private final RedisConnectionFactory cf;
     private final ObjectMapper objectMapper;
 
+    /**
+     * 캐시 매니저
+     * Redis 캐시 (L2) 를 기본으로 사용하고, cache.l1.cache-names 에 지정한 캐시는 JVM 안의 L1 캐시를 앞에 둡니다.
+     * Cache 빈으로 등록된 캐시 (값을 직접 갱신하는 캐시) 는 같은 이름의 Redis 캐시 대신 L2 로 사용합니다.
+     *
+     * 회원 캐시 (member) 는 JSON 대신 회원 아이디와 이름만 저장하는 직렬화를 사용하고,
+     * 나머지 캐시는 JSON (기본 타입 정보 포함) 으로 저장하되 cache.redis.compression-threshold 이상이면 압축합니다.
+     *
+     * L1 캐시에서 같은 키의 캐시 미스가 동시에 일어나면 한 요청만 값을 읽어옵니다. (@Cacheable(sync = true))
+     * cache.single-flight.distributed 가 true 라면 Redisson 잠금으로 여러 노드의 요청도 합칩니다.
+     */
     @Bean
-    public CacheManager cacheManager() {
+    public TwoLevelCacheManager cacheManager(
+            StringRedisTemplate stringRedisTemplate
+            , ObjectProvider<Cache> customCaches
+            , MeterRegistry meterRegistry
+            , @Value("${cache.l1.cache-names:}") List<String> localCacheNames
+            , @Value("${cache.l1.maximum-size:10000}") long maximumSize
+            , @Value("${cache.l1.expire-after-write:30s}") Duration expireAfterWrite
+            , @Value("${cache.l1.invalidation-channel:cache:invalidate}") String channel
+            , @Value("${cache.redis.compression-threshold:1024}") int compressionThreshold
+            , ObjectProvider<RedissonClient> redissonClient
+            , @Value("${cache.single-flight.distributed:false}") boolean distributedSingleFlight
+            , @Value("${cache.single-flight.lock-wait:3s}") Duration singleFlightLockWait
+            , @Value("${cache.single-flight.lock-lease:10s}") Duration singleFlightLockLease
+    ) {
 
         ObjectMapper copy = objectMapper.copy();
         copy.activateDefaultTyping(copy.getPolymorphicTypeValidator(), ObjectMapper.DefaultTyping.NON_FINAL);
+        RedisSerializer<Object> json = new GenericJackson2JsonRedisSerializer(copy);
         RedisCacheConfiguration configuration = RedisCacheConfiguration.defaultCacheConfig()
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer(copy)))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new CompressingRedisSerializer<>(json, compressionThreshold)))
                 .entryTtl(Duration.ofMinutes(10L));
+        RedisCacheConfiguration memberConfiguration = configuration
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new MemberRedisSerializer()));
 
-        return RedisCacheManager.RedisCacheManagerBuilder.fromConnectionFactory(cf).cacheDefaults(configuration).build();
+        RedisCacheManager redisCacheManager = RedisCacheManager.RedisCacheManagerBuilder.fromConnectionFactory(cf)
+                .cacheDefaults(configuration)
+                .withCacheConfiguration("member", memberConfiguration)
+                .build();
+        redisCacheManager.initializeCaches();
+
+        SimpleCacheManager customCacheManager = new SimpleCacheManager();
+        customCacheManager.setCaches(customCaches.orderedStream().toList());
+        customCacheManager.initializeCaches();
+
+        CompositeCacheManager remoteCacheManager = new CompositeCacheManager(customCacheManager, redisCacheManager);
+        SingleFlight singleFlight = distributedSingleFlight
+                ? new RedissonSingleFlight(redissonClient::getObject, singleFlightLockWait, singleFlightLockLease)
+                : new SingleFlight();
+        return new TwoLevelCacheManager(remoteCacheManager, localCacheNames, maximumSize, expireAfterWrite, stringRedisTemplate, channel, meterRegistry, singleFlight);
+    }
+
+    /**
+     * 다른 노드가 보낸 L1 캐시 초기화 메시지를 구독합니다.
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(TwoLevelCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(cf);
+        container.addMessageListener(cacheManager, new ChannelTopic(cacheManager.getChannel()));
+        return container;
     }
 }
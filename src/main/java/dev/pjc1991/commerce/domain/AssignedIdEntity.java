@@ -0,0 +1,39 @@
+package dev.pjc1991.commerce.domain;
+
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 식별자를 애플리케이션에서 직접 할당하는 엔티티의 상위 클래스
+ * 식별자가 채워져 있으면 Spring Data 는 merge 를 사용하므로 저장 전에 SELECT 가 한 번 더 실행됩니다.
+ * 새로 생성한 엔티티는 persist 로 바로 저장될 수 있도록 Persistable 을 구현합니다.
+ *
+ * @param <ID> 식별자 타입
+ */
+@MappedSuperclass
+public abstract class AssignedIdEntity<ID> implements Persistable<ID> {
+
+    /**
+     * 새로 생성된 엔티티인지 여부
+     * 저장되거나 조회된 이후에는 false 가 됩니다.
+     */
+    @Transient
+    private boolean isNew = true;
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    /**
+     * 저장되거나 조회된 엔티티는 더 이상 새 엔티티가 아닙니다.
+     */
+    @PostPersist
+    @PostLoad
+    protected void markNotNew() {
+        this.isNew = false;
+    }
+}
@@ -0,0 +1,19 @@
+package dev.pjc1991.commerce.domain;
+
+import org.hibernate.Interceptor;
+
+/**
+ * 식별자를 미리 채워둔 엔티티의 저장 여부를 판단하는 인터셉터
+ * 생성기가 지정된 식별자가 채워져 있으면 Hibernate 는 이미 저장된 (detached) 엔티티로 판단하므로,
+ * AssignedIdEntity 는 식별자 대신 isNew 로 새 엔티티인지 판단합니다.
+ */
+public class AssignedIdInterceptor implements Interceptor {
+
+    @Override
+    public Boolean isTransient(Object entity) {
+        if (entity instanceof AssignedIdEntity<?> assignedIdEntity) {
+            return assignedIdEntity.isNew();
+        }
+        return null;
+    }
+}
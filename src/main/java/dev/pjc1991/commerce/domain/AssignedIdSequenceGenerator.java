@@ -0,0 +1,20 @@
+package dev.pjc1991.commerce.domain;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
+/**
+ * 미리 발급받은 식별자를 유지하는 시퀀스 생성기
+ * 저장하기 전에 같은 생성기로부터 식별자를 발급받아 채워둔 엔티티 (AssignedIdEntity) 는 그 식별자를 그대로 사용합니다.
+ * 식별자가 비어 있다면 시퀀스 (pooled 옵티마이저) 로부터 새로 발급합니다.
+ */
+public class AssignedIdSequenceGenerator extends SequenceStyleGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        if (object instanceof AssignedIdEntity<?> entity && entity.getId() != null) {
+            return entity.getId();
+        }
+        return super.generate(session, object);
+    }
+}
@@ -0,0 +1,53 @@
+package dev.pjc1991.commerce.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 데이터 마이그레이션 실행 기록
+ * 실행한 마이그레이션 버전마다 한 행을 기록하고, 기록된 버전은 다시 실행하지 않습니다.
+ * 스키마 생성 (ddl-auto=create) 으로 테이블이 다시 만들어지면 기록도 함께 지워지므로, 빈 테이블에 마이그레이션을 다시 실행합니다.
+ */
+@Getter
+@Entity
+@Table(name = "DATA_MIGRATION")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DataMigration extends AssignedIdEntity<Integer> {
+
+    /**
+     * 마이그레이션 버전
+     */
+    @Id
+    @Column(name = "VERSION", nullable = false)
+    private Integer version;
+
+    /**
+     * 마이그레이션 설명 (스크립트 파일 이름)
+     */
+    @Column(name = "DESCRIPTION", nullable = false)
+    private String description;
+
+    /**
+     * 실행 시점
+     */
+    @Column(name = "APPLIED_AT", nullable = false)
+    private LocalDateTime appliedAt;
+
+    public DataMigration(int version, String description) {
+        this.version = version;
+        this.description = description;
+        this.appliedAt = LocalDateTime.now();
+    }
+
+    @Override
+    public Integer getId() {
+        return version;
+    }
+}
@@ -0,0 +1,50 @@
+package dev.pjc1991.commerce.member.component;
+
+import dev.pjc1991.commerce.member.domain.Member;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 회원 캐시 직렬화
+ * 클래스 이름과 필드 이름을 함께 저장하는 JSON 대신, 형식 버전 (1 byte), 회원 아이디 (8 bytes), 이름 (UTF-8) 만 저장합니다.
+ * 형식 버전이 다른 값 (이전에 JSON 으로 저장된 값) 은 역직렬화하지 않고 캐시가 없는 것으로 처리합니다.
+ */
+public class MemberRedisSerializer implements RedisSerializer<Member> {
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 1 + Long.BYTES;
+
+    @Override
+    public byte[] serialize(Member member) throws SerializationException {
+        if (member == null) {
+            return null;
+        }
+        if (member.getId() == null) {
+            throw new SerializationException("아이디가 없는 회원은 캐시할 수 없습니다.");
+        }
+
+        byte[] name = member.getName() == null ? new byte[0] : member.getName().getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(HEADER_SIZE + name.length)
+                .put(FORMAT_VERSION)
+                .putLong(member.getId())
+                .put(name)
+                .array();
+    }
+
+    @Override
+    public Member deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length < HEADER_SIZE || bytes[0] != FORMAT_VERSION) {
+            return null;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        buffer.get();
+        Member member = new Member();
+        member.setId(buffer.getLong());
+        member.setName(new String(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE, StandardCharsets.UTF_8));
+        return member;
+    }
+}
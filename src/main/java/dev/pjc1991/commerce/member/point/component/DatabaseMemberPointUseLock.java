@@ -0,0 +1,28 @@
+package dev.pjc1991.commerce.member.point.component;
+
+import dev.pjc1991.commerce.member.point.domain.MemberPointUseLockMode;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 회원 적립금 사용 동시성 제어 (잔액 행 잠금)
+ * 별도의 잠금을 걸지 않습니다. 적립금 사용은 회원 적립금 잔액을 행 잠금 (PESSIMISTIC_WRITE) 과 함께 조회하므로,
+ * 같은 회원의 사용은 데이터베이스에서 커밋될 때까지 한 번에 하나씩 처리됩니다.
+ * Redis 를 거치지 않지만, 잠금을 기다리는 요청도 데이터베이스 커넥션을 점유합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "member.point.use.lock-mode", havingValue = "DATABASE")
+public class DatabaseMemberPointUseLock implements MemberPointUseLock {
+
+    @Override
+    public MemberPointUseLockMode getMode() {
+        return MemberPointUseLockMode.DATABASE;
+    }
+
+    @Override
+    public <T> T execute(long memberId, Supplier<T> use) {
+        return use.get();
+    }
+}
@@ -0,0 +1,350 @@
+package dev.pjc1991.commerce.member.point.component;
+
+import dev.pjc1991.commerce.member.point.exception.MemberPointCommandNotOwnerException;
+import dev.pjc1991.commerce.member.point.exception.MemberPointCommandTimeoutException;
+import dev.pjc1991.commerce.member.point.exception.MemberPointConcurrentException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 회원 적립금 명령 큐 (회원별 단일 작업 스레드)
+ * 적립, 사용, 사용 취소처럼 회원의 원장을 변경하는 명령을 회원 아이디로 나눈 작업 스레드 (shard) 에서 실행합니다.
+ * 한 회원의 명령은 항상 같은 작업 스레드에서 한 번에 하나씩 실행되므로, Redis 를 거치지 않고 JVM 안에서 순서대로 처리됩니다.
+ *
+ * 작업 스레드는 큐에 쌓인 명령을 max-batch 건까지 꺼내서 회원별로 묶고, 같은 회원의 명령을 한 트랜잭션으로 커밋합니다. (그룹 커밋)
+ * 묶인 명령 중 하나라도 실패하면 트랜잭션을 롤백하고, 명령마다 각각의 트랜잭션으로 다시 실행해서 실패한 명령만 실패하도록 합니다.
+ *
+ * 여러 노드에서 실행할 때는 일관된 해싱 (MemberPointCommandRing) 으로 회원마다 담당 노드를 정합니다.
+ * 담당하지 않는 회원의 명령은 MemberPointCommandNotOwnerException 으로 거절하므로, 앞단 (게이트웨이) 에서 같은 링으로 라우팅해야 합니다.
+ * 잘못 라우팅된 요청이 실행되더라도 회원 적립금 잔액 행 잠금이 있으므로 잔액이 틀어지지는 않습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "member.point.command.enabled", havingValue = "true")
+public class MemberPointCommandQueue {
+
+    private final TransactionTemplate transactionTemplate;
+    private final MemberPointCommandRing ring;
+    private final String nodeId;
+    private final int maxBatch;
+    private final Duration timeout;
+    private final Shard[] shards;
+
+    private final LongAdder commands = new LongAdder();
+    private final LongAdder transactions = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+
+    /**
+     * 생성자
+     *
+     * @param transactionManager 트랜잭션 매니저
+     * @param shards             작업 스레드의 개수
+     * @param queueCapacity      작업 스레드마다 쌓을 수 있는 명령의 개수 (넘으면 거절합니다.)
+     * @param maxBatch           한 번에 꺼내서 묶을 명령의 최대 개수
+     * @param timeout            명령의 결과를 기다리는 시간
+     * @param nodeId             이 노드의 아이디
+     * @param nodes              모든 노드의 아이디 목록 (비어 있다면 이 노드가 모든 회원을 담당합니다.)
+     * @param virtualNodes       노드마다 링에 배치할 지점의 개수
+     * @param meterRegistry      지표를 등록할 레지스트리
+     */
+    public MemberPointCommandQueue(
+            PlatformTransactionManager transactionManager
+            , @Value("${member.point.command.shards:8}") int shards
+            , @Value("${member.point.command.queue-capacity:1000}") int queueCapacity
+            , @Value("${member.point.command.max-batch:32}") int maxBatch
+            , @Value("${member.point.command.timeout:5s}") Duration timeout
+            , @Value("${member.point.command.node-id:}") String nodeId
+            , @Value("${member.point.command.nodes:}") List<String> nodes
+            , @Value("${member.point.command.virtual-nodes:128}") int virtualNodes
+            , MeterRegistry meterRegistry
+    ) {
+        if (shards < 1 || queueCapacity < 1 || maxBatch < 1) {
+            throw new IllegalArgumentException("작업 스레드, 큐 크기, 묶을 명령의 개수는 1 이상이어야 합니다.");
+        }
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ring = new MemberPointCommandRing(nodes, virtualNodes);
+        this.nodeId = nodeId;
+        this.maxBatch = maxBatch;
+        this.timeout = timeout;
+        if (!ring.isEmpty() && !ring.getNodes().contains(nodeId)) {
+            throw new IllegalArgumentException("노드 목록에 이 노드 (member.point.command.node-id) 가 없습니다. : " + nodeId);
+        }
+
+        this.shards = new Shard[shards];
+        for (int i = 0; i < shards; i++) {
+            this.shards[i] = new Shard(i, queueCapacity);
+            this.shards[i].thread.start();
+        }
+
+        FunctionCounter.builder("member.point.command", commands, LongAdder::sum).tag("result", "command").register(meterRegistry);
+        FunctionCounter.builder("member.point.command", transactions, LongAdder::sum).tag("result", "transaction").register(meterRegistry);
+        FunctionCounter.builder("member.point.command", fallbacks, LongAdder::sum).tag("result", "fallback").register(meterRegistry);
+        Gauge.builder("member.point.command.queue.size", this, MemberPointCommandQueue::getQueueSize)
+                .description("작업 스레드에 쌓인 회원 적립금 명령의 개수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 회원의 작업 스레드에서 명령을 실행하고 결과를 기다립니다.
+     * 명령은 작업 스레드가 시작한 트랜잭션 안에서 실행되므로, 같은 회원의 다른 명령과 함께 커밋될 수 있습니다.
+     * 명령이 던진 예외는 그대로 다시 던집니다.
+     *
+     * @param memberId 회원 아이디
+     * @param command  명령 (트랜잭션에 참여해야 합니다.)
+     * @param <T>      명령 결과 타입
+     * @return 명령 결과
+     */
+    public <T> T execute(long memberId, Supplier<T> command) {
+        checkOwner(memberId);
+
+        Shard shard = shards[indexOf(memberId)];
+        if (Thread.currentThread() == shard.thread) {
+            // 명령 안에서 같은 작업 스레드의 명령을 실행하면 자기 자신을 기다리게 되므로 바로 실행합니다.
+            return transactionTemplate.execute(status -> command.get());
+        }
+
+        Command<T> queued = new Command<>(memberId, command);
+        if (!shard.queue.offer(queued)) {
+            throw new MemberPointConcurrentException("처리 중인 적립금 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return queued.future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 아직 실행되지 않은 명령은 취소되어 실행되지 않습니다. 이미 실행 중인 명령은 커밋될 수 있습니다.
+            queued.future.cancel(false);
+            throw new MemberPointCommandTimeoutException("적립금 요청을 처리하지 못했습니다. 처리 결과를 확인한 뒤 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            queued.future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new MemberPointCommandTimeoutException("적립금 요청을 처리하지 못했습니다. 처리 결과를 확인한 뒤 다시 시도해주세요.");
+        } catch (CancellationException e) {
+            throw new MemberPointConcurrentException("적립금 요청이 취소되었습니다.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * 회원의 작업 스레드에 명령을 넣고, 결과를 기다리지 않고 반환합니다.
+     * timeout 안에 실행되지 않은 명령은 실행되지 않고 실패합니다. 이미 실행 중인 명령은 커밋될 수 있습니다.
+     *
+     * @param memberId 회원 아이디
+     * @param command  명령 (트랜잭션에 참여해야 합니다.)
+     * @param <T>      명령 결과 타입
+     * @return 명령 결과가 담길 CompletableFuture
+     */
+    public <T> CompletableFuture<T> submit(long memberId, Supplier<T> command) {
+        checkOwner(memberId);
+
+        Shard shard = shards[indexOf(memberId)];
+        Command<T> queued = new Command<>(memberId, command);
+        if (!shard.queue.offer(queued)) {
+            throw new MemberPointConcurrentException("처리 중인 적립금 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        // 시간이 지나 실패한 명령은 작업 스레드가 꺼내더라도 실행하지 않습니다.
+        return queued.future.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionallyCompose(e -> CompletableFuture.failedFuture(e instanceof TimeoutException
+                        ? new MemberPointCommandTimeoutException("적립금 요청을 처리하지 못했습니다. 처리 결과를 확인한 뒤 다시 시도해주세요.")
+                        : e));
+    }
+
+    /**
+     * 실행한 명령의 개수
+     *
+     * @return 개수
+     */
+    public long getCommands() {
+        return commands.sum();
+    }
+
+    /**
+     * 명령을 실행한 트랜잭션의 개수 (묶인 명령은 한 번만 셉니다.)
+     *
+     * @return 개수
+     */
+    public long getTransactions() {
+        return transactions.sum();
+    }
+
+    /**
+     * 작업 스레드에 쌓인 명령의 개수
+     *
+     * @return 개수
+     */
+    public int getQueueSize() {
+        int size = 0;
+        for (Shard shard : shards) {
+            size += shard.queue.size();
+        }
+        return size;
+    }
+
+    /**
+     * 작업 스레드를 종료합니다. 실행되지 않은 명령은 실패합니다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        for (Shard shard : shards) {
+            shard.thread.interrupt();
+        }
+        for (Shard shard : shards) {
+            List<Command<?>> pending = new ArrayList<>();
+            shard.queue.drainTo(pending);
+            pending.forEach(command -> command.future.completeExceptionally(new MemberPointConcurrentException("적립금 요청을 처리하기 전에 종료되었습니다.")));
+        }
+    }
+
+    private void checkOwner(long memberId) {
+        String owner = ring.getOwner(memberId);
+        if (owner != null && !owner.equals(nodeId)) {
+            throw new MemberPointCommandNotOwnerException("이 노드가 담당하지 않는 회원입니다. 담당 노드 : " + owner, owner);
+        }
+    }
+
+    private int indexOf(long memberId) {
+        return (int) ((MemberPointCommandRing.hash(memberId) >>> 1) % shards.length);
+    }
+
+    /**
+     * 같은 회원의 명령을 한 트랜잭션으로 실행합니다.
+     * 하나라도 실패하면 명령마다 각각의 트랜잭션으로 다시 실행합니다.
+     */
+    private void commit(List<Command<?>> group) {
+        List<Command<?>> running = group.stream().filter(command -> !command.future.isDone()).toList();
+        if (running.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<Object> results = transactionTemplate.execute(status -> {
+                List<Object> values = new ArrayList<>(running.size());
+                for (Command<?> command : running) {
+                    values.add(command.command.get());
+                }
+                return values;
+            });
+            transactions.increment();
+            commands.add(running.size());
+            for (int i = 0; i < running.size(); i++) {
+                running.get(i).complete(results.get(i));
+            }
+            return;
+        } catch (RuntimeException e) {
+            transactions.increment();
+            if (running.size() == 1) {
+                commands.increment();
+                running.get(0).future.completeExceptionally(e);
+                return;
+            }
+        }
+
+        fallbacks.add(running.size());
+        for (Command<?> command : running) {
+            try {
+                Object result = transactionTemplate.execute(status -> command.command.get());
+                command.complete(result);
+            } catch (RuntimeException e) {
+                command.future.completeExceptionally(e);
+            }
+            transactions.increment();
+            commands.increment();
+        }
+    }
+
+    /**
+     * 작업 스레드와 그 큐
+     */
+    private class Shard implements Runnable {
+
+        private final BlockingQueue<Command<?>> queue;
+        private final Thread thread;
+
+        private Shard(int index, int capacity) {
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.thread = new Thread(this, "member-point-command-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            List<Command<?>> batch = new ArrayList<>(maxBatch);
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    batch.add(queue.take());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                queue.drainTo(batch, maxBatch - 1);
+
+                // 꺼낸 명령을 회원별로 묶습니다. 같은 회원의 명령은 들어온 순서대로 실행됩니다.
+                Map<Long, List<Command<?>>> groups = new LinkedHashMap<>();
+                for (Command<?> command : batch) {
+                    groups.computeIfAbsent(command.memberId, memberId -> new ArrayList<>()).add(command);
+                }
+                batch.clear();
+
+                for (List<Command<?>> group : groups.values()) {
+                    try {
+                        commit(group);
+                    } catch (Throwable e) {
+                        log.error("회원 적립금 명령을 처리하지 못했습니다. 회원 아이디 : {}", group.get(0).memberId, e);
+                        group.forEach(command -> command.future.completeExceptionally(e));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 큐에 쌓인 명령
+     */
+    private static class Command<T> {
+
+        private final long memberId;
+        private final Supplier<T> command;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        private Command(long memberId, Supplier<T> command) {
+            this.memberId = memberId;
+            this.command = command;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void complete(Object result) {
+            future.complete((T) result);
+        }
+    }
+}
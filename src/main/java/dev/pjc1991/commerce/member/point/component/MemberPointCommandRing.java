@@ -0,0 +1,98 @@
+package dev.pjc1991.commerce.member.point.component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 회원 적립금 명령 담당 노드 링 (일관된 해싱)
+ * 노드마다 virtualNodes 개의 지점을 링에 배치하고, 회원 아이디의 해시 다음에 오는 지점의 노드가 그 회원을 담당합니다.
+ * 노드가 추가되거나 빠져도 그 노드가 맡았던 (맡게 될) 회원만 담당 노드가 바뀝니다.
+ */
+public class MemberPointCommandRing {
+
+    private final NavigableMap<Long, String> ring = new TreeMap<>();
+    private final List<String> nodes;
+
+    /**
+     * 생성자
+     *
+     * @param nodes        노드 아이디 목록 (비어 있다면 모든 회원을 이 노드가 담당합니다.)
+     * @param virtualNodes 노드마다 링에 배치할 지점의 개수
+     */
+    public MemberPointCommandRing(Collection<String> nodes, int virtualNodes) {
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("노드마다 배치할 지점의 개수는 1 이상이어야 합니다. : " + virtualNodes);
+        }
+        this.nodes = nodes.stream().map(String::trim).filter(node -> !node.isEmpty()).distinct().toList();
+        for (String node : this.nodes) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(hash(node + "#" + i), node);
+            }
+        }
+    }
+
+    /**
+     * 노드가 설정되었는지 확인합니다.
+     *
+     * @return 노드가 하나도 없다면 true
+     */
+    public boolean isEmpty() {
+        return nodes.isEmpty();
+    }
+
+    /**
+     * 노드 아이디 목록
+     *
+     * @return 노드 아이디 목록
+     */
+    public List<String> getNodes() {
+        return nodes;
+    }
+
+    /**
+     * 회원을 담당하는 노드를 찾습니다.
+     *
+     * @param memberId 회원 아이디
+     * @return 담당 노드 아이디 (노드가 없다면 null)
+     */
+    public String getOwner(long memberId) {
+        if (ring.isEmpty()) {
+            return null;
+        }
+        Map.Entry<Long, String> entry = ring.ceilingEntry(hash(memberId));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    /**
+     * 회원 아이디의 해시
+     * 아이디가 차례로 증가하므로 비트를 섞어서 링 전체에 퍼지도록 합니다. (SplitMix64)
+     *
+     * @param memberId 회원 아이디
+     * @return 해시
+     */
+    static long hash(long memberId) {
+        long z = memberId + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static long hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(key.getBytes(StandardCharsets.UTF_8));
+            long hash = 0L;
+            for (int i = 0; i < Long.BYTES; i++) {
+                hash = (hash << 8) | (digest[i] & 0xFF);
+            }
+            return hash;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 를 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package dev.pjc1991.commerce.member.point.component;
+
+import dev.pjc1991.commerce.member.point.domain.MemberPointDetail;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원 적립금 상세 내역 ID 발급기
+ * 적립 상세 내역은 자신의 ID 를 그룹 ID 로, 사용/만료 상세 내역은 자신의 ID 를 환불 ID 로 가집니다.
+ * INSERT 전에 ID 를 알 수 있어야 두 번째 UPDATE 없이 한 번에 저장할 수 있으므로, 시퀀스로부터 ID 를 미리 발급받습니다.
+ * MemberPointDetail 에 지정된 시퀀스 생성기 (pooled, 50개씩) 를 그대로 사용하므로, 시퀀스는 Hibernate 가 생성합니다.
+ */
+@Component
+public class MemberPointDetailIdGenerator {
+
+    /**
+     * 회원 적립금 상세 내역 시퀀스 이름
+     * MemberPointDetail 의 시퀀스 생성기 설정과 같아야 합니다.
+     */
+    public static final String SEQUENCE_NAME = "MEMBER_POINT_DETAIL_SEQ";
+
+    private final EntityManager entityManager;
+    private final IdentifierGenerator identifierGenerator;
+
+    public MemberPointDetailIdGenerator(EntityManager entityManager, EntityManagerFactory entityManagerFactory) {
+        this.entityManager = entityManager;
+        this.identifierGenerator = (IdentifierGenerator) entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .getEntityDescriptor(MemberPointDetail.class)
+                .getGenerator();
+    }
+
+    /**
+     * 회원 적립금 상세 내역 ID 를 발급합니다.
+     * 시퀀스는 현재 트랜잭션의 세션으로 조회하며, 발급받은 범위는 옵티마이저가 나눠줍니다.
+     *
+     * @return 회원 적립금 상세 내역 ID
+     */
+    public long nextId() {
+        return (Long) identifierGenerator.generate(entityManager.unwrap(SharedSessionContractImplementor.class), null);
+    }
+}
@@ -0,0 +1,189 @@
+package dev.pjc1991.commerce.member.point.component;
+
+import dev.pjc1991.commerce.member.point.domain.MemberPointExpirePartition;
+import dev.pjc1991.commerce.member.point.dto.MemberPointExpireReport;
+import dev.pjc1991.commerce.member.point.exception.MemberPointExpireLeaseLostException;
+import dev.pjc1991.commerce.member.point.service.MemberPointExpireLeaseService;
+import dev.pjc1991.commerce.member.point.service.MemberPointService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * 회원 적립금 만료 처리 코디네이터
+ * 여러 노드가 자정에 동시에 만료 처리를 실행하면 같은 적립 건을 두고 경쟁하므로,
+ * 회원 아이디를 파티션 개수로 나눈 나머지로 파티션을 나누고, 각 노드는 임대 (lease) 한 파티션만 만료 처리합니다.
+ * 노드가 죽어서 임대를 연장하지 못하면, 임대 기간이 지난 뒤 다른 노드가 그 파티션을 넘겨받아 체크포인트부터 이어서 처리합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "member.point.expire.cluster.enabled", havingValue = "true")
+public class MemberPointExpireCoordinator {
+
+    private final MemberPointExpireLeaseService memberPointExpireLeaseService;
+    private final MemberPointService memberPointService;
+    private final String nodeId;
+    private final int partitionCount;
+    private final Duration leaseDuration;
+    private final long heartbeatInterval;
+    private final Duration runTimeout;
+
+    // 마지막 하트비트에서 임대한 파티션 번호
+    private volatile Set<Integer> owned = Set.of();
+
+    /**
+     * 생성자
+     *
+     * @param memberPointExpireLeaseService 회원 적립금 만료 처리 파티션 임대 서비스
+     * @param memberPointService            회원 적립금 서비스
+     * @param nodeId                        노드 아이디 (비어 있다면 임의로 생성합니다.)
+     * @param partitionCount                전체 파티션 개수 (모든 노드가 같아야 합니다.)
+     * @param leaseDuration                 임대 기간
+     * @param heartbeatInterval             하트비트 주기 (ms), 임대 기간보다 충분히 짧아야 합니다.
+     * @param runTimeout                    만료 처리 한 번이 다른 노드의 파티션이 끝나기를 기다리는 최대 시간
+     */
+    public MemberPointExpireCoordinator(
+            MemberPointExpireLeaseService memberPointExpireLeaseService
+            , MemberPointService memberPointService
+            , @Value("${member.point.expire.cluster.node-id:}") String nodeId
+            , @Value("${member.point.expire.cluster.partition-count:8}") int partitionCount
+            , @Value("${member.point.expire.cluster.lease-duration:30s}") Duration leaseDuration
+            , @Value("${member.point.expire.cluster.heartbeat-interval:10000}") long heartbeatInterval
+            , @Value("${member.point.expire.cluster.run-timeout:1h}") Duration runTimeout
+    ) {
+        this.memberPointExpireLeaseService = memberPointExpireLeaseService;
+        this.memberPointService = memberPointService;
+        this.nodeId = StringUtils.hasText(nodeId) ? nodeId : UUID.randomUUID().toString();
+        this.partitionCount = partitionCount;
+        this.leaseDuration = leaseDuration;
+        this.heartbeatInterval = heartbeatInterval;
+        this.runTimeout = runTimeout;
+    }
+
+    /**
+     * 하트비트를 기록하고 파티션 임대를 연장하거나 다시 분배합니다.
+     * 만료 처리가 오래 걸려도 임대가 연장되도록, 만료 처리와 별개로 주기적으로 실행됩니다.
+     *
+     * @return 이 노드가 임대한 파티션 번호
+     */
+    @Scheduled(fixedDelayString = "${member.point.expire.cluster.heartbeat-interval:10000}", initialDelayString = "${member.point.expire.cluster.heartbeat-interval:10000}")
+    public synchronized Set<Integer> heartbeat() {
+        try {
+            owned = memberPointExpireLeaseService.heartbeatMemberPointExpireLease(nodeId, partitionCount, leaseDuration);
+        } catch (RuntimeException e) {
+            // 임대는 청크마다 다시 확인하므로, 하트비트에 실패해도 마지막으로 임대한 파티션을 그대로 둡니다.
+            log.warn("파티션 임대를 갱신하지 못했습니다. 노드 : {}", nodeId, e);
+        }
+        return owned;
+    }
+
+    /**
+     * 회원 적립금 만료 처리
+     * 임대한 파티션을 만료 처리하고, 다른 노드가 임대한 파티션까지 모두 완료될 때까지 하트비트를 이어가며 기다립니다.
+     * 기다리는 동안 임대 기간이 지난 파티션이 있다면 넘겨받아서 처리합니다.
+     *
+     * @return 이 노드가 만료 처리한 파티션의 처리 결과
+     */
+    public List<MemberPointExpireReport> expireMemberPoint() {
+        LocalDate runDate = LocalDate.now();
+        long deadline = System.currentTimeMillis() + runTimeout.toMillis();
+        List<MemberPointExpireReport> reports = new ArrayList<>();
+
+        while (true) {
+            reports.addAll(expireOwnedPartitions(runDate));
+            if (isCompleted(runDate)) {
+                return reports;
+            }
+            if (System.currentTimeMillis() >= deadline) {
+                log.warn("다른 노드의 파티션 만료 처리가 끝나지 않았지만 기다리지 않고 종료합니다. 노드 : {}", nodeId);
+                return reports;
+            }
+            try {
+                Thread.sleep(heartbeatInterval);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return reports;
+            }
+        }
+    }
+
+    /**
+     * 하트비트를 기록한 뒤, 임대한 파티션 중 아직 완료되지 않은 파티션을 한 번씩 만료 처리합니다.
+     *
+     * @param runDate 만료 처리 날짜
+     * @return 만료 처리한 파티션의 처리 결과
+     */
+    public List<MemberPointExpireReport> expireOwnedPartitions(LocalDate runDate) {
+        List<MemberPointExpireReport> reports = new ArrayList<>();
+        for (int index : heartbeat()) {
+            MemberPointExpirePartition partition = MemberPointExpirePartition.of(index, partitionCount, nodeId);
+            if (memberPointService.isMemberPointExpireCompleted(partition, runDate)) {
+                continue;
+            }
+            try {
+                reports.add(memberPointService.expireMemberPoint(partition));
+            } catch (MemberPointExpireLeaseLostException e) {
+                // 커밋된 청크까지는 체크포인트에 남아 있으므로, 파티션을 넘겨받은 노드가 이어서 처리합니다.
+                log.warn("만료 처리 중에 파티션 임대를 잃었습니다. 노드 : {}, 파티션 : {}", nodeId, index);
+            }
+        }
+        return reports;
+    }
+
+    /**
+     * 모든 파티션의 만료 처리가 완료되었는지 확인합니다.
+     *
+     * @param runDate 만료 처리 날짜
+     * @return 모든 파티션이 완료되었다면 true
+     */
+    public boolean isCompleted(LocalDate runDate) {
+        return IntStream.range(0, partitionCount)
+                .allMatch(index -> memberPointService.isMemberPointExpireCompleted(MemberPointExpirePartition.of(index, partitionCount, null), runDate));
+    }
+
+    /**
+     * 노드가 종료될 때 임대를 반납해서, 다른 노드가 임대 기간을 기다리지 않고 넘겨받도록 합니다.
+     */
+    @PreDestroy
+    public void release() {
+        try {
+            memberPointExpireLeaseService.releaseMemberPointExpireLease(nodeId);
+        } catch (RuntimeException e) {
+            log.warn("파티션 임대를 반납하지 못했습니다. 임대 기간이 지나면 다른 노드가 넘겨받습니다. 노드 : {}", nodeId, e);
+        }
+        owned = Set.of();
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public Set<Integer> getOwned() {
+        return owned;
+    }
+
+    /**
+     * 마지막 하트비트에서 임대한 파티션을 파티션 번호 순서로 반환합니다.
+     * 연속 만료, 지연 만료의 스위퍼도 이 파티션의 적립 건만 만료 처리합니다.
+     *
+     * @return 이 노드가 임대한 파티션 목록
+     */
+    public List<MemberPointExpirePartition> getOwnedPartitions() {
+        return owned.stream()
+                .sorted()
+                .map(index -> MemberPointExpirePartition.of(index, partitionCount, nodeId))
+                .toList();
+    }
+}
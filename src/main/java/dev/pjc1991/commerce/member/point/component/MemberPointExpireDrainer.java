@@ -0,0 +1,183 @@
+package dev.pjc1991.commerce.member.point.component;
+
+import dev.pjc1991.commerce.member.point.domain.MemberPointExpirePartition;
+import dev.pjc1991.commerce.member.point.exception.MemberPointExpireLeaseLostException;
+import dev.pjc1991.commerce.member.point.service.MemberPointService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 회원 적립금 연속 만료 처리기
+ * 모든 적립 건은 만료일의 마지막 시점에 만료되므로, 자정에 한 번에 처리하면 그 순간 만료 처리가 적립, 사용 API 와 경쟁합니다.
+ * 연속 만료 (CONTINUOUS) 모드에서는 짧은 시간 조각마다 초당 처리 건수 예산만큼만 만료 처리해서, 밀린 만료 건을 천천히 소진합니다.
+ * 밀린 만료 건수는 member.point.expire.backlog 지표로 노출합니다.
+ *
+ * 모든 노드에서 실행되므로, 여러 노드라면 만료 처리 파티션 임대 (MemberPointExpireCoordinator) 로 적립 건을 나눠서 처리합니다.
+ * 같은 적립 건을 다른 요청이 먼저 변경해서 청크가 충돌하면, 그 청크만 롤백하고 다음 청크로 넘어갑니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "member.point.expire.mode", havingValue = "CONTINUOUS")
+public class MemberPointExpireDrainer {
+
+    /**
+     * 밀린 만료 건수 지표 이름
+     */
+    public static final String BACKLOG_METRIC = "member.point.expire.backlog";
+
+    /**
+     * 만료 처리한 적립 건수 지표 이름
+     */
+    public static final String DRAINED_METRIC = "member.point.expire.drained";
+
+    private final MemberPointService memberPointService;
+
+    // 여러 노드가 만료 처리를 나눠서 할 때만 등록됩니다. (member.point.expire.cluster.enabled)
+    private final ObjectProvider<MemberPointExpireCoordinator> memberPointExpireCoordinator;
+
+    private final int rowsPerSecond;
+    private final long sliceMillis;
+    private final int chunkSize;
+
+    private final AtomicLong backlog = new AtomicLong();
+    private final Counter drained;
+
+    /**
+     * 생성자
+     *
+     * @param memberPointService           회원 적립금 서비스
+     * @param memberPointExpireCoordinator 회원 적립금 만료 처리 코디네이터 (여러 노드가 나눠서 처리할 때만 등록됩니다.)
+     * @param meterRegistry                지표 레지스트리
+     * @param rowsPerSecond                초당 만료 처리할 최대 적립 건수
+     * @param sliceMillis                  시간 조각의 길이 (ms), 한 조각이 끝나면 같은 시간만큼 쉬고 다음 조각을 실행합니다.
+     * @param chunkSize                    한 트랜잭션에서 만료 처리할 적립 건의 개수
+     */
+    public MemberPointExpireDrainer(
+            MemberPointService memberPointService
+            , ObjectProvider<MemberPointExpireCoordinator> memberPointExpireCoordinator
+            , MeterRegistry meterRegistry
+            , @Value("${member.point.expire.drain-rows-per-second:200}") int rowsPerSecond
+            , @Value("${member.point.expire.drain-slice:1000}") long sliceMillis
+            , @Value("${member.point.expire.drain-chunk-size:100}") int chunkSize
+    ) {
+        this.memberPointService = memberPointService;
+        this.memberPointExpireCoordinator = memberPointExpireCoordinator;
+        this.rowsPerSecond = rowsPerSecond;
+        this.sliceMillis = sliceMillis;
+        this.chunkSize = chunkSize;
+
+        Gauge.builder(BACKLOG_METRIC, backlog, AtomicLong::get)
+                .description("만료 시점이 지났지만 아직 만료 처리되지 않은 적립 건수")
+                .register(meterRegistry);
+        this.drained = Counter.builder(DRAINED_METRIC)
+                .description("연속 만료 처리로 만료 처리한 적립 건수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 시간 조각 하나만큼 만료 처리합니다.
+     * 이전 조각이 끝난 뒤 member.point.expire.drain-slice 만큼 기다렸다가 실행됩니다.
+     */
+    @Scheduled(fixedDelayString = "${member.point.expire.drain-slice:1000}", initialDelayString = "${member.point.expire.drain-slice:1000}")
+    public void drain() {
+        drainSlice(LocalDateTime.now());
+    }
+
+    /**
+     * 밀린 만료 건수를 다시 조회합니다.
+     * 매 조각마다 세지 않고, 조각 사이에는 처리한 건수만큼 줄여서 지표를 갱신합니다.
+     */
+    @Scheduled(fixedDelayString = "${member.point.expire.backlog-refresh:10000}")
+    public void refreshBacklog() {
+        backlog.set(memberPointService.countMemberPointExpireBacklog(LocalDateTime.now()));
+    }
+
+    /**
+     * 기준 시점보다 먼저 만료된 적립 건을 시간 조각 하나의 예산만큼 만료 처리합니다.
+     * 예산을 모두 쓰거나, 조각의 시간이 지나거나, 만료 대상이 남지 않으면 멈춥니다.
+     * 여러 노드가 만료 처리를 나눠서 한다면 (member.point.expire.cluster.enabled) 이 노드가 임대한 파티션만 처리합니다.
+     *
+     * @param cutoff 기준 시점
+     * @return 만료 처리한 적립 건의 개수
+     */
+    public int drainSlice(LocalDateTime cutoff) {
+        int budget = getSliceBudget();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sliceMillis);
+
+        int total = 0;
+        int spent = 0;
+        for (MemberPointExpirePartition partition : getPartitions()) {
+            while (spent < budget && System.nanoTime() < deadline) {
+                int size = Math.min(chunkSize, budget - spent);
+                int expired;
+                try {
+                    expired = memberPointService.sweepMemberPointExpired(partition, cutoff, size);
+                } catch (ConcurrencyFailureException e) {
+                    // 같은 적립 건을 다른 요청 (지연 만료, 사용 등) 이 먼저 변경해서 청크가 롤백되었습니다.
+                    // 변경된 적립 건은 다음 청크에서 다시 조회하므로, 예산만 쓰고 다음 청크로 넘어갑니다.
+                    log.debug("연속 만료 처리 청크가 다른 요청과 충돌했습니다. 파티션 : {}", partition.getIndex(), e);
+                    spent += size;
+                    continue;
+                } catch (MemberPointExpireLeaseLostException e) {
+                    // 파티션을 넘겨받은 노드가 이어서 처리합니다.
+                    log.debug("연속 만료 처리 중에 파티션 임대를 잃었습니다. 파티션 : {}", partition.getIndex());
+                    break;
+                }
+                total += expired;
+                spent += expired;
+                if (expired < size) {
+                    break;
+                }
+            }
+        }
+
+        if (total > 0) {
+            int count = total;
+            drained.increment(count);
+            backlog.updateAndGet(value -> Math.max(0, value - count));
+            log.debug("연속 만료 처리 {}건 (남은 건수 약 {}건)", count, backlog.get());
+        }
+        return total;
+    }
+
+    /**
+     * 만료 처리할 파티션 목록입니다.
+     *
+     * @return 파티션을 나누지 않았다면 전체 회원, 나눴다면 이 노드가 임대한 파티션
+     */
+    private List<MemberPointExpirePartition> getPartitions() {
+        MemberPointExpireCoordinator coordinator = memberPointExpireCoordinator.getIfAvailable();
+        return coordinator == null ? List.of(MemberPointExpirePartition.ALL) : coordinator.getOwnedPartitions();
+    }
+
+    /**
+     * 시간 조각 하나에서 만료 처리할 수 있는 최대 적립 건수입니다.
+     *
+     * @return 초당 처리 건수 예산 * 조각 길이 (최소 1건)
+     */
+    public int getSliceBudget() {
+        return (int) Math.max(1, rowsPerSecond * sliceMillis / 1000);
+    }
+
+    /**
+     * 마지막으로 갱신한 밀린 만료 건수입니다.
+     *
+     * @return 밀린 만료 건수
+     */
+    public long getBacklog() {
+        return backlog.get();
+    }
+}
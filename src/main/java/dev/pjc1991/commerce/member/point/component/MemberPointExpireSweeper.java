@@ -0,0 +1,84 @@
+package dev.pjc1991.commerce.member.point.component;
+
+import dev.pjc1991.commerce.member.point.domain.MemberPointExpirePartition;
+import dev.pjc1991.commerce.member.point.exception.MemberPointExpireLeaseLostException;
+import dev.pjc1991.commerce.member.point.service.MemberPointService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 회원 적립금 만료 스위퍼
+ * 지연 만료 (LAZY) 모드에서는 회원이 접근할 때 만료 처리하므로, 한동안 접근하지 않은 회원의 적립 건이 남습니다.
+ * 이 적립 건들을 짧은 주기로 한 청크씩만 만료 처리해서, 자정에 부하가 몰리지 않도록 합니다.
+ * 만료 시점이 유예 기간보다 오래 지난 적립 건만 처리하므로, 활동 중인 회원은 접근할 때 만료 처리됩니다.
+ * 여러 노드라면 만료 처리 파티션 임대 (MemberPointExpireCoordinator) 로 적립 건을 나눠서 처리하고,
+ * 같은 적립 건을 다른 요청이 먼저 변경해서 충돌하면 그 청크만 롤백하고 다음 실행에서 다시 처리합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "member.point.expire.mode", havingValue = "LAZY")
+public class MemberPointExpireSweeper {
+
+    private final MemberPointService memberPointService;
+
+    // 여러 노드가 만료 처리를 나눠서 할 때만 등록됩니다. (member.point.expire.cluster.enabled)
+    private final ObjectProvider<MemberPointExpireCoordinator> memberPointExpireCoordinator;
+
+    private final int chunkSize;
+    private final Duration grace;
+
+    public MemberPointExpireSweeper(
+            MemberPointService memberPointService
+            , ObjectProvider<MemberPointExpireCoordinator> memberPointExpireCoordinator
+            , @Value("${member.point.expire.sweep-chunk-size:100}") int chunkSize
+            , @Value("${member.point.expire.sweep-grace:1d}") Duration grace
+    ) {
+        this.memberPointService = memberPointService;
+        this.memberPointExpireCoordinator = memberPointExpireCoordinator;
+        this.chunkSize = chunkSize;
+        this.grace = grace;
+    }
+
+    /**
+     * 만료 시점이 유예 기간보다 오래 지난 적립 건을 파티션마다 한 청크만큼 만료 처리합니다.
+     * 이전 실행이 끝난 뒤 member.point.expire.sweep-delay 만큼 기다렸다가 실행됩니다.
+     */
+    @Scheduled(fixedDelayString = "${member.point.expire.sweep-delay:60000}", initialDelayString = "${member.point.expire.sweep-delay:60000}")
+    public void sweep() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(grace);
+        int swept = 0;
+        for (MemberPointExpirePartition partition : getPartitions()) {
+            try {
+                swept += memberPointService.sweepMemberPointExpired(partition, cutoff, chunkSize);
+            } catch (ConcurrencyFailureException e) {
+                // 같은 적립 건을 회원의 접근 (지연 만료, 사용 등) 이 먼저 변경해서 청크가 롤백되었습니다. 남은 적립 건은 다음 실행에서 처리합니다.
+                log.debug("스위퍼의 만료 처리 청크가 다른 요청과 충돌했습니다. 파티션 : {}", partition.getIndex(), e);
+            } catch (MemberPointExpireLeaseLostException e) {
+                // 파티션을 넘겨받은 노드가 이어서 처리합니다.
+                log.debug("스위퍼의 만료 처리 중에 파티션 임대를 잃었습니다. 파티션 : {}", partition.getIndex());
+            }
+        }
+        if (swept > 0) {
+            log.info("접근하지 않은 회원의 적립금 {}건을 만료 처리했습니다.", swept);
+        }
+    }
+
+    /**
+     * 만료 처리할 파티션 목록입니다.
+     *
+     * @return 파티션을 나누지 않았다면 전체 회원, 나눴다면 이 노드가 임대한 파티션
+     */
+    private List<MemberPointExpirePartition> getPartitions() {
+        MemberPointExpireCoordinator coordinator = memberPointExpireCoordinator.getIfAvailable();
+        return coordinator == null ? List.of(MemberPointExpirePartition.ALL) : coordinator.getOwnedPartitions();
+    }
+}
@@ -0,0 +1,320 @@
+package dev.pjc1991.commerce.member.point.component;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 회원 적립금 예약 저장소 (Redis)
+ * 결제가 끝나기 전에 사용할 적립금을 예약 (hold) 해 두고, 결제가 성공하면 확정 (capture), 실패하면 해제 (release) 합니다.
+ * 예약은 원장에 기록하지 않고, 회원마다 Redis 해시 하나에 예약 아이디별로 "금액|만료 시점 (epoch ms)|상태" 를 저장합니다.
+ * 상태는 H (예약됨) 와 C (확정 중) 입니다. 확정 중인 예약은 다른 요청이 확정하거나 해제할 수 없습니다.
+ *
+ * 예약과 해제는 스크립트 하나로 실행되므로, 같은 회원의 예약끼리 잠금 없이 겹치지 않습니다.
+ * 만료 시점이 지난 예약은 스크립트가 그 회원의 예약을 읽을 때 지우고, 접근하지 않는 회원의 예약은 스위퍼 (MemberPointHoldSweeper) 가 지웁니다.
+ * 스위퍼가 찾을 수 있도록 만료 시점을 점수로 하는 정렬 집합 (INDEX_KEY) 에 "회원 아이디:예약 아이디" 를 함께 저장합니다.
+ *
+ * 스크립트가 여러 회원의 키와 정렬 집합을 함께 변경하므로, Redis 클러스터가 아닌 단일 Redis (또는 복제본) 에서 사용해야 합니다.
+ */
+@Component
+public class MemberPointHoldStore {
+
+    /**
+     * 예약이 없거나 만료되었습니다.
+     */
+    public static final int NOT_FOUND = -1;
+
+    /**
+     * 다른 요청이 예약을 확정하는 중입니다.
+     */
+    public static final int CAPTURING = -2;
+
+    private static final String HOLD_KEY_PREFIX = "memberPointHold#";
+    private static final String INDEX_KEY = "memberPointHold:expiry";
+    private static final String CAPTURED_KEY_PREFIX = "memberPointHoldCaptured#";
+
+    /**
+     * 회원의 예약 금액 합계를 계산하는 함수입니다. 만료 시점이 지난 예약은 지우고, exclude 예약은 합계에서 제외합니다.
+     */
+    private static final String HELD_FUNCTION = """
+            local function held(key, index, prefix, now, exclude)
+                local total = 0
+                local fields = redis.call('HGETALL', key)
+                for i = 1, #fields, 2 do
+                    local amount, expireAt = string.match(fields[i + 1], '^(%d+)|(%d+)|')
+                    if tonumber(expireAt) <= now then
+                        redis.call('HDEL', key, fields[i])
+                        redis.call('ZREM', index, prefix .. fields[i])
+                    elseif fields[i] ~= exclude then
+                        total = total + tonumber(amount)
+                    end
+                end
+                return total
+            end
+            """;
+
+    /**
+     * 사용 가능한 적립금 (합계 - 예약 금액 합계) 이 충분하다면 예약합니다.
+     * 키의 TTL 은 가장 늦게 만료되는 예약의 만료 시점까지로 늘립니다.
+     * KEYS[1] : 회원 예약 키, KEYS[2] : 만료 정렬 집합, ARGV[1] : 예약 아이디, ARGV[2] : 금액, ARGV[3] : 만료 시점 (epoch ms)
+     * , ARGV[4] : 현재 시점 (epoch ms), ARGV[5] : 적립금 합계, ARGV[6] : 정렬 집합의 회원 접두어 ("회원 아이디:")
+     * 반환값은 예약한 뒤의 예약 금액 합계이고, 적립금이 부족하다면 -1 입니다.
+     */
+    private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>(HELD_FUNCTION + """
+            local reserved = held(KEYS[1], KEYS[2], ARGV[6], tonumber(ARGV[4]), '')
+            if tonumber(ARGV[5]) - reserved < tonumber(ARGV[2]) then
+                return -1
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2] .. '|' .. ARGV[3] .. '|H')
+            redis.call('ZADD', KEYS[2], ARGV[3], ARGV[6] .. ARGV[1])
+            local ttl = tonumber(ARGV[3]) - tonumber(ARGV[4])
+            if redis.call('PTTL', KEYS[1]) < ttl then
+                redis.call('PEXPIRE', KEYS[1], ttl)
+            end
+            return reserved + tonumber(ARGV[2])
+            """, Long.class);
+
+    /**
+     * 회원의 예약 금액 합계를 조회합니다.
+     * KEYS[1] : 회원 예약 키, KEYS[2] : 만료 정렬 집합, ARGV[1] : 제외할 예약 아이디 (없다면 빈 문자열), ARGV[2] : 현재 시점 (epoch ms)
+     * , ARGV[3] : 정렬 집합의 회원 접두어
+     */
+    private static final RedisScript<Long> HELD_SCRIPT = new DefaultRedisScript<>(HELD_FUNCTION + """
+            return held(KEYS[1], KEYS[2], ARGV[3], tonumber(ARGV[2]), ARGV[1])
+            """, Long.class);
+
+    /**
+     * 예약을 확정 중 상태로 바꾸고 금액을 반환합니다. 한 예약은 한 요청만 확정할 수 있습니다.
+     * KEYS[1] : 회원 예약 키, ARGV[1] : 예약 아이디, ARGV[2] : 현재 시점 (epoch ms)
+     * 반환값은 금액이고, 예약이 없거나 만료되었다면 -1, 다른 요청이 확정 중이라면 -2 입니다.
+     */
+    private static final RedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            local value = redis.call('HGET', KEYS[1], ARGV[1])
+            if not value then
+                return -1
+            end
+            local amount, expireAt, state = string.match(value, '^(%d+)|(%d+)|(%a)$')
+            if tonumber(expireAt) <= tonumber(ARGV[2]) then
+                return -1
+            end
+            if state ~= 'H' then
+                return -2
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], amount .. '|' .. expireAt .. '|C')
+            return tonumber(amount)
+            """, Long.class);
+
+    /**
+     * 확정하지 못한 예약을 다시 예약됨 상태로 되돌립니다.
+     * KEYS[1] : 회원 예약 키, ARGV[1] : 예약 아이디
+     */
+    private static final RedisScript<Long> UNCLAIM_SCRIPT = new DefaultRedisScript<>("""
+            local value = redis.call('HGET', KEYS[1], ARGV[1])
+            if not value then
+                return 0
+            end
+            local amount, expireAt, state = string.match(value, '^(%d+)|(%d+)|(%a)$')
+            if state ~= 'C' then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], amount .. '|' .. expireAt .. '|H')
+            return 1
+            """, Long.class);
+
+    /**
+     * 확정된 예약을 지우고, 다시 확정을 요청하면 같은 사용 이벤트를 돌려줄 수 있도록 이벤트 아이디를 남깁니다.
+     * KEYS[1] : 회원 예약 키, KEYS[2] : 만료 정렬 집합, KEYS[3] : 확정 기록 키
+     * , ARGV[1] : 예약 아이디, ARGV[2] : 정렬 집합의 회원 접두어, ARGV[3] : 사용 이벤트 아이디, ARGV[4] : 확정 기록 보관 시간 (ms)
+     */
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HDEL', KEYS[1], ARGV[1])
+            redis.call('ZREM', KEYS[2], ARGV[2] .. ARGV[1])
+            redis.call('SET', KEYS[3], ARGV[3], 'PX', ARGV[4])
+            return 1
+            """, Long.class);
+
+    /**
+     * 예약을 해제하고 금액을 반환합니다.
+     * KEYS[1] : 회원 예약 키, KEYS[2] : 만료 정렬 집합, ARGV[1] : 예약 아이디, ARGV[2] : 정렬 집합의 회원 접두어
+     * 반환값은 금액이고, 예약이 없다면 -1, 다른 요청이 확정 중이라면 -2 입니다.
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            local value = redis.call('HGET', KEYS[1], ARGV[1])
+            if not value then
+                return -1
+            end
+            local amount, expireAt, state = string.match(value, '^(%d+)|(%d+)|(%a)$')
+            if state ~= 'H' then
+                return -2
+            end
+            redis.call('HDEL', KEYS[1], ARGV[1])
+            redis.call('ZREM', KEYS[2], ARGV[2] .. ARGV[1])
+            return tonumber(amount)
+            """, Long.class);
+
+    /**
+     * 만료 시점이 지난 예약을 limit 개까지 지웁니다.
+     * KEYS[1] : 만료 정렬 집합, ARGV[1] : 현재 시점 (epoch ms), ARGV[2] : 최대 개수, ARGV[3] : 회원 예약 키 접두어
+     * 반환값은 지운 예약의 개수입니다.
+     */
+    private static final RedisScript<Long> SWEEP_SCRIPT = new DefaultRedisScript<>("""
+            local expired = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])
+            for _, entry in ipairs(expired) do
+                local separator = string.find(entry, ':', 1, true)
+                redis.call('HDEL', ARGV[3] .. string.sub(entry, 1, separator - 1), string.sub(entry, separator + 1))
+                redis.call('ZREM', KEYS[1], entry)
+            end
+            return #expired
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration capturedTtl;
+
+    /**
+     * 생성자
+     *
+     * @param stringRedisTemplate Redis 템플릿
+     * @param capturedTtl         확정 기록 보관 시간 (이 시간 안에 같은 예약의 확정을 다시 요청하면 같은 사용 이벤트를 돌려줍니다.)
+     */
+    public MemberPointHoldStore(
+            StringRedisTemplate stringRedisTemplate
+            , @Value("${member.point.hold.captured-ttl:1d}") Duration capturedTtl
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.capturedTtl = capturedTtl;
+    }
+
+    /**
+     * 사용 가능한 적립금이 충분하다면 예약합니다.
+     *
+     * @param memberId 회원 아이디
+     * @param holdId   예약 아이디
+     * @param amount   예약 금액
+     * @param total    회원 적립금 합계
+     * @param now      현재 시점
+     * @param expireAt 예약 만료 시점
+     * @return 적립금이 충분해서 예약했다면 true
+     */
+    public boolean reserve(long memberId, String holdId, int amount, int total, Instant now, Instant expireAt) {
+        Long reserved = stringRedisTemplate.execute(RESERVE_SCRIPT, List.of(getHoldKey(memberId), INDEX_KEY)
+                , holdId, String.valueOf(amount), String.valueOf(expireAt.toEpochMilli()), String.valueOf(now.toEpochMilli())
+                , String.valueOf(total), getIndexPrefix(memberId));
+        return reserved != null && reserved >= 0;
+    }
+
+    /**
+     * 회원의 만료되지 않은 예약 금액 합계를 조회합니다.
+     *
+     * @param memberId      회원 아이디
+     * @param excludeHoldId 합계에서 제외할 예약 아이디 (확정하려는 예약, 없다면 null)
+     * @return 예약 금액 합계
+     */
+    public int getHeld(long memberId, String excludeHoldId) {
+        Long held = stringRedisTemplate.execute(HELD_SCRIPT, List.of(getHoldKey(memberId), INDEX_KEY)
+                , excludeHoldId == null ? "" : excludeHoldId, String.valueOf(System.currentTimeMillis()), getIndexPrefix(memberId));
+        return held == null ? 0 : held.intValue();
+    }
+
+    /**
+     * 예약을 확정 중 상태로 바꿉니다.
+     *
+     * @param memberId 회원 아이디
+     * @param holdId   예약 아이디
+     * @return 예약 금액 (예약이 없거나 만료되었다면 NOT_FOUND, 다른 요청이 확정 중이라면 CAPTURING)
+     */
+    public int claim(long memberId, String holdId) {
+        Long amount = stringRedisTemplate.execute(CLAIM_SCRIPT, List.of(getHoldKey(memberId))
+                , holdId, String.valueOf(System.currentTimeMillis()));
+        return amount == null ? NOT_FOUND : amount.intValue();
+    }
+
+    /**
+     * 확정하지 못한 예약을 다시 예약됨 상태로 되돌립니다.
+     *
+     * @param memberId 회원 아이디
+     * @param holdId   예약 아이디
+     */
+    public void unclaim(long memberId, String holdId) {
+        stringRedisTemplate.execute(UNCLAIM_SCRIPT, List.of(getHoldKey(memberId)), holdId);
+    }
+
+    /**
+     * 예약을 사용한 트랜잭션이 커밋된 뒤에 예약을 지웁니다. 트랜잭션 밖에서 호출하면 바로 지웁니다.
+     * 커밋되기 전에 지우면 다른 요청이 예약된 금액을 사용할 수 있고, 롤백되면 예약을 다시 확정할 수 있어야 하기 때문입니다.
+     *
+     * @param memberId           회원 아이디
+     * @param holdId             예약 아이디
+     * @param memberPointEventId 예약을 사용한 적립금 사용 이벤트 아이디
+     */
+    public void completeAfterCommit(long memberId, String holdId, long memberPointEventId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            complete(memberId, holdId, memberPointEventId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                complete(memberId, holdId, memberPointEventId);
+            }
+        });
+    }
+
+    /**
+     * 확정된 예약의 적립금 사용 이벤트 아이디를 조회합니다.
+     *
+     * @param holdId 예약 아이디
+     * @return 적립금 사용 이벤트 아이디 (확정되지 않았거나 기록이 만료되었다면 null)
+     */
+    public Long getCapturedEventId(String holdId) {
+        String eventId = stringRedisTemplate.opsForValue().get(CAPTURED_KEY_PREFIX + holdId);
+        return eventId == null ? null : Long.valueOf(eventId);
+    }
+
+    /**
+     * 예약을 해제합니다.
+     *
+     * @param memberId 회원 아이디
+     * @param holdId   예약 아이디
+     * @return 해제한 금액 (예약이 없다면 NOT_FOUND, 다른 요청이 확정 중이라면 CAPTURING)
+     */
+    public int release(long memberId, String holdId) {
+        Long amount = stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(getHoldKey(memberId), INDEX_KEY)
+                , holdId, getIndexPrefix(memberId));
+        return amount == null ? NOT_FOUND : amount.intValue();
+    }
+
+    /**
+     * 만료 시점이 지난 예약을 limit 개까지 지웁니다.
+     *
+     * @param now   현재 시점
+     * @param limit 최대 개수
+     * @return 지운 예약의 개수
+     */
+    public int sweep(Instant now, int limit) {
+        Long swept = stringRedisTemplate.execute(SWEEP_SCRIPT, List.of(INDEX_KEY)
+                , String.valueOf(now.toEpochMilli()), String.valueOf(limit), HOLD_KEY_PREFIX);
+        return swept == null ? 0 : swept.intValue();
+    }
+
+    private void complete(long memberId, String holdId, long memberPointEventId) {
+        stringRedisTemplate.execute(COMPLETE_SCRIPT, List.of(getHoldKey(memberId), INDEX_KEY, CAPTURED_KEY_PREFIX + holdId)
+                , holdId, getIndexPrefix(memberId), String.valueOf(memberPointEventId), String.valueOf(capturedTtl.toMillis()));
+    }
+
+    private static String getHoldKey(long memberId) {
+        return HOLD_KEY_PREFIX + memberId;
+    }
+
+    private static String getIndexPrefix(long memberId) {
+        return memberId + ":";
+    }
+}
@@ -0,0 +1,41 @@
+package dev.pjc1991.commerce.member.point.component;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * 회원 적립금 예약 스위퍼
+ * 만료된 예약은 그 회원의 예약을 읽을 때 지워지므로, 다시 접근하지 않는 회원의 예약과 만료 정렬 집합의 항목만 남습니다.
+ * 이 예약들을 짧은 주기로 한 청크씩 지웁니다.
+ */
+@Slf4j
+@Component
+public class MemberPointHoldSweeper {
+
+    private final MemberPointHoldStore memberPointHoldStore;
+    private final int chunkSize;
+
+    public MemberPointHoldSweeper(
+            MemberPointHoldStore memberPointHoldStore
+            , @Value("${member.point.hold.sweep-chunk-size:1000}") int chunkSize
+    ) {
+        this.memberPointHoldStore = memberPointHoldStore;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 만료 시점이 지난 예약을 한 청크만큼 지웁니다.
+     * 이전 실행이 끝난 뒤 member.point.hold.sweep-delay 만큼 기다렸다가 실행됩니다.
+     */
+    @Scheduled(fixedDelayString = "${member.point.hold.sweep-delay:10000}", initialDelayString = "${member.point.hold.sweep-delay:10000}")
+    public void sweep() {
+        int swept = memberPointHoldStore.sweep(Instant.now(), chunkSize);
+        if (swept > 0) {
+            log.info("만료된 적립금 예약 {}건을 해제했습니다.", swept);
+        }
+    }
+}
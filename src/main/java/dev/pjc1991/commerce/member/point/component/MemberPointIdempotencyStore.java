@@ -0,0 +1,97 @@
+package dev.pjc1991.commerce.member.point.component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.pjc1991.commerce.member.point.dto.MemberPointEventResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 회원 적립금 멱등 키 저장소 (Redis)
+ * 멱등 키로 요청된 적립/사용이 커밋되면 응답을 JSON 으로 저장해 두고, 같은 키로 다시 요청하면 키 하나를 조회해서 그대로 돌려줍니다.
+ * 다시 요청된 적립/사용은 잠금, 데이터베이스를 거치지 않습니다.
+ *
+ * 저장된 응답은 TTL 이 지나면 사라지므로, 그 뒤에 다시 요청하면 원장의 유니크 제약 조건 (회원 아이디, 멱등 키) 으로 기록된 이벤트를 찾아서 돌려줍니다.
+ * Redis 를 사용할 수 없을 때도 조회와 저장의 실패를 로그로만 남기고, 원장으로 같은 결과를 찾습니다.
+ */
+@Slf4j
+@Component
+public class MemberPointIdempotencyStore {
+
+    private static final String KEY_PREFIX = "memberPointIdempotency#";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    /**
+     * 생성자
+     *
+     * @param stringRedisTemplate Redis 템플릿
+     * @param objectMapper        응답을 JSON 으로 변환할 오브젝트 매퍼
+     * @param ttl                 응답 보관 시간
+     */
+    public MemberPointIdempotencyStore(
+            StringRedisTemplate stringRedisTemplate
+            , ObjectMapper objectMapper
+            , @Value("${member.point.idempotency.ttl:24h}") Duration ttl
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+    }
+
+    /**
+     * 멱등 키로 저장된 응답을 조회합니다.
+     *
+     * @param memberId       회원 아이디
+     * @param idempotencyKey 멱등 키
+     * @return 저장된 응답 (없다면 null)
+     */
+    public MemberPointEventResponse get(long memberId, String idempotencyKey) {
+        String json;
+        try {
+            json = stringRedisTemplate.opsForValue().get(getKey(memberId, idempotencyKey));
+        } catch (DataAccessException e) {
+            // Redis 를 사용할 수 없다면 저장된 응답이 없는 것으로 보고, 원장에서 다시 찾습니다.
+            log.warn("멱등 키로 저장된 응답을 조회할 수 없습니다. memberId : {}, idempotencyKey : {}", memberId, idempotencyKey, e);
+            return null;
+        }
+        if (json == null) {
+            return null;
+        }
+
+        try {
+            return objectMapper.readValue(json, MemberPointEventResponse.class);
+        } catch (JsonProcessingException e) {
+            // 읽을 수 없는 응답은 없는 것으로 보고, 원장에서 다시 찾습니다.
+            log.warn("멱등 키로 저장된 응답을 읽을 수 없습니다. memberId : {}, idempotencyKey : {}", memberId, idempotencyKey, e);
+            return null;
+        }
+    }
+
+    /**
+     * 커밋된 적립/사용의 응답을 멱등 키로 저장합니다.
+     *
+     * @param memberId       회원 아이디
+     * @param idempotencyKey 멱등 키
+     * @param response       적립/사용 응답
+     */
+    public void put(long memberId, String idempotencyKey, MemberPointEventResponse response) {
+        try {
+            stringRedisTemplate.opsForValue().set(getKey(memberId, idempotencyKey), objectMapper.writeValueAsString(response), ttl);
+        } catch (JsonProcessingException | DataAccessException e) {
+            // 저장하지 못해도 다시 요청하면 원장에서 찾을 수 있습니다.
+            log.warn("멱등 키로 응답을 저장할 수 없습니다. memberId : {}, idempotencyKey : {}", memberId, idempotencyKey, e);
+        }
+    }
+
+    private static String getKey(long memberId, String idempotencyKey) {
+        return KEY_PREFIX + memberId + ":" + idempotencyKey;
+    }
+}
@@ -1,12 +1,18 @@
 package dev.pjc1991.commerce.member.point.component;
 
+import dev.pjc1991.commerce.member.point.domain.MemberPointExpireMode;
+import dev.pjc1991.commerce.member.point.dto.MemberPointExpireReport;
 import dev.pjc1991.commerce.member.point.service.MemberPointService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StopWatch;
 
+import java.util.List;
+
 @Component
 @Slf4j
 @RequiredArgsConstructor
@@ -14,21 +20,50 @@ public class MemberPointScheduledTasks {
 
     private final MemberPointService memberPointService;
 
+    // 여러 노드가 만료 처리를 나눠서 할 때만 등록됩니다. (member.point.expire.cluster.enabled)
+    private final ObjectProvider<MemberPointExpireCoordinator> memberPointExpireCoordinator;
+
+    // 만료 처리 방식 (EAGER 모드에서만 자정에 만료 처리합니다.)
+    @Value("${member.point.expire.mode:EAGER}")
+    private MemberPointExpireMode expireMode;
+
     /**
      * 회원 적립금 만료 처리
      * 매일 00:00:00에 실행됩니다.
+     * 청크 단위로 커밋되므로, 중단되더라도 다음 실행에서 이어서 처리합니다.
+     * 여러 노드가 만료 처리를 나눠서 한다면, 이 노드가 임대한 파티션만 처리합니다.
      */
     @Scheduled(cron = "0 0 0 * * *")
     public void expireMemberPoint() {
+        // 지연 만료 모드에서는 회원이 접근할 때와 MemberPointExpireSweeper 가,
+        // 연속 만료 모드에서는 MemberPointExpireDrainer 가 만료 처리합니다.
+        if (expireMode != MemberPointExpireMode.EAGER) {
+            return;
+        }
+
         // StopWatch를 사용하여 실행 시간을 측정합니다.
         StopWatch stopWatch = new StopWatch();
 
+        MemberPointExpireCoordinator coordinator = memberPointExpireCoordinator.getIfAvailable();
+        if (coordinator != null) {
+            log.info("expireMemberPoint start (node : {})", coordinator.getNodeId());
+            stopWatch.start();
+            List<MemberPointExpireReport> reports = coordinator.expireMemberPoint();
+            stopWatch.stop();
+            log.info("expireMemberPoint end (node : {}) 총 : {}ms, 파티션 {}개, 만료 : {}건",
+                    coordinator.getNodeId(), stopWatch.getTotalTimeMillis(), reports.size(),
+                    reports.stream().mapToLong(MemberPointExpireReport::getExpiredCount).sum());
+            return;
+        }
+
         log.info("expireMemberPoint start");
         stopWatch.start();
-        memberPointService.expireMemberPoint();
+        MemberPointExpireReport report = memberPointService.expireMemberPoint();
         stopWatch.stop();
         log.info("expireMemberPoint end");
 
-        log.info("expireMemberPoint 총 : {}ms", stopWatch.getTotalTimeMillis());
+        log.info("expireMemberPoint 총 : {}ms, 만료 : {}건, 초당 {}건, 청크 {}개 (평균 {}ms, p95 {}ms, 최대 {}ms)",
+                stopWatch.getTotalTimeMillis(), report.getExpiredCount(), report.getRowsPerSecond(),
+                report.getChunkCount(), report.getChunkAvgMillis(), report.getChunkP95Millis(), report.getChunkMaxMillis());
     }
 }
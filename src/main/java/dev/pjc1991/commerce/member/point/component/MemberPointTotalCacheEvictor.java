@@ -0,0 +1,101 @@
+package dev.pjc1991.commerce.member.point.component;
+
+import dev.pjc1991.commerce.cache.TwoLevelCacheManager;
+import dev.pjc1991.commerce.member.point.domain.MemberPointBalance;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회원 적립금 합계 캐시 일괄 초기화
+ * 여러 회원의 적립금을 한 번에 변경했을 때, 회원마다 @CacheEvict 로 Redis 를 왕복하지 않고
+ * 파이프라인으로 한 번에 캐시를 삭제합니다.
+ * 트랜잭션 안에서 호출하면 커밋된 뒤에 삭제하므로, 커밋 전의 값이 다시 캐시되지 않습니다.
+ * 키를 지우지 않고 커밋된 잔액 버전을 묘비로 남기므로, 커밋 전에 조회한 이전 합계가 삭제된 뒤에 저장되지도 않습니다.
+ * Redis (L2) 에서 삭제한 뒤, 모든 노드의 L1 캐시도 초기화합니다.
+ */
+@Slf4j
+@Component
+public class MemberPointTotalCacheEvictor {
+
+    /**
+     * 회원 적립금 합계 캐시 이름 (@Cacheable 의 value 와 같아야 합니다.)
+     */
+    public static final String CACHE_NAME = "memberPointTotal";
+
+    /**
+     * 파이프라인 하나에 담을 키의 최대 개수
+     * 파이프라인 하나가 너무 커져서 Redis 를 오래 점유하지 않도록 나눠서 보냅니다.
+     */
+    private static final int KEYS_PER_PIPELINE = 1000;
+
+    private final MemberPointTotalRedisCache memberPointTotalRedisCache;
+    private final TwoLevelCacheManager cacheManager;
+
+    public MemberPointTotalCacheEvictor(MemberPointTotalRedisCache memberPointTotalRedisCache, TwoLevelCacheManager cacheManager) {
+        this.memberPointTotalRedisCache = memberPointTotalRedisCache;
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * 회원 적립금 합계 캐시를 트랜잭션이 커밋된 뒤에 초기화합니다.
+     * 트랜잭션 밖에서 호출하면 바로 초기화합니다.
+     * 잔액 버전은 초기화할 때 읽으므로, 같은 트랜잭션에서 잔액이 더 바뀌어도 커밋된 버전이 남습니다.
+     *
+     * @param balances 변경된 회원 적립금 잔액 목록
+     */
+    public void evictAfterCommit(Collection<MemberPointBalance> balances) {
+        if (balances.isEmpty()) {
+            return;
+        }
+
+        List<MemberPointBalance> targets = List.copyOf(balances);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(targets);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(targets);
+            }
+        });
+    }
+
+    /**
+     * 회원 적립금 합계 캐시를 파이프라인으로 초기화하고, 잔액 버전을 묘비로 남깁니다.
+     * 캐시 초기화에 실패해도 원장은 이미 커밋되었으므로 예외를 던지지 않고, 캐시는 TTL 이 지나면 만료됩니다.
+     *
+     * @param balances 회원 적립금 잔액 목록
+     */
+    public void evict(Collection<MemberPointBalance> balances) {
+        Map<Long, Long> versions = new LinkedHashMap<>(balances.size());
+        for (MemberPointBalance balance : balances) {
+            versions.merge(balance.getMemberId(), balance.getVersion(), Math::max);
+        }
+
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(versions.entrySet());
+        for (int from = 0; from < entries.size(); from += KEYS_PER_PIPELINE) {
+            Map<Long, Long> chunk = new LinkedHashMap<>();
+            for (Map.Entry<Long, Long> entry : entries.subList(from, Math.min(from + KEYS_PER_PIPELINE, entries.size()))) {
+                chunk.put(entry.getKey(), entry.getValue());
+            }
+            try {
+                memberPointTotalRedisCache.evict(chunk);
+            } catch (RuntimeException e) {
+                log.error("회원 적립금 합계 캐시를 초기화하지 못했습니다. 회원 수 : {}", chunk.size(), e);
+            }
+        }
+
+        // 이 노드와 다른 노드의 L1 캐시를 초기화합니다.
+        cacheManager.broadcastEvict(CACHE_NAME, versions.keySet());
+    }
+}
@@ -0,0 +1,154 @@
+package dev.pjc1991.commerce.member.point.component;
+
+import dev.pjc1991.commerce.cache.TwoLevelCacheManager;
+import dev.pjc1991.commerce.member.point.domain.MemberPointBalance;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 회원 적립금 합계 캐시 갱신
+ * 적립, 사용, 사용 취소로 잔액이 바뀌면 캐시를 삭제하지 않고, 트랜잭션이 커밋된 뒤에 변경분을 캐시에 더합니다.
+ * 캐시가 변경 전 버전의 합계를 가지고 있을 때만 더하므로, 다음 조회도 데이터베이스를 거치지 않습니다.
+ * 캐시가 없었거나 버전이 맞지 않으면 합계를 만들지 않으므로, 데이터베이스는 캐시가 정말 비어 있을 때만 조회합니다.
+ *
+ * 커밋되기 전까지 변경된 회원의 합계는 같은 트랜잭션 안에서 캐시를 거치지 않고 조회해야 하므로 isPending 으로 확인합니다.
+ */
+@Slf4j
+@Component
+public class MemberPointTotalCacheUpdater {
+
+    /**
+     * 캐시 갱신 결과 지표 이름 (result 태그 : MISSING, APPLIED, CURRENT, EVICTED)
+     */
+    public static final String UPDATE_METRIC = "member.point.total.cache.update";
+
+    private final MemberPointTotalRedisCache memberPointTotalRedisCache;
+    private final TwoLevelCacheManager cacheManager;
+    private final Map<MemberPointTotalRedisCache.UpdateResult, Counter> counters = new EnumMap<>(MemberPointTotalRedisCache.UpdateResult.class);
+
+    public MemberPointTotalCacheUpdater(MemberPointTotalRedisCache memberPointTotalRedisCache, TwoLevelCacheManager cacheManager, MeterRegistry meterRegistry) {
+        this.memberPointTotalRedisCache = memberPointTotalRedisCache;
+        this.cacheManager = cacheManager;
+        for (MemberPointTotalRedisCache.UpdateResult result : MemberPointTotalRedisCache.UpdateResult.values()) {
+            counters.put(result, Counter.builder(UPDATE_METRIC)
+                    .tag("result", result.name())
+                    .description("회원 적립금 합계 캐시 갱신 결과")
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 잔액의 변경분을 트랜잭션이 커밋된 뒤에 캐시에 반영합니다.
+     * 트랜잭션 밖에서 호출하면 바로 반영합니다. 한 트랜잭션에서 같은 회원의 잔액이 여러 번 바뀌면 변경분을 합쳐서 한 번에 반영합니다.
+     * 잔액에 만료되지 않은 적립금이 포함되어 있을 수 있다면 합계는 원장으로 계산되므로, 변경분을 더하지 않고 캐시를 삭제합니다.
+     * 잔액의 가장 먼저 만료되는 시점이 캐시의 만료 시점보다 이르다면 (더 먼저 만료되는 적립금이 더해졌다면) 캐시도 그 시점에 만료되도록 앞당깁니다.
+     *
+     * @param balance     변경된 회원 적립금 잔액
+     * @param fromVersion 변경 전 잔액 버전
+     * @param fromBalance 변경 전 잔액
+     */
+    public void updateAfterCommit(MemberPointBalance balance, long fromVersion, int fromBalance) {
+        Pending change = new Pending(
+                balance.isAvailableAt(LocalDateTime.now()) ? fromVersion : MemberPointTotalRedisCache.UNKNOWN_VERSION
+                , balance.getVersion()
+                , balance.getBalance() - fromBalance
+                , balance.getNextExpireAt()
+        );
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(Map.of(balance.getMemberId(), change));
+            return;
+        }
+
+        getPendingChanges().merge(balance.getMemberId(), change, Pending::then);
+    }
+
+    /**
+     * 현재 트랜잭션에서 잔액이 바뀌었지만 아직 커밋되지 않은 회원인지 확인합니다.
+     * 회원 적립금 합계 조회의 @Cacheable 조건으로 사용합니다.
+     *
+     * @param memberId 회원 아이디
+     * @return 커밋되지 않은 변경이 있다면 true
+     */
+    public boolean isPending(long memberId) {
+        Object changes = TransactionSynchronizationManager.getResource(this);
+        return changes instanceof Map<?, ?> map && map.containsKey(memberId);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Pending> getPendingChanges() {
+        Map<Long, Pending> changes = (Map<Long, Pending>) TransactionSynchronizationManager.getResource(this);
+        if (changes != null) {
+            return changes;
+        }
+
+        Map<Long, Pending> created = new LinkedHashMap<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(created);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(MemberPointTotalCacheUpdater.this);
+            }
+        });
+        return created;
+    }
+
+    /**
+     * 변경분을 L2 캐시에 반영한 뒤, 모든 노드의 L1 캐시를 초기화합니다.
+     * 캐시 갱신에 실패해도 원장은 이미 커밋되었으므로 예외를 던지지 않고, 캐시를 삭제합니다.
+     *
+     * @param changes 회원 아이디를 키로 하는 변경분
+     */
+    private void apply(Map<Long, Pending> changes) {
+        for (Map.Entry<Long, Pending> entry : changes.entrySet()) {
+            Pending change = entry.getValue();
+            try {
+                counters.get(memberPointTotalRedisCache.update(entry.getKey(), change.fromVersion, change.toVersion, change.delta, change.expireAt)).increment();
+            } catch (RuntimeException e) {
+                log.error("회원 적립금 합계 캐시를 갱신하지 못했습니다. 회원 : {}", entry.getKey(), e);
+                evictQuietly(entry.getKey());
+            }
+        }
+
+        // L1 캐시는 L2 에서 다시 읽도록 초기화합니다.
+        cacheManager.broadcastEvict(MemberPointTotalCacheEvictor.CACHE_NAME, changes.keySet());
+    }
+
+    private void evictQuietly(long memberId) {
+        try {
+            memberPointTotalRedisCache.evict(memberId);
+        } catch (RuntimeException e) {
+            log.error("회원 적립금 합계 캐시를 삭제하지 못했습니다. TTL 이 지나면 만료됩니다. 회원 : {}", memberId, e);
+        }
+    }
+
+    /**
+     * 커밋을 기다리는 잔액 변경분
+     */
+    private record Pending(long fromVersion, long toVersion, int delta, LocalDateTime expireAt) {
+
+        /**
+         * 같은 트랜잭션에서 이어진 변경분을 합칩니다.
+         * 둘 중 하나라도 변경분을 더할 수 없다면 합친 변경분도 더할 수 없습니다. 만료 시점은 먼저 오는 쪽을 사용합니다.
+         */
+        private Pending then(Pending next) {
+            long from = next.fromVersion == MemberPointTotalRedisCache.UNKNOWN_VERSION ? MemberPointTotalRedisCache.UNKNOWN_VERSION : fromVersion;
+            LocalDateTime earliest = expireAt == null || (next.expireAt != null && next.expireAt.isBefore(expireAt)) ? next.expireAt : expireAt;
+            return new Pending(from, next.toVersion, delta + next.delta, earliest);
+        }
+    }
+}
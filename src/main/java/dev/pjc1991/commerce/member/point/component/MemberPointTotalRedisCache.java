@@ -0,0 +1,336 @@
+package dev.pjc1991.commerce.member.point.component;
+
+import dev.pjc1991.commerce.cache.ExpiringCacheValue;
+import dev.pjc1991.commerce.member.point.dto.MemberPointTotalSnapshot;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * 회원 적립금 합계 캐시 (L2, Redis)
+ * 합계를 JSON 으로 저장하는 RedisCache 대신, 회원마다 Redis 해시 하나에 합계 (total) 와 잔액 버전 (version) 을 저장합니다.
+ * 합계가 정수 필드이므로 잔액이 바뀌면 다시 계산하지 않고 HINCRBY 로 변경분만 더할 수 있습니다.
+ *
+ * 변경분은 캐시의 버전이 변경 전 버전과 같을 때만 더하고, 키가 없으면 합계를 만들지 않습니다.
+ * 대신 버전만 남겨서, 커밋 전에 조회한 이전 합계가 나중에 저장되지 않도록 합니다.
+ * Cache 빈으로 등록하면 RedisCacheConfig 가 같은 이름의 Redis 캐시 대신 사용합니다.
+ *
+ * 합계에 포함된 적립금 중 가장 먼저 만료되는 시점 (expireAt) 도 함께 저장하고, 키의 TTL 은 그 시점과 최대 유효 시간 중 먼저 오는 때까지로 정합니다.
+ * 만료 예정인 적립금이 없는 회원의 합계는 최대 유효 시간 동안 유지됩니다.
+ *
+ * 캐시를 삭제할 때도 키를 지우지 않고 버전만 남긴 묘비를 남겨서, 삭제하기 전에 조회한 이전 합계가 나중에 저장되지 않도록 합니다.
+ */
+@Component
+public class MemberPointTotalRedisCache implements Cache {
+
+    /**
+     * 변경 전 버전을 알 수 없을 때 사용합니다. 변경분을 더하지 않고 캐시를 삭제합니다.
+     */
+    public static final long UNKNOWN_VERSION = -1L;
+
+    private static final String TOTAL_FIELD = "total";
+    private static final String VERSION_FIELD = "version";
+    private static final String EXPIRE_AT_FIELD = "expireAt";
+    private static final String NO_EXPIRE_AT = "-1";
+
+    /**
+     * 캐시에 더 최신 버전이 있다면 저장하지 않습니다.
+     * KEYS[1] : 키, ARGV[1] : 합계, ARGV[2] : 버전, ARGV[3] : TTL (ms), ARGV[4] : 만료 시점 (epoch ms, 없다면 -1)
+     */
+    private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('HGET', KEYS[1], 'version')
+            if current and tonumber(current) > tonumber(ARGV[2]) then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], 'total', ARGV[1], 'version', ARGV[2], 'expireAt', ARGV[4])
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    /**
+     * 캐시의 버전이 변경 전 버전과 같다면 변경분을 더하고 버전을 올립니다.
+     * 키가 없거나 버전이 맞지 않으면 합계는 만들지 않고 (삭제하고) 변경 후 버전만 남깁니다.
+     * 변경으로 더 먼저 만료되는 적립금이 생겼다면 만료 시점을 앞당기고 TTL 을 줄입니다. TTL 을 늘리지는 않습니다.
+     * KEYS[1] : 키, ARGV[1] : 변경 전 버전, ARGV[2] : 변경 후 버전, ARGV[3] : 변경분, ARGV[4] : 최대 유효 시간 (ms)
+     * , ARGV[5] : 변경 후 가장 먼저 만료되는 시점 (epoch ms, 없다면 -1), ARGV[6] : 그 만료 시점까지 남은 시간 (ms)
+     * 반환값은 UpdateResult 의 순서와 같습니다.
+     */
+    private static final RedisScript<Long> UPDATE_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('HGET', KEYS[1], 'version')
+            if not current then
+                redis.call('HSET', KEYS[1], 'version', ARGV[2])
+                redis.call('PEXPIRE', KEYS[1], ARGV[4])
+                return 0
+            end
+            current = tonumber(current)
+            if current >= tonumber(ARGV[2]) then
+                return 2
+            end
+            if current == tonumber(ARGV[1]) and redis.call('HEXISTS', KEYS[1], 'total') == 1 then
+                redis.call('HINCRBY', KEYS[1], 'total', ARGV[3])
+                redis.call('HSET', KEYS[1], 'version', ARGV[2])
+                local expireAt = tonumber(ARGV[5])
+                local cachedExpireAt = tonumber(redis.call('HGET', KEYS[1], 'expireAt') or '-1')
+                if expireAt >= 0 and (cachedExpireAt < 0 or expireAt < cachedExpireAt) then
+                    redis.call('HSET', KEYS[1], 'expireAt', ARGV[5])
+                    local remaining = redis.call('PTTL', KEYS[1])
+                    if remaining < 0 or tonumber(ARGV[6]) < remaining then
+                        redis.call('PEXPIRE', KEYS[1], ARGV[6])
+                    end
+                end
+                return 1
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], 'version', ARGV[2])
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            return 3
+            """, Long.class);
+
+    /**
+     * 합계를 지우고 버전만 남깁니다. 변경 후 버전을 알 수 없으므로 캐시의 버전보다 하나 큰 버전을 남겨서,
+     * 캐시의 버전 이하로 조회한 합계는 저장되지 않고 변경 후 다시 조회한 합계만 저장되도록 합니다.
+     * 키가 없다면 남길 버전을 알 수 없으므로 아무것도 하지 않습니다.
+     * KEYS[1] : 키, ARGV[1] : 최대 유효 시간 (ms)
+     */
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('HGET', KEYS[1], 'version')
+            if not current then
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], 'version', tonumber(current) + 1)
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    /**
+     * 변경분 반영 결과
+     */
+    public enum UpdateResult {
+        // 캐시가 없어서 버전만 남겼습니다.
+        MISSING,
+        // 변경분을 더했습니다.
+        APPLIED,
+        // 캐시가 이미 변경 후 버전 이상입니다.
+        CURRENT,
+        // 버전이 맞지 않아 캐시를 삭제했습니다.
+        EVICTED
+    }
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration maxTtl;
+
+    /**
+     * 생성자
+     *
+     * @param stringRedisTemplate Redis 템플릿
+     * @param maxTtl              캐시 최대 유효 시간 (먼저 만료되는 적립금이 있다면 그 시점에 만료됩니다.)
+     */
+    public MemberPointTotalRedisCache(
+            StringRedisTemplate stringRedisTemplate
+            , @Value("${member.point.total.cache-max-ttl:1h}") Duration maxTtl
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.maxTtl = maxTtl;
+    }
+
+    @Override
+    public String getName() {
+        return MemberPointTotalCacheEvictor.CACHE_NAME;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return stringRedisTemplate;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        List<Object> values = stringRedisTemplate.opsForHash().multiGet(toRedisKey(key), List.of(TOTAL_FIELD, VERSION_FIELD, EXPIRE_AT_FIELD));
+        // 버전만 남은 키는 캐시가 없는 것으로 봅니다.
+        if (values.get(0) == null || values.get(1) == null) {
+            return null;
+        }
+        return new SimpleValueWrapper(new MemberPointTotalSnapshot(
+                Integer.parseInt((String) values.get(0))
+                , Long.parseLong((String) values.get(1))
+                , fromEpochMilli((String) values.get(2))
+        ));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        Object value = wrapper.get();
+        if (type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값의 타입이 다릅니다. 캐시 : " + getName() + ", 기대한 타입 : " + type.getName() + ", 값 : " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value);
+        return value;
+    }
+
+    /**
+     * 합계를 저장합니다. 캐시에 더 최신 버전이 있다면 저장하지 않습니다.
+     * 합계에 포함된 적립금이 이미 만료되었다면 저장하지 않습니다.
+     *
+     * @param key   회원 아이디
+     * @param value 회원 적립금 합계 (MemberPointTotalSnapshot)
+     */
+    @Override
+    public void put(Object key, Object value) {
+        if (!(value instanceof MemberPointTotalSnapshot snapshot)) {
+            throw new IllegalArgumentException("회원 적립금 합계 캐시에는 MemberPointTotalSnapshot 만 저장할 수 있습니다. 값 : " + value);
+        }
+        Duration ttl = ExpiringCacheValue.timeToLive(snapshot, maxTtl, LocalDateTime.now());
+        if (ttl.toMillis() <= 0) {
+            return;
+        }
+        stringRedisTemplate.execute(PUT_SCRIPT, List.of(toRedisKey(key)),
+                String.valueOf(snapshot.getTotal()), String.valueOf(snapshot.getVersion()), String.valueOf(ttl.toMillis()), toEpochMilli(snapshot.getExpireAt()));
+    }
+
+    /**
+     * 합계를 삭제하고 버전만 남깁니다. (EVICT_SCRIPT)
+     * 커밋된 버전을 알고 있다면 evict(Map) 으로 그 버전을 남기는 것이 더 정확합니다.
+     *
+     * @param key 회원 아이디
+     */
+    @Override
+    public void evict(Object key) {
+        stringRedisTemplate.execute(EVICT_SCRIPT, List.of(toRedisKey(key)), String.valueOf(maxTtl.toMillis()));
+    }
+
+    /**
+     * 모든 회원의 합계를 삭제하고 버전만 남깁니다. (EVICT_SCRIPT)
+     */
+    @Override
+    public void clear() {
+        List<byte[]> keys = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(getName() + "::*").count(1000L).build();
+        stringRedisTemplate.execute((RedisCallback<Object>) connection -> {
+            try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                cursor.forEachRemaining(keys::add);
+            }
+            return null;
+        });
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        byte[] ttl = String.valueOf(maxTtl.toMillis()).getBytes(StandardCharsets.UTF_8);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (byte[] key : keys) {
+                connection.scriptingCommands().eval(toBytes(EVICT_SCRIPT.getScriptAsString()), ReturnType.INTEGER, 1, key, ttl);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 여러 회원의 합계를 파이프라인으로 한 번에 삭제하고, 커밋된 잔액 버전을 묘비로 남깁니다.
+     * 변경 전 버전을 알 수 없는 변경분 (UNKNOWN_VERSION) 을 반영하는 것과 같습니다. 캐시가 이미 그 버전 이상이라면 그대로 둡니다.
+     *
+     * @param versions 회원 아이디를 키로 하는 커밋된 잔액 버전
+     */
+    public void evict(Map<Long, Long> versions) {
+        if (versions.isEmpty()) {
+            return;
+        }
+
+        byte[] script = toBytes(UPDATE_SCRIPT.getScriptAsString());
+        byte[] unknownVersion = toBytes(String.valueOf(UNKNOWN_VERSION));
+        byte[] noDelta = toBytes("0");
+        byte[] ttl = toBytes(String.valueOf(maxTtl.toMillis()));
+        byte[] noExpireAt = toBytes(NO_EXPIRE_AT);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Map.Entry<Long, Long> entry : versions.entrySet()) {
+                connection.scriptingCommands().eval(script, ReturnType.INTEGER, 1
+                        , toBytes(toRedisKey(entry.getKey())), unknownVersion, toBytes(String.valueOf(entry.getValue())), noDelta, ttl, noExpireAt, noExpireAt);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 잔액의 변경분을 캐시에 반영합니다.
+     *
+     * @param memberId    회원 아이디
+     * @param fromVersion 변경 전 잔액 버전 (UNKNOWN_VERSION 이면 변경분을 더하지 않고 삭제합니다.)
+     * @param toVersion   변경 후 잔액 버전
+     * @param delta       합계 변경분
+     * @param expireAt    변경 후 잔액의 가장 먼저 만료되는 시점 (없다면 null)
+     * @return 반영 결과
+     */
+    public UpdateResult update(long memberId, long fromVersion, long toVersion, int delta, LocalDateTime expireAt) {
+        // 그 사이에 만료 시점이 지났다면 TTL 0 으로 바로 만료시킵니다.
+        long untilExpire = expireAt == null ? -1L : Math.max(0L, Duration.between(LocalDateTime.now(), expireAt).toMillis());
+        Long result = stringRedisTemplate.execute(UPDATE_SCRIPT, List.of(toRedisKey(memberId)),
+                String.valueOf(fromVersion), String.valueOf(toVersion), String.valueOf(delta), String.valueOf(maxTtl.toMillis())
+                , toEpochMilli(expireAt), String.valueOf(untilExpire));
+        return UpdateResult.values()[result == null ? UpdateResult.EVICTED.ordinal() : result.intValue()];
+    }
+
+    private static String toEpochMilli(LocalDateTime expireAt) {
+        if (expireAt == null) {
+            return NO_EXPIRE_AT;
+        }
+        return String.valueOf(expireAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    private static LocalDateTime fromEpochMilli(String expireAt) {
+        if (expireAt == null || NO_EXPIRE_AT.equals(expireAt)) {
+            return null;
+        }
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(expireAt)), ZoneId.systemDefault());
+    }
+
+    private static byte[] toBytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * RedisCacheManager 의 기본 키 형식 ("캐시 이름::키") 을 그대로 사용해서, 일괄 초기화 (MemberPointTotalCacheEvictor) 와 키를 맞춥니다.
+     */
+    private String toRedisKey(Object key) {
+        return getName() + "::" + key;
+    }
+}
@@ -0,0 +1,77 @@
+package dev.pjc1991.commerce.member.point.component;
+
+import dev.pjc1991.commerce.member.point.exception.MemberPointConcurrentException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 회원 적립금 사용 작업 스레드
+ * 비동기 적립금 사용 API 는 잠금을 기다리는 동안 스레드를 점유하지 않고, 잠금을 얻은 뒤의 데이터베이스 작업만 이 스레드에서 실행합니다.
+ * 스레드 개수와 대기열의 크기가 정해져 있으므로, 같은 회원에게 요청이 몰려도 요청 스레드 (Tomcat) 와 커넥션 풀을 모두 차지하지 않습니다.
+ *
+ * 스프링의 기본 작업 실행기 (applicationTaskExecutor) 가 그대로 등록되도록 Executor 빈으로 등록하지 않습니다.
+ */
+@Component
+public class MemberPointUseExecutor {
+
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * 생성자
+     *
+     * @param poolSize      작업 스레드 개수
+     * @param queueCapacity 대기열의 크기 (가득 차면 요청을 거절합니다.)
+     * @param meterRegistry 지표 레지스트리
+     */
+    public MemberPointUseExecutor(
+            @Value("${member.point.use.async.pool-size:8}") int poolSize
+            , @Value("${member.point.use.async.queue-capacity:1000}") int queueCapacity
+            , MeterRegistry meterRegistry
+    ) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "member-point-use-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("member.point.use.async.queue.size", executor, pool -> pool.getQueue().size())
+                .description("실행을 기다리는 비동기 적립금 사용 작업의 개수")
+                .register(meterRegistry);
+        Gauge.builder("member.point.use.async.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("실행 중인 비동기 적립금 사용 작업의 개수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 작업을 실행합니다. 대기열이 가득 찼다면 실행하지 않고 예외를 발생시킵니다.
+     * Executor 가 필요한 곳에는 메서드 참조 (memberPointUseExecutor::execute) 로 전달합니다.
+     *
+     * @param task 작업
+     */
+    public void execute(Runnable task) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            throw new MemberPointConcurrentException("처리 중인 적립금 사용 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    /**
+     * 작업 스레드를 종료합니다. 실행 중인 작업은 끝날 때까지 기다립니다.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10L, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,87 @@
+package dev.pjc1991.commerce.member.point.component;
+
+import dev.pjc1991.commerce.member.point.domain.MemberPointUseLockMode;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * 회원 적립금 사용 동시성 제어
+ * 같은 회원의 적립금 사용이 동시에 반영되어 잔액이 음수가 되거나, 같은 적립 건이 두 번 사용되지 않도록 합니다.
+ * 구현체는 member.point.use.lock-mode (MemberPointUseLockMode) 로 하나만 등록됩니다.
+ */
+public interface MemberPointUseLock {
+
+    /**
+     * 회원의 적립금 사용을 동시성 제어와 함께 실행합니다.
+     *
+     * @param memberId 회원 아이디
+     * @param use      적립금 사용 (트랜잭션 안에서 실행됩니다.)
+     * @param <T>      사용 결과 타입
+     * @return 사용 결과
+     */
+    <T> T execute(long memberId, Supplier<T> use);
+
+    /**
+     * 이 구현체의 동시성 제어 방식을 반환합니다.
+     *
+     * @return 동시성 제어 방식 (member.point.use.lock-mode)
+     */
+    MemberPointUseLockMode getMode();
+
+    /**
+     * 회원의 적립금 사용을 동시성 제어와 함께 비동기로 실행합니다.
+     * 적립금 사용은 executor 에서 실행되고, 호출한 스레드는 잠금이나 결과를 기다리지 않습니다.
+     * 기본 구현은 executor 에서 execute 를 호출하므로 잠금을 기다리는 동안 executor 의 스레드를 점유합니다.
+     * 잔액 행 잠금 (DATABASE) 은 앞선 사용이 커밋될 때까지 데이터베이스 커넥션과 함께, 낙관적 잠금 (OPTIMISTIC) 은 다시 시도하기 전에 기다리는 동안 점유합니다.
+     * 같은 회원의 사용이 몰리면 executor 의 스레드가 모두 한 회원을 기다릴 수 있으므로, 이 방식에서는 async.pool-size 를 커넥션 풀보다 작게 둡니다.
+     * 잠금을 비동기로 얻을 수 있는 구현체 (REDISSON) 는 잠금을 얻은 뒤에만 executor 를 사용하고,
+     * JVM 안의 잠금 (STRIPED) 은 잠금을 바로 얻지 못하면 기다리지 않고 실패하도록 재정의합니다.
+     *
+     * @param memberId 회원 아이디
+     * @param use      적립금 사용 (트랜잭션을 시작하고 커밋까지 끝내야 합니다.)
+     * @param executor 적립금 사용을 실행할 실행기 (작업을 거절할 때는 예외를 발생시킵니다.)
+     * @param <T>      사용 결과 타입
+     * @return 사용 결과
+     */
+    default <T> CompletableFuture<T> executeAsync(long memberId, Supplier<T> use, Executor executor) {
+        try {
+            return CompletableFuture.supplyAsync(() -> execute(memberId, use), executor);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 적립금을 사용할 때 회원 적립금 잔액을 행 잠금과 함께 조회해야 하는지 확인합니다.
+     * 잠금 없이 조회하는 방식 (OPTIMISTIC) 은 잔액 버전으로 동시에 반영된 사용을 찾아내야 합니다.
+     *
+     * @return 행 잠금과 함께 조회해야 한다면 true
+     */
+    default boolean isBalanceLockRequired() {
+        return getMode() != MemberPointUseLockMode.OPTIMISTIC;
+    }
+
+    /**
+     * 잠금을 트랜잭션이 끝난 뒤에 해제합니다. 트랜잭션 밖이라면 바로 해제합니다.
+     * 커밋되기 전에 잠금을 해제하면, 다음 요청이 커밋되지 않은 잔액을 기준으로 사용할 수 있습니다.
+     *
+     * @param unlock 잠금 해제
+     */
+    static void unlockAfterCompletion(Runnable unlock) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            unlock.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                unlock.run();
+            }
+        });
+    }
+}
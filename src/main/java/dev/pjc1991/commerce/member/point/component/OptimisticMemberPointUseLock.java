@@ -0,0 +1,100 @@
+package dev.pjc1991.commerce.member.point.component;
+
+import dev.pjc1991.commerce.member.point.domain.MemberPointUseLockMode;
+import dev.pjc1991.commerce.member.point.exception.MemberPointBalanceVersionConflictException;
+import dev.pjc1991.commerce.member.point.exception.MemberPointConcurrentException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 회원 적립금 사용 동시성 제어 (낙관적 잠금)
+ * 잠금 없이 잔액을 조회해서 사용 가능 여부를 확인하고, 잔액 버전이 조회한 버전과 같을 때만 사용을 반영합니다.
+ * 다른 요청이 먼저 반영했다면 (MemberPointBalanceVersionConflictException) 트랜잭션을 롤백하고,
+ * 최대 max-attempts 번까지 backoff 안에서 임의로 기다렸다가 새 트랜잭션으로 다시 시도합니다.
+ *
+ * 경합이 없다면 Redis 도, 행 잠금을 기다리는 시간도 없지만, 같은 회원의 요청이 몰리면 다시 시도하는 만큼 느려집니다.
+ * 이미 시작된 트랜잭션 안에서 호출하면 그 트랜잭션을 다시 시도할 수 없으므로, 충돌하면 바로 실패합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "member.point.use.lock-mode", havingValue = "OPTIMISTIC")
+public class OptimisticMemberPointUseLock implements MemberPointUseLock {
+
+    /**
+     * 다시 시도한 횟수 지표 이름
+     */
+    public static final String RETRY_METRIC = "member.point.use.optimistic.retry";
+
+    private final int maxAttempts;
+    private final Duration backoff;
+    private final Counter retries;
+
+    /**
+     * 생성자
+     *
+     * @param maxAttempts   최대 시도 횟수 (처음 시도를 포함합니다.)
+     * @param backoff       다시 시도하기 전에 기다리는 최대 시간 (시도할 때마다 늘어납니다.)
+     * @param meterRegistry 지표를 등록할 레지스트리
+     */
+    public OptimisticMemberPointUseLock(
+            @Value("${member.point.use.optimistic.max-attempts:10}") int maxAttempts
+            , @Value("${member.point.use.optimistic.backoff:10ms}") Duration backoff
+            , MeterRegistry meterRegistry
+    ) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("최대 시도 횟수는 1 이상이어야 합니다. : " + maxAttempts);
+        }
+        this.maxAttempts = maxAttempts;
+        this.backoff = backoff;
+        this.retries = Counter.builder(RETRY_METRIC)
+                .description("잔액 버전이 달라서 적립금 사용을 다시 시도한 횟수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public MemberPointUseLockMode getMode() {
+        return MemberPointUseLockMode.OPTIMISTIC;
+    }
+
+    @Override
+    public <T> T execute(long memberId, Supplier<T> use) {
+        boolean retryable = !TransactionSynchronizationManager.isActualTransactionActive();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return use.get();
+            } catch (MemberPointBalanceVersionConflictException | ConcurrencyFailureException e) {
+                if (!retryable || attempt >= maxAttempts) {
+                    log.debug("회원 적립금 사용이 충돌했습니다. 회원 아이디 : {}, 시도 : {}회", memberId, attempt);
+                    throw new MemberPointConcurrentException("동시에 적립금 사용 요청이 들어왔습니다. 잠시 후 다시 시도해주세요.");
+                }
+            }
+
+            retries.increment();
+            sleep(attempt);
+        }
+    }
+
+    private void sleep(int attempt) {
+        long bound = backoff.toMillis() * attempt;
+        if (bound <= 0) {
+            return;
+        }
+        try {
+            // 충돌한 요청들이 같은 시점에 다시 시도하지 않도록 임의로 기다립니다.
+            Thread.sleep(ThreadLocalRandom.current().nextLong(bound + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MemberPointConcurrentException("동시에 적립금 사용 요청이 들어왔습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+}
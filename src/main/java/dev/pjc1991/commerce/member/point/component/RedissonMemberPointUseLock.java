@@ -0,0 +1,163 @@
+package dev.pjc1991.commerce.member.point.component;
+
+import dev.pjc1991.commerce.member.point.domain.MemberPointUseLockMode;
+import dev.pjc1991.commerce.member.point.exception.MemberPointConcurrentException;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 회원 적립금 사용 동시성 제어 (Redisson 분산 잠금)
+ * 회원마다 Redisson 잠금을 걸어서 여러 노드의 사용 요청도 한 번에 하나씩 처리합니다.
+ * 잠금은 lock-wait 동안 기다리고, 트랜잭션이 끝나면 해제합니다. 해제되지 않더라도 lock-lease 가 지나면 풀립니다.
+ *
+ * 비동기로 실행하면 Redisson 의 비동기 잠금으로 스레드를 점유하지 않고 기다리고, 잠금을 얻은 뒤에만 실행기에서 적립금을 사용합니다.
+ * 실행기의 큐에서 기다린 시간이 lock-lease 를 줄이지 않도록, 실행기가 작업을 꺼낸 뒤에 잠금을 다시 잠가서 lock-lease 를 새로 시작합니다.
+ * 잠금을 얻은 스레드와 해제하는 스레드가 다르므로, 스레드 아이디 대신 요청마다 발급한 소유자 아이디로 잠그고 해제합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "member.point.use.lock-mode", havingValue = "REDISSON", matchIfMissing = true)
+public class RedissonMemberPointUseLock implements MemberPointUseLock {
+
+    static final String LOCK_KEY_PREFIX = "memberPointUseLock#";
+
+    /**
+     * 비동기 잠금의 소유자 아이디
+     * 동기 잠금이 사용하는 스레드 아이디 (양수) 와 겹치지 않도록 음수로 발급합니다.
+     */
+    private static final AtomicLong ASYNC_OWNER_IDS = new AtomicLong();
+
+    private final RedissonClient redissonClient;
+    private final Duration waitTime;
+    private final Duration leaseTime;
+
+    public RedissonMemberPointUseLock(
+            RedissonClient redissonClient
+            , @Value("${member.point.use.lock-wait:2s}") Duration waitTime
+            , @Value("${member.point.use.lock-lease:5s}") Duration leaseTime
+    ) {
+        this.redissonClient = redissonClient;
+        this.waitTime = waitTime;
+        this.leaseTime = leaseTime;
+    }
+
+    @Override
+    public MemberPointUseLockMode getMode() {
+        return MemberPointUseLockMode.REDISSON;
+    }
+
+    @Override
+    public <T> T execute(long memberId, Supplier<T> use) {
+        RLock lock = redissonClient.getLock(LOCK_KEY_PREFIX + memberId);
+        try {
+            if (!lock.tryLock(waitTime.toMillis(), leaseTime.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new MemberPointConcurrentException("동시에 적립금 사용 요청이 들어왔습니다. 잠시 후 다시 시도해주세요.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MemberPointConcurrentException("동시에 적립금 사용 요청이 들어왔습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return use.get();
+        } finally {
+            MemberPointUseLock.unlockAfterCompletion(() -> unlock(lock));
+        }
+    }
+
+    @Override
+    public <T> CompletableFuture<T> executeAsync(long memberId, Supplier<T> use, Executor executor) {
+        RLock lock = redissonClient.getLock(LOCK_KEY_PREFIX + memberId);
+        long ownerId = -ASYNC_OWNER_IDS.incrementAndGet();
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        lock.tryLockAsync(waitTime.toMillis(), leaseTime.toMillis(), TimeUnit.MILLISECONDS, ownerId).whenComplete((locked, e) -> {
+            if (e != null) {
+                result.completeExceptionally(e);
+                return;
+            }
+            if (!locked) {
+                result.completeExceptionally(new MemberPointConcurrentException("동시에 적립금 사용 요청이 들어왔습니다. 잠시 후 다시 시도해주세요."));
+                return;
+            }
+
+            try {
+                executor.execute(() -> {
+                    // 실행기의 큐에서 기다리는 동안에도 lock-lease 가 지나가므로, 꺼낸 뒤에 같은 소유자로 다시 잠가서 lock-lease 를 새로 시작합니다.
+                    // 그 사이에 잠금이 풀려서 다른 요청이 잠갔다면, 적립금을 사용하지 않고 실패합니다.
+                    if (!relock(lock, ownerId)) {
+                        result.completeExceptionally(new MemberPointConcurrentException("동시에 적립금 사용 요청이 들어왔습니다. 잠시 후 다시 시도해주세요."));
+                        unlockAsync(lock, ownerId, 1);
+                        return;
+                    }
+
+                    // 실행기의 스레드에는 트랜잭션이 없으므로, 적립금 사용이 반환되면 커밋까지 끝난 것입니다.
+                    try {
+                        result.complete(use.get());
+                    } catch (Throwable t) {
+                        result.completeExceptionally(t);
+                    } finally {
+                        unlockAsync(lock, ownerId, 2);
+                    }
+                });
+            } catch (RuntimeException rejected) {
+                unlockAsync(lock, ownerId, 1);
+                result.completeExceptionally(rejected);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 비동기로 얻은 잠금을 같은 소유자로 한 번 더 잠가서 lock-lease 를 다시 시작합니다.
+     * Redisson 잠금은 재진입할 때 잠금 횟수를 늘리고 만료 시간을 lock-lease 로 다시 설정합니다.
+     *
+     * @param lock    잠금
+     * @param ownerId 소유자 아이디
+     * @return 잠금을 아직 가지고 있어서 다시 잠갔다면 true
+     */
+    private boolean relock(RLock lock, long ownerId) {
+        try {
+            return lock.tryLockAsync(0, leaseTime.toMillis(), TimeUnit.MILLISECONDS, ownerId).toCompletableFuture().join();
+        } catch (RuntimeException e) {
+            log.warn("회원 적립금 사용 잠금을 다시 잠그지 못했습니다. 잠금 : {}", lock.getName(), e);
+            return false;
+        }
+    }
+
+    /**
+     * 비동기로 얻은 잠금을 holds 번 해제합니다. (다시 잠갔다면 2번)
+     */
+    private void unlockAsync(RLock lock, long ownerId, int holds) {
+        lock.unlockAsync(ownerId).whenComplete((unlocked, e) -> {
+            if (e != null) {
+                // 트랜잭션이 lock-lease 보다 오래 걸려서 잠금이 이미 풀린 경우입니다.
+                log.warn("회원 적립금 사용 잠금이 해제되기 전에 만료되었습니다. 잠금 : {}", lock.getName());
+                return;
+            }
+            if (holds > 1) {
+                unlockAsync(lock, ownerId, holds - 1);
+            }
+        });
+    }
+
+    private void unlock(RLock lock) {
+        try {
+            lock.unlock();
+        } catch (IllegalMonitorStateException e) {
+            // 트랜잭션이 lock-lease 보다 오래 걸려서 잠금이 이미 풀린 경우입니다.
+            log.warn("회원 적립금 사용 잠금이 해제되기 전에 만료되었습니다. 잠금 : {}", lock.getName());
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package dev.pjc1991.commerce.member.point.component;
+
+import dev.pjc1991.commerce.member.point.domain.MemberPointUseLockMode;
+import dev.pjc1991.commerce.member.point.exception.MemberPointConcurrentException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 회원 적립금 사용 동시성 제어 (JVM 안의 잠금)
+ * 회원 아이디로 고른 ReentrantLock 을 사용합니다. 회원마다 잠금을 만들지 않고 stripes 개의 잠금을 나눠 쓰므로,
+ * 메모리는 늘어나지 않지만 같은 잠금을 쓰는 다른 회원끼리도 기다릴 수 있습니다.
+ *
+ * 다른 노드의 요청은 막지 못하므로 노드가 하나일 때만 사용합니다. 잔액 행 잠금은 함께 사용하므로 잔액이 틀어지지는 않습니다.
+ * 비동기로 실행할 때는 실행기의 스레드를 점유하지 않도록 잠금을 기다리지 않습니다.
+ */
+@Component
+@ConditionalOnProperty(name = "member.point.use.lock-mode", havingValue = "STRIPED")
+public class StripedMemberPointUseLock implements MemberPointUseLock {
+
+    private final ReentrantLock[] stripes;
+    private final Duration waitTime;
+
+    /**
+     * 생성자
+     *
+     * @param stripes  잠금의 개수 (2의 거듭제곱으로 올림합니다.)
+     * @param waitTime 잠금을 기다리는 시간
+     */
+    public StripedMemberPointUseLock(
+            @Value("${member.point.use.stripes:1024}") int stripes
+            , @Value("${member.point.use.lock-wait:2s}") Duration waitTime
+    ) {
+        if (stripes < 1 || stripes > (1 << 30)) {
+            throw new IllegalArgumentException("잠금의 개수는 1 이상 2^30 이하여야 합니다. : " + stripes);
+        }
+        int size = Integer.highestOneBit(stripes - 1) << 1;
+        this.stripes = new ReentrantLock[Math.max(1, size)];
+        for (int i = 0; i < this.stripes.length; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.waitTime = waitTime;
+    }
+
+    @Override
+    public MemberPointUseLockMode getMode() {
+        return MemberPointUseLockMode.STRIPED;
+    }
+
+    @Override
+    public <T> T execute(long memberId, Supplier<T> use) {
+        ReentrantLock lock = stripes[indexOf(memberId)];
+        try {
+            if (!lock.tryLock(waitTime.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new MemberPointConcurrentException("동시에 적립금 사용 요청이 들어왔습니다. 잠시 후 다시 시도해주세요.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MemberPointConcurrentException("동시에 적립금 사용 요청이 들어왔습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return use.get();
+        } finally {
+            // 트랜잭션이 끝나는 시점 (afterCompletion) 도 잠금을 건 스레드에서 실행됩니다.
+            MemberPointUseLock.unlockAfterCompletion(lock::unlock);
+        }
+    }
+
+    /**
+     * 실행기의 스레드가 잠금을 기다리면서 점유되지 않도록, 잠금을 바로 얻지 못하면 기다리지 않고 실패합니다.
+     * 잠금은 적립금 사용이 커밋된 뒤에 같은 실행기의 스레드에서 해제됩니다.
+     */
+    @Override
+    public <T> CompletableFuture<T> executeAsync(long memberId, Supplier<T> use, Executor executor) {
+        ReentrantLock lock = stripes[indexOf(memberId)];
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                if (!lock.tryLock()) {
+                    throw new MemberPointConcurrentException("동시에 적립금 사용 요청이 들어왔습니다. 잠시 후 다시 시도해주세요.");
+                }
+
+                try {
+                    return use.get();
+                } finally {
+                    MemberPointUseLock.unlockAfterCompletion(lock::unlock);
+                }
+            }, executor);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private int indexOf(long memberId) {
+        // 아이디가 차례로 증가하므로 상위 비트를 섞어서 고릅니다.
+        long hash = memberId * 0x9E3779B97F4A7C15L;
+        return (int) (hash >>> 32) & (stripes.length - 1);
+    }
+}
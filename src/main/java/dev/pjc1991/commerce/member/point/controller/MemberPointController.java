@@ -1,6 +1,8 @@
 package dev.pjc1991.commerce.member.point.controller;
 
 import dev.pjc1991.commerce.member.point.dto.*;
+import dev.pjc1991.commerce.member.point.service.MemberPointCommandService;
+import dev.pjc1991.commerce.member.point.service.MemberPointHoldService;
 import dev.pjc1991.commerce.member.point.service.MemberPointService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -9,11 +11,20 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @Controller
 @RequiredArgsConstructor
 public class MemberPointController {
 
+    /**
+     * 적립/사용 요청의 멱등 키 헤더
+     */
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final MemberPointService memberPointService;
+    private final MemberPointCommandService memberPointCommandService;
+    private final MemberPointHoldService memberPointHoldService;
 
     /**
      * 회원 적립금 합계 조회
@@ -50,35 +61,121 @@ public class MemberPointController {
         return memberPointService.getMemberPointEventResponses(search);
     }
 
+    /**
+     * 회원 적립금 적립/사용 내역 조회 (커서)
+     * 전체 개수를 세지 않고, 응답의 nextCursor 를 다음 요청에 전달해서 다음 페이지를 조회합니다.
+     *
+     * @param memberId 회원 아이디
+     * @param search   검색 조건 (쿼리 파라메터)
+     *                 cursor : 이전 응답의 nextCursor, size : 페이지 사이즈, withTotal : 전체 개수 포함 여부
+     * @return 회원 적립금 적립/사용 내역 커서 응답 오브젝트
+     */
+    @GetMapping("/member/{memberId}/point/cursor")
+    @ResponseBody
+    @ResponseStatus(HttpStatus.OK)
+    public MemberPointEventCursorResponse getMemberPointEventsByCursor(@PathVariable long memberId, MemberPointEventCursorSearch search) {
+        search.setMemberId(memberId);
+        return memberPointService.getMemberPointEventCursorResponses(search);
+    }
+
     /**
      * 회원 적립금 적립
      *
      * @param memberId          회원 아이디
      * @param memberPointCreate 회원 적립금 적립 내역 오브젝트
      *                          amount: 적립금 금액
+     * @param idempotencyKey    멱등 키 (선택, 같은 키로 다시 요청하면 처음 적립 내역을 반환합니다.)
      */
     @PostMapping("/member/{memberId}/point/earn")
     @ResponseBody
     @ResponseStatus(HttpStatus.CREATED)
-    public MemberPointEventResponse earnMemberPoint(@PathVariable long memberId, @RequestBody MemberPointCreateRequest memberPointCreate) {
+    public MemberPointEventResponse earnMemberPoint(@PathVariable long memberId, @RequestBody MemberPointCreateRequest memberPointCreate
+            , @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
         memberPointCreate.setMemberId(memberId);
-        return memberPointService.earnMemberPointResponse(memberPointCreate);
+        memberPointCreate.setIdempotencyKey(idempotencyKey);
+        return memberPointCommandService.earnMemberPoint(memberPointCreate);
+    }
+
+    /**
+     * 회원 적립금 일괄 적립
+     * 캠페인 지급처럼 여러 회원에게 한 번에 적립금을 적립합니다.
+     *
+     * @param request 회원 적립금 일괄 적립 요청 오브젝트
+     *                items: 적립 요청 목록 (memberId, amount, reason)
+     * @return 요청 순서대로 정렬된 건별 적립 결과
+     */
+    @PostMapping("/member/point/earn/batch")
+    @ResponseBody
+    @ResponseStatus(HttpStatus.CREATED)
+    public MemberPointEarnBatchResponse earnMemberPointBatch(@RequestBody MemberPointEarnBatchRequest request) {
+        return memberPointService.earnMemberPointBatch(request);
     }
 
     /**
      * 회원 적립금 사용
+     * 잠금을 기다리는 동안 요청 스레드를 반환하고, 사용이 끝나면 응답합니다. (비동기 요청 처리)
      *
      * @param memberId              회원 아이디
      * @param memberPointUseRequest 적립금 사용 요청 오브젝트
      *                              amount: 적립금 사용금액
-     * @return 회원 적립금 사용 내역 오브젝트
+     * @param idempotencyKey        멱등 키 (선택, 같은 키로 다시 요청하면 처음 사용 내역을 반환합니다.)
+     * @return 회원 적립금 사용 내역 오브젝트가 담길 CompletableFuture
      */
     @PostMapping("/member/{memberId}/point/use")
     @ResponseBody
     @ResponseStatus(HttpStatus.CREATED)
-    public MemberPointEventResponse useMemberPoint(@PathVariable long memberId, @RequestBody MemberPointUseRequest memberPointUseRequest) {
+    public CompletableFuture<MemberPointEventResponse> useMemberPoint(@PathVariable long memberId, @RequestBody MemberPointUseRequest memberPointUseRequest
+            , @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
         memberPointUseRequest.setMemberId(memberId);
-        return memberPointService.useMemberPointResponse(memberPointUseRequest);
+        memberPointUseRequest.setIdempotencyKey(idempotencyKey);
+        return memberPointCommandService.useMemberPointAsync(memberPointUseRequest);
+    }
+
+    /**
+     * 회원 적립금 예약
+     * 결제 중에 사용할 적립금을 예약합니다. 예약된 적립금은 확정하거나 해제할 때까지 사용할 수 없습니다.
+     *
+     * @param memberId                  회원 아이디
+     * @param memberPointReserveRequest 적립금 예약 요청 오브젝트
+     *                                  amount: 예약 금액, ttlSeconds: 유효 시간 (초, 선택)
+     * @return 회원 적립금 예약 오브젝트
+     */
+    @PostMapping("/member/{memberId}/point/hold")
+    @ResponseBody
+    @ResponseStatus(HttpStatus.CREATED)
+    public MemberPointHoldResponse reserveMemberPoint(@PathVariable long memberId, @RequestBody MemberPointReserveRequest memberPointReserveRequest) {
+        memberPointReserveRequest.setMemberId(memberId);
+        return memberPointHoldService.reserveMemberPoint(memberPointReserveRequest);
+    }
+
+    /**
+     * 회원 적립금 예약 확정
+     * 예약한 금액만큼 적립금을 사용합니다. 같은 예약을 다시 확정하면 같은 사용 내역을 반환합니다.
+     *
+     * @param memberId 회원 아이디
+     * @param holdId   예약 아이디
+     * @return 회원 적립금 사용 내역 오브젝트
+     */
+    @PostMapping("/member/{memberId}/point/hold/{holdId}/capture")
+    @ResponseBody
+    @ResponseStatus(HttpStatus.CREATED)
+    public MemberPointEventResponse captureMemberPoint(@PathVariable long memberId, @PathVariable String holdId) {
+        return memberPointHoldService.captureMemberPoint(memberId, holdId);
+    }
+
+    /**
+     * 회원 적립금 예약 해제
+     * 원장을 변경하지 않고 예약만 지웁니다.
+     *
+     * @param memberId 회원 아이디
+     * @param holdId   예약 아이디
+     * @return 회원 적립금 예약 오브젝트
+     */
+    @DeleteMapping("/member/{memberId}/point/hold/{holdId}")
+    @ResponseBody
+    @ResponseStatus(HttpStatus.OK)
+    public MemberPointHoldResponse releaseMemberPoint(@PathVariable long memberId, @PathVariable String holdId) {
+        return memberPointHoldService.releaseMemberPoint(memberId, holdId);
     }
 
     /**
@@ -89,7 +186,7 @@ public class MemberPointController {
     @ResponseStatus(HttpStatus.OK)
     public MemberPointEventResponse rollBackMemberPointUse(@PathVariable long memberPointEventId) {
         MemberPointEventResponse response = memberPointService.getMemberPointEventResponse(memberPointEventId);
-        return memberPointService.rollbackMemberPointUseResponse(response.getMemberId(), memberPointEventId);
+        return memberPointCommandService.rollbackMemberPointUse(response.getMemberId(), memberPointEventId);
     }
 
     @GetMapping("/member/point/check/{memberId}")
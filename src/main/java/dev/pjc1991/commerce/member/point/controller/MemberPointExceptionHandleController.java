@@ -7,6 +7,8 @@ import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseBody;
@@ -21,6 +23,11 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 @Slf4j
 public class MemberPointExceptionHandleController {
 
+    /**
+     * 회원 적립금 명령을 담당하는 노드를 알려주는 응답 헤더
+     */
+    public static final String OWNER_HEADER = "X-Member-Point-Owner";
+
     @ExceptionHandler(MemberNotFoundException.class)
     @ResponseStatus(HttpStatus.NOT_FOUND)
     @ResponseBody
@@ -90,6 +97,66 @@ public class MemberPointExceptionHandleController {
         return new ErrorResponse(e);
     }
 
+    /**
+     * 회원 적립금 적립/사용 내역 조회 커서가 잘못된 경우 발생하는 예외
+     *
+     * @param request 요청
+     * @param e       예외
+     * @return 에러 응답
+     */
+    @ExceptionHandler(BadMemberPointCursorException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ResponseBody
+    public ErrorResponse handleBadMemberPointCursorException(HttpServletRequest request, BadMemberPointCursorException e) {
+        logError(request, e);
+        return new ErrorResponse(e);
+    }
+
+    /**
+     * 회원 적립금 일괄 적립 요청의 건수가 최대 건수를 넘은 경우 발생하는 예외
+     *
+     * @param request 요청
+     * @param e       예외
+     * @return 에러 응답
+     */
+    @ExceptionHandler(MemberPointBatchSizeExceededException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ResponseBody
+    public ErrorResponse handleMemberPointBatchSizeExceededException(HttpServletRequest request, MemberPointBatchSizeExceededException e) {
+        logError(request, e);
+        return new ErrorResponse(e);
+    }
+
+    /**
+     * 회원 적립금 요청의 멱등 키가 잘못된 경우 발생하는 예외
+     *
+     * @param request 요청
+     * @param e       예외
+     * @return 에러 응답
+     */
+    @ExceptionHandler(BadMemberPointIdempotencyKeyException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ResponseBody
+    public ErrorResponse handleBadMemberPointIdempotencyKeyException(HttpServletRequest request, BadMemberPointIdempotencyKeyException e) {
+        logError(request, e);
+        return new ErrorResponse(e);
+    }
+
+    /**
+     * 다른 적립/사용 요청에 사용된 멱등 키로 요청한 경우 발생하는 예외
+     *
+     * @param request 요청
+     * @param e       예외
+     * @return 에러 응답
+     */
+    @ExceptionHandler(MemberPointIdempotencyKeyReusedException.class)
+    @ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+    @ResponseBody
+    public ErrorResponse handleMemberPointIdempotencyKeyReusedException(HttpServletRequest request, MemberPointIdempotencyKeyReusedException e) {
+        logError(request, e);
+        return new ErrorResponse(e);
+    }
+
     /**
      * 회원 적립금 상세가 존재하지 않는 경우 발생하는 예외
      *
@@ -166,6 +233,67 @@ public class MemberPointExceptionHandleController {
         return new ErrorResponse();
     }
 
+    /**
+     * 같은 회원의 적립금 요청이 동시에 들어와서 처리하지 못한 경우 발생하는 예외
+     *
+     * @param request 요청
+     * @param e       예외
+     * @return 에러 응답
+     */
+    @ExceptionHandler(MemberPointConcurrentException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    @ResponseBody
+    public ErrorResponse handleMemberPointConcurrentException(HttpServletRequest request, MemberPointConcurrentException e) {
+        logError(request, e);
+        return new ErrorResponse(e);
+    }
+
+    /**
+     * 회원 적립금 예약이 존재하지 않거나 만료된 경우 발생하는 예외
+     *
+     * @param request 요청
+     * @param e       예외
+     * @return 에러 응답
+     */
+    @ExceptionHandler(MemberPointHoldNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    @ResponseBody
+    public ErrorResponse handleMemberPointHoldNotFoundException(HttpServletRequest request, MemberPointHoldNotFoundException e) {
+        logError(request, e);
+        return new ErrorResponse(e);
+    }
+
+    /**
+     * 이미 확정된 회원 적립금 예약을 해제하려는 경우 발생하는 예외
+     *
+     * @param request 요청
+     * @param e       예외
+     * @return 에러 응답
+     */
+    @ExceptionHandler(MemberPointHoldCapturedException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    @ResponseBody
+    public ErrorResponse handleMemberPointHoldCapturedException(HttpServletRequest request, MemberPointHoldCapturedException e) {
+        logError(request, e);
+        return new ErrorResponse(e);
+    }
+
+    /**
+     * 이 노드가 담당하지 않는 회원의 적립금 명령을 받은 경우 발생하는 예외
+     * 421 (Misdirected Request) 로 응답하고, 담당 노드를 헤더에 담아서 앞단에서 다시 라우팅할 수 있도록 합니다.
+     *
+     * @param request 요청
+     * @param e       예외
+     * @return 에러 응답
+     */
+    @ExceptionHandler(MemberPointCommandNotOwnerException.class)
+    public ResponseEntity<ErrorResponse> handleMemberPointCommandNotOwnerException(HttpServletRequest request, MemberPointCommandNotOwnerException e) {
+        logError(request, e);
+        return ResponseEntity.status(HttpStatusCode.valueOf(421))
+                .header(OWNER_HEADER, e.getOwner())
+                .body(new ErrorResponse(e));
+    }
+
     /**
      * 에러 로그를 남깁니다.
      *
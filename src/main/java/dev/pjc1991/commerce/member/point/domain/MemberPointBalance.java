@@ -0,0 +1,179 @@
+package dev.pjc1991.commerce.member.point.domain;
+
+import dev.pjc1991.commerce.domain.AssignedIdEntity;
+import dev.pjc1991.commerce.member.point.dto.MemberPointDetailRemain;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 회원 적립금 잔액 도메인 (읽기 모델)
+ * 회원 적립금 합계를 조회할 때마다 상세 내역 전체를 합산하지 않도록,
+ * 적립/사용/사용 취소/만료가 일어날 때 같은 트랜잭션 안에서 회원별 잔액을 갱신합니다.
+ * 원장은 여전히 MEMBER_POINT_DETAIL 이며, 이 테이블은 언제든 원장으로부터 다시 계산할 수 있습니다.
+ */
+@Getter
+@Entity
+@Table(
+        name = "MEMBER_POINT_BALANCE"
+        , indexes = {
+        @Index(name = "IDX_MEMBER_POINT_BALANCE_NEXT_EXPIRE_AT", columnList = "NEXT_EXPIRE_AT, MEMBER_ID")
+}
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MemberPointBalance extends AssignedIdEntity<Long> {
+
+    /**
+     * 회원 아이디
+     */
+    @Id
+    @Column(name = "MEMBER_ID", nullable = false)
+    private Long memberId;
+
+    /**
+     * 회원 적립금 잔액
+     * 만료되지 않은 적립금 상세 내역의 합계와 같습니다.
+     */
+    @Column(name = "BALANCE", nullable = false)
+    private int balance;
+
+    /**
+     * 잔액이 남은 적립금 중 가장 먼저 만료되는 시점
+     * 이 시점이 지나면 잔액에 만료된 적립금이 포함되어 있을 수 있으므로, 다시 계산하기 전까지는 원장을 조회합니다.
+     * 적립금이 모두 사용되어도 앞당겨지지 않으므로 실제 만료 시점보다 이르거나 같습니다.
+     */
+    @Column(name = "NEXT_EXPIRE_AT")
+    private LocalDateTime nextExpireAt;
+
+    /**
+     * 마지막 갱신 시점
+     */
+    @Column(name = "UPDATED_AT", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * 잔액 버전
+     * 잔액이 바뀔 때마다 1씩 증가합니다. 적립금 합계 캐시가 어느 버전의 잔액으로 계산되었는지 비교할 때 사용합니다.
+     * 잔액은 항상 잠금과 함께 갱신되므로 JPA 의 낙관적 잠금 (@Version) 은 사용하지 않습니다.
+     * 이미 잔액이 있는 테이블에 칼럼을 추가할 수 있도록 기본값은 0 입니다.
+     */
+    @Column(name = "VERSION", nullable = false)
+    @ColumnDefault("0")
+    private long version;
+
+    /**
+     * 적립금이 없는 회원의 잔액을 생성합니다.
+     *
+     * @param memberId 회원 아이디
+     * @return 회원 적립금 잔액
+     */
+    public static MemberPointBalance empty(long memberId) {
+        MemberPointBalance memberPointBalance = new MemberPointBalance();
+        memberPointBalance.memberId = memberId;
+        memberPointBalance.balance = 0;
+        memberPointBalance.version = 0L;
+        memberPointBalance.updatedAt = LocalDateTime.now();
+        return memberPointBalance;
+    }
+
+    @Override
+    public Long getId() {
+        return memberId;
+    }
+
+    /**
+     * 주어진 시점에 이 잔액을 그대로 사용할 수 있는지 확인합니다.
+     *
+     * @param now 기준 시점
+     * @return 가장 먼저 만료되는 적립금의 만료 시점이 지나지 않았다면 true
+     */
+    public boolean isAvailableAt(LocalDateTime now) {
+        return nextExpireAt == null || nextExpireAt.isAfter(now);
+    }
+
+    /**
+     * 적립금 적립을 잔액에 반영합니다.
+     *
+     * @param amount   적립 금액
+     * @param expireAt 적립금 만료 시점
+     */
+    public void earn(int amount, LocalDateTime expireAt) {
+        this.balance += amount;
+        updateNextExpireAt(expireAt);
+        this.version++;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 잔액은 그대로 두고 버전만 올립니다.
+     * 잔액을 확인한 뒤에 잔액에 영향을 주는 작업 (예약) 이 잠금 없이 조회한 사용과 겹치지 않도록 할 때 사용합니다.
+     */
+    public void touch() {
+        this.version++;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 적립금 사용을 잔액에 반영합니다.
+     *
+     * @param amount 사용 금액 (양수)
+     */
+    public void use(int amount) {
+        this.balance -= amount;
+        this.version++;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 적립금 사용 취소를 잔액에 반영합니다.
+     * 사용 취소된 상세 내역 중 이미 만료된 적립금은 합계에 포함되지 않으므로 반영하지 않습니다.
+     *
+     * @param rollbacks 사용 취소 상세 내역
+     */
+    public void restore(List<MemberPointDetail> rollbacks) {
+        LocalDateTime now = LocalDateTime.now();
+        for (MemberPointDetail rollback : rollbacks) {
+            if (!rollback.getExpireAt().isAfter(now)) {
+                continue;
+            }
+            this.balance += rollback.getAmount();
+            updateNextExpireAt(rollback.getExpireAt());
+        }
+        this.version++;
+        this.updatedAt = now;
+    }
+
+    /**
+     * 원장(회원 적립금 상세 그룹별 잔액)으로부터 잔액을 다시 계산합니다.
+     *
+     * @param remains 만료되지 않은 회원 적립금 상세 그룹별 잔액
+     */
+    public void rebuild(List<MemberPointDetailRemain> remains) {
+        this.balance = 0;
+        this.nextExpireAt = null;
+        for (MemberPointDetailRemain remain : remains) {
+            this.balance += remain.getRemain();
+            if (remain.getRemain() > 0) {
+                updateNextExpireAt(remain.getExpireAt());
+            }
+        }
+        this.version++;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 가장 먼저 만료되는 시점을 갱신합니다.
+     *
+     * @param expireAt 새로 반영할 적립금의 만료 시점
+     */
+    private void updateNextExpireAt(LocalDateTime expireAt) {
+        if (nextExpireAt == null || expireAt.isBefore(nextExpireAt)) {
+            this.nextExpireAt = expireAt;
+        }
+    }
+}
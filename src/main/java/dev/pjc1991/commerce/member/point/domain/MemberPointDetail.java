@@ -1,6 +1,8 @@
 package dev.pjc1991.commerce.member.point.domain;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import dev.pjc1991.commerce.domain.AssignedIdEntity;
+import dev.pjc1991.commerce.domain.AssignedIdSequenceGenerator;
 import dev.pjc1991.commerce.member.point.dto.MemberPointDetailRemain;
 import dev.pjc1991.commerce.member.point.exception.BadMemberPointAmountException;
 import dev.pjc1991.commerce.member.point.exception.BadMemberPointExpireDateException;
@@ -9,6 +11,10 @@ import dev.pjc1991.commerce.member.point.exception.MemberPointEventNotFound;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import java.time.LocalDateTime;
 
@@ -22,22 +28,34 @@ import java.time.LocalDateTime;
 @Table(
         name = "MEMBER_POINT_DETAIL"
         , indexes = {
+        // 이벤트의 상세 내역 조회 (사용 취소)
         @Index(name = "IDX_MEMBER_POINT_DETAIL_MEMBER_POINT_EVENT_ID", columnList = "MEMBER_POINT_EVENT_ID"),
+        // 상세 그룹 조회 (만료 시점 변경)
         @Index(name = "IDX_MEMBER_POINT_DETAIL_MEMBER_POINT_DETAIL_GROUP_ID", columnList = "MEMBER_POINT_DETAIL_GROUP_ID"),
-        @Index(name = "IDX_MEMBER_POINT_DETAIL_MEMBER_POINT_DETAIL_REFUND_ID", columnList = "MEMBER_POINT_DETAIL_REFUND_ID"),
-        @Index(name = "IDX_MEMBER_POINT_DETAIL_TYPE", columnList = "TYPE"), 
-        @Index(name = "IDX_MEMBER_POINT_DETAIL_CREATED_AT", columnList = "CREATED_AT"),
-        @Index(name = "IDX_MEMBER_POINT_DETAIL_EXPIRE_AT", columnList = "EXPIRE_AT")
+        // 회원별 합계, 그룹별 잔액 조회 (AMOUNT 까지 포함해서 합계는 테이블을 읽지 않습니다.)
+        @Index(name = "IDX_MEMBER_POINT_DETAIL_MEMBER_ID_EXPIRE_AT_AMOUNT", columnList = "MEMBER_ID, EXPIRE_AT, AMOUNT")
 }
 )
 @Slf4j
-public class MemberPointDetail {
+public class MemberPointDetail extends AssignedIdEntity<Long> {
 
     /**
      * 회원 적립금 상세 내역 ID
+     * 그룹 ID, 환불 ID 를 INSERT 전에 채울 수 있도록 MemberPointDetailIdGenerator 로 미리 발급받습니다.
+     * IDENTITY 는 INSERT 를 묶어서 실행(JDBC batch)할 수 없으므로, 시퀀스에서 50개씩 미리 발급받습니다. (pooled)
+     * 미리 발급받은 ID 가 저장할 때 다시 발급되지 않도록 AssignedIdSequenceGenerator 를 사용합니다.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "MEMBER_POINT_DETAIL_SEQ_GENERATOR")
+    @GenericGenerator(
+            name = "MEMBER_POINT_DETAIL_SEQ_GENERATOR"
+            , type = AssignedIdSequenceGenerator.class
+            , parameters = {
+            @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "MEMBER_POINT_DETAIL_SEQ")
+            , @Parameter(name = SequenceStyleGenerator.INCREMENT_PARAM, value = "50")
+            , @Parameter(name = SequenceStyleGenerator.OPT_PARAM, value = "pooled")
+    }
+    )
     @Column(name = "ID", nullable = false)
     private Long id;
 
@@ -50,6 +68,16 @@ public class MemberPointDetail {
     @JoinColumn(name = "MEMBER_POINT_EVENT_ID", nullable = false)
     private MemberPointEvent memberPointEvent;
 
+    /**
+     * 회원 아이디
+     * 회원별 조회에서 회원 적립금 이벤트와 조인하지 않도록 이벤트의 회원 아이디를 함께 저장합니다.
+     * 이미 상세 내역이 있는 테이블에도 스키마 갱신으로 추가할 수 있도록 NULL 을 허용하고 기본값 (0) 을 둡니다.
+     * 기존 행은 데이터 마이그레이션 (V2__member_point_detail_member_id.sql) 에서 이벤트의 회원 아이디로 백필한 뒤 NOT NULL 로 변경합니다.
+     */
+    @Column(name = "MEMBER_ID")
+    @ColumnDefault("0")
+    private Long memberId;
+
     /**
      * 회원 적립금 상세 내역 그룹 ID
      * 합계를 계산할 때 이 ID를 기준으로 합계를 계산합니다. (GROUP BY)
@@ -98,17 +126,22 @@ public class MemberPointDetail {
 
     /**
      * 회원 적립금 적립 발생에 대한 상세 내역을 생성합니다.
+     * 총합을 계산할 때 이 상세내역 기준으로 계산할 수 있도록 자신의 ID를 그룹 ID로 설정합니다.
      *
+     * @param id        회원 적립금 상세 내역 ID
      * @param earnEvent 회원 적립금 적립 이벤트
      * @return 회원 적립금 적립 상세 내역
      */
-    public static MemberPointDetail earnMemberPointDetail(MemberPointEvent earnEvent) {
+    public static MemberPointDetail earnMemberPointDetail(long id, MemberPointEvent earnEvent) {
         if (earnEvent.getAmount() < 0) {
             throw new BadMemberPointAmountException("회원 적립금 적립 이벤트의 적립/사용량이 음수입니다.");
         }
 
         MemberPointDetail memberPointDetail = new MemberPointDetail();
+        memberPointDetail.id = id;
+        memberPointDetail.memberPointDetailGroupId = id;
         memberPointDetail.memberPointEvent = earnEvent;
+        memberPointDetail.memberId = earnEvent.getMember().getId();
         memberPointDetail.amount = earnEvent.getAmount();
         memberPointDetail.createdAt = earnEvent.getCreatedAt();
         memberPointDetail.expireAt = earnEvent.getExpireAt();
@@ -121,12 +154,15 @@ public class MemberPointDetail {
 
     /**
      * 회원 적립금 사용 발생에 대한 상세 내역을 생성합니다.
+     * 사용 대상이 되는 적립 건의 잔액도 함께 차감합니다.
+     * 환불 대상이 될 수 있도록 자신의 ID를 환불 ID로 설정합니다.
+     * @param id 회원 적립금 상세 내역 ID
      * @param useEvent 회원 적립금 사용 이벤트
-     * @param remain 사용 가능한 회원 적립금 상세 내역
+     * @param grant 사용 가능한 회원 적립금 적립 건
      * @param useAmount 사용 금액
-     * @return
+     * @return 회원 적립금 사용 상세 내역
      */
-    public static MemberPointDetail useMemberPointDetail(MemberPointEvent useEvent, MemberPointDetailRemain remain, int useAmount) {
+    public static MemberPointDetail useMemberPointDetail(long id, MemberPointEvent useEvent, MemberPointGrant grant, int useAmount) {
         if (useEvent == null) {
             throw new MemberPointEventNotFound("회원 적립금 사용 이벤트가 null 입니다.");
         }
@@ -135,12 +171,17 @@ public class MemberPointDetail {
             throw new BadMemberPointAmountException("사용 금액은 0 이하일 수 없습니다.");
         }
 
+        grant.use(useAmount);
+
         MemberPointDetail memberPointDetail = new MemberPointDetail();
+        memberPointDetail.id = id;
+        memberPointDetail.memberPointDetailRefundId = id;
         memberPointDetail.memberPointEvent = useEvent;
-        memberPointDetail.memberPointDetailGroupId = remain.getMemberPointDetailGroupId();
+        memberPointDetail.memberId = useEvent.getMember().getId();
+        memberPointDetail.memberPointDetailGroupId = grant.getId();
         memberPointDetail.amount = -useAmount;
         memberPointDetail.createdAt = LocalDateTime.now();
-        memberPointDetail.expireAt = remain.getExpireAt();
+        memberPointDetail.expireAt = grant.getExpireAt();
         memberPointDetail.type = MemberPointDetailType.USE;
         useEvent.getMemberPointDetails().add(memberPointDetail);
 
@@ -151,12 +192,15 @@ public class MemberPointDetail {
 
     /**
      * 회원 적립금 만료 발생에 대한 상세 내역을 생성합니다.
+     * 만료 대상이 되는 적립 건도 함께 만료 처리합니다.
+     * @param id 회원 적립금 상세 내역 ID
      * @param remain 만료될 회원 적립금 상세 내역
+     * @param grant 만료될 회원 적립금 적립 건
      * @param expireEvent 회원 적립금 만료 이벤트
      * @return 회원 적립금 만료 상세 내역
      */
-    public static MemberPointDetail expireMemberPointDetail(MemberPointDetailRemain remain, MemberPointEvent expireEvent) {
-        if (remain == null) {
+    public static MemberPointDetail expireMemberPointDetail(long id, MemberPointDetailRemain remain, MemberPointGrant grant, MemberPointEvent expireEvent) {
+        if (remain == null || grant == null) {
             throw new MemberPointDetailNotFoundException("회원 적립금 상세 내역이 null 입니다.");
         }
 
@@ -168,13 +212,18 @@ public class MemberPointDetail {
             throw new BadMemberPointExpireDateException("회원 적립금 상세 내역의 만료 시점이 현재 시점보다 미래입니다.");
         }
 
+        grant.expire(remain.getRemain());
+
         MemberPointDetail memberPointDetailExpire = new MemberPointDetail();
 
+        memberPointDetailExpire.id = id;
+        memberPointDetailExpire.memberPointDetailRefundId = id;
         memberPointDetailExpire.memberPointDetailGroupId = remain.getMemberPointDetailGroupId();
         memberPointDetailExpire.amount = -remain.getRemain();
         memberPointDetailExpire.createdAt = expireEvent.getCreatedAt();
         memberPointDetailExpire.expireAt = expireEvent.getExpireAt();
         memberPointDetailExpire.memberPointEvent = expireEvent;
+        memberPointDetailExpire.memberId = expireEvent.getMember().getId();
         memberPointDetailExpire.type = MemberPointDetailType.EXPIRE;
         expireEvent.getMemberPointDetails().add(memberPointDetailExpire);
 
@@ -184,12 +233,24 @@ public class MemberPointDetail {
 
     /**
      * 이미 사용된 회원 적립금 상세 내역을 사용 취소합니다.
-     * @param detail
-     * @return
+     * 사용 대상이었던 적립 건의 잔액도 함께 되돌립니다.
+     * @param id 회원 적립금 상세 내역 ID
+     * @param detail 사용 취소할 회원 적립금 사용 상세 내역
+     * @param event 회원 적립금 사용 이벤트
+     * @param grant 사용 대상이었던 회원 적립금 적립 건
+     * @return 회원 적립금 사용 취소 상세 내역
      */
-    public static MemberPointDetail rollbackMemberPointDetail(MemberPointDetail detail, MemberPointEvent event) {
+    public static MemberPointDetail rollbackMemberPointDetail(long id, MemberPointDetail detail, MemberPointEvent event, MemberPointGrant grant) {
+        if (grant == null) {
+            throw new MemberPointDetailNotFoundException("회원 적립금 적립 건이 null 입니다.");
+        }
+
+        grant.restore(-detail.amount);
+
         MemberPointDetail rollbackDetail = new MemberPointDetail();
+        rollbackDetail.id = id;
         rollbackDetail.memberPointEvent = event;
+        rollbackDetail.memberId = detail.memberId;
         rollbackDetail.memberPointDetailGroupId = detail.memberPointDetailGroupId;
         rollbackDetail.memberPointDetailRefundId = detail.id;
         rollbackDetail.amount = -detail.amount;
@@ -200,23 +261,6 @@ public class MemberPointDetail {
         return rollbackDetail;
     }
 
-    /**
-     * 회원 적립금 적립 발생 상세 내역에 그룹 ID와 환불 대상 ID를 설정합니다.
-     */
-    public void updateGroupIdSelf() {
-        // 총합을 계산할 때 이 상세내역 기준으로 계산할 수 있도록 자신의 ID를 그룹 ID로 설정합니다.
-        this.memberPointDetailGroupId = this.id;
-        // 적립은 환불의 대상이 되지 않으므로 환불 대상 ID는 null로 설정합니다.
-    }
-
-    /**
-     * 회원 적립금 사용시 상세 내역에 자기 자신을 환불 대상 ID로 설정합니다.
-     */
-    public void updateRefundGroupIdSelf() {
-        // 환불 대상이 되는 상세 내역의 ID를 환불 대상 ID로 설정합니다.
-        this.memberPointDetailRefundId = this.id;
-    }
-
     /**
      * 회원 적립금의 만료 시점을 변경합니다.
      * 테스트 코드에서만 사용합니다.
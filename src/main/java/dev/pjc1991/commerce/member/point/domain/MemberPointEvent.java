@@ -7,12 +7,14 @@ import dev.pjc1991.commerce.member.point.dto.MemberPointDetailRemain;
 import dev.pjc1991.commerce.member.point.dto.MemberPointUseRequest;
 import dev.pjc1991.commerce.member.point.exception.BadMemberPointAmountException;
 import dev.pjc1991.commerce.member.point.exception.BadMemberPointExpireDateException;
+import dev.pjc1991.commerce.member.point.exception.MemberPointAlreadyRollbackedException;
 import dev.pjc1991.commerce.member.point.exception.MemberPointDetailNotFoundException;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -28,7 +30,11 @@ import java.util.Set;
         , indexes = {
         @Index(name = "IDX_MEMBER_POINT_EVENT_CREATED_AT", columnList = "CREATED_AT"),
         @Index(name = "IDX_MEMBER_POINT_EVENT_EXPIRE_AT", columnList = "EXPIRE_AT"),
-        @Index(name = "IDX_MEMBER_POINT_EVENT_TYPE", columnList = "TYPE")
+        @Index(name = "IDX_MEMBER_POINT_EVENT_TYPE", columnList = "TYPE"),
+        @Index(name = "IDX_MEMBER_POINT_EVENT_MEMBER_ID_STATUS_CREATED_AT", columnList = "MEMBER_ID, STATUS, CREATED_AT DESC, ID DESC")
+}
+        , uniqueConstraints = {
+        @UniqueConstraint(name = "UK_MEMBER_POINT_EVENT_MEMBER_ID_IDEMPOTENCY_KEY", columnNames = {"MEMBER_ID", "IDEMPOTENCY_KEY"})
 }
 )
 @Getter
@@ -38,9 +44,11 @@ public class MemberPointEvent {
 
     /**
      * 회원 적립금 이벤트 ID
+     * IDENTITY 는 INSERT 를 묶어서 실행(JDBC batch)할 수 없으므로, 시퀀스에서 ALLOCATION_SIZE 개씩 미리 발급받습니다.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "MEMBER_POINT_EVENT_SEQ_GENERATOR")
+    @SequenceGenerator(name = "MEMBER_POINT_EVENT_SEQ_GENERATOR", sequenceName = "MEMBER_POINT_EVENT_SEQ", allocationSize = 50)
     @Column(name = "ID", nullable = false)
     private Long id;
 
@@ -84,6 +92,30 @@ public class MemberPointEvent {
     @Enumerated(EnumType.STRING)
     private MemberPointEventType type;
 
+    /**
+     * 회원 적립금 이벤트 상태
+     * 사용 취소된 이벤트는 CANCELLED 가 되며, 적립/사용 내역 조회에서 제외됩니다.
+     */
+    @Column(name = "STATUS", nullable = false)
+    @Enumerated(EnumType.STRING)
+    @ColumnDefault("'ACTIVE'")
+    private MemberPointEventStatus status = MemberPointEventStatus.ACTIVE;
+
+    /**
+     * 회원 적립금 적립 사유
+     * 캠페인 지급처럼 사유가 있는 적립에만 저장합니다.
+     */
+    @Column(name = "REASON")
+    private String reason;
+
+    /**
+     * 멱등 키
+     * 클라이언트가 같은 적립/사용 요청을 다시 보내도 원장에 한 번만 기록되도록, 회원마다 유일합니다.
+     * 멱등 키 없이 요청된 이벤트는 null 입니다.
+     */
+    @Column(name = "IDEMPOTENCY_KEY", length = MemberPointEvent.IDEMPOTENCY_KEY_MAX_LENGTH)
+    private String idempotencyKey;
+
     /**
      * 회원 적립금 만료 기간 (개월)
      * 이 기간이 지나면 적립금을 만료 처리합니다.
@@ -91,6 +123,12 @@ public class MemberPointEvent {
     @Transient
     public static final int MEMBER_POINT_EXPIRE_MONTH = 12;
 
+    /**
+     * 멱등 키의 최대 길이
+     */
+    @Transient
+    public static final int IDEMPOTENCY_KEY_MAX_LENGTH = 64;
+
 
     /**
      * 회원 적립금 적립 이벤트를 생성합니다.
@@ -109,6 +147,8 @@ public class MemberPointEvent {
         memberPointEvent.createdAt = LocalDateTime.now();
         memberPointEvent.expireAt = LocalDateTime.of(memberPointEvent.createdAt.plusMonths(MEMBER_POINT_EXPIRE_MONTH).toLocalDate(), LocalTime.MAX);
         memberPointEvent.type = MemberPointEventType.EARN;
+        memberPointEvent.reason = memberPointCreate.getReason();
+        memberPointEvent.idempotencyKey = memberPointCreate.getIdempotencyKey();
         return memberPointEvent;
     }
 
@@ -130,6 +170,7 @@ public class MemberPointEvent {
         memberPointEvent.expireAt = null;
         // 사용은 만료 시점이 없습니다.
         memberPointEvent.type = MemberPointEventType.USE;
+        memberPointEvent.idempotencyKey = memberPointUse.getIdempotencyKey();
 
         return memberPointEvent;
     }
@@ -175,6 +216,16 @@ public class MemberPointEvent {
         this.getMemberPointDetails().forEach(memberPointDetail -> memberPointDetail.setExpireAt(expireAt, createdAt));
     }
 
+    /**
+     * 회원 적립금 사용 이벤트를 사용 취소 상태로 변경합니다.
+     */
+    public void cancel() {
+        if (status == MemberPointEventStatus.CANCELLED) {
+            throw new MemberPointAlreadyRollbackedException("이미 롤백된 회원 적립금 이벤트입니다.");
+        }
+        this.status = MemberPointEventStatus.CANCELLED;
+    }
+
     /**
      * 회원 적립금 이벤트 종류
      */
@@ -183,4 +234,12 @@ public class MemberPointEvent {
         USE, // 사용
         EXPIRE, // 만료
     }
-}
\ No newline at end of file
+
+    /**
+     * 회원 적립금 이벤트 상태
+     */
+    public enum MemberPointEventStatus {
+        ACTIVE, // 정상
+        CANCELLED, // 사용 취소
+    }
+}
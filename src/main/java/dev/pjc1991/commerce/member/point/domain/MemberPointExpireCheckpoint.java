@@ -0,0 +1,146 @@
+package dev.pjc1991.commerce.member.point.domain;
+
+import dev.pjc1991.commerce.domain.AssignedIdEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 적립금 만료 처리 체크포인트 도메인
+ * 만료 처리는 청크 단위로 나눠서 커밋되므로, 각 청크가 커밋될 때 어디까지 처리했는지 함께 기록합니다.
+ * 만료 처리가 중간에 중단되면 다음 실행은 같은 기준 시점으로 마지막 (만료 시점, 그룹 ID) 다음부터 이어서 처리합니다.
+ */
+@Getter
+@Entity
+@Table(name = "MEMBER_POINT_EXPIRE_CHECKPOINT")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MemberPointExpireCheckpoint extends AssignedIdEntity<String> {
+
+    /**
+     * 만료 처리 작업 이름
+     */
+    @Id
+    @Column(name = "JOB_NAME", nullable = false)
+    private String jobName;
+
+    /**
+     * 만료 처리 기준 시점
+     * 이 시점 이전에 만료된 적립금만 처리합니다. 이어서 처리할 때도 같은 기준 시점을 사용합니다.
+     */
+    @Column(name = "CUTOFF", nullable = false)
+    private LocalDateTime cutoff;
+
+    /**
+     * 마지막으로 처리한 적립 건의 만료 시점
+     * 다음 청크는 이 만료 시점과 그룹 ID 다음부터 조회합니다. (아직 처리한 적립 건이 없다면 null)
+     */
+    @Column(name = "LAST_EXPIRE_AT")
+    private LocalDateTime lastExpireAt;
+
+    /**
+     * 마지막으로 처리한 회원 적립금 상세 그룹 ID (적립 건 ID)
+     */
+    @Column(name = "LAST_GROUP_ID", nullable = false)
+    private long lastGroupId;
+
+    /**
+     * 이번 실행에서 만료 처리한 그룹의 개수
+     */
+    @Column(name = "EXPIRED_COUNT", nullable = false)
+    private long expiredCount;
+
+    /**
+     * 진행 상태
+     */
+    @Column(name = "STATUS", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private MemberPointExpireStatus status;
+
+    /**
+     * 실행 시작 시점
+     */
+    @Column(name = "STARTED_AT", nullable = false)
+    private LocalDateTime startedAt;
+
+    /**
+     * 마지막 갱신 시점
+     */
+    @Column(name = "UPDATED_AT", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * 만료 처리 체크포인트를 생성합니다.
+     *
+     * @param jobName 만료 처리 작업 이름
+     * @param cutoff  만료 처리 기준 시점
+     * @return 진행 중인 만료 처리 체크포인트
+     */
+    public static MemberPointExpireCheckpoint start(String jobName, LocalDateTime cutoff) {
+        MemberPointExpireCheckpoint checkpoint = new MemberPointExpireCheckpoint();
+        checkpoint.jobName = jobName;
+        checkpoint.restart(cutoff);
+        return checkpoint;
+    }
+
+    @Override
+    public String getId() {
+        return jobName;
+    }
+
+    /**
+     * 완료된 체크포인트를 새 기준 시점으로 다시 시작합니다.
+     *
+     * @param cutoff 만료 처리 기준 시점
+     */
+    public void restart(LocalDateTime cutoff) {
+        this.cutoff = cutoff;
+        this.lastExpireAt = null;
+        this.lastGroupId = 0L;
+        this.expiredCount = 0L;
+        this.status = MemberPointExpireStatus.RUNNING;
+        this.startedAt = LocalDateTime.now();
+        this.updatedAt = startedAt;
+    }
+
+    /**
+     * 청크 하나를 처리한 만큼 체크포인트를 옮깁니다.
+     *
+     * @param lastExpireAt 청크에서 마지막으로 처리한 적립 건의 만료 시점
+     * @param lastGroupId  청크에서 마지막으로 처리한 회원 적립금 상세 그룹 ID
+     * @param count        청크에서 만료 처리한 그룹의 개수
+     */
+    public void advance(LocalDateTime lastExpireAt, long lastGroupId, int count) {
+        this.lastExpireAt = lastExpireAt;
+        this.lastGroupId = lastGroupId;
+        this.expiredCount += count;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 만료 처리를 완료합니다.
+     */
+    public void complete() {
+        this.status = MemberPointExpireStatus.COMPLETED;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 진행 중인 (중단된) 만료 처리인지 확인합니다.
+     *
+     * @return 진행 중이라면 true
+     */
+    public boolean isRunning() {
+        return status == MemberPointExpireStatus.RUNNING;
+    }
+
+    /**
+     * 회원 적립금 만료 처리 진행 상태 열거형입니다.
+     */
+    public enum MemberPointExpireStatus {
+        RUNNING, // 진행 중 (중단되었다면 다음 실행에서 이어서 처리합니다.)
+        COMPLETED // 완료
+    }
+}
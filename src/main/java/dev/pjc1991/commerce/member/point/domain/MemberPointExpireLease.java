@@ -0,0 +1,106 @@
+package dev.pjc1991.commerce.member.point.domain;
+
+import dev.pjc1991.commerce.domain.AssignedIdEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 적립금 만료 처리 파티션 임대 (lease) 도메인
+ * 파티션마다 한 행이 있고, 임대를 가진 노드만 그 파티션의 만료 처리를 할 수 있습니다.
+ * 노드는 주기적으로 임대를 연장하며, 연장하지 못한 채 임대 기간이 지나면 다른 노드가 파티션을 넘겨받습니다.
+ */
+@Getter
+@Entity
+@Table(name = "MEMBER_POINT_EXPIRE_LEASE")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MemberPointExpireLease extends AssignedIdEntity<Integer> {
+
+    /**
+     * 파티션 번호
+     */
+    @Id
+    @Column(name = "PARTITION_NO", nullable = false)
+    private Integer partitionNo;
+
+    /**
+     * 임대를 가진 노드 아이디 (임대를 가진 노드가 없다면 null)
+     */
+    @Column(name = "OWNER")
+    private String owner;
+
+    /**
+     * 임대 만료 시점
+     */
+    @Column(name = "LEASE_UNTIL")
+    private LocalDateTime leaseUntil;
+
+    /**
+     * 마지막으로 임대를 가져간 시점
+     */
+    @Column(name = "ACQUIRED_AT")
+    private LocalDateTime acquiredAt;
+
+    /**
+     * 임대를 가진 노드가 없는 파티션 임대를 생성합니다.
+     *
+     * @param partitionNo 파티션 번호
+     * @return 파티션 임대
+     */
+    public static MemberPointExpireLease create(int partitionNo) {
+        MemberPointExpireLease lease = new MemberPointExpireLease();
+        lease.partitionNo = partitionNo;
+        return lease;
+    }
+
+    @Override
+    public Integer getId() {
+        return partitionNo;
+    }
+
+    /**
+     * 주어진 노드가 아직 임대를 가지고 있는지 확인합니다.
+     *
+     * @param nodeId 노드 아이디
+     * @param now    현재 시점
+     * @return 임대를 가지고 있고 임대 기간이 지나지 않았다면 true
+     */
+    public boolean isHeldBy(String nodeId, LocalDateTime now) {
+        return nodeId.equals(owner) && leaseUntil != null && leaseUntil.isAfter(now);
+    }
+
+    /**
+     * 다른 노드가 가져갈 수 있는 임대인지 확인합니다.
+     *
+     * @param now 현재 시점
+     * @return 임대를 가진 노드가 없거나 임대 기간이 지났다면 true
+     */
+    public boolean isAvailable(LocalDateTime now) {
+        return owner == null || leaseUntil == null || !leaseUntil.isAfter(now);
+    }
+
+    /**
+     * 임대를 가져가거나 연장합니다.
+     *
+     * @param nodeId     노드 아이디
+     * @param leaseUntil 임대 만료 시점
+     */
+    public void acquire(String nodeId, LocalDateTime leaseUntil) {
+        if (!nodeId.equals(owner)) {
+            this.owner = nodeId;
+            this.acquiredAt = LocalDateTime.now();
+        }
+        this.leaseUntil = leaseUntil;
+    }
+
+    /**
+     * 임대를 반납합니다.
+     */
+    public void release() {
+        this.owner = null;
+        this.leaseUntil = null;
+    }
+}
@@ -0,0 +1,22 @@
+package dev.pjc1991.commerce.member.point.domain;
+
+/**
+ * 회원 적립금 만료 처리 방식 열거형입니다.
+ * member.point.expire.mode 로 설정합니다.
+ */
+public enum MemberPointExpireMode {
+    /**
+     * 매일 자정에 만료 시점이 지난 적립 건을 한 번에 만료 처리합니다.
+     */
+    EAGER,
+    /**
+     * 회원이 적립, 사용, 내역 조회를 할 때 그 회원의 만료 시점이 지난 적립 건을 만료 처리합니다.
+     * 한동안 접근하지 않은 회원의 적립 건은 백그라운드 스위퍼가 조금씩 만료 처리합니다.
+     */
+    LAZY,
+    /**
+     * 만료 시점이 지난 적립 건을 짧은 주기로 조금씩 계속 만료 처리합니다.
+     * 초당 처리 건수를 제한하므로, 만료 처리가 자정의 트래픽과 경쟁하지 않습니다.
+     */
+    CONTINUOUS
+}
@@ -0,0 +1,67 @@
+package dev.pjc1991.commerce.member.point.domain;
+
+import dev.pjc1991.commerce.domain.AssignedIdEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 적립금 만료 처리 노드 도메인
+ * 만료 처리에 참여하는 노드가 주기적으로 하트비트를 기록합니다.
+ * 임대 기간 안에 하트비트를 기록한 노드의 수로 파티션을 나눠 가지므로, 노드가 늘거나 줄면 파티션이 다시 분배됩니다.
+ */
+@Getter
+@Entity
+@Table(
+        name = "MEMBER_POINT_EXPIRE_NODE"
+        , indexes = {
+        @Index(name = "IDX_MEMBER_POINT_EXPIRE_NODE_HEARTBEAT_AT", columnList = "HEARTBEAT_AT")
+}
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MemberPointExpireNode extends AssignedIdEntity<String> {
+
+    /**
+     * 노드 아이디
+     */
+    @Id
+    @Column(name = "NODE_ID", nullable = false)
+    private String nodeId;
+
+    /**
+     * 마지막 하트비트 시점
+     */
+    @Column(name = "HEARTBEAT_AT", nullable = false)
+    private LocalDateTime heartbeatAt;
+
+    /**
+     * 노드를 등록합니다.
+     *
+     * @param nodeId 노드 아이디
+     * @param now    현재 시점
+     * @return 회원 적립금 만료 처리 노드
+     */
+    public static MemberPointExpireNode register(String nodeId, LocalDateTime now) {
+        MemberPointExpireNode node = new MemberPointExpireNode();
+        node.nodeId = nodeId;
+        node.heartbeatAt = now;
+        return node;
+    }
+
+    @Override
+    public String getId() {
+        return nodeId;
+    }
+
+    /**
+     * 하트비트를 기록합니다.
+     *
+     * @param now 현재 시점
+     */
+    public void beat(LocalDateTime now) {
+        this.heartbeatAt = now;
+    }
+}
@@ -0,0 +1,95 @@
+package dev.pjc1991.commerce.member.point.domain;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회원 적립금 만료 처리 파티션
+ * 여러 노드가 만료 처리를 나눠서 할 때, 회원 아이디를 파티션 개수로 나눈 나머지로 각 노드가 처리할 회원을 나눕니다.
+ * 파티션마다 만료 처리 체크포인트가 따로 있으므로, 다른 노드가 파티션을 넘겨받으면 마지막 청크 다음부터 이어서 처리합니다.
+ */
+@Getter
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class MemberPointExpirePartition {
+
+    /**
+     * 전체 회원 (파티션을 나누지 않은 단일 노드 만료 처리)
+     */
+    public static final MemberPointExpirePartition ALL = new MemberPointExpirePartition(0, 1, null);
+
+    /**
+     * 파티션 번호 (0 부터 partitionCount - 1 까지)
+     */
+    private final int index;
+
+    /**
+     * 전체 파티션 개수
+     */
+    private final int count;
+
+    /**
+     * 파티션 임대를 가진 노드 아이디
+     * 청크를 커밋할 때마다 이 노드가 아직 임대를 가지고 있는지 확인합니다. (파티션을 나누지 않았다면 null)
+     */
+    private final String owner;
+
+    /**
+     * 노드가 임대한 파티션을 생성합니다.
+     *
+     * @param index 파티션 번호
+     * @param count 전체 파티션 개수
+     * @param owner 파티션 임대를 가진 노드 아이디
+     * @return 회원 적립금 만료 처리 파티션
+     */
+    public static MemberPointExpirePartition of(int index, int count, String owner) {
+        if (count < 1 || index < 0 || index >= count) {
+            throw new IllegalArgumentException("잘못된 파티션입니다. 파티션 번호 : " + index + ", 파티션 개수 : " + count);
+        }
+        return new MemberPointExpirePartition(index, count, owner);
+    }
+
+    /**
+     * 회원이 속한 파티션 번호를 계산합니다.
+     *
+     * @param memberId 회원 아이디
+     * @param count    전체 파티션 개수
+     * @return 파티션 번호
+     */
+    public static int indexOf(long memberId, int count) {
+        return (int) Math.floorMod(memberId, (long) count);
+    }
+
+    /**
+     * 파티션마다 따로 관리하는 만료 처리 체크포인트의 작업 이름입니다.
+     *
+     * @param jobName 만료 처리 작업 이름
+     * @return 파티션을 나누지 않았다면 작업 이름, 나눴다면 "작업 이름#파티션 번호/파티션 개수"
+     */
+    public String getJobName(String jobName) {
+        if (isAll()) {
+            return jobName;
+        }
+        return jobName + "#" + index + "/" + count;
+    }
+
+    /**
+     * 파티션을 나누지 않은 전체 회원인지 확인합니다.
+     *
+     * @return 전체 회원이라면 true
+     */
+    public boolean isAll() {
+        return count == 1;
+    }
+
+    /**
+     * 파티션 임대를 확인해야 하는지 확인합니다.
+     *
+     * @return 임대를 가진 노드가 있다면 true
+     */
+    public boolean isLeased() {
+        return owner != null;
+    }
+}
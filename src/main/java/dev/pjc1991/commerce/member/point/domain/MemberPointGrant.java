@@ -0,0 +1,190 @@
+package dev.pjc1991.commerce.member.point.domain;
+
+import dev.pjc1991.commerce.domain.AssignedIdEntity;
+import dev.pjc1991.commerce.member.point.exception.BadMemberPointTypeException;
+import dev.pjc1991.commerce.member.point.exception.MemberPointAmountBrokenException;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 적립금 적립 건 도메인
+ * 적립된 적립금 한 건 (회원 적립금 상세 그룹) 의 잔액과 사용 가능 여부를 관리합니다.
+ * 선입선출로 사용할 적립금을 찾을 때, 상세 내역을 그룹별로 합산하지 않고 이 테이블의 인덱스만 조회하기 위함입니다.
+ * 잔액은 회원 적립금 상세 내역을 생성할 때 함께 갱신됩니다.
+ * 만료 처리도 이 테이블에서 사용 가능한 (OPEN) 적립 건만 만료 시점 순서로 조회합니다.
+ * 모두 사용되거나 만료된 적립 건은 CLOSED 가 되어 (STATUS, EXPIRE_AT, ID) 인덱스의 OPEN 범위에서 빠지므로,
+ * 만료 처리 비용은 전체 원장의 크기가 아니라 만료 대상 적립 건의 개수에 비례합니다.
+ */
+@Getter
+@Entity
+@Table(
+        name = "MEMBER_POINT_GRANT"
+        , indexes = {
+        @Index(name = "IDX_MEMBER_POINT_GRANT_MEMBER_ID_STATUS_CREATED_AT", columnList = "MEMBER_ID, STATUS, CREATED_AT, ID")
+        , @Index(name = "IDX_MEMBER_POINT_GRANT_STATUS_EXPIRE_AT", columnList = "STATUS, EXPIRE_AT, ID")
+}
+)
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MemberPointGrant extends AssignedIdEntity<Long> {
+
+    /**
+     * 회원 적립금 상세 그룹 ID
+     * 적립 상세 내역의 ID 와 같습니다.
+     */
+    @Id
+    @Column(name = "ID", nullable = false)
+    private Long id;
+
+    /**
+     * 회원 아이디
+     */
+    @Column(name = "MEMBER_ID", nullable = false)
+    private Long memberId;
+
+    /**
+     * 최초 적립 금액
+     */
+    @Column(name = "AMOUNT", nullable = false)
+    private int amount;
+
+    /**
+     * 사용, 만료 후 남은 금액
+     */
+    @Column(name = "REMAIN", nullable = false)
+    private int remain;
+
+    /**
+     * 사용 가능 여부
+     */
+    @Column(name = "STATUS", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private MemberPointGrantStatus status;
+
+    /**
+     * 적립 시점
+     */
+    @Column(name = "CREATED_AT", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 만료 시점
+     */
+    @Column(name = "EXPIRE_AT", nullable = false)
+    private LocalDateTime expireAt;
+
+    /**
+     * 사용과 만료가 동시에 같은 적립 건을 갱신해서 잔액이 유실되지 않도록 버전을 관리합니다.
+     */
+    @Version
+    @Column(name = "VERSION", nullable = false)
+    private Long version;
+
+    /**
+     * 회원 적립금 적립 상세 내역으로부터 적립 건을 생성합니다.
+     *
+     * @param earnDetail 회원 적립금 적립 상세 내역 (그룹 ID 가 설정되어 있어야 합니다.)
+     * @return 회원 적립금 적립 건
+     */
+    public static MemberPointGrant earnMemberPointGrant(MemberPointDetail earnDetail) {
+        if (earnDetail.getType() != MemberPointDetail.MemberPointDetailType.EARN) {
+            throw new BadMemberPointTypeException("회원 적립금 적립 건은 적립 상세 내역으로만 생성할 수 있습니다.");
+        }
+
+        MemberPointGrant memberPointGrant = new MemberPointGrant();
+        memberPointGrant.id = earnDetail.getMemberPointDetailGroupId();
+        memberPointGrant.memberId = earnDetail.getMemberId();
+        memberPointGrant.amount = earnDetail.getAmount();
+        memberPointGrant.remain = earnDetail.getAmount();
+        memberPointGrant.status = MemberPointGrantStatus.OPEN;
+        memberPointGrant.createdAt = earnDetail.getCreatedAt();
+        memberPointGrant.expireAt = earnDetail.getExpireAt();
+        return memberPointGrant;
+    }
+
+    /**
+     * 적립금을 사용한 만큼 잔액을 차감합니다.
+     *
+     * @param useAmount 사용 금액 (양수)
+     */
+    public void use(int useAmount) {
+        if (useAmount > remain) {
+            throw new MemberPointAmountBrokenException("회원 적립금 적립 건의 잔액보다 많이 사용할 수 없습니다.");
+        }
+        decrease(useAmount);
+    }
+
+    /**
+     * 남은 적립금을 만료 처리합니다.
+     *
+     * @param expireAmount 만료 금액 (양수)
+     */
+    public void expire(int expireAmount) {
+        decrease(expireAmount);
+        if (remain != 0) {
+            log.warn("회원 적립금 적립 건의 잔액이 원장과 다릅니다. 적립 건 ID : {}, 남은 금액 : {}", id, remain);
+            this.remain = 0;
+            this.status = MemberPointGrantStatus.CLOSED;
+        }
+    }
+
+    /**
+     * 사용 취소된 적립금을 잔액에 되돌립니다.
+     * 만료된 적립 건이라도 잔액은 되돌리며, 만료 시점이 지났으므로 선입선출 대상에는 포함되지 않습니다.
+     *
+     * @param restoreAmount 되돌릴 금액 (양수)
+     */
+    public void restore(int restoreAmount) {
+        this.remain += restoreAmount;
+        if (remain > 0) {
+            this.status = MemberPointGrantStatus.OPEN;
+        }
+    }
+
+    /**
+     * 사용 가능한 적립 건인지 확인합니다.
+     *
+     * @return 잔액이 남아 있다면 true
+     */
+    public boolean isOpen() {
+        return status == MemberPointGrantStatus.OPEN;
+    }
+
+    /**
+     * 회원 적립금 적립 건의 만료 시점을 변경합니다.
+     * 테스트 코드에서만 사용합니다.
+     *
+     * @param expireAt  변경할 만료 시점
+     * @param createdAt 변경할 생성 시점
+     */
+    public void setExpireAt(LocalDateTime expireAt, LocalDateTime createdAt) {
+        log.warn("회원 적립금 적립 건의 만료 시점을 변경합니다. 이 메소드는 테스트 코드에서만 사용합니다. 변경할 만료 시점: {}", expireAt);
+        this.expireAt = expireAt;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * 잔액을 차감하고, 잔액이 남지 않으면 사용할 수 없는 상태로 변경합니다.
+     *
+     * @param amount 차감할 금액 (양수)
+     */
+    private void decrease(int amount) {
+        this.remain -= amount;
+        if (remain <= 0) {
+            this.status = MemberPointGrantStatus.CLOSED;
+        }
+    }
+
+    /**
+     * 회원 적립금 적립 건의 상태 열거형입니다.
+     */
+    public enum MemberPointGrantStatus {
+        OPEN, // 사용 가능
+        CLOSED // 모두 사용 또는 만료
+    }
+}
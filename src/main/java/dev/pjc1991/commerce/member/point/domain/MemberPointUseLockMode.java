@@ -0,0 +1,28 @@
+package dev.pjc1991.commerce.member.point.domain;
+
+/**
+ * 회원 적립금 사용 동시성 제어 방식 열거형입니다.
+ * member.point.use.lock-mode 로 설정합니다.
+ */
+public enum MemberPointUseLockMode {
+    /**
+     * Redisson 분산 잠금으로 같은 회원의 사용 요청을 한 번에 하나씩 처리합니다.
+     * 여러 노드에서도 동작하지만, 경합이 없어도 요청마다 Redis 를 여러 번 왕복합니다.
+     */
+    REDISSON,
+    /**
+     * 별도의 잠금 없이 회원 적립금 잔액 행 잠금 (SELECT ... FOR UPDATE) 만 사용합니다.
+     * 기다리는 요청이 데이터베이스 커넥션을 점유합니다.
+     */
+    DATABASE,
+    /**
+     * 잠금 없이 잔액을 조회하고, 잔액 버전이 조회한 버전과 같을 때만 사용을 반영합니다.
+     * 다른 요청이 먼저 반영했다면 정해진 횟수까지 새 트랜잭션으로 다시 시도합니다.
+     */
+    OPTIMISTIC,
+    /**
+     * JVM 안의 잠금 (회원 아이디로 나눈 ReentrantLock) 을 사용합니다.
+     * Redis 를 거치지 않지만, 노드가 하나일 때만 사용할 수 있습니다. (잔액 행 잠금은 함께 사용합니다.)
+     */
+    STRIPED
+}
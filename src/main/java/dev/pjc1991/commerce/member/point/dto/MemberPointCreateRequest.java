@@ -1,6 +1,9 @@
 package dev.pjc1991.commerce.member.point.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import dev.pjc1991.commerce.member.domain.Member;
+import dev.pjc1991.commerce.member.point.domain.MemberPointEvent;
+import dev.pjc1991.commerce.member.point.exception.BadMemberPointIdempotencyKeyException;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
@@ -11,5 +14,17 @@ import lombok.ToString;
 public class MemberPointCreateRequest {
     private Long memberId;
     private Integer amount;
+    // 적립 사유 (캠페인 지급 등, 선택)
+    private String reason;
     private Member owner;
+    // 멱등 키 (Idempotency-Key 헤더, 선택) 같은 키로 다시 요청하면 처음 적립 내역을 반환합니다. 일괄 적립에서는 사용하지 않습니다.
+    @JsonIgnore
+    private String idempotencyKey;
+
+    public void setIdempotencyKey(String idempotencyKey) {
+        if (idempotencyKey != null && (idempotencyKey.isBlank() || idempotencyKey.length() > MemberPointEvent.IDEMPOTENCY_KEY_MAX_LENGTH)) {
+            throw new BadMemberPointIdempotencyKeyException("멱등 키는 비어 있을 수 없고, " + MemberPointEvent.IDEMPOTENCY_KEY_MAX_LENGTH + "자를 넘을 수 없습니다.");
+        }
+        this.idempotencyKey = idempotencyKey;
+    }
 }
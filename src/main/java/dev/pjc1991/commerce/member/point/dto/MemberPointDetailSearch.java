@@ -4,8 +4,27 @@ import dev.pjc1991.commerce.dto.PageSearch;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Setter
 public class MemberPointDetailSearch extends PageSearch {
     private Long memberId;
+
+    // 키셋 페이징 : 이전 페이지에서 마지막으로 조회한 행의 생성 시점 (null 이면 처음부터 조회합니다.)
+    private LocalDateTime lastCreatedAt;
+
+    // 키셋 페이징 : 이전 페이지에서 마지막으로 조회한 행의 ID
+    private Long lastId;
+
+    /**
+     * 다음 페이지는 주어진 행 다음부터 조회하도록 키셋 커서를 옮깁니다.
+     *
+     * @param createdAt 마지막으로 조회한 행의 생성 시점
+     * @param id        마지막으로 조회한 행의 ID
+     */
+    public void seekAfter(LocalDateTime createdAt, Long id) {
+        this.lastCreatedAt = createdAt;
+        this.lastId = id;
+    }
 }
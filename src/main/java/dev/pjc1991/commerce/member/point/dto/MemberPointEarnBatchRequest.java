@@ -0,0 +1,18 @@
+package dev.pjc1991.commerce.member.point.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+public class MemberPointEarnBatchRequest {
+
+    // 한 번에 요청할 수 있는 최대 적립 건수
+    public static final int MAX_SIZE = 10000;
+
+    // 적립 요청 목록 (memberId, amount, reason)
+    private List<MemberPointCreateRequest> items = new ArrayList<>();
+}
@@ -0,0 +1,26 @@
+package dev.pjc1991.commerce.member.point.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class MemberPointEarnBatchResponse {
+
+    // 적립에 성공한 건수
+    private int successCount;
+
+    // 적립에 실패한 건수
+    private int failureCount;
+
+    // 요청 순서대로 정렬된 적립 결과
+    private List<MemberPointEarnBatchResult> results;
+
+    public MemberPointEarnBatchResponse(List<MemberPointEarnBatchResult> results) {
+        this.results = results;
+        this.successCount = (int) results.stream().filter(MemberPointEarnBatchResult::isSuccess).count();
+        this.failureCount = results.size() - successCount;
+    }
+}
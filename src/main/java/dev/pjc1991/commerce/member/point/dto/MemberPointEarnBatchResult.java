@@ -0,0 +1,65 @@
+package dev.pjc1991.commerce.member.point.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class MemberPointEarnBatchResult {
+
+    // 요청 목록에서의 순서 (0부터 시작)
+    private int index;
+
+    // 회원 아이디
+    private Long memberId;
+
+    // 적립 금액
+    private Integer amount;
+
+    // 적립 성공 여부
+    private boolean success;
+
+    // 생성된 회원 적립금 이벤트 아이디 (성공한 경우)
+    private Long memberPointEventId;
+
+    // 실패 사유 (실패한 경우)
+    private String error;
+
+    /**
+     * 적립에 성공한 요청의 결과를 생성합니다.
+     *
+     * @param index              요청 목록에서의 순서
+     * @param request            적립 요청
+     * @param memberPointEventId 생성된 회원 적립금 이벤트 아이디
+     * @return 적립 결과
+     */
+    public static MemberPointEarnBatchResult success(int index, MemberPointCreateRequest request, Long memberPointEventId) {
+        MemberPointEarnBatchResult result = of(index, request);
+        result.success = true;
+        result.memberPointEventId = memberPointEventId;
+        return result;
+    }
+
+    /**
+     * 적립에 실패한 요청의 결과를 생성합니다.
+     *
+     * @param index   요청 목록에서의 순서
+     * @param request 적립 요청
+     * @param error   실패 사유
+     * @return 적립 결과
+     */
+    public static MemberPointEarnBatchResult failure(int index, MemberPointCreateRequest request, String error) {
+        MemberPointEarnBatchResult result = of(index, request);
+        result.success = false;
+        result.error = error;
+        return result;
+    }
+
+    private static MemberPointEarnBatchResult of(int index, MemberPointCreateRequest request) {
+        MemberPointEarnBatchResult result = new MemberPointEarnBatchResult();
+        result.index = index;
+        result.memberId = request == null ? null : request.getMemberId();
+        result.amount = request == null ? null : request.getAmount();
+        return result;
+    }
+}
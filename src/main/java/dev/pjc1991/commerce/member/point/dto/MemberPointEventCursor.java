@@ -0,0 +1,78 @@
+package dev.pjc1991.commerce.member.point.dto;
+
+import dev.pjc1991.commerce.member.point.domain.MemberPointEvent;
+import dev.pjc1991.commerce.member.point.exception.BadMemberPointCursorException;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 회원 적립금 적립/사용 내역 조회 커서
+ * 마지막으로 조회한 내역의 (생성 시점, ID) 를 담고 있으며, 클라이언트에는 Base64 로 인코딩된 문자열로만 전달합니다.
+ * 클라이언트는 커서의 내용을 해석하지 않고, 다음 페이지를 조회할 때 그대로 돌려보내야 합니다.
+ */
+@Getter
+public class MemberPointEventCursor {
+
+    private static final String DELIMITER = "_";
+
+    // 마지막으로 조회한 내역의 생성 시점
+    private final LocalDateTime createdAt;
+
+    // 마지막으로 조회한 내역의 ID
+    private final Long id;
+
+    private MemberPointEventCursor(LocalDateTime createdAt, Long id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    /**
+     * 마지막으로 조회한 내역으로 커서를 생성합니다.
+     *
+     * @param last 마지막으로 조회한 회원 적립금 이벤트
+     * @return 커서
+     */
+    public static MemberPointEventCursor of(MemberPointEvent last) {
+        return new MemberPointEventCursor(last.getCreatedAt(), last.getId());
+    }
+
+    /**
+     * 클라이언트가 전달한 커서 문자열을 해석합니다.
+     *
+     * @param cursor 커서 문자열 (null 이거나 비어 있다면 첫 페이지입니다.)
+     * @return 커서 (첫 페이지라면 null)
+     */
+    public static MemberPointEventCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = decoded.lastIndexOf(DELIMITER);
+            if (delimiterIndex < 0) {
+                throw new BadMemberPointCursorException("잘못된 커서입니다.");
+            }
+            LocalDateTime createdAt = LocalDateTime.parse(decoded.substring(0, delimiterIndex));
+            long id = Long.parseLong(decoded.substring(delimiterIndex + 1));
+            return new MemberPointEventCursor(createdAt, id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // Base64 디코딩 오류와 NumberFormatException 은 IllegalArgumentException 입니다.
+            throw new BadMemberPointCursorException("잘못된 커서입니다.");
+        }
+    }
+
+    /**
+     * 클라이언트에 전달할 커서 문자열을 생성합니다.
+     *
+     * @return Base64 로 인코딩된 커서 문자열
+     */
+    public String encode() {
+        String raw = createdAt.toString() + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,30 @@
+package dev.pjc1991.commerce.member.point.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class MemberPointEventCursorResponse {
+
+    // 회원 적립금 적립/사용 내역
+    private List<MemberPointEventResponse> content;
+
+    // 다음 페이지 존재 여부
+    private boolean hasNext;
+
+    // 다음 페이지를 조회할 때 전달할 커서 (다음 페이지가 없다면 null)
+    private String nextCursor;
+
+    // 전체 개수 (withTotal 을 요청한 경우에만 포함됩니다.)
+    private Long totalCount;
+
+    public MemberPointEventCursorResponse(List<MemberPointEventResponse> content, boolean hasNext, String nextCursor, Long totalCount) {
+        this.content = content;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+        this.totalCount = totalCount;
+    }
+}
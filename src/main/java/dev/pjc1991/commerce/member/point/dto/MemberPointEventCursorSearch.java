@@ -0,0 +1,33 @@
+package dev.pjc1991.commerce.member.point.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class MemberPointEventCursorSearch {
+
+    // 한 번에 조회할 수 있는 최대 페이지 크기
+    public static final int MAX_SIZE = 100;
+
+    // 회원 아이디
+    private Long memberId;
+
+    // 이전 응답의 nextCursor (첫 페이지라면 비워 둡니다.)
+    private String cursor;
+
+    // 페이지 크기
+    private int size = 10;
+
+    // 전체 개수 포함 여부 (전체 개수를 세는 비용이 크므로, 필요한 경우에만 조회합니다.)
+    private boolean withTotal = false;
+
+    /**
+     * 페이지 크기를 1 ~ MAX_SIZE 사이로 설정합니다.
+     *
+     * @param size 페이지 크기
+     */
+    public void setSize(int size) {
+        this.size = Math.max(1, Math.min(size, MAX_SIZE));
+    }
+}
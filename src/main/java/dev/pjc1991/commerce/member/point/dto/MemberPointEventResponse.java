@@ -2,18 +2,21 @@ package dev.pjc1991.commerce.member.point.dto;
 
 import dev.pjc1991.commerce.member.point.domain.MemberPointEvent;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
 
 @Getter
 @Setter
+@NoArgsConstructor
 public class MemberPointEventResponse {
 
     private Long id;
     private Long memberId;
     private Integer amount;
     private String type;
+    private String reason;
     private LocalDateTime createdAt;
     private LocalDateTime expireAt;
 
@@ -24,5 +27,6 @@ public class MemberPointEventResponse {
         this.createdAt = entity.getCreatedAt();
         this.expireAt = entity.getExpireAt();
         this.type = entity.getType().name();
+        this.reason = entity.getReason();
     }
 }
@@ -0,0 +1,96 @@
+package dev.pjc1991.commerce.member.point.dto;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 회원 적립금 만료 처리 결과
+ * 처리량 (건/초) 과 청크별 소요 시간을 집계합니다.
+ */
+@Getter
+@ToString(exclude = "chunkMillis")
+public class MemberPointExpireReport {
+
+    // 만료 처리 기준 시점
+    private final LocalDateTime cutoff;
+
+    // 중단된 만료 처리를 이어서 처리했는지 여부
+    private final boolean resumed;
+
+    // 만료 처리한 회원 적립금 상세 그룹의 개수
+    private long expiredCount;
+
+    // 다시 계산한 회원 적립금 잔액의 개수
+    private long rebuiltCount;
+
+    // 처리한 청크의 개수
+    private int chunkCount;
+
+    // 전체 소요 시간 (ms)
+    private long totalMillis;
+
+    // 초당 만료 처리한 그룹의 개수
+    private long rowsPerSecond;
+
+    // 청크 평균 소요 시간 (ms)
+    private long chunkAvgMillis;
+
+    // 청크 95 백분위 소요 시간 (ms)
+    private long chunkP95Millis;
+
+    // 청크 최대 소요 시간 (ms)
+    private long chunkMaxMillis;
+
+    // 청크별 소요 시간 (ms)
+    private final List<Long> chunkMillis = new ArrayList<>();
+
+    public MemberPointExpireReport(LocalDateTime cutoff, boolean resumed) {
+        this.cutoff = cutoff;
+        this.resumed = resumed;
+    }
+
+    /**
+     * 만료 처리 청크 하나의 결과를 기록합니다.
+     *
+     * @param expired 만료 처리한 그룹의 개수
+     * @param millis  소요 시간 (ms)
+     */
+    public void addExpireChunk(int expired, long millis) {
+        this.expiredCount += expired;
+        this.chunkMillis.add(millis);
+    }
+
+    /**
+     * 잔액 재계산 청크 하나의 결과를 기록합니다.
+     *
+     * @param rebuilt 다시 계산한 잔액의 개수
+     * @param millis  소요 시간 (ms)
+     */
+    public void addRebuildChunk(int rebuilt, long millis) {
+        this.rebuiltCount += rebuilt;
+        this.chunkMillis.add(millis);
+    }
+
+    /**
+     * 전체 소요 시간으로 처리량과 청크 소요 시간을 집계합니다.
+     *
+     * @param totalMillis 전체 소요 시간 (ms)
+     */
+    public void finish(long totalMillis) {
+        this.totalMillis = totalMillis;
+        this.chunkCount = chunkMillis.size();
+        this.rowsPerSecond = totalMillis == 0 ? expiredCount : expiredCount * 1000 / totalMillis;
+        if (chunkMillis.isEmpty()) {
+            return;
+        }
+
+        List<Long> sorted = chunkMillis.stream().sorted().toList();
+        this.chunkAvgMillis = Math.round(sorted.stream().mapToLong(Long::longValue).average().orElse(0));
+        this.chunkP95Millis = sorted.get((int) Math.ceil(sorted.size() * 0.95) - 1);
+        this.chunkMaxMillis = sorted.get(sorted.size() - 1);
+    }
+}
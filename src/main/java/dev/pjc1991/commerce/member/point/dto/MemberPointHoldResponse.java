@@ -0,0 +1,35 @@
+package dev.pjc1991.commerce.member.point.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+public class MemberPointHoldResponse {
+
+    /**
+     * 예약 상태
+     */
+    public enum Status {
+        // 예약됨 (확정하거나 해제할 수 있습니다.)
+        HELD,
+        // 해제됨
+        RELEASED
+    }
+
+    private String holdId;
+    private Long memberId;
+    private Integer amount;
+    private String status;
+    private LocalDateTime expireAt;
+
+    public MemberPointHoldResponse(String holdId, long memberId, int amount, Status status, LocalDateTime expireAt) {
+        this.holdId = holdId;
+        this.memberId = memberId;
+        this.amount = amount;
+        this.status = status.name();
+        this.expireAt = expireAt;
+    }
+}
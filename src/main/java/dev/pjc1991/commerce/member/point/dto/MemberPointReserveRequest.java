@@ -0,0 +1,29 @@
+package dev.pjc1991.commerce.member.point.dto;
+
+import dev.pjc1991.commerce.member.point.exception.BadMemberPointAmountException;
+import dev.pjc1991.commerce.member.point.exception.BadMemberPointExpireDateException;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class MemberPointReserveRequest {
+    private Long memberId;
+    private Integer amount;
+    // 예약 유효 시간 (초, 선택) 지정하지 않으면 member.point.hold.ttl 동안 유효합니다.
+    private Long ttlSeconds;
+
+    public void setAmount(int amount) {
+        if (amount <= 0) {
+            throw new BadMemberPointAmountException("예약 금액은 0보다 작을 수 없습니다.");
+        }
+        this.amount = amount;
+    }
+
+    public void setTtlSeconds(Long ttlSeconds) {
+        if (ttlSeconds != null && ttlSeconds <= 0) {
+            throw new BadMemberPointExpireDateException("예약 유효 시간은 0보다 커야 합니다.");
+        }
+        this.ttlSeconds = ttlSeconds;
+    }
+}
@@ -0,0 +1,32 @@
+package dev.pjc1991.commerce.member.point.dto;
+
+import dev.pjc1991.commerce.cache.ExpiringCacheValue;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 적립금 합계 캐시 값
+ * 합계와 함께, 합계를 계산한 회원 적립금 잔액의 버전을 보관합니다.
+ * 잔액이 바뀐 트랜잭션이 커밋되면 캐시의 버전이 바뀌기 전의 버전과 같을 때만 변경분을 더합니다.
+ * 합계에 포함된 적립금 중 가장 먼저 만료되는 시점이 지나면 합계가 달라지므로, 캐시도 그 시점에 만료됩니다.
+ */
+@Getter
+@ToString
+public class MemberPointTotalSnapshot implements ExpiringCacheValue {
+
+    private final int total;
+    private final long version;
+
+    /**
+     * 사용 가능한 적립 건 중 가장 먼저 만료되는 시점 (없다면 null)
+     */
+    private final LocalDateTime expireAt;
+
+    public MemberPointTotalSnapshot(int total, long version, LocalDateTime expireAt) {
+        this.total = total;
+        this.version = version;
+        this.expireAt = expireAt;
+    }
+}
@@ -1,8 +1,10 @@
 package dev.pjc1991.commerce.member.point.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import dev.pjc1991.commerce.member.domain.Member;
 import dev.pjc1991.commerce.member.point.domain.MemberPointEvent;
 import dev.pjc1991.commerce.member.point.exception.BadMemberPointAmountException;
+import dev.pjc1991.commerce.member.point.exception.BadMemberPointIdempotencyKeyException;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -12,6 +14,12 @@ public class MemberPointUseRequest {
     private Long memberId;
     private Integer amount;
     private Member owner;
+    // 확정하려는 적립금 예약 아이디 (예약 확정일 때만 설정하고, 요청 본문으로는 받지 않습니다.)
+    @JsonIgnore
+    private String holdId;
+    // 멱등 키 (Idempotency-Key 헤더, 선택) 같은 키로 다시 요청하면 처음 사용 내역을 반환합니다.
+    @JsonIgnore
+    private String idempotencyKey;
 
     public void setAmount(int amount) {
         if (amount <= 0) {
@@ -19,4 +27,11 @@ public class MemberPointUseRequest {
         }
         this.amount = amount;
     }
+
+    public void setIdempotencyKey(String idempotencyKey) {
+        if (idempotencyKey != null && (idempotencyKey.isBlank() || idempotencyKey.length() > MemberPointEvent.IDEMPOTENCY_KEY_MAX_LENGTH)) {
+            throw new BadMemberPointIdempotencyKeyException("멱등 키는 비어 있을 수 없고, " + MemberPointEvent.IDEMPOTENCY_KEY_MAX_LENGTH + "자를 넘을 수 없습니다.");
+        }
+        this.idempotencyKey = idempotencyKey;
+    }
 }
@@ -0,0 +1,18 @@
+package dev.pjc1991.commerce.member.point.exception;
+
+
+import java.io.Serial;
+
+/**
+ * 회원 적립금 적립/사용 내역 조회시 잘못된 커서가 들어온 경우 발생하는 예외
+ */
+public class BadMemberPointCursorException extends IllegalArgumentException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public BadMemberPointCursorException(String message) {
+        super(message);
+    }
+
+}
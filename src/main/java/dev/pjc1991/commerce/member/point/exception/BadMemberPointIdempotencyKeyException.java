@@ -0,0 +1,18 @@
+package dev.pjc1991.commerce.member.point.exception;
+
+
+import java.io.Serial;
+
+/**
+ * 회원 적립금 요청의 멱등 키가 비어 있거나 너무 긴 경우 발생하는 예외
+ */
+public class BadMemberPointIdempotencyKeyException extends IllegalArgumentException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public BadMemberPointIdempotencyKeyException(String message) {
+        super(message);
+    }
+
+}
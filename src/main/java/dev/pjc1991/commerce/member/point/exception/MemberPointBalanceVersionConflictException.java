@@ -0,0 +1,18 @@
+package dev.pjc1991.commerce.member.point.exception;
+
+
+import java.io.Serial;
+
+/**
+ * 잠금 없이 조회한 회원 적립금 잔액을 다른 요청이 먼저 변경했을 때 발생하는 예외입니다.
+ * 트랜잭션을 롤백하고 새 트랜잭션에서 다시 시도해야 합니다.
+ */
+public class MemberPointBalanceVersionConflictException extends IllegalStateException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public MemberPointBalanceVersionConflictException(String message) {
+        super(message);
+    }
+}
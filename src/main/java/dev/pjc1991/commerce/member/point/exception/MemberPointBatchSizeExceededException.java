@@ -0,0 +1,18 @@
+package dev.pjc1991.commerce.member.point.exception;
+
+
+import java.io.Serial;
+
+/**
+ * 회원 적립금 일괄 적립 요청의 건수가 최대 건수를 넘은 경우 발생하는 예외
+ */
+public class MemberPointBatchSizeExceededException extends IllegalArgumentException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public MemberPointBatchSizeExceededException(String message) {
+        super(message);
+    }
+
+}
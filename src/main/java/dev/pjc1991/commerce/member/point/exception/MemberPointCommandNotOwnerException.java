@@ -0,0 +1,27 @@
+package dev.pjc1991.commerce.member.point.exception;
+
+
+import lombok.Getter;
+
+import java.io.Serial;
+
+/**
+ * 이 노드가 담당하지 않는 회원의 적립금 명령을 받았을 때 발생하는 예외입니다.
+ * 담당 노드 (owner) 로 다시 요청해야 합니다.
+ */
+@Getter
+public class MemberPointCommandNotOwnerException extends IllegalStateException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 회원을 담당하는 노드 아이디
+     */
+    private final String owner;
+
+    public MemberPointCommandNotOwnerException(String message, String owner) {
+        super(message);
+        this.owner = owner;
+    }
+}
@@ -0,0 +1,18 @@
+package dev.pjc1991.commerce.member.point.exception;
+
+
+import java.io.Serial;
+
+/**
+ * 회원 적립금 명령의 결과를 기다리다가 시간이 지났을 때 발생하는 예외입니다.
+ * 명령이 이미 실행 중이었다면 커밋되었을 수 있으므로, 처리 결과를 확인한 뒤에 다시 시도해야 합니다.
+ */
+public class MemberPointCommandTimeoutException extends MemberPointConcurrentException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public MemberPointCommandTimeoutException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,18 @@
+package dev.pjc1991.commerce.member.point.exception;
+
+
+import java.io.Serial;
+
+/**
+ * 만료 처리 중에 파티션 임대 (lease) 를 잃었을 때 발생하는 예외입니다.
+ * 다른 노드가 파티션을 넘겨받았으므로, 이 노드는 해당 파티션의 만료 처리를 중단해야 합니다.
+ */
+public class MemberPointExpireLeaseLostException extends IllegalStateException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public MemberPointExpireLeaseLostException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,17 @@
+package dev.pjc1991.commerce.member.point.exception;
+
+import java.io.Serial;
+
+/**
+ * 이미 확정된 회원 적립금 예약을 해제하려고 할 때 발생하는 예외입니다.
+ * 확정된 예약은 적립금 사용 취소로 되돌려야 합니다.
+ */
+public class MemberPointHoldCapturedException extends IllegalStateException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public MemberPointHoldCapturedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,16 @@
+package dev.pjc1991.commerce.member.point.exception;
+
+import java.io.Serial;
+
+/**
+ * 회원 적립금 예약이 존재하지 않거나 만료되었을 때 발생하는 예외입니다.
+ */
+public class MemberPointHoldNotFoundException extends IllegalStateException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public MemberPointHoldNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,17 @@
+package dev.pjc1991.commerce.member.point.exception;
+
+import java.io.Serial;
+
+/**
+ * 이미 다른 적립/사용 요청에 사용된 멱등 키로 요청했을 때 발생하는 예외입니다.
+ * 같은 키로 다시 요청할 때는 처음 요청과 종류, 금액이 같아야 합니다.
+ */
+public class MemberPointIdempotencyKeyReusedException extends IllegalStateException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public MemberPointIdempotencyKeyReusedException(String message) {
+        super(message);
+    }
+}
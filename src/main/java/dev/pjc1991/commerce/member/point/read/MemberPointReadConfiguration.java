@@ -0,0 +1,90 @@
+package dev.pjc1991.commerce.member.point.read;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.codec.CodecsAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.HttpHandlerAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.WebFluxAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.error.ErrorWebFluxAutoConfiguration;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import java.time.Duration;
+
+/**
+ * 회원 적립금 읽기 전용 API 의 애플리케이션 컨텍스트 구성
+ * MemberPointReadServer 가 쓰기 애플리케이션과 별도의 컨텍스트로 실행합니다.
+ *
+ * 쓰기 애플리케이션의 컴포넌트 스캔에 포함되지 않도록 @Configuration 을 붙이지 않고, 필요한 자동 구성만 가져옵니다.
+ * 웹 서버는 Tomcat 이 아닌 Netty 로, 포트는 server.port 가 아닌 member.point.read.port 로 실행합니다.
+ */
+@ImportAutoConfiguration({
+        PropertyPlaceholderAutoConfiguration.class,
+        CodecsAutoConfiguration.class,
+        WebFluxAutoConfiguration.class,
+        HttpHandlerAutoConfiguration.class,
+        ErrorWebFluxAutoConfiguration.class
+})
+public class MemberPointReadConfiguration {
+
+    @Bean
+    public NettyReactiveWebServerFactory memberPointReadWebServerFactory(@Value("${member.point.read.port:8081}") int port) {
+        return new NettyReactiveWebServerFactory(port);
+    }
+
+    /**
+     * R2DBC 커넥션 풀
+     * 풀은 구독이 필요한 close() 대신 dispose() 로 닫습니다.
+     *
+     * @param url      R2DBC URL (쓰기 애플리케이션의 데이터베이스와 같아야 합니다.)
+     * @param username 사용자 이름
+     * @param password 비밀번호
+     * @param poolSize 최대 커넥션 개수
+     * @return 커넥션 풀
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool memberPointReadConnectionFactory(
+            @Value("${member.point.read.r2dbc.url}") String url
+            , @Value("${member.point.read.r2dbc.username:}") String username
+            , @Value("${member.point.read.r2dbc.password:}") String password
+            , @Value("${member.point.read.r2dbc.pool-size:10}") int poolSize
+    ) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .initialSize(Math.min(poolSize, 2))
+                .maxSize(poolSize)
+                .maxIdleTime(Duration.ofMinutes(30))
+                .build());
+    }
+
+    @Bean
+    public DatabaseClient memberPointReadDatabaseClient(ConnectionPool memberPointReadConnectionFactory) {
+        return DatabaseClient.create(memberPointReadConnectionFactory);
+    }
+
+    @Bean
+    public MemberPointReadRepository memberPointReadRepository(DatabaseClient memberPointReadDatabaseClient) {
+        return new MemberPointReadRepository(memberPointReadDatabaseClient);
+    }
+
+    @Bean
+    public MemberPointReadService memberPointReadService(MemberPointReadRepository memberPointReadRepository) {
+        return new MemberPointReadService(memberPointReadRepository);
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> memberPointReadRoutes(MemberPointReadService memberPointReadService) {
+        return new MemberPointReadHandler(memberPointReadService).routes();
+    }
+}
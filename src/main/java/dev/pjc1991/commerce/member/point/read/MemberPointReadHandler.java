@@ -0,0 +1,97 @@
+package dev.pjc1991.commerce.member.point.read;
+
+import dev.pjc1991.commerce.dto.ErrorResponse;
+import dev.pjc1991.commerce.member.exception.MemberNotFoundException;
+import dev.pjc1991.commerce.member.point.dto.MemberPointEventSearch;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * 회원 적립금 읽기 전용 API (WebFlux)
+ * 쓰기 애플리케이션 (MemberPointController) 과 같은 경로로 적립금 합계와 적립/사용 내역을 조회합니다.
+ *
+ * 쓰기 애플리케이션의 컴포넌트 스캔에 포함되면 같은 경로가 MVC 에도 등록되므로, 어노테이션 컨트롤러 대신 라우터 함수로 등록합니다.
+ */
+@Slf4j
+public class MemberPointReadHandler {
+
+    private final MemberPointReadService memberPointReadService;
+
+    public MemberPointReadHandler(MemberPointReadService memberPointReadService) {
+        this.memberPointReadService = memberPointReadService;
+    }
+
+    /**
+     * 경로
+     *
+     * @return 라우터 함수
+     */
+    public RouterFunction<ServerResponse> routes() {
+        return RouterFunctions.route()
+                .GET("/member/{memberId}/point/total", this::getMemberPointTotal)
+                .GET("/member/{memberId}/point", this::getMemberPointEvents)
+                .onError(MemberNotFoundException.class, (e, request) -> errorResponse(request, HttpStatus.NOT_FOUND, e))
+                .onError(IllegalArgumentException.class, (e, request) -> errorResponse(request, HttpStatus.BAD_REQUEST, e))
+                .build();
+    }
+
+    /**
+     * 회원 적립금 합계 조회
+     * GET /member/{memberId}/point/total
+     *
+     * @param request 요청
+     * @return 회원 적립금 합계 응답 오브젝트
+     * memberId: 회원 아이디, totalPoint: 적립금 합계
+     */
+    public Mono<ServerResponse> getMemberPointTotal(ServerRequest request) {
+        return Mono.fromCallable(() -> getMemberId(request))
+                .flatMap(memberPointReadService::getMemberPointTotalResponse)
+                .flatMap(response -> ServerResponse.ok().bodyValue(response));
+    }
+
+    /**
+     * 회원 적립금 적립/사용 내역 조회 (페이징)
+     * GET /member/{memberId}/point?page=0&size=10
+     *
+     * @param request 요청
+     *                page : 페이지 번호, size : 페이지 사이즈 (쿼리 파라메터)
+     * @return 회원 적립금 적립/사용 내역 Page 오브젝트
+     */
+    public Mono<ServerResponse> getMemberPointEvents(ServerRequest request) {
+        return Mono.fromCallable(() -> getMemberPointEventSearch(request))
+                .flatMap(memberPointReadService::getMemberPointEventResponses)
+                .flatMap(page -> ServerResponse.ok().bodyValue(page));
+    }
+
+    /**
+     * 요청의 경로 변수에서 회원 아이디를 읽습니다.
+     * 숫자가 아니라면 NumberFormatException (IllegalArgumentException) 이 발생합니다.
+     */
+    private static long getMemberId(ServerRequest request) {
+        return Long.parseLong(request.pathVariable("memberId"));
+    }
+
+    /**
+     * 요청의 쿼리 파라메터로 검색 조건을 만듭니다.
+     */
+    private static MemberPointEventSearch getMemberPointEventSearch(ServerRequest request) {
+        MemberPointEventSearch search = new MemberPointEventSearch();
+        search.setMemberId(getMemberId(request));
+        request.queryParam("page").map(Integer::parseInt).ifPresent(search::setPage);
+        request.queryParam("size").map(Integer::parseInt).ifPresent(search::setSize);
+        if (search.getPage() < 0 || search.getSize() < 1) {
+            throw new IllegalArgumentException("페이지 번호는 0 이상, 페이지 사이즈는 1 이상이어야 합니다.");
+        }
+        return search;
+    }
+
+    private static Mono<ServerResponse> errorResponse(ServerRequest request, HttpStatus status, Throwable e) {
+        log.error("{} {} : {}", request.method(), request.path(), e.getMessage());
+        return ServerResponse.status(status).bodyValue(new ErrorResponse(e));
+    }
+}
@@ -0,0 +1,139 @@
+package dev.pjc1991.commerce.member.point.read;
+
+import dev.pjc1991.commerce.member.point.domain.MemberPointEvent;
+import dev.pjc1991.commerce.member.point.dto.MemberPointEventResponse;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 적립금 읽기 전용 저장소 (R2DBC)
+ * JPA 가 관리하는 테이블을 엔티티 없이 SQL 로 조회합니다.
+ * 조회 조건과 정렬은 JPA 저장소 (MemberPointDetailRepositoryCustom, MemberPointEventRepositoryCustom) 와 같아야 합니다.
+ */
+public class MemberPointReadRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public MemberPointReadRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /**
+     * 회원 적립금 잔액을 회원과 함께 조회합니다.
+     *
+     * @param memberId 회원 아이디
+     * @return 회원 적립금 잔액 (회원이 없다면 비어 있고, 잔액이 아직 없는 회원이라면 balance 가 null)
+     */
+    public Mono<Balance> findMemberPointBalance(long memberId) {
+        /*
+        SELECT M.ID, B.BALANCE, B.NEXT_EXPIRE_AT
+        FROM MEMBER M
+        LEFT JOIN MEMBER_POINT_BALANCE B ON B.MEMBER_ID = M.ID
+        WHERE M.ID = ?
+
+        회원과 잔액을 기본 키로 한 번에 조회하므로, 회원 존재 여부를 따로 확인하지 않습니다.
+         */
+        return databaseClient.sql("SELECT M.ID, B.BALANCE, B.NEXT_EXPIRE_AT FROM MEMBER M LEFT JOIN MEMBER_POINT_BALANCE B ON B.MEMBER_ID = M.ID WHERE M.ID = :memberId")
+                .bind("memberId", memberId)
+                .map(row -> new Balance(row.get("BALANCE", Integer.class), row.get("NEXT_EXPIRE_AT", LocalDateTime.class)))
+                .one();
+    }
+
+    /**
+     * 만료되지 않은 회원 적립금 상세 내역의 합계를 조회합니다.
+     *
+     * @param memberId 회원 아이디
+     * @param now      기준 시점
+     * @return 회원 적립금 합계
+     */
+    public Mono<Integer> sumMemberPointDetail(long memberId, LocalDateTime now) {
+        // (MEMBER_ID, EXPIRE_AT, AMOUNT) 인덱스만 읽고 합계를 계산합니다.
+        return databaseClient.sql("SELECT COALESCE(SUM(AMOUNT), 0) AS TOTAL FROM MEMBER_POINT_DETAIL WHERE MEMBER_ID = :memberId AND EXPIRE_AT > :now")
+                .bind("memberId", memberId)
+                .bind("now", now)
+                .map(row -> row.get("TOTAL", Long.class).intValue())
+                .one();
+    }
+
+    /**
+     * 회원이 존재하는지 확인합니다.
+     *
+     * @param memberId 회원 아이디
+     * @return 존재한다면 true
+     */
+    public Mono<Boolean> existsMember(long memberId) {
+        return databaseClient.sql("SELECT ID FROM MEMBER WHERE ID = :memberId")
+                .bind("memberId", memberId)
+                .map(row -> true)
+                .one()
+                .defaultIfEmpty(false);
+    }
+
+    /**
+     * 회원 적립금 적립/사용 내역을 최신순으로 조회합니다. 사용 취소된 내역은 제외합니다.
+     *
+     * @param memberId 회원 아이디
+     * @param offset   조회 시작 위치
+     * @param limit    조회할 개수
+     * @return 회원 적립금 적립/사용 내역 DTO
+     */
+    public Flux<MemberPointEventResponse> findMemberPointEvents(long memberId, long offset, int limit) {
+        // (MEMBER_ID, STATUS, CREATED_AT DESC, ID DESC) 인덱스를 정렬된 순서대로 읽습니다.
+        return databaseClient.sql("SELECT ID, MEMBER_ID, AMOUNT, TYPE, REASON, CREATED_AT, EXPIRE_AT FROM MEMBER_POINT_EVENT"
+                        + " WHERE MEMBER_ID = :memberId AND STATUS = :status"
+                        + " ORDER BY CREATED_AT DESC, ID DESC"
+                        + " LIMIT :limit OFFSET :offset")
+                .bind("memberId", memberId)
+                .bind("status", MemberPointEvent.MemberPointEventStatus.ACTIVE.name())
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(row -> {
+                    MemberPointEventResponse response = new MemberPointEventResponse();
+                    response.setId(row.get("ID", Long.class));
+                    response.setMemberId(row.get("MEMBER_ID", Long.class));
+                    response.setAmount(row.get("AMOUNT", Integer.class));
+                    response.setType(row.get("TYPE", String.class));
+                    response.setReason(row.get("REASON", String.class));
+                    response.setCreatedAt(row.get("CREATED_AT", LocalDateTime.class));
+                    response.setExpireAt(row.get("EXPIRE_AT", LocalDateTime.class));
+                    return response;
+                })
+                .all();
+    }
+
+    /**
+     * 사용 취소되지 않은 회원 적립금 적립/사용 내역의 개수를 조회합니다.
+     *
+     * @param memberId 회원 아이디
+     * @return 개수
+     */
+    public Mono<Long> countMemberPointEvents(long memberId) {
+        return databaseClient.sql("SELECT COUNT(*) AS TOTAL FROM MEMBER_POINT_EVENT WHERE MEMBER_ID = :memberId AND STATUS = :status")
+                .bind("memberId", memberId)
+                .bind("status", MemberPointEvent.MemberPointEventStatus.ACTIVE.name())
+                .map(row -> row.get("TOTAL", Long.class))
+                .one();
+    }
+
+    /**
+     * 회원 적립금 잔액 (MEMBER_POINT_BALANCE) 의 합계 계산에 필요한 값
+     *
+     * @param balance      잔액 (잔액이 아직 없는 회원이라면 null)
+     * @param nextExpireAt 잔액이 남은 적립금 중 가장 먼저 만료되는 시점
+     */
+    public record Balance(Integer balance, LocalDateTime nextExpireAt) {
+
+        /**
+         * 주어진 시점에 이 잔액을 그대로 사용할 수 있는지 확인합니다. (MemberPointBalance#isAvailableAt)
+         *
+         * @param now 기준 시점
+         * @return 잔액이 있고, 가장 먼저 만료되는 적립금의 만료 시점이 지나지 않았다면 true
+         */
+        public boolean isAvailableAt(LocalDateTime now) {
+            return balance != null && (nextExpireAt == null || nextExpireAt.isAfter(now));
+        }
+    }
+}
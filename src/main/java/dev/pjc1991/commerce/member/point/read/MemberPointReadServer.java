@@ -0,0 +1,81 @@
+package dev.pjc1991.commerce.member.point.read;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.reactive.context.AnnotationConfigReactiveWebServerApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원 적립금 읽기 전용 API 서버 (WebFlux + R2DBC)
+ * 적립금 합계와 적립/사용 내역 조회를 쓰기 API (Spring MVC, server.port) 와 같은 프로세스의 다른 포트 (member.point.read.port) 에서 처리합니다.
+ * 조회는 Netty 이벤트 루프에서 R2DBC 로 실행되므로, 데이터베이스를 기다리는 동안 요청마다 스레드와 JDBC 커넥션을 점유하지 않습니다.
+ *
+ * 쓰기 애플리케이션이 준비된 뒤에 별도의 애플리케이션 컨텍스트 (MemberPointReadConfiguration) 로 실행하고, 쓰기 애플리케이션이 종료될 때 함께 종료합니다.
+ * 설정 (Environment) 과 JSON 변환 (ObjectMapper) 은 쓰기 애플리케이션과 같은 것을 사용하므로, 응답 형식이 쓰기 API 와 같습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "member.point.read.enabled", havingValue = "true")
+public class MemberPointReadServer {
+
+    private final ConfigurableEnvironment environment;
+    private final ObjectMapper objectMapper;
+
+    private AnnotationConfigReactiveWebServerApplicationContext context;
+
+    /**
+     * 생성자
+     *
+     * @param environment  쓰기 애플리케이션의 설정
+     * @param objectMapper 쓰기 애플리케이션의 오브젝트 매퍼
+     */
+    public MemberPointReadServer(ConfigurableEnvironment environment, ObjectMapper objectMapper) {
+        this.environment = environment;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 읽기 전용 API 서버를 실행합니다.
+     * 쓰기 애플리케이션이 준비된 뒤에 실행하므로, 테이블이 모두 생성되어 있습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (context != null) {
+            return;
+        }
+
+        AnnotationConfigReactiveWebServerApplicationContext readContext = new AnnotationConfigReactiveWebServerApplicationContext();
+        readContext.setEnvironment(environment);
+        readContext.getBeanFactory().registerSingleton("objectMapper", objectMapper);
+        readContext.register(MemberPointReadConfiguration.class);
+        readContext.refresh();
+        this.context = readContext;
+
+        log.info("회원 적립금 읽기 전용 API 서버가 실행되었습니다. 포트 : {}", getPort());
+    }
+
+    /**
+     * 읽기 전용 API 서버를 종료합니다.
+     */
+    @PreDestroy
+    public synchronized void stop() {
+        if (context != null) {
+            context.close();
+            context = null;
+        }
+    }
+
+    /**
+     * 읽기 전용 API 서버의 포트
+     *
+     * @return 포트 (실행되지 않았다면 -1)
+     */
+    public synchronized int getPort() {
+        return context == null ? -1 : context.getWebServer().getPort();
+    }
+}
@@ -0,0 +1,64 @@
+package dev.pjc1991.commerce.member.point.read;
+
+import dev.pjc1991.commerce.member.exception.MemberNotFoundException;
+import dev.pjc1991.commerce.member.point.dto.MemberPointEventResponse;
+import dev.pjc1991.commerce.member.point.dto.MemberPointEventSearch;
+import dev.pjc1991.commerce.member.point.dto.MemberPointTotalResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 적립금 읽기 전용 서비스 (R2DBC)
+ * 적립금 합계와 적립/사용 내역을 MemberPointServiceImpl 과 같은 방식으로 계산하지만, 스레드와 커넥션을 기다리는 동안 점유하지 않습니다.
+ *
+ * 적립금 합계 캐시를 거치지 않고 항상 데이터베이스를 조회합니다. 캐시는 쓰기 애플리케이션이 갱신하므로, 잔액 행을 읽는 것과 같은 값을 돌려줍니다.
+ * 지연 만료 (LAZY) 모드에서도 조회하면서 만료 처리하지 않으므로, 아직 만료 처리되지 않은 적립 건의 만료 내역은 보이지 않습니다. (합계에는 포함되지 않습니다.)
+ */
+public class MemberPointReadService {
+
+    private final MemberPointReadRepository memberPointReadRepository;
+
+    public MemberPointReadService(MemberPointReadRepository memberPointReadRepository) {
+        this.memberPointReadRepository = memberPointReadRepository;
+    }
+
+    /**
+     * 회원 적립금 합계 조회
+     * 잔액을 그대로 사용할 수 있다면 잔액을, 잔액이 없거나 만료된 적립금이 포함되어 있을 수 있다면 상세 내역의 합계를 반환합니다.
+     *
+     * @param memberId 회원 아이디
+     * @return 회원 적립금 합계 (MemberPointTotalResponse)
+     */
+    public Mono<MemberPointTotalResponse> getMemberPointTotalResponse(long memberId) {
+        LocalDateTime now = LocalDateTime.now();
+        return memberPointReadRepository.findMemberPointBalance(memberId)
+                .switchIfEmpty(Mono.error(() -> new MemberNotFoundException("회원을 찾을 수 없습니다.")))
+                .flatMap(balance -> balance.isAvailableAt(now)
+                        ? Mono.just(balance.balance())
+                        : memberPointReadRepository.sumMemberPointDetail(memberId, now))
+                .map(total -> new MemberPointTotalResponse(memberId, total));
+    }
+
+    /**
+     * 회원 적립금 적립/사용 내역 조회 (페이징)
+     * 내역과 전체 개수는 각각의 커넥션에서 동시에 조회합니다.
+     *
+     * @param search (MemberPointEventSearch) page : 페이지 번호, size : 페이지 사이즈, memberId : 회원 아이디
+     * @return 회원 적립금 적립/사용 내역 DTO (Page<MemberPointEventResponse>)
+     */
+    public Mono<Page<MemberPointEventResponse>> getMemberPointEventResponses(MemberPointEventSearch search) {
+        long memberId = search.getMemberId();
+        return memberPointReadRepository.existsMember(memberId)
+                .filter(Boolean::booleanValue)
+                .switchIfEmpty(Mono.error(() -> new MemberNotFoundException("회원을 찾을 수 없습니다.")))
+                .flatMap(exists -> Mono.zip(
+                        memberPointReadRepository.findMemberPointEvents(memberId, search.getOffset(), search.getSize()).collectList()
+                        , memberPointReadRepository.countMemberPointEvents(memberId)))
+                .<Page<MemberPointEventResponse>>map(result -> new PageImpl<>(result.getT1(), PageRequest.of(search.getPage(), search.getSize(), Sort.by("createdAt", "id").descending()), result.getT2()));
+    }
+}
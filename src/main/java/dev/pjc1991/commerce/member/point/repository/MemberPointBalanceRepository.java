@@ -0,0 +1,69 @@
+package dev.pjc1991.commerce.member.point.repository;
+
+import dev.pjc1991.commerce.member.point.domain.MemberPointBalance;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface MemberPointBalanceRepository extends JpaRepository<MemberPointBalance, Long> {
+
+    /**
+     * 회원 적립금 잔액을 갱신하기 위해 행 잠금을 걸고 조회합니다.
+     * 같은 회원의 잔액을 동시에 갱신할 때 갱신 내역이 유실되지 않도록 합니다.
+     *
+     * @param memberId 회원 아이디
+     * @return 회원 적립금 잔액
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<MemberPointBalance> findForUpdateByMemberId(long memberId);
+
+    /**
+     * 여러 회원의 적립금 잔액을 행 잠금과 함께 한 번에 조회합니다.
+     * 동시에 실행되는 일괄 처리끼리 교착 상태에 빠지지 않도록 회원 아이디 순서로 잠급니다.
+     *
+     * @param memberIds 회원 아이디 목록
+     * @return 회원 적립금 잔액 (잔액이 없는 회원은 포함되지 않습니다.)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<MemberPointBalance> findForUpdateByMemberIdInOrderByMemberIdAsc(Collection<Long> memberIds);
+
+    /**
+     * 회원 적립금 잔액의 버전이 주어진 버전과 같을 때만 버전을 1 증가시킵니다.
+     * 잠금 없이 조회한 잔액을 변경하기 전에 호출해서, 그 사이에 다른 트랜잭션이 잔액을 변경했는지 확인합니다.
+     * 갱신된 행은 커밋될 때까지 잠기므로, 이후의 변경은 다른 트랜잭션과 겹치지 않습니다.
+     * 영속성 컨텍스트의 잔액은 바뀌지 않으므로, 호출한 뒤에 잔액을 변경해서 버전을 맞춰야 합니다.
+     *
+     * @param memberId 회원 아이디
+     * @param version  조회한 잔액 버전
+     * @return 갱신된 행의 개수 (0 이라면 다른 트랜잭션이 먼저 변경했습니다.)
+     */
+    @Modifying
+    @Query("update MemberPointBalance b set b.version = b.version + 1 where b.memberId = :memberId and b.version = :version")
+    int increaseVersionIfMatches(@Param("memberId") long memberId, @Param("version") long version);
+
+    /**
+     * 가장 먼저 만료되는 시점이 지나 다시 계산해야 하는 잔액의 회원 아이디를 회원 아이디 순서로 조회합니다.
+     * 마지막으로 조회한 회원 아이디 다음부터 조회하므로, 청크 단위로 나눠서 처리할 수 있습니다.
+     * 회원 아이디를 파티션 개수로 나눈 나머지가 파티션 번호인 회원만 조회합니다. (파티션을 나누지 않았다면 개수 1, 번호 0)
+     *
+     * @param cutoff         기준 시점
+     * @param lastMemberId   이전 청크에서 마지막으로 조회한 회원 아이디
+     * @param partitionCount 전체 파티션 개수
+     * @param partitionIndex 파티션 번호
+     * @param pageable       조회할 개수
+     * @return 다시 계산해야 하는 회원 아이디
+     */
+    @Query("select b.memberId from MemberPointBalance b where b.nextExpireAt < :cutoff and b.memberId > :lastMemberId and mod(b.memberId, :partitionCount) = :partitionIndex order by b.memberId asc")
+    List<Long> findMemberIdsByNextExpireAtBefore(@Param("cutoff") LocalDateTime cutoff, @Param("lastMemberId") long lastMemberId, @Param("partitionCount") long partitionCount, @Param("partitionIndex") long partitionIndex, Pageable pageable);
+}
@@ -10,5 +10,4 @@ import java.util.Optional;
 @Repository
 public interface MemberPointDetailRepository extends JpaRepository<MemberPointDetail, Long> {
     List<MemberPointDetail> findByMemberPointDetailGroupId(Long memberPointDetailGroupId);
-    long countByMemberPointEventMemberId(long memberId);
 }
\ No newline at end of file
@@ -4,6 +4,18 @@ import dev.pjc1991.commerce.member.point.domain.MemberPointEvent;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
 public interface MemberPointEventRepository extends JpaRepository<MemberPointEvent, Long> {
-}
\ No newline at end of file
+
+    /**
+     * 회원이 멱등 키로 요청한 적립금 이벤트를 조회합니다.
+     * (MEMBER_ID, IDEMPOTENCY_KEY) 유니크 제약 조건의 인덱스를 사용합니다.
+     *
+     * @param memberId       회원 아이디
+     * @param idempotencyKey 멱등 키
+     * @return 회원 적립금 이벤트
+     */
+    Optional<MemberPointEvent> findByMemberIdAndIdempotencyKey(long memberId, String idempotencyKey);
+}
@@ -1,11 +1,10 @@
 package dev.pjc1991.commerce.member.point.repository;
 
-import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.JPQLQuery;
-import dev.pjc1991.commerce.member.point.domain.MemberPointDetail;
 import dev.pjc1991.commerce.member.point.domain.MemberPointEvent;
-import dev.pjc1991.commerce.member.point.domain.QMemberPointDetail;
 import dev.pjc1991.commerce.member.point.domain.QMemberPointEvent;
+import dev.pjc1991.commerce.member.point.dto.MemberPointEventCursor;
 import dev.pjc1991.commerce.member.point.dto.MemberPointEventSearch;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -33,10 +32,6 @@ public class MemberPointEventRepositoryCustom extends QuerydslRepositorySupport
      */
     public Page<MemberPointEvent> getMemberPointEvents(MemberPointEventSearch search) {
         QMemberPointEvent memberPointEvent = QMemberPointEvent.memberPointEvent;
-        // 서브쿼리에서 사용하는 테이블의 alias를 분리합니다. (그룹 함수를 사용하기 위함)
-        QMemberPointEvent memberPointEvent2 = QMemberPointEvent.memberPointEvent;
-
-        QMemberPointDetail memberPointDetail = QMemberPointDetail.memberPointDetail;
 
         // 회원 적립금 이벤트를 조회합니다.
         JPQLQuery<MemberPointEvent> query = from(memberPointEvent);
@@ -44,13 +39,7 @@ public class MemberPointEventRepositoryCustom extends QuerydslRepositorySupport
         // 회원 아이디로 조회합니다.
         query.where(
                 QMemberPointEvent.memberPointEvent.member.id.eq(search.getMemberId()),
-                QMemberPointEvent.memberPointEvent.id.notIn(
-                        // 이벤트의 타입이 USE 이면서 상세 내역에 타입이 CANCEL 이 포함된 이벤트를 제외합니다.
-                        JPAExpressions.select(memberPointEvent2.id)
-                                .from(memberPointDetail)
-                                .innerJoin(memberPointEvent2).on(memberPointDetail.memberPointEvent.id.eq(memberPointEvent2.id))
-                                .where(memberPointDetail.type.eq(MemberPointDetail.MemberPointDetailType.CANCEL))
-                )
+                notCancelled(memberPointEvent)
         );
 
         // 최신순으로 정렬합니다.
@@ -71,4 +60,77 @@ public class MemberPointEventRepositoryCustom extends QuerydslRepositorySupport
         return new PageImpl<>(list, PageRequest.of(search.getPage(), search.getSize(), Sort.by("createdAt", "id").descending()), totalCount);
     }
 
+    /**
+     * 회원 적립금 적립/사용 내역 조회 (커서)
+     * OFFSET 대신 이전 페이지의 마지막 (생성 시점, ID) 보다 오래된 내역부터 조회하고, 전체 개수를 세지 않습니다.
+     * 다음 페이지가 있는지 확인하기 위해 요청한 크기보다 1건 더 조회합니다.
+     *
+     * @param memberId 회원 아이디
+     * @param cursor   이전 페이지의 마지막 내역 (첫 페이지라면 null)
+     * @param size     페이지 크기
+     * @return 회원 적립금 적립/사용 내역 (최대 size + 1 건)
+     */
+    public List<MemberPointEvent> getMemberPointEventsByCursor(long memberId, MemberPointEventCursor cursor, int size) {
+        QMemberPointEvent memberPointEvent = QMemberPointEvent.memberPointEvent;
+
+        return from(memberPointEvent)
+                .where(
+                        memberPointEvent.member.id.eq(memberId),
+                        notCancelled(memberPointEvent),
+                        olderThan(memberPointEvent, cursor)
+                )
+                .orderBy(
+                        memberPointEvent.createdAt.desc(),
+                        memberPointEvent.id.desc()
+                )
+                .limit(size + 1L)
+                .fetch();
+    }
+
+    /**
+     * 회원 적립금 적립/사용 내역의 전체 개수를 조회합니다.
+     * 커서 조회에서 전체 개수를 요청한 경우에만 사용합니다.
+     *
+     * @param memberId 회원 아이디
+     * @return 전체 개수
+     */
+    public long countMemberPointEvents(long memberId) {
+        QMemberPointEvent memberPointEvent = QMemberPointEvent.memberPointEvent;
+
+        Long count = from(memberPointEvent)
+                .select(memberPointEvent.count())
+                .where(
+                        memberPointEvent.member.id.eq(memberId),
+                        notCancelled(memberPointEvent)
+                )
+                .fetchOne();
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * 사용 취소된 이벤트를 제외하는 조건을 생성합니다.
+     * 이벤트의 상태 컬럼으로 판단하므로, (MEMBER_ID, STATUS, CREATED_AT DESC, ID DESC) 인덱스의 범위 조건이 됩니다.
+     *
+     * @param memberPointEvent 회원 적립금 이벤트 Q 타입
+     * @return 사용 취소되지 않은 이벤트 조건
+     */
+    private BooleanExpression notCancelled(QMemberPointEvent memberPointEvent) {
+        return memberPointEvent.status.eq(MemberPointEvent.MemberPointEventStatus.ACTIVE);
+    }
+
+    /**
+     * 커서보다 오래된 이벤트만 조회하는 조건을 생성합니다.
+     *
+     * @param memberPointEvent 회원 적립금 이벤트 Q 타입
+     * @param cursor           이전 페이지의 마지막 내역
+     * @return 커서 조건 (첫 페이지라면 null)
+     */
+    private BooleanExpression olderThan(QMemberPointEvent memberPointEvent, MemberPointEventCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return memberPointEvent.createdAt.lt(cursor.getCreatedAt())
+                .or(memberPointEvent.createdAt.eq(cursor.getCreatedAt()).and(memberPointEvent.id.lt(cursor.getId())));
+    }
+
 }
@@ -0,0 +1,23 @@
+package dev.pjc1991.commerce.member.point.repository;
+
+import dev.pjc1991.commerce.member.point.domain.MemberPointExpireCheckpoint;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface MemberPointExpireCheckpointRepository extends JpaRepository<MemberPointExpireCheckpoint, String> {
+
+    /**
+     * 만료 처리 체크포인트를 갱신하기 위해 행 잠금을 걸고 조회합니다.
+     * 같은 작업의 청크가 동시에 처리되지 않도록 합니다.
+     *
+     * @param jobName 만료 처리 작업 이름
+     * @return 만료 처리 체크포인트
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<MemberPointExpireCheckpoint> findForUpdateByJobName(String jobName);
+}
@@ -0,0 +1,33 @@
+package dev.pjc1991.commerce.member.point.repository;
+
+import dev.pjc1991.commerce.member.point.domain.MemberPointExpireLease;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface MemberPointExpireLeaseRepository extends JpaRepository<MemberPointExpireLease, Integer> {
+
+    /**
+     * 파티션 임대를 나눠 가지기 위해 모든 파티션 임대에 행 잠금을 걸고 파티션 번호 순서로 조회합니다.
+     * 여러 노드가 동시에 같은 파티션을 가져가지 않도록 임대 분배를 직렬화합니다.
+     *
+     * @return 파티션 임대 목록
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<MemberPointExpireLease> findAllByOrderByPartitionNoAsc();
+
+    /**
+     * 만료 처리 청크를 커밋하기 전에 파티션 임대를 확인하기 위해 행 잠금을 걸고 조회합니다.
+     * 청크가 커밋될 때까지 다른 노드가 이 파티션을 가져가지 못합니다.
+     *
+     * @param partitionNo 파티션 번호
+     * @return 파티션 임대
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<MemberPointExpireLease> findForUpdateByPartitionNo(int partitionNo);
+}
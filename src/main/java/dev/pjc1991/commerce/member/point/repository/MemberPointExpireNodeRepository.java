@@ -0,0 +1,19 @@
+package dev.pjc1991.commerce.member.point.repository;
+
+import dev.pjc1991.commerce.member.point.domain.MemberPointExpireNode;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface MemberPointExpireNodeRepository extends JpaRepository<MemberPointExpireNode, String> {
+
+    /**
+     * 주어진 시점 이후에 하트비트를 기록한 (살아 있는) 노드의 수를 조회합니다.
+     *
+     * @param heartbeatAt 기준 시점
+     * @return 살아 있는 노드의 수
+     */
+    long countByHeartbeatAtAfter(LocalDateTime heartbeatAt);
+}
@@ -0,0 +1,9 @@
+package dev.pjc1991.commerce.member.point.repository;
+
+import dev.pjc1991.commerce.member.point.domain.MemberPointGrant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MemberPointGrantRepository extends JpaRepository<MemberPointGrant, Long> {
+}
@@ -0,0 +1,228 @@
+package dev.pjc1991.commerce.member.point.repository;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPQLQuery;
+import dev.pjc1991.commerce.member.point.domain.MemberPointExpirePartition;
+import dev.pjc1991.commerce.member.point.domain.MemberPointGrant;
+import dev.pjc1991.commerce.member.point.domain.QMemberPointGrant;
+import dev.pjc1991.commerce.member.point.dto.MemberPointDetailSearch;
+import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public class MemberPointGrantRepositoryCustom extends QuerydslRepositorySupport {
+
+    public MemberPointGrantRepositoryCustom() {
+        super(MemberPointGrant.class);
+    }
+
+    /**
+     * 사용할 수 있는 가장 오래된 적립 건부터 조회합니다.
+     * OFFSET 대신 이전 페이지의 마지막 (CREATED_AT, ID) 다음부터 조회하므로, 앞선 적립 건이 아무리 많아도 조회 비용이 일정합니다.
+     *
+     * @param search 회원 적립금 상세 내역 조회 파라메터를 담은 오브젝트입니다. (memberId, size, lastCreatedAt, lastId)
+     * @return 회원 적립금 적립 건 목록
+     */
+    public List<MemberPointGrant> getMemberPointGrantAvailable(MemberPointDetailSearch search) {
+        QMemberPointGrant memberPointGrant = QMemberPointGrant.memberPointGrant;
+
+        JPQLQuery<MemberPointGrant> query = from(memberPointGrant)
+                .where(
+                        memberPointGrant.memberId.eq(search.getMemberId()),
+                        memberPointGrant.status.eq(MemberPointGrant.MemberPointGrantStatus.OPEN),
+                        memberPointGrant.expireAt.after(LocalDateTime.now()),
+                        seekAfter(memberPointGrant, search)
+                )
+                .orderBy(memberPointGrant.createdAt.asc(), memberPointGrant.id.asc())
+                .limit(search.getSize());
+
+        // 실행되는 SQL 은 다음과 같습니다.
+        /*
+        SELECT
+            *
+        FROM
+            MEMBER_POINT_GRANT
+        WHERE
+            MEMBER_ID = ?
+        AND
+            STATUS = 'OPEN'
+        AND
+            EXPIRE_AT > ?
+        AND
+            (CREATED_AT > :lastCreatedAt OR (CREATED_AT = :lastCreatedAt AND ID > :lastId)) -- 두 번째 페이지부터
+        ORDER BY
+            CREATED_AT ASC, ID ASC
+        LIMIT ?
+
+        (MEMBER_ID, STATUS, CREATED_AT, ID) 인덱스를 순서대로 읽으므로, 그룹별 합산 없이 필요한 행만 조회합니다.
+        키셋 조건도 같은 인덱스의 범위 조건이 되므로, 건너뛸 행을 읽지 않습니다.
+         */
+
+        return query.fetch();
+    }
+
+    /**
+     * 만료 시점이 지난 사용 가능한 적립 건을 만료 시점 순서로 한 청크만큼 조회합니다.
+     * 이전 청크의 마지막 (EXPIRE_AT, ID) 다음부터 조회합니다.
+     * 파티션을 나눴다면 회원 아이디를 파티션 개수로 나눈 나머지가 파티션 번호인 회원의 적립 건만 조회합니다.
+     *
+     * @param partition    회원 적립금 만료 처리 파티션
+     * @param cutoff       만료 처리 기준 시점
+     * @param lastExpireAt 이전 청크에서 마지막으로 처리한 적립 건의 만료 시점 (첫 청크라면 null)
+     * @param lastId       이전 청크에서 마지막으로 처리한 적립 건의 ID (첫 청크라면 null)
+     * @param size         청크 크기
+     * @return 만료 처리할 회원 적립금 적립 건 목록
+     */
+    public List<MemberPointGrant> getMemberPointGrantExpired(MemberPointExpirePartition partition, LocalDateTime cutoff, LocalDateTime lastExpireAt, Long lastId, int size) {
+        QMemberPointGrant memberPointGrant = QMemberPointGrant.memberPointGrant;
+
+        JPQLQuery<MemberPointGrant> query = from(memberPointGrant)
+                .where(
+                        memberPointGrant.status.eq(MemberPointGrant.MemberPointGrantStatus.OPEN),
+                        memberPointGrant.expireAt.before(cutoff),
+                        seekAfterExpireAt(memberPointGrant, lastExpireAt, lastId),
+                        inPartition(memberPointGrant, partition)
+                )
+                .orderBy(memberPointGrant.expireAt.asc(), memberPointGrant.id.asc())
+                .limit(size);
+
+        // 실행되는 SQL 은 다음과 같습니다.
+        /*
+        SELECT
+            *
+        FROM
+            MEMBER_POINT_GRANT
+        WHERE
+            STATUS = 'OPEN'
+        AND
+            EXPIRE_AT < ?
+        AND
+            (EXPIRE_AT > :lastExpireAt OR (EXPIRE_AT = :lastExpireAt AND ID > :lastId)) -- 두 번째 청크부터
+        AND
+            MOD(MEMBER_ID, :partitionCount) = :partitionIndex -- 파티션을 나눴을 때
+        ORDER BY
+            EXPIRE_AT ASC, ID ASC
+        LIMIT ?
+
+        (STATUS, EXPIRE_AT, ID) 인덱스의 OPEN 범위만 순서대로 읽습니다.
+        이미 모두 사용되었거나 만료된 적립 건 (CLOSED) 과 상세 내역 원장은 읽지 않습니다.
+        파티션 조건은 인덱스 범위를 좁히지 않으므로, 각 노드는 OPEN 범위를 읽으면서 다른 파티션의 행을 건너뜁니다.
+         */
+
+        return query.fetch();
+    }
+
+    /**
+     * 만료 시점이 지났지만 아직 만료 처리되지 않은 적립 건의 개수를 조회합니다.
+     * 연속 만료 (CONTINUOUS) 모드의 밀린 만료 건수 (backlog) 지표로 사용합니다.
+     *
+     * @param cutoff 기준 시점
+     * @return 만료 처리할 회원 적립금 적립 건의 개수
+     */
+    public long countMemberPointGrantExpired(LocalDateTime cutoff) {
+        QMemberPointGrant memberPointGrant = QMemberPointGrant.memberPointGrant;
+
+        // (STATUS, EXPIRE_AT, ID) 인덱스의 OPEN 범위만 읽습니다.
+        Long count = from(memberPointGrant)
+                .select(memberPointGrant.count())
+                .where(
+                        memberPointGrant.status.eq(MemberPointGrant.MemberPointGrantStatus.OPEN),
+                        memberPointGrant.expireAt.before(cutoff)
+                )
+                .fetchOne();
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * 회원의 사용 가능한 적립 건 중 가장 먼저 만료되는 시점을 조회합니다.
+     * 회원 적립금 합계 캐시의 유효 시간을 정할 때 사용합니다.
+     *
+     * @param memberId 회원 아이디
+     * @param now      기준 시점
+     * @return 기준 시점 이후에 가장 먼저 만료되는 시점 (사용 가능한 적립 건이 없다면 null)
+     */
+    public LocalDateTime getMemberPointGrantNextExpireAt(long memberId, LocalDateTime now) {
+        QMemberPointGrant memberPointGrant = QMemberPointGrant.memberPointGrant;
+
+        // (MEMBER_ID, STATUS, CREATED_AT, ID) 인덱스의 회원별 OPEN 범위만 읽습니다.
+        return from(memberPointGrant)
+                .select(memberPointGrant.expireAt.min())
+                .where(
+                        memberPointGrant.memberId.eq(memberId),
+                        memberPointGrant.status.eq(MemberPointGrant.MemberPointGrantStatus.OPEN),
+                        memberPointGrant.expireAt.after(now)
+                )
+                .fetchOne();
+    }
+
+    /**
+     * 주어진 회원들의 만료 시점이 지난 사용 가능한 적립 건을 만료 시점 순서로 조회합니다.
+     * 지연 만료 (LAZY) 모드에서 회원이 접근할 때 그 회원의 적립 건만 만료 처리하기 위해 사용합니다.
+     *
+     * @param memberIds 회원 아이디 목록
+     * @param now       기준 시점
+     * @return 만료 처리할 회원 적립금 적립 건 목록
+     */
+    public List<MemberPointGrant> getMemberPointGrantExpired(Collection<Long> memberIds, LocalDateTime now) {
+        QMemberPointGrant memberPointGrant = QMemberPointGrant.memberPointGrant;
+
+        // (MEMBER_ID, STATUS, CREATED_AT, ID) 인덱스의 회원별 OPEN 범위만 읽습니다.
+        return from(memberPointGrant)
+                .where(
+                        memberPointGrant.memberId.in(memberIds),
+                        memberPointGrant.status.eq(MemberPointGrant.MemberPointGrantStatus.OPEN),
+                        memberPointGrant.expireAt.before(now)
+                )
+                .orderBy(memberPointGrant.expireAt.asc(), memberPointGrant.id.asc())
+                .fetch();
+    }
+
+    /**
+     * 키셋 페이징 조건을 생성합니다.
+     *
+     * @param memberPointGrant 회원 적립금 적립 건 Q 타입
+     * @param search           키셋 커서를 담은 검색 조건
+     * @return 이전 페이지의 마지막 행 다음부터 조회하는 조건 (첫 페이지라면 null)
+     */
+    private BooleanExpression seekAfter(QMemberPointGrant memberPointGrant, MemberPointDetailSearch search) {
+        if (search.getLastCreatedAt() == null || search.getLastId() == null) {
+            return null;
+        }
+        return memberPointGrant.createdAt.gt(search.getLastCreatedAt())
+                .or(memberPointGrant.createdAt.eq(search.getLastCreatedAt()).and(memberPointGrant.id.gt(search.getLastId())));
+    }
+
+    /**
+     * 만료 처리 청크의 키셋 조건을 생성합니다.
+     *
+     * @param memberPointGrant 회원 적립금 적립 건 Q 타입
+     * @param lastExpireAt     이전 청크의 마지막 만료 시점
+     * @param lastId           이전 청크의 마지막 적립 건 ID
+     * @return 이전 청크의 마지막 행 다음부터 조회하는 조건 (첫 청크라면 null)
+     */
+    private BooleanExpression seekAfterExpireAt(QMemberPointGrant memberPointGrant, LocalDateTime lastExpireAt, Long lastId) {
+        if (lastExpireAt == null || lastId == null) {
+            return null;
+        }
+        return memberPointGrant.expireAt.gt(lastExpireAt)
+                .or(memberPointGrant.expireAt.eq(lastExpireAt).and(memberPointGrant.id.gt(lastId)));
+    }
+
+    /**
+     * 만료 처리 파티션 조건을 생성합니다.
+     *
+     * @param memberPointGrant 회원 적립금 적립 건 Q 타입
+     * @param partition        회원 적립금 만료 처리 파티션
+     * @return 파티션에 속한 회원의 적립 건만 조회하는 조건 (파티션을 나누지 않았다면 null)
+     */
+    private BooleanExpression inPartition(QMemberPointGrant memberPointGrant, MemberPointExpirePartition partition) {
+        if (partition.isAll()) {
+            return null;
+        }
+        return memberPointGrant.memberId.mod((long) partition.getCount()).eq((long) partition.getIndex());
+    }
+}
@@ -0,0 +1,49 @@
+package dev.pjc1991.commerce.member.point.service;
+
+import dev.pjc1991.commerce.member.point.dto.MemberPointCreateRequest;
+import dev.pjc1991.commerce.member.point.dto.MemberPointEventResponse;
+import dev.pjc1991.commerce.member.point.dto.MemberPointUseRequest;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 회원 적립금 명령 서비스 인터페이스
+ * 회원의 원장을 변경하는 요청 (적립, 사용, 사용 취소) 의 입구입니다.
+ * member.point.command.enabled 가 true 라면 회원별 작업 스레드 (MemberPointCommandQueue) 에서 순서대로 실행합니다.
+ */
+public interface MemberPointCommandService {
+
+    /**
+     * 회원 적립금 적립
+     *
+     * @param memberPointCreate (MemberPointCreateRequest) memberId : 회원 아이디, amount : 적립금
+     * @return 회원 적립금 적립 DTO (MemberPointEventResponse)
+     */
+    MemberPointEventResponse earnMemberPoint(MemberPointCreateRequest memberPointCreate);
+
+    /**
+     * 회원 적립금 사용
+     *
+     * @param memberPointUse (MemberPointUseRequest) memberId : 회원 아이디, amount : 적립금
+     * @return 회원 적립금 사용 DTO (MemberPointEventResponse)
+     */
+    MemberPointEventResponse useMemberPoint(MemberPointUseRequest memberPointUse);
+
+    /**
+     * 회원 적립금 사용 (비동기)
+     * 잠금이나 작업 스레드를 기다리는 동안 호출한 스레드 (요청 스레드) 를 점유하지 않습니다.
+     *
+     * @param memberPointUse (MemberPointUseRequest) memberId : 회원 아이디, amount : 적립금
+     * @return 회원 적립금 사용 DTO (MemberPointEventResponse) 가 담길 CompletableFuture
+     */
+    CompletableFuture<MemberPointEventResponse> useMemberPointAsync(MemberPointUseRequest memberPointUse);
+
+    /**
+     * 회원 적립금 사용 취소
+     *
+     * @param memberId           회원 아이디
+     * @param memberPointEventId 회원 적립금 사용 이벤트 아이디
+     * @return 회원 적립금 사용 이벤트 DTO (MemberPointEventResponse)
+     */
+    MemberPointEventResponse rollbackMemberPointUse(long memberId, long memberPointEventId);
+}
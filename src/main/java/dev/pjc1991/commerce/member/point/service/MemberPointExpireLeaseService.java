@@ -0,0 +1,42 @@
+package dev.pjc1991.commerce.member.point.service;
+
+import dev.pjc1991.commerce.member.point.domain.MemberPointExpirePartition;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * 회원 적립금 만료 처리 파티션 임대 서비스 인터페이스
+ * 여러 노드가 만료 처리를 회원 아이디 기준 파티션으로 나눠서 처리할 수 있도록 파티션 임대를 분배합니다.
+ */
+public interface MemberPointExpireLeaseService {
+
+    /**
+     * 하트비트
+     * 노드의 하트비트를 기록하고, 살아 있는 노드의 수에 맞춰 파티션 임대를 연장하거나 가져가거나 반납합니다.
+     * 한 노드가 가질 파티션의 수는 (파티션 개수 / 살아 있는 노드의 수) 를 올림한 값입니다.
+     *
+     * @param nodeId         노드 아이디
+     * @param partitionCount 전체 파티션 개수
+     * @param leaseDuration  임대 기간 (이 기간 안에 하트비트를 기록하지 않은 노드는 죽은 것으로 봅니다.)
+     * @return 이 노드가 임대한 파티션 번호
+     */
+    Set<Integer> heartbeatMemberPointExpireLease(String nodeId, int partitionCount, Duration leaseDuration);
+
+    /**
+     * 파티션 임대 확인
+     * 만료 처리 청크와 같은 트랜잭션에서 파티션 임대에 행 잠금을 걸고, 아직 임대를 가지고 있는지 확인합니다.
+     * 청크가 커밋될 때까지 다른 노드가 파티션을 가져가지 못하므로, 두 노드가 같은 파티션을 동시에 만료 처리하지 않습니다.
+     *
+     * @param partition 회원 적립금 만료 처리 파티션 (임대를 가진 노드가 없다면 확인하지 않습니다.)
+     */
+    void checkMemberPointExpireLease(MemberPointExpirePartition partition);
+
+    /**
+     * 파티션 임대 반납
+     * 노드가 종료될 때 가지고 있던 파티션 임대를 반납해서, 임대 기간을 기다리지 않고 다른 노드가 넘겨받도록 합니다.
+     *
+     * @param nodeId 노드 아이디
+     */
+    void releaseMemberPointExpireLease(String nodeId);
+}
@@ -0,0 +1,44 @@
+package dev.pjc1991.commerce.member.point.service;
+
+import dev.pjc1991.commerce.member.point.dto.MemberPointEventResponse;
+import dev.pjc1991.commerce.member.point.dto.MemberPointHoldResponse;
+import dev.pjc1991.commerce.member.point.dto.MemberPointReserveRequest;
+
+/**
+ * 회원 적립금 예약 서비스 인터페이스
+ * 결제 중에는 적립금을 예약 (reserve) 만 해 두고, 결제가 성공하면 확정 (capture), 실패하면 해제 (release) 합니다.
+ * 예약과 해제는 원장에 기록하지 않으므로, 결제에 실패해도 사용/사용 취소 내역이 남지 않습니다.
+ */
+public interface MemberPointHoldService {
+
+    /**
+     * 회원 적립금 예약
+     * 사용 가능한 적립금 (합계 - 다른 예약 금액) 이 충분하다면 유효 시간 동안 예약합니다.
+     * 예약된 적립금은 확정하거나 해제할 때까지 다른 예약이나 사용에 쓸 수 없습니다.
+     *
+     * @param memberPointReserve (MemberPointReserveRequest) memberId : 회원 아이디, amount : 예약 금액, ttlSeconds : 유효 시간 (초)
+     * @return 회원 적립금 예약 DTO (MemberPointHoldResponse)
+     */
+    MemberPointHoldResponse reserveMemberPoint(MemberPointReserveRequest memberPointReserve);
+
+    /**
+     * 회원 적립금 예약 확정
+     * 예약한 금액만큼 먼저 적립된 순서로 적립금을 사용합니다. 한 예약은 한 번만 사용되고,
+     * 이미 확정된 예약의 확정을 다시 요청하면 같은 사용 내역을 반환합니다.
+     *
+     * @param memberId 회원 아이디
+     * @param holdId   예약 아이디
+     * @return 회원 적립금 사용 DTO (MemberPointEventResponse)
+     */
+    MemberPointEventResponse captureMemberPoint(long memberId, String holdId);
+
+    /**
+     * 회원 적립금 예약 해제
+     * 예약한 금액을 다시 사용할 수 있도록 합니다. 원장은 변경하지 않습니다.
+     *
+     * @param memberId 회원 아이디
+     * @param holdId   예약 아이디
+     * @return 회원 적립금 예약 DTO (MemberPointHoldResponse)
+     */
+    MemberPointHoldResponse releaseMemberPoint(long memberId, String holdId);
+}
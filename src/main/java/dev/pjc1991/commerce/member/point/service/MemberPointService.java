@@ -1,10 +1,17 @@
 package dev.pjc1991.commerce.member.point.service;
 
 import dev.pjc1991.commerce.member.point.domain.MemberPointEvent;
+import dev.pjc1991.commerce.member.point.domain.MemberPointExpireCheckpoint;
+import dev.pjc1991.commerce.member.point.domain.MemberPointExpirePartition;
 import dev.pjc1991.commerce.member.point.dto.*;
 import org.springframework.data.domain.Page;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 
 public interface MemberPointService {
@@ -17,6 +24,26 @@ public interface MemberPointService {
      */
     int getMemberPointTotal(long memberId);
 
+    /**
+     * 회원 적립금 합계 조회 (예약)
+     * 캐시를 거치지 않고 잔액을 행 잠금과 함께 조회합니다. 트랜잭션이 끝날 때까지 같은 회원의 사용과 겹치지 않습니다.
+     * 잠금 없이 조회하는 사용 (OPTIMISTIC) 도 다시 시도하도록 잔액 버전을 올립니다.
+     * 이미 시작된 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @param memberId 회원 아이디
+     * @return 회원 적립금 합계 (int)
+     */
+    int getMemberPointTotalForUpdate(long memberId);
+
+    /**
+     * 회원 적립금 합계 조회 (캐시)
+     * 합계와 함께 합계를 계산한 잔액의 버전을 반환합니다.
+     *
+     * @param memberId 회원 아이디
+     * @return 회원 적립금 합계와 잔액 버전 (MemberPointTotalSnapshot)
+     */
+    MemberPointTotalSnapshot getMemberPointTotalSnapshot(long memberId);
+
     /**
      * 회원 적립금 합계 조회 (Response)
      *
@@ -27,6 +54,7 @@ public interface MemberPointService {
 
     /**
      * 회원 적립금 적립/사용 내역 조회
+     * 읽기 전용으로 조회하며, 지연 만료 (LAZY) 모드의 만료 처리는 내역 조회 (Response) 에서 합니다.
      *
      * @param search (MemberPointEventSearch) page : 페이지 번호, size : 페이지 사이즈, memberId : 회원 아이디
      * @return 회원 적립금 적립/사용 내역 (Page<MemberPointEvent>)
@@ -49,6 +77,16 @@ public interface MemberPointService {
      */
     MemberPointEventResponse getMemberPointEventResponse(long memberPointEventId);
 
+    /**
+     * 회원 적립금 적립/사용 단건 내역 조회 (멱등 키)
+     * 같은 멱등 키로 이미 기록된 적립/사용 내역을 조회합니다.
+     *
+     * @param memberId       회원 아이디
+     * @param idempotencyKey 멱등 키
+     * @return 회원 적립금 적립/사용 내역 DTO (기록된 내역이 없다면 빈 Optional)
+     */
+    Optional<MemberPointEventResponse> getMemberPointEventResponseByIdempotencyKey(long memberId, String idempotencyKey);
+
 
     /**
      * 회원 적립금 적립/사용 내역 조회 (Response)
@@ -58,6 +96,23 @@ public interface MemberPointService {
      */
     Page<MemberPointEventResponse> getMemberPointEventResponses(MemberPointEventSearch search);
 
+    /**
+     * 회원 적립금 적립/사용 내역 조회 (커서)
+     *
+     * @param search (MemberPointEventCursorSearch) memberId : 회원 아이디, cursor : 이전 응답의 커서, size : 페이지 사이즈, withTotal : 전체 개수 포함 여부
+     * @return 회원 적립금 적립/사용 내역 DTO (MemberPointEventCursorResponse)
+     */
+    MemberPointEventCursorResponse getMemberPointEventCursorResponses(MemberPointEventCursorSearch search);
+
+    /**
+     * 회원 적립금 적립/사용 내역 조회 (커서, 트랜잭션)
+     * 지연 만료 처리 없이 읽기 전용 트랜잭션으로 조회합니다.
+     *
+     * @param search (MemberPointEventCursorSearch) memberId : 회원 아이디, cursor : 이전 응답의 커서, size : 페이지 사이즈, withTotal : 전체 개수 포함 여부
+     * @return 회원 적립금 적립/사용 내역 DTO (MemberPointEventCursorResponse)
+     */
+    MemberPointEventCursorResponse getMemberPointEventCursorResponsesInTransaction(MemberPointEventCursorSearch search);
+
     /**
      * 회원 적립금 적립
      *
@@ -74,6 +129,16 @@ public interface MemberPointService {
      */
     MemberPointEventResponse earnMemberPointResponse(MemberPointCreateRequest memberPointCreate);
 
+    /**
+     * 회원 적립금 일괄 적립
+     * 캠페인 지급처럼 여러 회원에게 한 번에 적립금을 적립합니다.
+     * 잘못된 요청은 건별로 실패 처리하고, 나머지 요청은 적립합니다.
+     *
+     * @param request (MemberPointEarnBatchRequest) items : 적립 요청 목록 (memberId, amount, reason)
+     * @return 요청 순서대로 정렬된 건별 적립 결과 (MemberPointEarnBatchResponse)
+     */
+    MemberPointEarnBatchResponse earnMemberPointBatch(MemberPointEarnBatchRequest request);
+
     /**
      * 회원 적립금 사용
      *
@@ -82,6 +147,16 @@ public interface MemberPointService {
      */
     MemberPointEvent useMemberPoint(MemberPointUseRequest memberPointUse);
 
+    /**
+     * 회원 적립금 사용 (트랜잭션)
+     * 동시성 제어 (MemberPointUseLock) 안에서 한 트랜잭션으로 적립금을 사용합니다.
+     * 낙관적 잠금이라면 충돌할 때마다 새 트랜잭션으로 다시 호출됩니다.
+     *
+     * @param memberPointUse (MemberPointUseRequest) memberId : 회원 아이디, amount : 적립금
+     * @return 회원 적립금 사용 (MemberPointEvent)
+     */
+    MemberPointEvent useMemberPointInTransaction(MemberPointUseRequest memberPointUse);
+
     /**
      * 회원 적립금 사용 (Response)
      *
@@ -90,6 +165,15 @@ public interface MemberPointService {
      */
     MemberPointEventResponse useMemberPointResponse(MemberPointUseRequest memberPointUse);
 
+    /**
+     * 회원 적립금 사용 (비동기)
+     * 잠금을 기다리는 동안 호출한 스레드를 점유하지 않고, 잠금을 얻으면 회원 적립금 사용 작업 스레드 (MemberPointUseExecutor) 에서 사용합니다.
+     *
+     * @param memberPointUse (MemberPointUseRequest) memberId : 회원 아이디, amount : 적립금
+     * @return 회원 적립금 사용 (MemberPointEventResponse) 이 담길 CompletableFuture
+     */
+    CompletableFuture<MemberPointEventResponse> useMemberPointAsync(MemberPointUseRequest memberPointUse);
+
     /**
      * 회원 적립금 사용을 롤백합니다. (Response)
      * 회원 적립금 사용 이벤트를 취소하고, 적립금을 다시 사용 가능한 상태로 돌립니다.
@@ -115,12 +199,128 @@ public interface MemberPointService {
      */
     void clearMemberPointTotalCache(long memberId);
 
+    /**
+     * 회원 적립금 잔액 재계산
+     * 회원 적립금 상세 내역 (원장) 으로부터 회원 적립금 잔액 (MEMBER_POINT_BALANCE) 을 다시 계산합니다.
+     * 잔액이 원장과 어긋났거나, 만료된 적립금을 잔액에서 제외해야 할 때 사용합니다.
+     *
+     * @param memberId 회원 아이디
+     * @return 다시 계산된 회원 적립금 잔액
+     */
+    int rebuildMemberPointBalance(long memberId);
+
+    /**
+     * 회원 적립금 잔액 생성
+     * 잔액이 아직 없는 회원들의 잔액을 커밋된 원장으로부터 계산해서 생성합니다.
+     * 잠금과 함께 조회할 행이 없는 회원의 첫 적립/사용이 동시에 들어와도 한 요청만 생성하도록, 호출한 쪽의 트랜잭션과 관계없이 새 트랜잭션으로 커밋합니다.
+     * 다른 요청이 먼저 생성했다면 기본 키 충돌 (DataIntegrityViolationException) 이 발생하고, 이 트랜잭션만 롤백됩니다.
+     *
+     * @param memberIds 잔액이 없는 회원 아이디 목록
+     */
+    void createMemberPointBalances(Collection<Long> memberIds);
+
     /**
      * 회원 적립금 만료 처리
-     * 만료 시간이 지난 회원 적립금을 만료 처리합니다.
+     * 만료 시간이 지난 회원 적립금을 청크 단위로 나눠서 만료 처리합니다.
+     * 중단된 만료 처리가 있다면 체크포인트부터 이어서 처리합니다.
      * 스케쥴링을 통해 매일 자정에 실행됩니다.
+     *
+     * @return 회원 적립금 만료 처리 결과 (처리량, 청크 소요 시간)
+     */
+    MemberPointExpireReport expireMemberPoint();
+
+    /**
+     * 회원 적립금 만료 처리 (파티션)
+     * 파티션에 속한 회원의 적립금만 만료 처리합니다. 체크포인트는 파티션마다 따로 관리합니다.
+     * 파티션 임대를 가진 노드가 있다면 청크마다 임대를 확인하고, 임대를 잃으면 MemberPointExpireLeaseLostException 을 던지고 중단합니다.
+     *
+     * @param partition 회원 적립금 만료 처리 파티션
+     * @return 회원 적립금 만료 처리 결과 (처리량, 청크 소요 시간)
+     */
+    MemberPointExpireReport expireMemberPoint(MemberPointExpirePartition partition);
+
+    /**
+     * 회원 적립금 만료 처리 완료 여부 조회 (파티션)
+     * 파티션의 만료 처리가 주어진 날짜를 기준 시점으로 완료되었는지 확인합니다.
+     *
+     * @param partition 회원 적립금 만료 처리 파티션
+     * @param runDate   만료 처리 날짜
+     * @return 완료되었다면 true
+     */
+    boolean isMemberPointExpireCompleted(MemberPointExpirePartition partition, LocalDate runDate);
+
+    /**
+     * 회원 적립금 만료 처리 시작
+     * 중단된 만료 처리가 있다면 그 체크포인트를 반환하고, 없다면 주어진 기준 시점으로 새로 시작합니다.
+     *
+     * @param partition 회원 적립금 만료 처리 파티션
+     * @param cutoff    만료 처리 기준 시점
+     * @return 진행 중인 만료 처리 체크포인트
+     */
+    MemberPointExpireCheckpoint startMemberPointExpire(MemberPointExpirePartition partition, LocalDateTime cutoff);
+
+    /**
+     * 회원 적립금 만료 처리 (청크)
+     * 체크포인트 다음부터 만료된 적립금을 한 청크만큼 만료 처리하고, 같은 트랜잭션에서 체크포인트를 옮깁니다.
+     *
+     * @param partition 회원 적립금 만료 처리 파티션
+     * @param size      청크 크기
+     * @return 만료 처리한 회원 적립금 상세 그룹의 개수 (0 이면 더 이상 만료 처리할 적립금이 없습니다.)
+     */
+    int expireMemberPointChunk(MemberPointExpirePartition partition, int size);
+
+    /**
+     * 회원 적립금 잔액 재계산 (청크)
+     * 가장 먼저 만료되는 시점이 기준 시점보다 이른 잔액을 한 청크만큼 다시 계산합니다.
+     *
+     * @param partition    회원 적립금 만료 처리 파티션
+     * @param cutoff       만료 처리 기준 시점
+     * @param lastMemberId 이전 청크에서 마지막으로 다시 계산한 회원 아이디
+     * @param size         청크 크기
+     * @return 다시 계산한 회원 아이디 (회원 아이디 순)
+     */
+    List<Long> rebuildMemberPointBalancesExpired(MemberPointExpirePartition partition, LocalDateTime cutoff, long lastMemberId, int size);
+
+    /**
+     * 회원 적립금 만료 처리 (회원)
+     * 해당 회원의 만료 시점이 지난 적립 건을 바로 만료 처리합니다.
+     * 지연 만료 (LAZY) 모드에서 회원이 적립, 사용, 내역 조회를 할 때와 같은 처리입니다.
+     * 호출한 쪽의 트랜잭션과 관계없이 새 트랜잭션으로 커밋합니다.
+     *
+     * @param memberId 회원 아이디
+     * @return 만료 처리한 적립 건의 개수
+     */
+    int expireMemberPointOf(long memberId);
+
+    /**
+     * 회원 적립금 만료 처리 (스위퍼)
+     * 기준 시점보다 먼저 만료된 적립 건을 한 청크만큼 만료 처리합니다.
+     * 지연 만료 (LAZY) 모드에서 한동안 접근하지 않은 회원의 적립 건과, 연속 만료 (CONTINUOUS) 모드의 밀린 적립 건을 처리하기 위해 사용합니다.
+     * 여러 노드가 같은 적립 건을 두고 경쟁하지 않도록, 파티션을 나눴다면 임대한 파티션의 적립 건만 처리합니다.
+     *
+     * @param partition 회원 적립금 만료 처리 파티션 (파티션을 나누지 않았다면 MemberPointExpirePartition.ALL)
+     * @param cutoff    기준 시점
+     * @param size      청크 크기
+     * @return 만료 처리한 적립 건의 개수
+     */
+    int sweepMemberPointExpired(MemberPointExpirePartition partition, LocalDateTime cutoff, int size);
+
+    /**
+     * 회원 적립금 만료 대기 건수 조회
+     * 만료 시점이 기준 시점보다 이르지만 아직 만료 처리되지 않은 적립 건의 개수를 조회합니다.
+     *
+     * @param cutoff 기준 시점
+     * @return 만료 처리할 적립 건의 개수
+     */
+    long countMemberPointExpireBacklog(LocalDateTime cutoff);
+
+    /**
+     * 회원 적립금 만료 처리 완료
+     * 체크포인트를 완료 상태로 변경합니다. 다음 실행은 새 기준 시점으로 시작합니다.
+     *
+     * @param partition 회원 적립금 만료 처리 파티션
      */
-    void expireMemberPoint();
+    void completeMemberPointExpire(MemberPointExpirePartition partition);
 
     /**
      * 회원 적립금 만료 시간 변경 (테스트 전용)
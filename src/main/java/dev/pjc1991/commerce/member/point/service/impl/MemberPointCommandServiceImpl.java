@@ -0,0 +1,181 @@
+package dev.pjc1991.commerce.member.point.service.impl;
+
+import dev.pjc1991.commerce.member.point.component.MemberPointCommandQueue;
+import dev.pjc1991.commerce.member.point.component.MemberPointIdempotencyStore;
+import dev.pjc1991.commerce.member.point.domain.MemberPointEvent;
+import dev.pjc1991.commerce.member.point.dto.MemberPointCreateRequest;
+import dev.pjc1991.commerce.member.point.dto.MemberPointEventResponse;
+import dev.pjc1991.commerce.member.point.dto.MemberPointUseRequest;
+import dev.pjc1991.commerce.member.point.exception.MemberPointIdempotencyKeyReusedException;
+import dev.pjc1991.commerce.member.point.service.MemberPointCommandService;
+import dev.pjc1991.commerce.member.point.service.MemberPointService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * 회원 적립금 명령 서비스 구현체
+ * 명령 큐를 사용하지 않는다면 회원 적립금 서비스를 바로 호출합니다.
+ * 명령 큐를 사용한다면 작업 스레드가 시작한 트랜잭션 안에서 호출합니다. 한 회원의 명령은 작업 스레드에서 한 번에 하나씩 실행되므로,
+ * 적립금 사용은 동시성 제어 (MemberPointUseLock) 를 거치지 않고 잔액 행 잠금만 사용합니다.
+ *
+ * 멱등 키로 요청된 적립/사용은 커밋된 뒤에 응답을 저장해 두고 (MemberPointIdempotencyStore), 같은 키로 다시 요청하면 저장된 응답을 반환합니다.
+ */
+@Service
+public class MemberPointCommandServiceImpl implements MemberPointCommandService {
+
+    /**
+     * 멱등 키로 저장된 응답을 반환한 횟수 지표 이름
+     */
+    public static final String REPLAY_METRIC = "member.point.idempotency.replay";
+
+    private final MemberPointService memberPointService;
+    private final MemberPointIdempotencyStore memberPointIdempotencyStore;
+    private final Counter replays;
+
+    // 회원 적립금 명령 큐 (member.point.command.enabled 가 false 라면 null)
+    private final MemberPointCommandQueue memberPointCommandQueue;
+
+    /**
+     * 생성자
+     *
+     * @param memberPointService          회원 적립금 서비스
+     * @param memberPointIdempotencyStore 회원 적립금 멱등 키 저장소
+     * @param memberPointCommandQueue     회원 적립금 명령 큐 (사용하지 않는다면 등록되지 않습니다.)
+     * @param meterRegistry               지표 레지스트리
+     */
+    public MemberPointCommandServiceImpl(
+            MemberPointService memberPointService
+            , MemberPointIdempotencyStore memberPointIdempotencyStore
+            , ObjectProvider<MemberPointCommandQueue> memberPointCommandQueue
+            , MeterRegistry meterRegistry
+    ) {
+        this.memberPointService = memberPointService;
+        this.memberPointIdempotencyStore = memberPointIdempotencyStore;
+        this.memberPointCommandQueue = memberPointCommandQueue.getIfAvailable();
+        this.replays = Counter.builder(REPLAY_METRIC)
+                .description("멱등 키로 저장된 회원 적립금 응답을 반환한 횟수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public MemberPointEventResponse earnMemberPoint(MemberPointCreateRequest memberPointCreate) {
+        return executeIdempotently(memberPointCreate.getMemberId(), memberPointCreate.getIdempotencyKey()
+                , MemberPointEvent.MemberPointEventType.EARN, memberPointCreate.getAmount(), () -> {
+                    if (memberPointCommandQueue == null) {
+                        return memberPointService.earnMemberPointResponse(memberPointCreate);
+                    }
+                    return memberPointCommandQueue.execute(memberPointCreate.getMemberId(), () -> memberPointService.earnMemberPointResponse(memberPointCreate));
+                });
+    }
+
+    @Override
+    public MemberPointEventResponse useMemberPoint(MemberPointUseRequest memberPointUse) {
+        return executeIdempotently(memberPointUse.getMemberId(), memberPointUse.getIdempotencyKey()
+                , MemberPointEvent.MemberPointEventType.USE, -memberPointUse.getAmount(), () -> {
+                    if (memberPointCommandQueue == null) {
+                        return memberPointService.useMemberPointResponse(memberPointUse);
+                    }
+                    return memberPointCommandQueue.execute(memberPointUse.getMemberId(), () -> new MemberPointEventResponse(memberPointService.useMemberPointInTransaction(memberPointUse)));
+                });
+    }
+
+    @Override
+    public CompletableFuture<MemberPointEventResponse> useMemberPointAsync(MemberPointUseRequest memberPointUse) {
+        long memberId = memberPointUse.getMemberId();
+        String idempotencyKey = memberPointUse.getIdempotencyKey();
+        MemberPointEvent.MemberPointEventType type = MemberPointEvent.MemberPointEventType.USE;
+        int amount = -memberPointUse.getAmount();
+
+        if (idempotencyKey != null) {
+            MemberPointEventResponse stored = memberPointIdempotencyStore.get(memberId, idempotencyKey);
+            if (stored != null) {
+                replays.increment();
+                return CompletableFuture.completedFuture(checkSameRequest(stored, type, amount));
+            }
+        }
+
+        CompletableFuture<MemberPointEventResponse> command = memberPointCommandQueue == null
+                ? memberPointService.useMemberPointAsync(memberPointUse)
+                : memberPointCommandQueue.submit(memberId, () -> new MemberPointEventResponse(memberPointService.useMemberPointInTransaction(memberPointUse)));
+        if (idempotencyKey == null) {
+            return command;
+        }
+
+        // 결과를 받은 스레드 (잠금, 작업 스레드) 에서 executeIdempotently 와 같은 순서로 응답을 저장하고 확인합니다.
+        return command.handle((response, e) -> {
+            if (e != null) {
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                if (!(cause instanceof DataIntegrityViolationException dataIntegrityViolation)) {
+                    throw e instanceof CompletionException completionException ? completionException : new CompletionException(cause);
+                }
+                response = memberPointService.getMemberPointEventResponseByIdempotencyKey(memberId, idempotencyKey).orElseThrow(() -> dataIntegrityViolation);
+            }
+            memberPointIdempotencyStore.put(memberId, idempotencyKey, response);
+            return checkSameRequest(response, type, amount);
+        });
+    }
+
+    @Override
+    public MemberPointEventResponse rollbackMemberPointUse(long memberId, long memberPointEventId) {
+        if (memberPointCommandQueue == null) {
+            return memberPointService.rollbackMemberPointUseResponse(memberId, memberPointEventId);
+        }
+        return memberPointCommandQueue.execute(memberId, () -> memberPointService.rollbackMemberPointUseResponse(memberId, memberPointEventId));
+    }
+
+    /**
+     * 멱등 키가 있다면 저장된 응답을 먼저 조회하고, 없을 때만 명령을 실행합니다.
+     * 명령은 커밋까지 끝난 뒤에 반환되므로, 반환된 응답을 저장합니다.
+     * 같은 키의 요청이 동시에 실행되어 유니크 제약 조건에 걸렸다면, 먼저 커밋된 이벤트를 조회해서 반환합니다.
+     *
+     * @param memberId       회원 아이디
+     * @param idempotencyKey 멱등 키 (없다면 명령을 그대로 실행합니다.)
+     * @param type           요청한 이벤트 종류
+     * @param amount         요청한 금액 (사용은 음수)
+     * @param command        적립/사용 명령
+     * @return 회원 적립금 적립/사용 DTO (MemberPointEventResponse)
+     */
+    private MemberPointEventResponse executeIdempotently(long memberId, String idempotencyKey, MemberPointEvent.MemberPointEventType type, int amount, Supplier<MemberPointEventResponse> command) {
+        if (idempotencyKey == null) {
+            return command.get();
+        }
+
+        MemberPointEventResponse stored = memberPointIdempotencyStore.get(memberId, idempotencyKey);
+        if (stored != null) {
+            replays.increment();
+            return checkSameRequest(stored, type, amount);
+        }
+
+        MemberPointEventResponse response;
+        try {
+            response = command.get();
+        } catch (DataIntegrityViolationException e) {
+            response = memberPointService.getMemberPointEventResponseByIdempotencyKey(memberId, idempotencyKey).orElseThrow(() -> e);
+        }
+
+        memberPointIdempotencyStore.put(memberId, idempotencyKey, response);
+        return checkSameRequest(response, type, amount);
+    }
+
+    /**
+     * 같은 멱등 키로 기록된 이벤트가 이번 요청과 같은 종류, 같은 금액인지 확인합니다.
+     *
+     * @param response 기록된 이벤트 DTO
+     * @param type     요청한 이벤트 종류
+     * @param amount   요청한 금액 (사용은 음수)
+     * @return 기록된 이벤트 DTO
+     */
+    private static MemberPointEventResponse checkSameRequest(MemberPointEventResponse response, MemberPointEvent.MemberPointEventType type, int amount) {
+        if (!type.name().equals(response.getType()) || response.getAmount() != amount) {
+            throw new MemberPointIdempotencyKeyReusedException("멱등 키가 다른 적립금 요청에 이미 사용되었습니다.");
+        }
+        return response;
+    }
+}
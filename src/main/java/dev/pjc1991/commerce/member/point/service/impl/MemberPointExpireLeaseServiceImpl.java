@@ -0,0 +1,157 @@
+package dev.pjc1991.commerce.member.point.service.impl;
+
+import dev.pjc1991.commerce.member.point.domain.MemberPointExpireLease;
+import dev.pjc1991.commerce.member.point.domain.MemberPointExpireNode;
+import dev.pjc1991.commerce.member.point.domain.MemberPointExpirePartition;
+import dev.pjc1991.commerce.member.point.exception.MemberPointExpireLeaseLostException;
+import dev.pjc1991.commerce.member.point.repository.MemberPointExpireLeaseRepository;
+import dev.pjc1991.commerce.member.point.repository.MemberPointExpireNodeRepository;
+import dev.pjc1991.commerce.member.point.service.MemberPointExpireLeaseService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 회원 적립금 만료 처리 파티션 임대 서비스 구현체
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class MemberPointExpireLeaseServiceImpl implements MemberPointExpireLeaseService {
+
+    private final MemberPointExpireLeaseRepository memberPointExpireLeaseRepository;
+    private final MemberPointExpireNodeRepository memberPointExpireNodeRepository;
+
+    /**
+     * 하트비트
+     * 노드의 하트비트를 기록하고, 살아 있는 노드의 수에 맞춰 파티션 임대를 연장하거나 가져가거나 반납합니다.
+     *
+     * @param nodeId         노드 아이디
+     * @param partitionCount 전체 파티션 개수
+     * @param leaseDuration  임대 기간
+     * @return 이 노드가 임대한 파티션 번호
+     */
+    @Override
+    public Set<Integer> heartbeatMemberPointExpireLease(String nodeId, int partitionCount, Duration leaseDuration) {
+        LocalDateTime now = LocalDateTime.now();
+
+        // 하트비트를 기록하고, 임대 기간 안에 하트비트를 기록한 노드의 수로 이 노드가 가질 파티션의 수를 정합니다.
+        memberPointExpireNodeRepository.findById(nodeId).ifPresentOrElse(
+                node -> node.beat(now),
+                () -> memberPointExpireNodeRepository.save(MemberPointExpireNode.register(nodeId, now))
+        );
+        long liveNodes = Math.max(1L, memberPointExpireNodeRepository.countByHeartbeatAtAfter(now.minus(leaseDuration)));
+        int target = (int) ((partitionCount + liveNodes - 1) / liveNodes);
+
+        // 모든 파티션 임대에 행 잠금을 걸어서, 여러 노드의 임대 분배가 동시에 일어나지 않도록 합니다.
+        List<MemberPointExpireLease> leases = getMemberPointExpireLeasesForUpdate(partitionCount);
+        LocalDateTime leaseUntil = now.plus(leaseDuration);
+        Set<Integer> owned = new TreeSet<>();
+
+        // 가지고 있는 임대를 연장합니다. 노드가 늘어서 목표보다 많이 가지고 있다면 남는 임대는 반납합니다.
+        for (MemberPointExpireLease lease : leases) {
+            if (!lease.isHeldBy(nodeId, now)) {
+                continue;
+            }
+            if (owned.size() < target) {
+                lease.acquire(nodeId, leaseUntil);
+                owned.add(lease.getPartitionNo());
+            } else {
+                lease.release();
+                log.info("파티션 임대를 반납합니다. 노드 : {}, 파티션 : {}", nodeId, lease.getPartitionNo());
+            }
+        }
+
+        // 임대를 가진 노드가 없거나 임대 기간이 지난 파티션을 목표 개수만큼 가져갑니다.
+        for (MemberPointExpireLease lease : leases) {
+            if (owned.size() >= target) {
+                break;
+            }
+            if (!owned.contains(lease.getPartitionNo()) && lease.isAvailable(now)) {
+                if (lease.getOwner() != null && !nodeId.equals(lease.getOwner())) {
+                    log.warn("임대 기간이 지난 파티션을 넘겨받습니다. 노드 : {}, 파티션 : {}, 이전 노드 : {}", nodeId, lease.getPartitionNo(), lease.getOwner());
+                }
+                lease.acquire(nodeId, leaseUntil);
+                owned.add(lease.getPartitionNo());
+            }
+        }
+
+        return Collections.unmodifiableSet(owned);
+    }
+
+    /**
+     * 파티션 임대 확인
+     * 만료 처리 청크와 같은 트랜잭션에서 파티션 임대에 행 잠금을 걸고, 아직 임대를 가지고 있는지 확인합니다.
+     *
+     * @param partition 회원 적립금 만료 처리 파티션
+     */
+    @Override
+    public void checkMemberPointExpireLease(MemberPointExpirePartition partition) {
+        if (!partition.isLeased()) {
+            return;
+        }
+
+        MemberPointExpireLease lease = memberPointExpireLeaseRepository.findForUpdateByPartitionNo(partition.getIndex()).orElse(null);
+        if (lease == null || !lease.isHeldBy(partition.getOwner(), LocalDateTime.now())) {
+            throw new MemberPointExpireLeaseLostException("파티션 임대를 잃었습니다. 노드 : " + partition.getOwner() + ", 파티션 : " + partition.getIndex());
+        }
+    }
+
+    /**
+     * 파티션 임대 반납
+     * 노드가 가지고 있던 파티션 임대를 반납하고, 노드를 살아 있는 노드 목록에서 제외합니다.
+     *
+     * @param nodeId 노드 아이디
+     */
+    @Override
+    public void releaseMemberPointExpireLease(String nodeId) {
+        for (MemberPointExpireLease lease : memberPointExpireLeaseRepository.findAllByOrderByPartitionNoAsc()) {
+            if (nodeId.equals(lease.getOwner())) {
+                lease.release();
+            }
+        }
+        memberPointExpireNodeRepository.deleteById(nodeId);
+    }
+
+    /**
+     * 파티션 임대를 행 잠금을 걸고 조회합니다.
+     * 아직 없는 파티션의 임대는 생성합니다. 두 노드가 동시에 생성하면 한쪽은 기본 키 충돌로 실패하고 다음 하트비트에서 다시 시도합니다.
+     *
+     * @param partitionCount 전체 파티션 개수
+     * @return 파티션 번호 순서의 파티션 임대 목록 (파티션 개수만큼)
+     */
+    private List<MemberPointExpireLease> getMemberPointExpireLeasesForUpdate(int partitionCount) {
+        List<MemberPointExpireLease> leases = new ArrayList<>();
+        for (MemberPointExpireLease lease : memberPointExpireLeaseRepository.findAllByOrderByPartitionNoAsc()) {
+            // 파티션 개수를 줄였다면 남는 파티션의 임대는 사용하지 않습니다.
+            if (lease.getPartitionNo() < partitionCount) {
+                leases.add(lease);
+            }
+        }
+        if (leases.size() == partitionCount) {
+            return leases;
+        }
+
+        Set<Integer> existing = new TreeSet<>();
+        leases.forEach(lease -> existing.add(lease.getPartitionNo()));
+        List<MemberPointExpireLease> created = new ArrayList<>();
+        for (int partitionNo = 0; partitionNo < partitionCount; partitionNo++) {
+            if (!existing.contains(partitionNo)) {
+                created.add(MemberPointExpireLease.create(partitionNo));
+            }
+        }
+        leases.addAll(memberPointExpireLeaseRepository.saveAll(created));
+        leases.sort((a, b) -> Integer.compare(a.getPartitionNo(), b.getPartitionNo()));
+        return leases;
+    }
+}
@@ -0,0 +1,200 @@
+package dev.pjc1991.commerce.member.point.service.impl;
+
+import dev.pjc1991.commerce.member.exception.MemberNotFoundException;
+import dev.pjc1991.commerce.member.point.component.MemberPointHoldStore;
+import dev.pjc1991.commerce.member.point.dto.MemberPointEventResponse;
+import dev.pjc1991.commerce.member.point.dto.MemberPointHoldResponse;
+import dev.pjc1991.commerce.member.point.dto.MemberPointReserveRequest;
+import dev.pjc1991.commerce.member.point.dto.MemberPointUseRequest;
+import dev.pjc1991.commerce.member.point.exception.MemberPointBalanceVersionConflictException;
+import dev.pjc1991.commerce.member.point.exception.MemberPointCommandTimeoutException;
+import dev.pjc1991.commerce.member.point.exception.MemberPointConcurrentException;
+import dev.pjc1991.commerce.member.point.exception.MemberPointHoldCapturedException;
+import dev.pjc1991.commerce.member.point.exception.MemberPointHoldNotFoundException;
+import dev.pjc1991.commerce.member.point.exception.NotEnoughPointException;
+import dev.pjc1991.commerce.member.point.service.MemberPointCommandService;
+import dev.pjc1991.commerce.member.point.service.MemberPointHoldService;
+import dev.pjc1991.commerce.member.point.service.MemberPointService;
+import dev.pjc1991.commerce.member.service.MemberService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+
+/**
+ * 회원 적립금 예약 서비스 구현체
+ * 예약은 원장에 기록하지 않고 회원 적립금 예약 저장소 (Redis) 에만 저장합니다.
+ * 확정할 때만 적립금 사용 (MemberPointCommandService#useMemberPoint) 으로 원장에 기록합니다.
+ *
+ * 예약할 때의 적립금 합계는 캐시가 아니라 잔액을 행 잠금과 함께 조회한 합계이고, 잠금을 가진 채로 예약을 저장합니다.
+ * 같은 회원의 사용도 잔액으로 예약 금액을 확인하므로, 예약과 사용이 동시에 같은 적립금을 차지하지 않습니다.
+ * 그래도 예약한 뒤에 적립금이 만료되었다면 확정할 때 적립금 부족으로 실패할 수 있습니다.
+ *
+ * 확정에 실패했을 때 사용이 커밋되지 않은 것이 확실한 경우에만 예약을 되돌립니다.
+ * 결과를 알 수 없는 경우에 되돌리면, 커밋된 사용과 되돌린 예약이 같은 적립금을 두 번 차지할 수 있기 때문입니다.
+ */
+@Slf4j
+@Service
+public class MemberPointHoldServiceImpl implements MemberPointHoldService {
+
+    private final MemberPointService memberPointService;
+    private final MemberPointCommandService memberPointCommandService;
+    private final MemberService memberService;
+    private final MemberPointHoldStore memberPointHoldStore;
+
+    // 예약 유효 시간을 지정하지 않았을 때의 유효 시간
+    private final Duration defaultTtl;
+
+    // 예약 유효 시간의 최대값 (더 길게 지정하면 최대값으로 줄입니다.)
+    private final Duration maxTtl;
+
+    /**
+     * 생성자
+     *
+     * @param memberPointService        회원 적립금 서비스
+     * @param memberPointCommandService 회원 적립금 명령 서비스
+     * @param memberService             회원 서비스
+     * @param memberPointHoldStore      회원 적립금 예약 저장소
+     * @param defaultTtl                기본 예약 유효 시간
+     * @param maxTtl                    최대 예약 유효 시간
+     */
+    public MemberPointHoldServiceImpl(
+            MemberPointService memberPointService
+            , MemberPointCommandService memberPointCommandService
+            , MemberService memberService
+            , MemberPointHoldStore memberPointHoldStore
+            , @Value("${member.point.hold.ttl:10m}") Duration defaultTtl
+            , @Value("${member.point.hold.max-ttl:1h}") Duration maxTtl
+    ) {
+        this.memberPointService = memberPointService;
+        this.memberPointCommandService = memberPointCommandService;
+        this.memberService = memberService;
+        this.memberPointHoldStore = memberPointHoldStore;
+        this.defaultTtl = defaultTtl;
+        this.maxTtl = maxTtl;
+    }
+
+    @Override
+    @Transactional
+    public MemberPointHoldResponse reserveMemberPoint(MemberPointReserveRequest memberPointReserve) {
+        long memberId = memberPointReserve.getMemberId();
+        memberService.checkMemberExists(memberId);
+
+        Duration ttl = memberPointReserve.getTtlSeconds() == null ? defaultTtl : Duration.ofSeconds(memberPointReserve.getTtlSeconds());
+        if (ttl.compareTo(maxTtl) > 0) {
+            ttl = maxTtl;
+        }
+
+        // 합계는 잔액을 잠금과 함께 조회하고, 다른 예약 금액을 뺀 금액과 비교해서 예약하는 것은 스크립트 하나로 처리합니다.
+        // 잠금은 트랜잭션이 끝날 때 풀리므로, 그 사이에 같은 회원의 사용은 이 예약을 보고 판단합니다.
+        int total = memberPointService.getMemberPointTotalForUpdate(memberId);
+        String holdId = UUID.randomUUID().toString();
+        Instant now = Instant.now();
+        Instant expireAt = now.plus(ttl);
+        if (!memberPointHoldStore.reserve(memberId, holdId, memberPointReserve.getAmount(), total, now, expireAt)) {
+            throw new NotEnoughPointException("적립금이 부족합니다.");
+        }
+
+        return new MemberPointHoldResponse(holdId, memberId, memberPointReserve.getAmount(), MemberPointHoldResponse.Status.HELD, LocalDateTime.ofInstant(expireAt, ZoneId.systemDefault()));
+    }
+
+    @Override
+    public MemberPointEventResponse captureMemberPoint(long memberId, String holdId) {
+        // 이미 확정된 예약이라면 같은 사용 내역을 반환합니다.
+        MemberPointEventResponse captured = getCapturedResponse(memberId, holdId);
+        if (captured != null) {
+            return captured;
+        }
+
+        // 예약을 확정 중 상태로 바꿔서, 같은 예약을 동시에 확정하더라도 한 요청만 적립금을 사용하도록 합니다.
+        int amount = memberPointHoldStore.claim(memberId, holdId);
+        if (amount == MemberPointHoldStore.CAPTURING) {
+            throw new MemberPointConcurrentException("적립금 예약을 확정하는 중입니다.");
+        }
+        if (amount == MemberPointHoldStore.NOT_FOUND) {
+            // 확인한 뒤에 다른 요청이 확정을 마쳤을 수 있습니다.
+            captured = getCapturedResponse(memberId, holdId);
+            if (captured != null) {
+                return captured;
+            }
+            throw new MemberPointHoldNotFoundException("적립금 예약이 존재하지 않거나 만료되었습니다.");
+        }
+
+        MemberPointUseRequest memberPointUse = new MemberPointUseRequest();
+        memberPointUse.setMemberId(memberId);
+        memberPointUse.setAmount(amount);
+        memberPointUse.setHoldId(holdId);
+        try {
+            // 예약은 사용 트랜잭션이 커밋된 뒤에 지워집니다. (MemberPointHoldStore#completeAfterCommit)
+            return memberPointCommandService.useMemberPoint(memberPointUse);
+        } catch (RuntimeException e) {
+            if (isNotUsed(e)) {
+                // 사용하지 못한 것이 확실하다면 예약을 되돌려서 다시 확정하거나 해제할 수 있도록 합니다.
+                memberPointHoldStore.unclaim(memberId, holdId);
+            } else {
+                // 사용이 커밋되었을 수 있으므로 확정 중 상태로 둡니다.
+                // 커밋되었다면 커밋된 뒤에 예약이 지워지고, 커밋되지 않았다면 유효 시간이 지나 스위퍼가 지웁니다.
+                log.warn("적립금 예약의 확정 결과를 알 수 없어 확정 중 상태로 둡니다. 회원 : {}, 예약 : {}", memberId, holdId, e);
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public MemberPointHoldResponse releaseMemberPoint(long memberId, String holdId) {
+        int amount = memberPointHoldStore.release(memberId, holdId);
+        if (amount == MemberPointHoldStore.CAPTURING) {
+            throw new MemberPointConcurrentException("적립금 예약을 확정하는 중입니다.");
+        }
+        if (amount == MemberPointHoldStore.NOT_FOUND) {
+            if (getCapturedResponse(memberId, holdId) != null) {
+                throw new MemberPointHoldCapturedException("이미 확정된 적립금 예약입니다. 적립금 사용 취소로 되돌려야 합니다.");
+            }
+            throw new MemberPointHoldNotFoundException("적립금 예약이 존재하지 않거나 만료되었습니다.");
+        }
+
+        return new MemberPointHoldResponse(holdId, memberId, amount, MemberPointHoldResponse.Status.RELEASED, null);
+    }
+
+    /**
+     * 적립금 사용이 커밋되지 않은 것이 확실한 예외인지 확인합니다.
+     * 적립금 부족, 잘못된 요청, 잠금을 얻지 못했거나 처리 중인 요청이 많은 경우는 사용 트랜잭션이 커밋되기 전에 실패한 것입니다.
+     * 명령의 결과를 기다리다가 시간이 지났거나 알 수 없는 예외라면 커밋되었을 수 있습니다.
+     *
+     * @param e 적립금 사용이 던진 예외
+     * @return 커밋되지 않은 것이 확실하다면 true
+     */
+    private static boolean isNotUsed(RuntimeException e) {
+        if (e instanceof MemberPointCommandTimeoutException) {
+            return false;
+        }
+        return e instanceof NotEnoughPointException
+                || e instanceof IllegalArgumentException
+                || e instanceof MemberNotFoundException
+                || e instanceof MemberPointBalanceVersionConflictException
+                || e instanceof MemberPointConcurrentException;
+    }
+
+    /**
+     * 확정된 예약의 적립금 사용 내역을 조회합니다.
+     *
+     * @param memberId 회원 아이디
+     * @param holdId   예약 아이디
+     * @return 회원 적립금 사용 DTO (확정되지 않았거나 다른 회원의 예약이라면 null)
+     */
+    private MemberPointEventResponse getCapturedResponse(long memberId, String holdId) {
+        Long memberPointEventId = memberPointHoldStore.getCapturedEventId(holdId);
+        if (memberPointEventId == null) {
+            return null;
+        }
+
+        MemberPointEventResponse response = memberPointService.getMemberPointEventResponse(memberPointEventId);
+        return response.getMemberId() == memberId ? response : null;
+    }
+}
@@ -1,31 +1,62 @@
 package dev.pjc1991.commerce.member.point.service.impl;
 
 import dev.pjc1991.commerce.member.domain.Member;
+import dev.pjc1991.commerce.member.point.component.MemberPointDetailIdGenerator;
+import dev.pjc1991.commerce.member.point.component.MemberPointHoldStore;
+import dev.pjc1991.commerce.member.point.component.MemberPointTotalCacheEvictor;
+import dev.pjc1991.commerce.member.point.component.MemberPointTotalCacheUpdater;
+import dev.pjc1991.commerce.member.point.component.MemberPointUseExecutor;
+import dev.pjc1991.commerce.member.point.component.MemberPointUseLock;
+import dev.pjc1991.commerce.member.point.domain.MemberPointBalance;
 import dev.pjc1991.commerce.member.point.domain.MemberPointDetail;
 import dev.pjc1991.commerce.member.point.domain.MemberPointEvent;
+import dev.pjc1991.commerce.member.point.domain.MemberPointExpireCheckpoint;
+import dev.pjc1991.commerce.member.point.domain.MemberPointExpireMode;
+import dev.pjc1991.commerce.member.point.domain.MemberPointExpirePartition;
+import dev.pjc1991.commerce.member.point.domain.MemberPointGrant;
+import dev.pjc1991.commerce.member.point.domain.MemberPointUseLockMode;
 import dev.pjc1991.commerce.member.point.dto.*;
 import dev.pjc1991.commerce.member.point.exception.*;
+import dev.pjc1991.commerce.member.point.repository.MemberPointBalanceRepository;
 import dev.pjc1991.commerce.member.point.repository.MemberPointDetailRepository;
 import dev.pjc1991.commerce.member.point.repository.MemberPointDetailRepositoryCustom;
 import dev.pjc1991.commerce.member.point.repository.MemberPointEventRepositoryCustom;
 import dev.pjc1991.commerce.member.point.repository.MemberPointEventRepository;
+import dev.pjc1991.commerce.member.point.repository.MemberPointExpireCheckpointRepository;
+import dev.pjc1991.commerce.member.point.repository.MemberPointGrantRepository;
+import dev.pjc1991.commerce.member.point.repository.MemberPointGrantRepositoryCustom;
+import dev.pjc1991.commerce.member.point.service.MemberPointExpireLeaseService;
 import dev.pjc1991.commerce.member.point.service.MemberPointService;
 import dev.pjc1991.commerce.member.service.MemberService;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CacheConfig;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StopWatch;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 
 @Service
@@ -34,13 +65,39 @@ import java.util.List;
 @CacheConfig(cacheNames = "memberPoint")
 public class MemberPointServiceImpl implements MemberPointService {
 
+    /**
+     * 회원 적립금 만료 처리 체크포인트의 작업 이름
+     */
+    private static final String EXPIRE_JOB_NAME = "MEMBER_POINT_EXPIRE";
+
     private final MemberPointEventRepository memberPointEventRepository;
     private final MemberPointEventRepositoryCustom memberPointEventRepositoryCustom;
     private final MemberPointDetailRepository memberPointDetailRepository;
     private final MemberPointDetailRepositoryCustom memberPointDetailRepositoryCustom;
+    private final MemberPointBalanceRepository memberPointBalanceRepository;
+    private final MemberPointGrantRepository memberPointGrantRepository;
+    private final MemberPointGrantRepositoryCustom memberPointGrantRepositoryCustom;
+    private final MemberPointExpireCheckpointRepository memberPointExpireCheckpointRepository;
+    private final MemberPointExpireLeaseService memberPointExpireLeaseService;
     private final MemberService memberService;
+    private final MemberPointDetailIdGenerator memberPointDetailIdGenerator;
+    private final MemberPointTotalCacheEvictor memberPointTotalCacheEvictor;
+    private final MemberPointTotalCacheUpdater memberPointTotalCacheUpdater;
+
+    // 회원 적립금 사용 동시성 제어 (member.point.use.lock-mode)
+    private final MemberPointUseLock memberPointUseLock;
+
+    // 비동기 적립금 사용이 잠금을 얻은 뒤에 실행되는 작업 스레드
+    private final MemberPointUseExecutor memberPointUseExecutor;
+
+    // 회원 적립금 예약 저장소 (예약된 적립금은 사용할 수 없습니다.)
+    private final MemberPointHoldStore memberPointHoldStore;
 
-    private final RedissonClient redissonClient;
+    // 만료 처리 청크 크기 (한 트랜잭션에서 만료 처리할 회원 적립금 상세 그룹의 개수)
+    private final int expireChunkSize;
+
+    // 만료 처리 방식 (EAGER : 매일 자정, LAZY : 회원이 접근할 때)
+    private final MemberPointExpireMode expireMode;
 
     private final MemberPointService self;
 
@@ -53,7 +110,21 @@ public class MemberPointServiceImpl implements MemberPointService {
      * @param memberPointEventRepositoryCustom  회원 적립금 이벤트 레포지토리 커스텀 (QueryDSL)
      * @param memberPointDetailRepository       회원 적립금 상세 내역 레포지토리
      * @param memberPointDetailRepositoryCustom 회원 적립금 상세 내역 레포지토리 커스텀 (QueryDSL)
+     * @param memberPointBalanceRepository      회원 적립금 잔액 레포지토리
+     * @param memberPointGrantRepository        회원 적립금 적립 건 레포지토리
+     * @param memberPointGrantRepositoryCustom  회원 적립금 적립 건 레포지토리 커스텀 (QueryDSL)
+     * @param memberPointExpireCheckpointRepository 회원 적립금 만료 처리 체크포인트 레포지토리
+     * @param memberPointExpireLeaseService     회원 적립금 만료 처리 파티션 임대 서비스
      * @param memberService                     회원 서비스
+     * @param memberPointDetailIdGenerator      회원 적립금 상세 내역 ID 발급기
+     * @param memberPointTotalCacheEvictor      회원 적립금 합계 캐시 일괄 초기화
+     * @param memberPointTotalCacheUpdater      회원 적립금 합계 캐시 갱신
+     * @param memberPointUseLock                회원 적립금 사용 동시성 제어
+     * @param useLockMode                       회원 적립금 사용 동시성 제어 방식 (등록된 동시성 제어와 같아야 합니다.)
+     * @param memberPointUseExecutor            회원 적립금 사용 작업 스레드
+     * @param memberPointHoldStore              회원 적립금 예약 저장소
+     * @param expireChunkSize                   만료 처리 청크 크기
+     * @param expireMode                        만료 처리 방식
      * @param self                              자가 주입된 인스턴스
      */
     @Lazy
@@ -62,16 +133,44 @@ public class MemberPointServiceImpl implements MemberPointService {
             , MemberPointEventRepositoryCustom memberPointEventRepositoryCustom
             , MemberPointDetailRepository memberPointDetailRepository
             , MemberPointDetailRepositoryCustom memberPointDetailRepositoryCustom
+            , MemberPointBalanceRepository memberPointBalanceRepository
+            , MemberPointGrantRepository memberPointGrantRepository
+            , MemberPointGrantRepositoryCustom memberPointGrantRepositoryCustom
+            , MemberPointExpireCheckpointRepository memberPointExpireCheckpointRepository
+            , MemberPointExpireLeaseService memberPointExpireLeaseService
             , MemberService memberService
-            , RedissonClient redissonClient
+            , MemberPointDetailIdGenerator memberPointDetailIdGenerator
+            , MemberPointTotalCacheEvictor memberPointTotalCacheEvictor
+            , MemberPointTotalCacheUpdater memberPointTotalCacheUpdater
+            , MemberPointUseLock memberPointUseLock
+            , @Value("${member.point.use.lock-mode:REDISSON}") MemberPointUseLockMode useLockMode
+            , MemberPointUseExecutor memberPointUseExecutor
+            , MemberPointHoldStore memberPointHoldStore
+            , @Value("${member.point.expire.chunk-size:1000}") int expireChunkSize
+            , @Value("${member.point.expire.mode:EAGER}") MemberPointExpireMode expireMode
             , MemberPointService self
     ) {
         this.memberPointEventRepository = memberPointEventRepository;
         this.memberPointEventRepositoryCustom = memberPointEventRepositoryCustom;
         this.memberPointDetailRepository = memberPointDetailRepository;
         this.memberPointDetailRepositoryCustom = memberPointDetailRepositoryCustom;
+        this.memberPointBalanceRepository = memberPointBalanceRepository;
+        this.memberPointGrantRepository = memberPointGrantRepository;
+        this.memberPointGrantRepositoryCustom = memberPointGrantRepositoryCustom;
+        this.memberPointExpireCheckpointRepository = memberPointExpireCheckpointRepository;
+        this.memberPointExpireLeaseService = memberPointExpireLeaseService;
         this.memberService = memberService;
-        this.redissonClient = redissonClient;
+        this.memberPointDetailIdGenerator = memberPointDetailIdGenerator;
+        this.memberPointTotalCacheEvictor = memberPointTotalCacheEvictor;
+        this.memberPointTotalCacheUpdater = memberPointTotalCacheUpdater;
+        if (memberPointUseLock.getMode() != useLockMode) {
+            throw new IllegalStateException("등록된 적립금 사용 동시성 제어가 설정과 다릅니다. 설정 : " + useLockMode + ", 등록 : " + memberPointUseLock.getMode());
+        }
+        this.memberPointUseLock = memberPointUseLock;
+        this.memberPointUseExecutor = memberPointUseExecutor;
+        this.memberPointHoldStore = memberPointHoldStore;
+        this.expireChunkSize = expireChunkSize;
+        this.expireMode = expireMode;
         this.self = self;
     }
 
@@ -84,11 +183,53 @@ public class MemberPointServiceImpl implements MemberPointService {
      */
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "memberPointTotal", key = "#memberId")
     public int getMemberPointTotal(long memberId) {
+        return self.getMemberPointTotalSnapshot(memberId).getTotal();
+    }
+
+    /**
+     * 회원 적립금 합계 조회 (예약)
+     * 잔액을 행 잠금과 함께 조회하므로, 잠금과 함께 조회하는 사용은 이 트랜잭션이 끝날 때까지 기다립니다.
+     * 잔액 버전도 올리므로, 잠금 없이 조회한 사용 (OPTIMISTIC) 은 버전 확인에서 충돌하고 다시 시도합니다.
+     * 잔액은 바뀌지 않으므로 합계 캐시에는 버전만 반영합니다.
+     *
+     * @param memberId 회원 아이디
+     * @return 회원 적립금 합계 (int)
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int getMemberPointTotalForUpdate(long memberId) {
+        MemberPointBalance balance = getMemberPointBalanceForUpdate(memberId);
+        long fromVersion = balance.getVersion();
+        int fromBalance = balance.getBalance();
+
+        balance.touch();
+        memberPointTotalCacheUpdater.updateAfterCommit(balance, fromVersion, fromBalance);
+        return getMemberPointTotal(balance);
+    }
+
+    /**
+     * 회원 적립금 합계 조회 (캐시)
+     * 회원 적립금 잔액 (MEMBER_POINT_BALANCE) 을 기본 키로 조회하고,
+     * 잔액이 없거나 만료 처리되지 않은 적립금이 포함되어 있을 수 있다면 상세 내역을 합산합니다.
+     * 캐시에는 잔액의 버전을 함께 저장하고, 적립/사용/사용 취소가 커밋되면 변경분을 더합니다. (MemberPointTotalCacheUpdater)
+     * 같은 트랜잭션에서 잔액을 변경했다면 커밋되기 전이므로 캐시를 거치지 않습니다.
+     * 캐시는 가장 먼저 만료되는 적립금의 만료 시점에 만료되므로, 만료된 적립금이 포함된 합계를 돌려주지 않습니다.
+     * 같은 회원의 캐시 미스가 동시에 일어나면 한 요청만 합계를 계산하고, 나머지는 그 결과를 기다립니다. (sync = true)
+     *
+     * @param memberId 회원 아이디
+     * @return 회원 적립금 합계, 잔액 버전, 가장 먼저 만료되는 시점 (MemberPointTotalSnapshot)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(value = "memberPointTotal", key = "#memberId", condition = "!@memberPointTotalCacheUpdater.isPending(#memberId)", sync = true)
+    public MemberPointTotalSnapshot getMemberPointTotalSnapshot(long memberId) {
         // 회원이 존재하지 않으면 회원 서비스에서 예외를 발생시킵니다.
-        memberService.getMemberReferenceById(memberId);
-        return memberPointDetailRepositoryCustom.getMemberPointTotal(memberId);
+        memberService.checkMemberExists(memberId);
+        LocalDateTime now = LocalDateTime.now();
+        return memberPointBalanceRepository.findById(memberId)
+                .map(balance -> new MemberPointTotalSnapshot(getMemberPointTotal(balance), balance.getVersion(), getNextExpireAt(balance, now)))
+                .orElseGet(() -> new MemberPointTotalSnapshot(memberPointDetailRepositoryCustom.getMemberPointTotal(memberId), 0L, memberPointGrantRepositoryCustom.getMemberPointGrantNextExpireAt(memberId, now)));
     }
 
     /**
@@ -106,7 +247,8 @@ public class MemberPointServiceImpl implements MemberPointService {
 
     /**
      * 회원 적립금 적립/사용 내역 조회
-     * 적립금 적립/사용 내역을 조회합니다.
+     * 적립금 적립/사용 내역을 읽기 전용 트랜잭션으로 조회합니다.
+     * 지연 만료 (LAZY) 모드의 만료 처리는 하지 않으므로, 내역 조회 (Response) 가 조회하기 전에 처리합니다.
      *
      * @param search (MemberPointEventSearch) page : 페이지 번호, size : 페이지 사이즈, memberId : 회원 아이디
      * @return 회원 적립금 적립/사용 내역 (Page<MemberPointEvent>)
@@ -115,7 +257,7 @@ public class MemberPointServiceImpl implements MemberPointService {
     @Transactional(readOnly = true)
     public Page<MemberPointEvent> getMemberPointEvents(MemberPointEventSearch search) {
         // 회원이 존재하지 않으면 회원 서비스에서 예외를 발생시킵니다.
-        memberService.getMemberReferenceById(search.getMemberId());
+        memberService.checkMemberExists(search.getMemberId());
         return memberPointEventRepositoryCustom.getMemberPointEvents(search);
     }
 
@@ -130,19 +272,71 @@ public class MemberPointServiceImpl implements MemberPointService {
         return new MemberPointEventResponse(self.getMemberPointEvent(memberPointEventId));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<MemberPointEventResponse> getMemberPointEventResponseByIdempotencyKey(long memberId, String idempotencyKey) {
+        return memberPointEventRepository.findByMemberIdAndIdempotencyKey(memberId, idempotencyKey).map(MemberPointEventResponse::new);
+    }
+
     /**
      * 회원 적립금 적립/사용 내역 조회 (Response)
      * 적립금 적립/사용 내역을 조회해서, DTO 형태로 반환합니다.
+     * 지연 만료 (LAZY) 모드라면 읽기 전용 트랜잭션을 시작하기 전에 별도의 트랜잭션으로 만료 처리합니다.
      *
      * @param search (MemberPointEventSearch) page : 페이지 번호, size : 페이지 사이즈, memberId : 회원 아이디
      * @return 회원 적립금 적립/사용 내역 DTO (Page<MemberPointEventResponse>)
      */
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Page<MemberPointEventResponse> getMemberPointEventResponses(MemberPointEventSearch search) {
+        expireMemberPointBeforeRead(search.getMemberId());
         return self.getMemberPointEvents(search).map(MemberPointEventResponse::new);
     }
 
+    /**
+     * 회원 적립금 적립/사용 내역 조회 (커서)
+     * 요청한 크기보다 1건 더 조회해서 다음 페이지 여부를 판단하고, 전체 개수는 요청한 경우에만 조회합니다.
+     *
+     * 지연 만료 (LAZY) 모드라면 읽기 전용 트랜잭션을 시작하기 전에 별도의 트랜잭션으로 만료 처리합니다.
+     *
+     * @param search (MemberPointEventCursorSearch) memberId : 회원 아이디, cursor : 이전 응답의 커서, size : 페이지 사이즈, withTotal : 전체 개수 포함 여부
+     * @return 회원 적립금 적립/사용 내역 DTO (MemberPointEventCursorResponse)
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public MemberPointEventCursorResponse getMemberPointEventCursorResponses(MemberPointEventCursorSearch search) {
+        expireMemberPointBeforeRead(search.getMemberId());
+        return self.getMemberPointEventCursorResponsesInTransaction(search);
+    }
+
+    /**
+     * 회원 적립금 적립/사용 내역 조회 (커서, 트랜잭션)
+     * 지연 만료 처리 없이 읽기 전용 트랜잭션으로 커서 내역을 조회합니다.
+     *
+     * @param search (MemberPointEventCursorSearch) memberId : 회원 아이디, cursor : 이전 응답의 커서, size : 페이지 사이즈, withTotal : 전체 개수 포함 여부
+     * @return 회원 적립금 적립/사용 내역 DTO (MemberPointEventCursorResponse)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public MemberPointEventCursorResponse getMemberPointEventCursorResponsesInTransaction(MemberPointEventCursorSearch search) {
+        // 회원이 존재하지 않으면 회원 서비스에서 예외를 발생시킵니다.
+        memberService.checkMemberExists(search.getMemberId());
+
+        MemberPointEventCursor cursor = MemberPointEventCursor.decode(search.getCursor());
+        List<MemberPointEvent> events = memberPointEventRepositoryCustom.getMemberPointEventsByCursor(search.getMemberId(), cursor, search.getSize());
+
+        // 요청한 크기보다 많이 조회되었다면 다음 페이지가 있습니다.
+        boolean hasNext = events.size() > search.getSize();
+        if (hasNext) {
+            events = events.subList(0, search.getSize());
+        }
+
+        String nextCursor = hasNext ? MemberPointEventCursor.of(events.get(events.size() - 1)).encode() : null;
+        Long totalCount = search.isWithTotal() ? memberPointEventRepositoryCustom.countMemberPointEvents(search.getMemberId()) : null;
+
+        return new MemberPointEventCursorResponse(events.stream().map(MemberPointEventResponse::new).toList(), hasNext, nextCursor, totalCount);
+    }
+
     /**
      * 회원에게 적립금 적립
      * 적립금을 적립할 때, 적립금 적립 이벤트와 적립금 적립 상세 내역을 나눠서 저장합니다.
@@ -151,25 +345,49 @@ public class MemberPointServiceImpl implements MemberPointService {
      * @return 회원 적립금 적립 내역 (MemberPointEvent)
      */
     @Override
-    @Caching(evict = {
-            @CacheEvict(value = "memberPointTotal", key = "#memberPointCreate.memberId")
-    })
     public MemberPointEvent earnMemberPoint(MemberPointCreateRequest memberPointCreate) {
         // 회원을 조회합니다.
         Member member = memberService.getMemberReferenceById(memberPointCreate.getMemberId());
         memberPointCreate.setOwner(member);
 
+        // 같은 멱등 키로 이미 기록된 적립이 있다면 만료 처리와 잔액 잠금 없이 바로 반환합니다.
+        // 저장된 응답 (MemberPointIdempotencyStore) 이 만료되었거나 Redis 를 사용할 수 없을 때 다시 요청된 적립입니다.
+        Optional<MemberPointEvent> replayed = findMemberPointEventByIdempotencyKey(memberPointCreate.getMemberId(), memberPointCreate.getIdempotencyKey());
+        if (replayed.isPresent()) {
+            return replayed.get();
+        }
+
+        // 지연 만료 모드라면 만료 시점이 지난 적립 건을 먼저 만료 처리합니다.
+        expireMemberPointLazily(List.of(memberPointCreate.getMemberId()));
+
+        // 회원 적립금 잔액을 잠금과 함께 조회합니다. 원장을 기록하기 전에 조회해야 새 적립금이 두 번 반영되지 않습니다.
+        MemberPointBalance balance = getMemberPointBalanceForUpdate(memberPointCreate.getMemberId());
+        long fromVersion = balance.getVersion();
+        int fromBalance = balance.getBalance();
+
+        // 잠그기 전에 확인한 뒤에 같은 키의 요청이 먼저 기록했을 수 있으므로, 잔액 행을 잠근 뒤에 다시 확인합니다.
+        // 같은 키의 요청이 동시에 들어와도 한 요청만 기록합니다.
+        Optional<MemberPointEvent> recorded = findMemberPointEventByIdempotencyKey(memberPointCreate.getMemberId(), memberPointCreate.getIdempotencyKey());
+        if (recorded.isPresent()) {
+            return recorded.get();
+        }
+
         // 회원 적립금 이벤트를 생성합니다.
         MemberPointEvent event = MemberPointEvent.earnMemberPoint(memberPointCreate);
         event = memberPointEventRepository.save(event);
 
-        // 회원 적립금 상세 내역을 생성합니다.
-        MemberPointDetail detail = MemberPointDetail.earnMemberPointDetail(event);
+        // 회원 적립금 상세 내역을 생성합니다. 그룹 아이디는 생성할 때 자신의 아이디로 설정됩니다.
+        MemberPointDetail detail = MemberPointDetail.earnMemberPointDetail(memberPointDetailIdGenerator.nextId(), event);
         memberPointDetailRepository.save(detail);
 
-        // 회원 적립금 상세 내역의 그룹 아이디를 업데이트합니다.
-        detail.updateGroupIdSelf();
-        memberPointDetailRepository.save(detail);
+        // 선입선출로 사용할 수 있도록 회원 적립금 적립 건을 생성합니다.
+        memberPointGrantRepository.save(MemberPointGrant.earnMemberPointGrant(detail));
+
+        // 회원 적립금 잔액에 적립금을 더합니다.
+        balance.earn(event.getAmount(), event.getExpireAt());
+
+        // 적립금 합계 캐시에는 커밋된 뒤에 적립금을 더합니다.
+        memberPointTotalCacheUpdater.updateAfterCommit(balance, fromVersion, fromBalance);
         return event;
     }
 
@@ -181,87 +399,218 @@ public class MemberPointServiceImpl implements MemberPointService {
      * @return 회원 적립금 적립 DTO (MemberPointEventResponse)
      */
     @Override
-    @Caching(evict = {
-            @CacheEvict(value = "memberPointTotal", key = "#memberPointCreate.memberId")
-    })
     public MemberPointEventResponse earnMemberPointResponse(MemberPointCreateRequest memberPointCreate) {
         return new MemberPointEventResponse(earnMemberPoint(memberPointCreate));
     }
 
+    /**
+     * 회원 적립금 일괄 적립
+     * 단건 적립을 요청 수만큼 반복하지 않고, 회원 조회와 잔액 잠금을 한 번의 쿼리로 처리한 뒤
+     * 이벤트, 상세 내역, 적립 건을 모아서 저장합니다. (hibernate.jdbc.batch_size 단위로 INSERT 됩니다.)
+     * 적립금 합계 캐시는 커밋된 뒤에 파이프라인으로 한 번에 초기화합니다.
+     *
+     * @param request (MemberPointEarnBatchRequest) items : 적립 요청 목록 (memberId, amount, reason)
+     * @return 요청 순서대로 정렬된 건별 적립 결과 (MemberPointEarnBatchResponse)
+     */
+    @Override
+    public MemberPointEarnBatchResponse earnMemberPointBatch(MemberPointEarnBatchRequest request) {
+        List<MemberPointCreateRequest> items = request.getItems() == null ? List.of() : request.getItems();
+        if (items.size() > MemberPointEarnBatchRequest.MAX_SIZE) {
+            throw new MemberPointBatchSizeExceededException("한 번에 적립할 수 있는 최대 건수는 " + MemberPointEarnBatchRequest.MAX_SIZE + "건입니다.");
+        }
+
+        // 요청에 포함된 회원이 존재하는지 한 번에 확인합니다.
+        Set<Long> requestedMemberIds = items.stream()
+                .filter(Objects::nonNull)
+                .map(MemberPointCreateRequest::getMemberId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Member> members = memberService.getMemberReferencesByIds(requestedMemberIds);
+
+        // 지연 만료 모드라면 만료 시점이 지난 적립 건을 한 번에 만료 처리합니다.
+        expireMemberPointLazily(members.keySet());
+
+        // 회원 적립금 잔액을 잠금과 함께 한 번에 조회합니다. 원장을 기록하기 전에 조회해야 새 적립금이 두 번 반영되지 않습니다.
+        Map<Long, MemberPointBalance> balances = getMemberPointBalancesForUpdate(members.keySet());
+
+        // 요청을 검증하고 회원 적립금 적립 이벤트를 생성합니다.
+        MemberPointEarnBatchResult[] results = new MemberPointEarnBatchResult[items.size()];
+        List<Integer> earnedIndexes = new ArrayList<>(items.size());
+        List<MemberPointEvent> events = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            MemberPointCreateRequest item = items.get(i);
+            if (item == null || item.getMemberId() == null || item.getAmount() == null) {
+                results[i] = MemberPointEarnBatchResult.failure(i, item, "회원 아이디와 적립금은 필수입니다.");
+                continue;
+            }
+
+            Member member = members.get(item.getMemberId());
+            if (member == null) {
+                results[i] = MemberPointEarnBatchResult.failure(i, item, "회원을 찾을 수 없습니다.");
+                continue;
+            }
+
+            item.setOwner(member);
+            try {
+                events.add(MemberPointEvent.earnMemberPoint(item));
+                earnedIndexes.add(i);
+            } catch (BadMemberPointAmountException e) {
+                results[i] = MemberPointEarnBatchResult.failure(i, item, e.getMessage());
+            }
+        }
+
+        // 회원 적립금 이벤트를 저장합니다. ID 는 시퀀스로부터 미리 발급되므로 INSERT 는 모아서 실행됩니다.
+        memberPointEventRepository.saveAll(events);
+
+        // 회원 적립금 상세 내역과 적립 건을 생성하고, 잔액에 적립금을 더합니다.
+        List<MemberPointDetail> details = new ArrayList<>(events.size());
+        List<MemberPointGrant> grants = new ArrayList<>(events.size());
+        for (MemberPointEvent event : events) {
+            MemberPointDetail detail = MemberPointDetail.earnMemberPointDetail(memberPointDetailIdGenerator.nextId(), event);
+            details.add(detail);
+            grants.add(MemberPointGrant.earnMemberPointGrant(detail));
+            balances.get(event.getMember().getId()).earn(event.getAmount(), event.getExpireAt());
+        }
+        memberPointDetailRepository.saveAll(details);
+        memberPointGrantRepository.saveAll(grants);
+
+        for (int i = 0; i < events.size(); i++) {
+            int index = earnedIndexes.get(i);
+            results[index] = MemberPointEarnBatchResult.success(index, items.get(index), events.get(i).getId());
+        }
+
+        // 적립된 회원의 적립금 합계 캐시를 커밋된 뒤에 한 번에 초기화합니다.
+        Set<Long> earnedMemberIds = events.stream().map(event -> event.getMember().getId()).collect(Collectors.toSet());
+        memberPointTotalCacheEvictor.evictAfterCommit(earnedMemberIds.stream().map(balances::get).toList());
+
+        return new MemberPointEarnBatchResponse(List.of(results));
+    }
+
     /**
      * 회원 적립금 사용
      * 적립금을 사용할 때, 적립금 사용 이벤트와 적립금 상세 내역을 나눠서 저장합니다.
-     * 거정 먼저 적립된 적립금부터 사용하기 위해서 적립금 상세 내역을 조회하고, 적립금 상세 내역을 순회하며 사용하려는 적립금의 잔액을 차감합니다.
+     * 같은 회원의 사용이 동시에 반영되지 않도록 member.point.use.lock-mode 로 설정한 동시성 제어 (MemberPointUseLock) 안에서 사용합니다.
+     * 잠금은 트랜잭션이 끝난 뒤에 해제되므로, 다음 요청은 커밋된 잔액을 기준으로 사용합니다.
+     * 이미 트랜잭션이 있다면 (테스트) 그 트랜잭션에 참여합니다.
      *
      * @param memberPointUseRequest (MemberPointUseRequest) memberId : 회원 아이디, amount : 적립금
      * @return 회원 적립금 사용 내역 (MemberPointEvent)
      */
     @Override
-    @Caching(evict = {
-            @CacheEvict(value = "memberPointTotal", key = "#memberPointUseRequest.memberId")
-    })
+    @Transactional(propagation = Propagation.SUPPORTS)
     public MemberPointEvent useMemberPoint(MemberPointUseRequest memberPointUseRequest) {
+        return memberPointUseLock.execute(memberPointUseRequest.getMemberId(), () -> self.useMemberPointInTransaction(memberPointUseRequest));
+    }
+
+    /**
+     * 회원 적립금 사용 (트랜잭션)
+     * 거정 먼저 적립된 적립금부터 사용하기 위해서 적립금 상세 내역을 조회하고, 적립금 상세 내역을 순회하며 사용하려는 적립금의 잔액을 차감합니다.
+     * 잔액 행 잠금을 사용하지 않는 동시성 제어 (낙관적 잠금) 라면, 잔액을 잠금 없이 조회하고 원장을 기록하기 전에 잔액 버전을 확인합니다.
+     *
+     * @param memberPointUseRequest (MemberPointUseRequest) memberId : 회원 아이디, amount : 적립금
+     * @return 회원 적립금 사용 내역 (MemberPointEvent)
+     */
+    @Override
+    public MemberPointEvent useMemberPointInTransaction(MemberPointUseRequest memberPointUseRequest) {
         // 회원을 조회합니다.
         Member member = memberService.getMemberReferenceById(memberPointUseRequest.getMemberId());
         memberPointUseRequest.setOwner(member);
 
-        // 포인트 사용은 동시성 문제를 일으킬 수 있으므로 Redisson 을 사용해서 Lock 을 걸어줍니다.
-        String lockKey = "memberPointUseLock#" + memberPointUseRequest.getMemberId();
-        RLock lock = redissonClient.getLock(lockKey);
+        // 같은 멱등 키로 이미 기록된 사용이 있다면 만료 처리와 잔액 잠금 없이 바로 반환합니다.
+        // 저장된 응답 (MemberPointIdempotencyStore) 이 만료되었거나 Redis 를 사용할 수 없을 때 다시 요청된 사용입니다.
+        Optional<MemberPointEvent> replayed = findMemberPointEventByIdempotencyKey(memberPointUseRequest.getMemberId(), memberPointUseRequest.getIdempotencyKey());
+        if (replayed.isPresent()) {
+            return replayed.get();
+        }
 
-        try {
-            if (!lock.tryLock(2, 5, java.util.concurrent.TimeUnit.SECONDS)) {
-                throw new MemberPointConcurrentException("동시에 적립금 사용 요청이 들어왔습니다. 잠시 후 다시 시도해주세요.");
-            }
-            // 현 시점에서 사용 가능한 적립금의 총액을 계산합니다.
-            int memberPointTotal = self.getMemberPointTotal(memberPointUseRequest.getMemberId());
-            // 사용하려는 적립금이 총액보다 크다면 예외를 발생시킵니다.
-            if (memberPointTotal - memberPointUseRequest.getAmount() < 0) {
-                throw new NotEnoughPointException("적립금이 부족합니다.");
-            }
+        // 지연 만료 모드라면 만료 시점이 지난 적립 건을 먼저 만료 처리합니다.
+        expireMemberPointLazily(List.of(memberPointUseRequest.getMemberId()));
+
+        // 회원 적립금 잔액을 조회합니다. 낙관적 잠금이 아니라면 잠금과 함께 조회합니다.
+        boolean balanceLocked = memberPointUseLock.isBalanceLockRequired();
+        MemberPointBalance balance = balanceLocked
+                ? getMemberPointBalanceForUpdate(memberPointUseRequest.getMemberId())
+                : getMemberPointBalance(memberPointUseRequest.getMemberId());
+        long fromVersion = balance.getVersion();
+        int fromBalance = balance.getBalance();
+
+        // 잠그기 전에 확인한 뒤에 같은 키의 요청이 먼저 기록했을 수 있으므로, 잔액을 조회한 뒤에 다시 확인합니다.
+        // 낙관적 잠금이라면 동시에 들어온 같은 키의 요청이 모두 통과할 수 있지만, 유니크 제약 조건으로 한 요청만 커밋됩니다.
+        Optional<MemberPointEvent> recorded = findMemberPointEventByIdempotencyKey(memberPointUseRequest.getMemberId(), memberPointUseRequest.getIdempotencyKey());
+        if (recorded.isPresent()) {
+            return recorded.get();
+        }
 
-            // 회원 적립금 사용 이벤트를 생성합니다.
-            MemberPointEvent useEvent = MemberPointEvent.useMemberPoint(memberPointUseRequest);
-            useEvent = memberPointEventRepository.save(useEvent);
+        // 현 시점에서 사용 가능한 적립금의 총액을 계산합니다. 트랜잭션 안에서 조회한 잔액을 사용하므로 캐시를 거치지 않습니다.
+        int memberPointTotal = getMemberPointTotal(balance);
+        // 결제를 위해 예약된 적립금은 사용할 수 없습니다. 예약을 확정하는 중이라면 그 예약의 금액은 사용할 수 있습니다.
+        int memberPointHeld = memberPointHoldStore.getHeld(memberPointUseRequest.getMemberId(), memberPointUseRequest.getHoldId());
+        // 사용하려는 적립금이 사용 가능한 금액보다 크다면 예외를 발생시킵니다.
+        if (memberPointTotal - memberPointHeld - memberPointUseRequest.getAmount() < 0) {
+            throw new NotEnoughPointException("적립금이 부족합니다.");
+        }
 
-            // 회원 적립금 상세 내역을 생성합니다.
-            List<MemberPointDetail> memberPointDetails = createMemberPointDetailUse(memberPointUseRequest, useEvent);
+        // 잠금 없이 조회했다면, 원장을 기록하기 전에 그 사이에 다른 요청이 잔액을 변경하지 않았는지 확인합니다.
+        // 확인된 잔액 행은 커밋될 때까지 잠기므로, 이후에 조회하는 적립 건은 다른 요청과 겹치지 않습니다.
+        if (!balanceLocked && memberPointBalanceRepository.increaseVersionIfMatches(balance.getMemberId(), fromVersion) == 0) {
+            throw new MemberPointBalanceVersionConflictException("회원 적립금 잔액이 다른 요청에 의해 변경되었습니다.");
+        }
 
-            // 회원 적립금 상세 내역을 저장합니다.
-            memberPointDetailRepository.saveAll(memberPointDetails);
-            // 회원 적립금 상세 내역의 그룹 아이디를 업데이트합니다.
-            memberPointDetails.forEach(MemberPointDetail::updateRefundGroupIdSelf);
-            memberPointDetailRepository.saveAll(memberPointDetails);
+        // 회원 적립금 사용 이벤트를 생성합니다.
+        MemberPointEvent useEvent = MemberPointEvent.useMemberPoint(memberPointUseRequest);
+        useEvent = memberPointEventRepository.save(useEvent);
 
-            return useEvent;
+        // 회원 적립금 상세 내역을 생성합니다.
+        List<MemberPointDetail> memberPointDetails = createMemberPointDetailUse(memberPointUseRequest, useEvent);
 
-        } catch (InterruptedException e) {
-            throw new MemberPointConcurrentException("동시에 적립금 사용 요청이 들어왔습니다. 잠시 후 다시 시도해주세요.");
-        } finally {
-            lock.unlock();
+        // 회원 적립금 상세 내역을 저장합니다. 환불 아이디는 생성할 때 자신의 아이디로 설정됩니다.
+        memberPointDetailRepository.saveAll(memberPointDetails);
+
+        // 회원 적립금 잔액에서 사용 금액을 뺍니다. 버전은 확인할 때 증가시킨 버전과 같아집니다.
+        balance.use(memberPointUseRequest.getAmount());
+
+        // 적립금 합계 캐시에서는 커밋된 뒤에 사용 금액을 뺍니다.
+        memberPointTotalCacheUpdater.updateAfterCommit(balance, fromVersion, fromBalance);
+
+        // 예약을 확정했다면 커밋된 뒤에 예약을 지웁니다.
+        if (memberPointUseRequest.getHoldId() != null) {
+            memberPointHoldStore.completeAfterCommit(memberPointUseRequest.getMemberId(), memberPointUseRequest.getHoldId(), useEvent.getId());
         }
 
+        return useEvent;
     }
 
     /**
      * 회원 적립금 사용 (Response)
      * 적립금을 사용하고, 적립금 사용 이벤트를 DTO 형태로 반환합니다.
+     * 낙관적 잠금이 새 트랜잭션으로 다시 시도할 수 있도록 트랜잭션을 시작하지 않습니다.
      *
      * @param memberPointUse (MemberPointUseRequest) memberId : 회원 아이디, amount : 적립금
      * @return 회원 적립금 사용 내역 DTO (MemberPointEventResponse)
      */
     @Override
-    @Caching(evict = {
-            @CacheEvict(value = "memberPointTotal", key = "#memberPointUse.memberId")
-    })
+    @Transactional(propagation = Propagation.SUPPORTS)
     public MemberPointEventResponse useMemberPointResponse(MemberPointUseRequest memberPointUse) {
-        return new MemberPointEventResponse(useMemberPoint(memberPointUse));
+        return new MemberPointEventResponse(self.useMemberPoint(memberPointUse));
+    }
+
+    /**
+     * 회원 적립금 사용 (비동기)
+     * 잠금은 호출한 스레드를 점유하지 않고 기다리고, 잠금을 얻은 뒤에 회원 적립금 사용 작업 스레드에서 새 트랜잭션으로 사용합니다.
+     * 호출한 스레드에서는 트랜잭션을 시작하지 않습니다.
+     *
+     * @param memberPointUse (MemberPointUseRequest) memberId : 회원 아이디, amount : 적립금
+     * @return 회원 적립금 사용 내역 DTO (MemberPointEventResponse) 가 담길 CompletableFuture
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<MemberPointEventResponse> useMemberPointAsync(MemberPointUseRequest memberPointUse) {
+        return memberPointUseLock.executeAsync(memberPointUse.getMemberId()
+                , () -> new MemberPointEventResponse(self.useMemberPointInTransaction(memberPointUse))
+                , memberPointUseExecutor::execute);
     }
 
     @Override
-    @Caching(evict = {
-            @CacheEvict(value = "memberPointTotal", key = "#memberPointUse.memberId")
-    })
     public MemberPointEvent rollbackMemberPointUse(long memberPointEventId) {
         // 회원 적립금 이벤트를 조회합니다.
         MemberPointEvent event = memberPointEventRepository.findById(memberPointEventId).orElseThrow(() -> new MemberPointEventNotFound("회원 적립금 이벤트가 존재하지 않습니다."));
@@ -271,6 +620,9 @@ public class MemberPointServiceImpl implements MemberPointService {
             throw new BadMemberPointTypeException("회원 적립금 이벤트의 타입이 사용이 아닙니다.");
         }
 
+        // 회원 적립금 이벤트를 사용 취소 상태로 변경합니다. 이미 사용 취소된 이벤트라면 예외가 발생합니다.
+        event.cancel();
+
         // 회원 적립금 이벤트의 상세 내역을 합산합니다.
         int usedAmount = event.getMemberPointDetails().stream().mapToInt(MemberPointDetail::getAmount).sum();
 
@@ -284,12 +636,24 @@ public class MemberPointServiceImpl implements MemberPointService {
             throw new MemberPointAmountBrokenException("회원 적립금 이벤트의 상세 내역의 합산 금액이 0 보다 큽니다.");
         }
 
+        // 회원 적립금 잔액을 잠금과 함께 조회합니다.
+        MemberPointBalance balance = getMemberPointBalanceForUpdate(event.getMember().getId());
+        long fromVersion = balance.getVersion();
+        int fromBalance = balance.getBalance();
 
         // 회원 적립금 이벤트의 상세 내역을 조회해, 적립금 사용 내역을 순회하며 롤백 상세 내역을 생성합니다.
         // 롤백 상세 내역은 적립금 사용 내역의 반대로 생성하며, 적립금 사용 이벤트의 상세 내역 그룹 아이디를 참조합니다.
-        List<MemberPointDetail> rollbacks = event.getMemberPointDetails().stream().map(detail -> MemberPointDetail.rollbackMemberPointDetail(detail, event)).toList();
+        // 사용 대상이었던 적립 건의 잔액도 함께 되돌립니다.
+        Map<Long, MemberPointGrant> grants = getMemberPointGrants(event.getMemberPointDetails().stream().map(MemberPointDetail::getMemberPointDetailGroupId).toList());
+        List<MemberPointDetail> rollbacks = event.getMemberPointDetails().stream().map(detail -> MemberPointDetail.rollbackMemberPointDetail(memberPointDetailIdGenerator.nextId(), detail, event, grants.get(detail.getMemberPointDetailGroupId()))).toList();
         memberPointDetailRepository.saveAll(rollbacks);
 
+        // 회원 적립금 잔액에 사용 취소된 금액을 되돌립니다.
+        balance.restore(rollbacks);
+
+        // 적립금 합계 캐시에는 커밋된 뒤에 사용 취소된 금액을 더합니다.
+        memberPointTotalCacheUpdater.updateAfterCommit(balance, fromVersion, fromBalance);
+
         return event;
     }
 
@@ -301,9 +665,6 @@ public class MemberPointServiceImpl implements MemberPointService {
      * @return 회원 적립금 사용 이벤트
      */
     @Override
-    @Caching(evict = {
-            @CacheEvict(value = "memberPointTotal", key = "#memberId")
-    })
     public MemberPointEventResponse rollbackMemberPointUseResponse(long memberId, long memberPointEventId) {
         return new MemberPointEventResponse(rollbackMemberPointUse(memberPointEventId));
 
@@ -322,36 +683,287 @@ public class MemberPointServiceImpl implements MemberPointService {
         // 적립금 합계의 캐시를 초기화합니다. CacheEvict 어노테이션을 사용하므로 별도의 코드가 필요하지 않습니다.
     }
 
+    /**
+     * 회원 적립금 잔액 재계산
+     * 회원 적립금 상세 내역 (원장) 으로부터 회원 적립금 잔액을 다시 계산합니다.
+     *
+     * @param memberId 회원 아이디
+     * @return 다시 계산된 회원 적립금 잔액
+     */
+    @Override
+    @Caching(evict = {
+            @CacheEvict(value = "memberPointTotal", key = "#memberId")
+    })
+    public int rebuildMemberPointBalance(long memberId) {
+        MemberPointBalance balance = getMemberPointBalanceForUpdate(memberId);
+        balance.rebuild(memberPointDetailRepositoryCustom.getMemberPointRemains(memberId));
+        return balance.getBalance();
+    }
+
+    /**
+     * 회원 적립금 잔액 생성
+     * 잔액이 아직 없는 회원들의 잔액을 커밋된 원장으로부터 계산해서 생성하고, 바로 반영해서 기본 키 충돌을 여기서 확인합니다.
+     * 호출한 쪽의 트랜잭션과 관계없이 새 트랜잭션으로 커밋하므로, 호출한 쪽은 생성된 잔액을 잠금과 함께 다시 조회해야 합니다.
+     *
+     * @param memberIds 잔액이 없는 회원 아이디 목록
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void createMemberPointBalances(Collection<Long> memberIds) {
+        Map<Long, List<MemberPointDetailRemain>> remains = memberPointDetailRepositoryCustom.getMemberPointRemains(memberIds).stream()
+                .collect(Collectors.groupingBy(MemberPointDetailRemain::getMemberId));
+        List<MemberPointBalance> created = new ArrayList<>(memberIds.size());
+        for (Long memberId : memberIds) {
+            MemberPointBalance balance = MemberPointBalance.empty(memberId);
+            balance.rebuild(remains.getOrDefault(memberId, List.of()));
+            created.add(balance);
+        }
+        memberPointBalanceRepository.saveAllAndFlush(created);
+    }
+
     /**
      * 회원 적립금 만료 처리
-     * 적립금 만료 시점을 지난 적립금 상세 내역을 조회하고, 적립금 만료 이벤트와 적립금 만료 상세 내역을 생성합니다.
+     * 만료된 적립금을 청크 단위로 나눠서 만료 처리합니다. 청크마다 별도의 트랜잭션으로 커밋되므로,
+     * 만료 대상이 많아도 트랜잭션이 길어지거나 만료 대상 전체를 메모리에 올리지 않습니다.
+     * 이미 트랜잭션이 있다면 (테스트) 청크는 그 트랜잭션에 참여합니다.
+     * 중단된 만료 처리가 있다면 체크포인트의 기준 시점과 마지막 그룹 ID 부터 이어서 처리합니다.
+     *
+     * @return 회원 적립금 만료 처리 결과 (처리량, 청크 소요 시간)
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public MemberPointExpireReport expireMemberPoint() {
+        return expireMemberPoint(MemberPointExpirePartition.ALL);
+    }
+
+    /**
+     * 회원 적립금 만료 처리 (파티션)
+     * 파티션에 속한 회원의 적립금만 만료 처리합니다. 체크포인트는 파티션마다 따로 관리하므로,
+     * 다른 노드가 파티션을 넘겨받으면 마지막으로 커밋된 청크 다음부터 이어서 처리합니다.
+     * 파티션 임대를 잃으면 청크의 임대 확인에서 MemberPointExpireLeaseLostException 이 발생하고 중단됩니다.
+     *
+     * @param partition 회원 적립금 만료 처리 파티션
+     * @return 회원 적립금 만료 처리 결과 (처리량, 청크 소요 시간)
      */
     @Override
-    public void expireMemberPoint() {
-        // 적립금 만료 시점을 지난 적립금 상세 내역을 조회합니다.
-        List<MemberPointDetailRemain> memberPointDetails = memberPointDetailRepositoryCustom.getMemberPointDetailExpired();
-        log.info("만료 예정 적립금 상세 내역 {}건을 확인했습니다. ", memberPointDetails.size());
-        // 적립금 상세 내역을 순회하며 적립금 만료 이벤트를 생성합니다.
-        for (MemberPointDetailRemain memberPointDetailRemain : memberPointDetails) {
-            log.info("상세 내역 아이디 : {}, 만료 금액 : {}", memberPointDetailRemain.getMemberPointDetailGroupId(), memberPointDetailRemain.getRemain());
-            // 회원 인스턴스가 필요하므로 리퍼런스 인스턴스를 생성합니다.
-            Member owner = memberService.getMemberReferenceById(memberPointDetailRemain.getMemberId());
-            memberPointDetailRemain.setOwner(owner);
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public MemberPointExpireReport expireMemberPoint(MemberPointExpirePartition partition) {
+        StopWatch stopWatch = new StopWatch();
+        stopWatch.start();
+
+        // 중단된 만료 처리가 있다면 그 기준 시점을 그대로 사용합니다.
+        LocalDateTime now = LocalDateTime.now();
+        MemberPointExpireCheckpoint checkpoint = self.startMemberPointExpire(partition, now);
+        LocalDateTime cutoff = checkpoint.getCutoff();
+        MemberPointExpireReport report = new MemberPointExpireReport(cutoff, !cutoff.equals(now));
+        log.info("회원 적립금 만료 처리를 시작합니다. 작업 : {}, 기준 시점 : {}, 마지막 그룹 ID : {}", checkpoint.getJobName(), cutoff, checkpoint.getLastGroupId());
+
+        // 만료 처리할 적립금이 남지 않을 때까지 청크 단위로 만료 처리합니다.
+        while (true) {
+            long chunkStartedAt = System.currentTimeMillis();
+            int expired = self.expireMemberPointChunk(partition, expireChunkSize);
+            if (expired == 0) {
+                break;
+            }
+            report.addExpireChunk(expired, System.currentTimeMillis() - chunkStartedAt);
+            if (expired < expireChunkSize) {
+                break;
+            }
+        }
 
-            // 적립금 만료 이벤트를 생성합니다.
-            MemberPointEvent expireEvent = MemberPointEvent.expireMemberPoint(memberPointDetailRemain);
-            memberPointEventRepository.save(expireEvent);
+        // 만료 처리할 잔액이 없더라도, 가장 먼저 만료되는 시점이 지난 회원 적립금 잔액은 다시 계산합니다.
+        long lastMemberId = 0L;
+        while (true) {
+            long chunkStartedAt = System.currentTimeMillis();
+            List<Long> rebuilt = self.rebuildMemberPointBalancesExpired(partition, cutoff, lastMemberId, expireChunkSize);
+            if (rebuilt.isEmpty()) {
+                break;
+            }
+            report.addRebuildChunk(rebuilt.size(), System.currentTimeMillis() - chunkStartedAt);
+            lastMemberId = rebuilt.get(rebuilt.size() - 1);
+            if (rebuilt.size() < expireChunkSize) {
+                break;
+            }
+        }
 
-            MemberPointDetail expireDetail = MemberPointDetail.expireMemberPointDetail(memberPointDetailRemain, expireEvent);
-            memberPointDetailRepository.save(expireDetail);
+        self.completeMemberPointExpire(partition);
 
-            // 회원 적립금 상세 내역의 환불 그룹 아이디를 업데이트합니다.
-            expireDetail.updateRefundGroupIdSelf();
-            memberPointDetailRepository.save(expireDetail);
+        stopWatch.stop();
+        report.finish(stopWatch.getTotalTimeMillis());
+        log.info("회원 적립금 만료 처리를 완료했습니다. 작업 : {}, {}", checkpoint.getJobName(), report);
+        return report;
+    }
 
-            // 만료된 적립금 회원의 캐싱을 초기화합니다.
-            self.clearMemberPointTotalCache(memberPointDetailRemain.getMemberId());
+    /**
+     * 회원 적립금 만료 처리 완료 여부 조회 (파티션)
+     * 파티션의 체크포인트가 완료 상태이고, 기준 시점이 주어진 날짜라면 완료된 것으로 봅니다.
+     *
+     * @param partition 회원 적립금 만료 처리 파티션
+     * @param runDate   만료 처리 날짜
+     * @return 완료되었다면 true
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isMemberPointExpireCompleted(MemberPointExpirePartition partition, LocalDate runDate) {
+        return memberPointExpireCheckpointRepository.findById(partition.getJobName(EXPIRE_JOB_NAME))
+                .filter(checkpoint -> !checkpoint.isRunning())
+                .filter(checkpoint -> checkpoint.getCutoff().toLocalDate().equals(runDate))
+                .isPresent();
+    }
+
+    /**
+     * 회원 적립금 만료 처리 시작
+     * 중단된 만료 처리가 있다면 그 체크포인트를 반환하고, 없다면 주어진 기준 시점으로 새로 시작합니다.
+     *
+     * @param partition 회원 적립금 만료 처리 파티션
+     * @param cutoff    만료 처리 기준 시점
+     * @return 진행 중인 만료 처리 체크포인트
+     */
+    @Override
+    public MemberPointExpireCheckpoint startMemberPointExpire(MemberPointExpirePartition partition, LocalDateTime cutoff) {
+        memberPointExpireLeaseService.checkMemberPointExpireLease(partition);
+
+        String jobName = partition.getJobName(EXPIRE_JOB_NAME);
+        Optional<MemberPointExpireCheckpoint> found = memberPointExpireCheckpointRepository.findForUpdateByJobName(jobName);
+        if (found.isEmpty()) {
+            return memberPointExpireCheckpointRepository.save(MemberPointExpireCheckpoint.start(jobName, cutoff));
         }
+
+        MemberPointExpireCheckpoint checkpoint = found.get();
+        if (checkpoint.isRunning()) {
+            log.warn("중단된 회원 적립금 만료 처리를 이어서 처리합니다. 작업 : {}, 기준 시점 : {}, 마지막 그룹 ID : {}, 처리한 그룹 : {}건",
+                    jobName, checkpoint.getCutoff(), checkpoint.getLastGroupId(), checkpoint.getExpiredCount());
+            return checkpoint;
+        }
+
+        checkpoint.restart(cutoff);
+        return checkpoint;
+    }
+
+    /**
+     * 회원 적립금 만료 처리 (청크)
+     * 체크포인트 다음부터 만료 시점이 지난 사용 가능한 적립 건을 한 청크만큼 조회하고, 만료 이벤트와 만료 상세 내역을 모아서 저장합니다.
+     * 체크포인트는 만료 내역과 같은 트랜잭션에서 옮기므로, 커밋된 청크는 다시 처리되지 않습니다.
+     *
+     * 파티션 임대는 청크가 커밋될 때까지 잠겨 있으므로, 임대를 넘겨받은 다른 노드와 같은 청크를 처리하지 않습니다.
+     *
+     * @param partition 회원 적립금 만료 처리 파티션
+     * @param size      청크 크기
+     * @return 만료 처리한 회원 적립금 상세 그룹의 개수
+     */
+    @Override
+    public int expireMemberPointChunk(MemberPointExpirePartition partition, int size) {
+        memberPointExpireLeaseService.checkMemberPointExpireLease(partition);
+
+        MemberPointExpireCheckpoint checkpoint = memberPointExpireCheckpointRepository.findForUpdateByJobName(partition.getJobName(EXPIRE_JOB_NAME)).orElse(null);
+        if (checkpoint == null || !checkpoint.isRunning()) {
+            return 0;
+        }
+
+        // 체크포인트 다음부터 만료 시점이 지난 사용 가능한 적립 건을 한 청크만큼 조회합니다.
+        List<MemberPointGrant> grants = memberPointGrantRepositoryCustom.getMemberPointGrantExpired(partition, checkpoint.getCutoff(), checkpoint.getLastExpireAt(), checkpoint.getLastGroupId(), size);
+        if (grants.isEmpty()) {
+            return 0;
+        }
+
+        // 적립 건을 만료 처리하고, 체크포인트를 옮깁니다.
+        expireMemberPointGrants(grants);
+        MemberPointGrant last = grants.get(grants.size() - 1);
+        checkpoint.advance(last.getExpireAt(), last.getId(), grants.size());
+        return grants.size();
+    }
+
+    /**
+     * 회원 적립금 만료 처리 (회원)
+     * 해당 회원의 만료 시점이 지난 적립 건을 바로 만료 처리합니다.
+     * 내역 조회의 읽기 전용 트랜잭션과 섞이지 않도록 항상 새 트랜잭션으로 커밋합니다.
+     *
+     * @param memberId 회원 아이디
+     * @return 만료 처리한 적립 건의 개수
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int expireMemberPointOf(long memberId) {
+        List<MemberPointGrant> grants = memberPointGrantRepositoryCustom.getMemberPointGrantExpired(List.of(memberId), LocalDateTime.now());
+        if (grants.isEmpty()) {
+            return 0;
+        }
+        expireMemberPointGrants(grants);
+        return grants.size();
+    }
+
+    /**
+     * 회원 적립금 만료 처리 (스위퍼)
+     * 기준 시점보다 먼저 만료된 적립 건을 만료 시점 순서로 한 청크만큼 만료 처리합니다.
+     * 만료 처리된 적립 건은 CLOSED 가 되어 다시 조회되지 않으므로 체크포인트 없이 반복할 수 있습니다.
+     * 파티션을 나눴다면 청크와 같은 트랜잭션에서 파티션 임대를 확인하므로, 두 노드가 같은 적립 건을 동시에 만료 처리하지 않습니다.
+     *
+     * @param partition 회원 적립금 만료 처리 파티션
+     * @param cutoff    기준 시점
+     * @param size      청크 크기
+     * @return 만료 처리한 적립 건의 개수
+     */
+    @Override
+    public int sweepMemberPointExpired(MemberPointExpirePartition partition, LocalDateTime cutoff, int size) {
+        memberPointExpireLeaseService.checkMemberPointExpireLease(partition);
+
+        List<MemberPointGrant> grants = memberPointGrantRepositoryCustom.getMemberPointGrantExpired(partition, cutoff, null, null, size);
+        if (grants.isEmpty()) {
+            return 0;
+        }
+        expireMemberPointGrants(grants);
+        return grants.size();
+    }
+
+    /**
+     * 회원 적립금 만료 대기 건수 조회
+     * 만료 시점이 기준 시점보다 이르지만 아직 만료 처리되지 않은 적립 건의 개수를 조회합니다.
+     *
+     * @param cutoff 기준 시점
+     * @return 만료 처리할 적립 건의 개수
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long countMemberPointExpireBacklog(LocalDateTime cutoff) {
+        return memberPointGrantRepositoryCustom.countMemberPointGrantExpired(cutoff);
+    }
+
+    /**
+     * 회원 적립금 잔액 재계산 (청크)
+     * 가장 먼저 만료되는 시점이 기준 시점보다 이른 잔액을 회원 아이디 순서로 한 청크만큼 다시 계산합니다.
+     *
+     * @param partition    회원 적립금 만료 처리 파티션
+     * @param cutoff       만료 처리 기준 시점
+     * @param lastMemberId 이전 청크에서 마지막으로 다시 계산한 회원 아이디
+     * @param size         청크 크기
+     * @return 다시 계산한 회원 아이디 (회원 아이디 순)
+     */
+    @Override
+    public List<Long> rebuildMemberPointBalancesExpired(MemberPointExpirePartition partition, LocalDateTime cutoff, long lastMemberId, int size) {
+        memberPointExpireLeaseService.checkMemberPointExpireLease(partition);
+
+        List<Long> memberIds = memberPointBalanceRepository.findMemberIdsByNextExpireAtBefore(cutoff, lastMemberId, partition.getCount(), partition.getIndex(), PageRequest.of(0, size));
+        if (memberIds.isEmpty()) {
+            return memberIds;
+        }
+
+        Collection<MemberPointBalance> balances = rebuildMemberPointBalances(memberIds);
+        memberPointTotalCacheEvictor.evictAfterCommit(balances);
+        return memberIds;
+    }
+
+    /**
+     * 회원 적립금 만료 처리 완료
+     * 체크포인트를 완료 상태로 변경합니다.
+     *
+     * @param partition 회원 적립금 만료 처리 파티션
+     */
+    @Override
+    public void completeMemberPointExpire(MemberPointExpirePartition partition) {
+        memberPointExpireLeaseService.checkMemberPointExpireLease(partition);
+
+        memberPointExpireCheckpointRepository.findForUpdateByJobName(partition.getJobName(EXPIRE_JOB_NAME))
+                .ifPresent(MemberPointExpireCheckpoint::complete);
     }
 
     /**
@@ -391,6 +1003,12 @@ public class MemberPointServiceImpl implements MemberPointService {
 
         // 만료 시점을 변경합니다.
         memberPointDetailGroupEvents.forEach(memberPointEvent1 -> memberPointEvent1.setExpireAt(expireAt, createdAt));
+
+        // 회원 적립금 적립 건의 만료 시점도 변경합니다.
+        memberPointGrantRepository.findById(memberPointDetailGroupId).ifPresent(grant -> grant.setExpireAt(expireAt, createdAt));
+
+        // 변경된 만료 시점으로 회원 적립금 잔액을 다시 계산합니다.
+        self.rebuildMemberPointBalance(memberPointEvent.getMember().getId());
     }
 
     /**
@@ -442,6 +1060,18 @@ public class MemberPointServiceImpl implements MemberPointService {
         }
         log.info("적립금이 선입선출 형태로 사용되었습니다.");
 
+        // 회원 적립금 적립 건의 잔액이 원장과 같은지 확인합니다.
+        Map<Long, MemberPointGrant> grants = getMemberPointGrants(memberPointDetails.stream().map(MemberPointDetailRemain::getMemberPointDetailGroupId).toList());
+        for (MemberPointDetailRemain row : memberPointDetails) {
+            MemberPointGrant grant = grants.get(row.getMemberPointDetailGroupId());
+            if (grant != null && grant.getRemain() != row.getRemain()) {
+                log.error("row.getMemberPointDetailGroupId() : {}", row.getMemberPointDetailGroupId());
+                log.error("row.getRemain() : {}", row.getRemain());
+                log.error("grant.getRemain() : {}", grant.getRemain());
+                throw new MemberPointAmountBrokenException("적립금 적립 건의 잔액이 상세 내역과 다릅니다.");
+            }
+        }
+
     }
 
     /**
@@ -454,7 +1084,7 @@ public class MemberPointServiceImpl implements MemberPointService {
      * @return 생성된 적립금 상세 내역 리스트
      */
     private List<MemberPointDetail> createMemberPointDetailUse(MemberPointUseRequest memberPointUseRequest, MemberPointEvent useEvent) {
-        // 적립금 상세 조회를 위해 사용할 검색 조건입니다.
+        // 적립 건 조회를 위해 사용할 검색 조건입니다.
         MemberPointDetailSearch search = new MemberPointDetailSearch();
         search.setSize(100);
         search.setMemberId(memberPointUseRequest.getMemberId());
@@ -465,12 +1095,10 @@ public class MemberPointServiceImpl implements MemberPointService {
         // 생성된 적립금 상세 내역을 담을 리스트입니다.
         List<MemberPointDetail> memberPointDetails = new ArrayList<>();
 
-        // 무한 루프를 방지하기 위해 적립금 상세 내역의 총 개수를 조회합니다.
-        long totalCount = memberPointDetailRepository.countByMemberPointEventMemberId(memberPointUseRequest.getMemberId());
-
         // 잔액이 0이 될 때까지 반복합니다.
         while (useAmountRemain > 0) {
-            // 현재 페이지의 적립금 상세 내역을 조회하고, 사용하려는 적립금의 잔액을 차감합니다.
+            // 사용 가능한 적립 건을 조회하고, 사용하려는 적립금의 잔액을 차감합니다.
+            int before = useAmountRemain;
             useAmountRemain = clearMemberPointUse(useEvent, search, useAmountRemain, memberPointDetails);
 
             // 잔액이 0이 되면 반복을 종료합니다.
@@ -479,7 +1107,8 @@ public class MemberPointServiceImpl implements MemberPointService {
             }
 
             // 오류로 인해 무한 루프하는 것을 방지합니다.
-            if (search.getOffset() > totalCount) {
+            // 키셋 커서는 항상 앞으로만 이동하므로, 더 이상 사용할 적립 건이 없는데도 잔액이 남았다면 반복을 중단합니다.
+            if (useAmountRemain == before) {
                 throw new MemberPointUseInfiniteLoopException("비정상적으로 반복문이 진행되고 있습니다. ");
             }
 
@@ -490,33 +1119,36 @@ public class MemberPointServiceImpl implements MemberPointService {
 
     /**
      * 회원 적립금 사용 순회
-     * 현재 페이지의 적립금 상세 내역을 조회하고 사용하려는 적립금의 잔액을 차감하는 유틸리티 메소드입니다.
+     * 사용 가능한 적립 건을 조회하고 사용하려는 적립금의 잔액을 차감하는 유틸리티 메소드입니다.
+     * 조회한 마지막 적립 건의 (생성 시점, ID) 로 키셋 커서를 옮기므로, 다음 순회는 그 다음 적립 건부터 조회합니다.
      * 잔액이 0이 될 때까지 이 메소드를 반복합니다.
      *
      * @param useEvent           적립금 사용 이벤트
-     * @param search             적립금 상세 내역 조회를 위한 검색 조건
+     * @param search             적립 건 조회를 위한 검색 조건 (키셋 커서가 갱신됩니다.)
      * @param useAmountRemain    사용하려는 적립금의 잔액 (매 순회마다 차감됩니다.)
      * @param memberPointDetails 생성된 적립금 상세 내역을 담은 리스트
      * @return useAmountRemain
      * 사용하려는 적립금의 잔액
      */
     private int clearMemberPointUse(MemberPointEvent useEvent, MemberPointDetailSearch search, int useAmountRemain, List<MemberPointDetail> memberPointDetails) {
-        // 현재 페이지의 적립금 상세 내역을 조회합니다.
-        List<MemberPointDetailRemain> memberPointDetailAvailable = memberPointDetailRepositoryCustom.getMemberPointDetailAvailable(search);
+        // 사용 가능한 적립 건을 조회합니다.
+        List<MemberPointGrant> memberPointGrantAvailable = memberPointGrantRepositoryCustom.getMemberPointGrantAvailable(search);
 
-        // 현재 페이지에 적립금 상세 내역이 없다면 다음 페이지를 검색합니다.
-        if (memberPointDetailAvailable.isEmpty()) {
-            search.setPage(search.getPage() + 1);
-            return useAmountRemain;
-        }
+        // 사용 가능한 적립 건을 순회하며 사용하려는 적립금의 잔액을 차감합니다.
+        for (MemberPointGrant grant : memberPointGrantAvailable) {
+            // 다음 조회는 이 적립 건 다음부터 시작합니다.
+            search.seekAfter(grant.getCreatedAt(), grant.getId());
+
+            // 이미 이번 사용에서 모두 사용한 적립 건은 건너뜁니다.
+            if (!grant.isOpen()) {
+                continue;
+            }
 
-        // 현재 페이지의 적립금 상세 내역을 순회하며 사용하려는 적립금의 잔액을 차감합니다.
-        for (MemberPointDetailRemain memberPointDetailRemain : memberPointDetailAvailable) {
-            // 사용 금액과 적립금 상세 내역 중 작은 값으로 생성합니다.
-            int useAmount = Math.min(useAmountRemain, memberPointDetailRemain.getRemain());
+            // 사용 금액과 적립 건의 잔액 중 작은 값으로 생성합니다.
+            int useAmount = Math.min(useAmountRemain, grant.getRemain());
 
-            // 적립금 상세 내역을 생성합니다.
-            MemberPointDetail current = MemberPointDetail.useMemberPointDetail(useEvent, memberPointDetailRemain, useAmount);
+            // 적립금 상세 내역을 생성합니다. 적립 건의 잔액도 함께 차감됩니다.
+            MemberPointDetail current = MemberPointDetail.useMemberPointDetail(memberPointDetailIdGenerator.nextId(), useEvent, grant, useAmount);
             memberPointDetails.add(current);
 
             // 사용하려는 적립금의 잔액을 차감합니다.
@@ -525,8 +1157,277 @@ public class MemberPointServiceImpl implements MemberPointService {
             // 잔액이 0이 되면 반복을 종료합니다.
             if (useAmountRemain == 0) break;
         }
-        // 다음 페이지를 검색합니다.
-        search.setPage(search.getPage() + 1);
         return useAmountRemain;
     }
+
+    /**
+     * 회원 적립금 적립 건을 한 번에 조회합니다.
+     *
+     * @param groupIds 회원 적립금 상세 그룹 ID 목록
+     * @return 회원 적립금 상세 그룹 ID 를 키로 하는 적립 건
+     */
+    private Map<Long, MemberPointGrant> getMemberPointGrants(List<Long> groupIds) {
+        return memberPointGrantRepository.findAllById(groupIds).stream()
+                .collect(Collectors.toMap(MemberPointGrant::getId, Function.identity()));
+    }
+
+    /**
+     * 회원 적립금 잔액으로 적립금 합계를 계산합니다.
+     * 잔액에 만료 처리되지 않은 적립금이 포함되어 있을 수 있다면 상세 내역을 합산합니다.
+     *
+     * @param balance 회원 적립금 잔액
+     * @return 회원 적립금 합계
+     */
+    private int getMemberPointTotal(MemberPointBalance balance) {
+        if (balance.isAvailableAt(LocalDateTime.now())) {
+            return balance.getBalance();
+        }
+        return memberPointDetailRepositoryCustom.getMemberPointTotal(balance.getMemberId());
+    }
+
+    /**
+     * 회원 적립금 합계가 달라지는 가장 이른 시점을 계산합니다.
+     * 잔액의 만료 시점은 이미 사용된 적립금의 만료 시점일 수도 있어 실제보다 이르거나 같으므로, 지나지 않았다면 그대로 사용합니다.
+     * 이미 지났다면 (합계를 원장으로 계산했다면) 사용 가능한 적립 건에서 조회합니다.
+     *
+     * @param balance 회원 적립금 잔액
+     * @param now     기준 시점
+     * @return 가장 먼저 만료되는 시점 (사용 가능한 적립 건이 없다면 null)
+     */
+    private LocalDateTime getNextExpireAt(MemberPointBalance balance, LocalDateTime now) {
+        if (balance.isAvailableAt(now)) {
+            return balance.getNextExpireAt();
+        }
+        return memberPointGrantRepositoryCustom.getMemberPointGrantNextExpireAt(balance.getMemberId(), now);
+    }
+
+    /**
+     * 멱등 키로 요청된 회원 적립금 이벤트를 조회합니다.
+     *
+     * @param memberId       회원 아이디
+     * @param idempotencyKey 멱등 키 (없다면 조회하지 않습니다.)
+     * @return 회원 적립금 이벤트 (멱등 키가 없거나 기록된 이벤트가 없다면 빈 Optional)
+     */
+    private Optional<MemberPointEvent> findMemberPointEventByIdempotencyKey(long memberId, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return Optional.empty();
+        }
+        return memberPointEventRepository.findByMemberIdAndIdempotencyKey(memberId, idempotencyKey);
+    }
+
+    /**
+     * 회원 적립금 잔액을 잠금 없이 조회합니다.
+     * 잔액이 아직 없는 회원이라면 원장으로부터 계산해서 생성합니다.
+     * 잔액을 갱신하기 전에 잔액 버전을 확인해야 합니다. (MemberPointBalanceRepository.increaseVersionIfMatches)
+     *
+     * 잠금 없이 조회하므로 같은 회원의 첫 사용이 동시에 들어오면 잔액을 함께 생성할 수 있습니다.
+     * 생성은 바로 반영해서 기본 키 충돌을 여기서 확인하고, 충돌하면 버전 충돌과 같이 새 트랜잭션에서 다시 시도합니다.
+     *
+     * @param memberId 회원 아이디
+     * @return 회원 적립금 잔액
+     */
+    private MemberPointBalance getMemberPointBalance(long memberId) {
+        Optional<MemberPointBalance> found = memberPointBalanceRepository.findById(memberId);
+        if (found.isPresent()) {
+            return found.get();
+        }
+
+        MemberPointBalance balance = MemberPointBalance.empty(memberId);
+        balance.rebuild(memberPointDetailRepositoryCustom.getMemberPointRemains(memberId));
+        try {
+            return memberPointBalanceRepository.saveAndFlush(balance);
+        } catch (DataIntegrityViolationException e) {
+            throw new MemberPointBalanceVersionConflictException("회원 적립금 잔액이 다른 요청에 의해 먼저 생성되었습니다.");
+        }
+    }
+
+    /**
+     * 회원 적립금 잔액을 갱신하기 위해 잠금과 함께 조회합니다.
+     * 잔액이 아직 없는 회원이라면 잠글 행이 없으므로, 먼저 새 트랜잭션으로 생성한 뒤에 잠금과 함께 다시 조회합니다. (createMemberPointBalancesIfAbsent)
+     * 원장을 기록하기 전에 호출해야 합니다.
+     *
+     * @param memberId 회원 아이디
+     * @return 회원 적립금 잔액
+     */
+    private MemberPointBalance getMemberPointBalanceForUpdate(long memberId) {
+        Optional<MemberPointBalance> found = memberPointBalanceRepository.findForUpdateByMemberId(memberId);
+        if (found.isPresent()) {
+            return found.get();
+        }
+
+        createMemberPointBalancesIfAbsent(List.of(memberId));
+        MemberPointBalance balance = memberPointBalanceRepository.findForUpdateByMemberId(memberId)
+                .orElseThrow(() -> new IllegalStateException("회원 적립금 잔액을 생성하지 못했습니다. : " + memberId));
+
+        // 생성할 때는 커밋된 원장만 볼 수 있으므로, 이 트랜잭션에서 기록한 원장 (지연 만료 등) 까지 반영해서 다시 계산합니다.
+        balance.rebuild(memberPointDetailRepositoryCustom.getMemberPointRemains(memberId));
+        return balance;
+    }
+
+    /**
+     * 여러 회원의 적립금 잔액을 갱신하기 위해 잠금과 함께 한 번에 조회합니다.
+     * 잔액이 아직 없는 회원들은 먼저 새 트랜잭션으로 생성한 뒤에 잠금과 함께 다시 조회합니다. (createMemberPointBalancesIfAbsent)
+     * 원장을 기록하기 전에 호출해야 합니다.
+     *
+     * @param memberIds 회원 아이디 목록
+     * @return 회원 아이디를 키로 하는 회원 적립금 잔액
+     */
+    private Map<Long, MemberPointBalance> getMemberPointBalancesForUpdate(Collection<Long> memberIds) {
+        Map<Long, MemberPointBalance> balances = new HashMap<>();
+        if (memberIds.isEmpty()) {
+            return balances;
+        }
+
+        memberPointBalanceRepository.findForUpdateByMemberIdInOrderByMemberIdAsc(memberIds)
+                .forEach(balance -> balances.put(balance.getMemberId(), balance));
+
+        List<Long> missingMemberIds = memberIds.stream().filter(memberId -> !balances.containsKey(memberId)).toList();
+        if (missingMemberIds.isEmpty()) {
+            return balances;
+        }
+
+        createMemberPointBalancesIfAbsent(missingMemberIds);
+        List<MemberPointBalance> created = memberPointBalanceRepository.findForUpdateByMemberIdInOrderByMemberIdAsc(missingMemberIds);
+        if (created.size() != missingMemberIds.size()) {
+            throw new IllegalStateException("회원 적립금 잔액을 생성하지 못했습니다. : " + missingMemberIds);
+        }
+
+        // 생성할 때는 커밋된 원장만 볼 수 있으므로, 이 트랜잭션에서 기록한 원장 (지연 만료 등) 까지 반영해서 다시 계산합니다.
+        Map<Long, List<MemberPointDetailRemain>> remains = memberPointDetailRepositoryCustom.getMemberPointRemains(missingMemberIds).stream()
+                .collect(Collectors.groupingBy(MemberPointDetailRemain::getMemberId));
+        for (MemberPointBalance balance : created) {
+            balance.rebuild(remains.getOrDefault(balance.getMemberId(), List.of()));
+            balances.put(balance.getMemberId(), balance);
+        }
+        return balances;
+    }
+
+    /**
+     * 잔액이 아직 없는 회원들의 잔액을 새 트랜잭션으로 생성합니다.
+     * 같은 회원의 첫 적립/사용이 동시에 들어와 다른 요청이 먼저 생성했다면, 기본 키 충돌은 무시하고 그 요청이 생성한 잔액을 사용합니다.
+     * 여러 회원을 한 번에 생성하다가 충돌했다면, 충돌하지 않은 회원도 생성되도록 회원마다 다시 생성합니다.
+     *
+     * @param memberIds 잔액이 없는 회원 아이디 목록
+     */
+    private void createMemberPointBalancesIfAbsent(List<Long> memberIds) {
+        try {
+            self.createMemberPointBalances(memberIds);
+            return;
+        } catch (DataIntegrityViolationException e) {
+            if (memberIds.size() == 1) {
+                log.debug("회원 적립금 잔액이 다른 요청에 의해 먼저 생성되었습니다. 회원 아이디 : {}", memberIds.get(0));
+                return;
+            }
+        }
+
+        for (Long memberId : memberIds) {
+            try {
+                self.createMemberPointBalances(List.of(memberId));
+            } catch (DataIntegrityViolationException e) {
+                log.debug("회원 적립금 잔액이 다른 요청에 의해 먼저 생성되었습니다. 회원 아이디 : {}", memberId);
+            }
+        }
+    }
+
+    /**
+     * 여러 회원의 적립금 잔액을 원장으로부터 한 번에 다시 계산합니다.
+     * 잔액은 잠금과 함께 한 번에 조회하고, 원장도 한 번의 쿼리로 조회합니다.
+     * 잔액이 아직 없는 회원은 새로 생성합니다.
+     *
+     * @param memberIds 회원 아이디 목록
+     * @return 다시 계산한 회원 적립금 잔액 목록
+     */
+    private Collection<MemberPointBalance> rebuildMemberPointBalances(Collection<Long> memberIds) {
+        Map<Long, MemberPointBalance> balances = memberPointBalanceRepository.findForUpdateByMemberIdInOrderByMemberIdAsc(memberIds).stream()
+                .collect(Collectors.toMap(MemberPointBalance::getMemberId, Function.identity()));
+        Map<Long, List<MemberPointDetailRemain>> remains = memberPointDetailRepositoryCustom.getMemberPointRemains(memberIds).stream()
+                .collect(Collectors.groupingBy(MemberPointDetailRemain::getMemberId));
+
+        List<MemberPointBalance> created = new ArrayList<>();
+        for (Long memberId : memberIds) {
+            MemberPointBalance balance = balances.get(memberId);
+            if (balance == null) {
+                balance = MemberPointBalance.empty(memberId);
+                created.add(balance);
+            }
+            balance.rebuild(remains.getOrDefault(memberId, List.of()));
+            balances.put(memberId, balance);
+        }
+        memberPointBalanceRepository.saveAll(created);
+        return balances.values();
+    }
+
+    /**
+     * 만료 시점이 지난 적립 건을 만료 처리합니다.
+     * 만료 이벤트와 만료 상세 내역을 모아서 저장하고, 만료된 회원의 잔액을 다시 계산합니다.
+     * 적립 건의 잔액은 원장과 같으므로 (checkMemberPoint 로 검사합니다.) 상세 내역 원장을 그룹별로 합산하지 않습니다.
+     *
+     * @param grants 만료 처리할 사용 가능한 적립 건
+     */
+    private void expireMemberPointGrants(List<MemberPointGrant> grants) {
+        List<MemberPointDetailRemain> expired = grants.stream()
+                .map(grant -> new MemberPointDetailRemain(grant.getId(), grant.getRemain(), grant.getExpireAt(), grant.getCreatedAt(), grant.getMemberId()))
+                .toList();
+
+        // 만료 이벤트에 필요한 회원 리퍼런스를 한 번에 조회합니다.
+        Set<Long> memberIds = expired.stream().map(MemberPointDetailRemain::getMemberId).collect(Collectors.toSet());
+        Map<Long, Member> owners = memberService.getMemberReferencesByIds(memberIds);
+
+        // 적립금 만료 이벤트를 생성합니다.
+        List<MemberPointEvent> expireEvents = new ArrayList<>(expired.size());
+        for (MemberPointDetailRemain memberPointDetailRemain : expired) {
+            memberPointDetailRemain.setOwner(owners.get(memberPointDetailRemain.getMemberId()));
+            expireEvents.add(MemberPointEvent.expireMemberPoint(memberPointDetailRemain));
+        }
+        memberPointEventRepository.saveAll(expireEvents);
+
+        // 적립금 만료 상세 내역을 생성합니다. 적립 건의 잔액도 함께 만료됩니다.
+        List<MemberPointDetail> expireDetails = new ArrayList<>(expired.size());
+        for (int i = 0; i < expired.size(); i++) {
+            expireDetails.add(MemberPointDetail.expireMemberPointDetail(memberPointDetailIdGenerator.nextId(), expired.get(i), grants.get(i), expireEvents.get(i)));
+        }
+        memberPointDetailRepository.saveAll(expireDetails);
+
+        // 만료된 회원의 잔액을 다시 계산합니다.
+        Collection<MemberPointBalance> balances = rebuildMemberPointBalances(memberIds);
+
+        // 만료된 회원의 적립금 합계 캐시는 커밋된 뒤에 한 번에 초기화합니다.
+        memberPointTotalCacheEvictor.evictAfterCommit(balances);
+    }
+
+    /**
+     * 지연 만료 (LAZY) 모드라면, 회원들의 만료 시점이 지난 적립 건을 만료 처리합니다.
+     * 회원이 적립, 사용을 할 때 원장을 기록하기 전에 같은 트랜잭션에서 호출합니다.
+     *
+     * @param memberIds 회원 아이디 목록
+     */
+    private void expireMemberPointLazily(Collection<Long> memberIds) {
+        if (expireMode != MemberPointExpireMode.LAZY || memberIds.isEmpty()) {
+            return;
+        }
+
+        List<MemberPointGrant> grants = memberPointGrantRepositoryCustom.getMemberPointGrantExpired(memberIds, LocalDateTime.now());
+        if (!grants.isEmpty()) {
+            expireMemberPointGrants(grants);
+        }
+    }
+
+    /**
+     * 지연 만료 (LAZY) 모드라면, 내역을 조회하기 전에 회원의 만료 시점이 지난 적립 건을 별도의 트랜잭션으로 만료 처리합니다.
+     * 같은 적립 건을 다른 요청이나 스위퍼가 먼저 만료 처리했다면 적립 건 버전 충돌이 발생하는데,
+     * 이미 만료된 것이므로 그대로 내역을 조회합니다.
+     *
+     * @param memberId 회원 아이디
+     */
+    private void expireMemberPointBeforeRead(long memberId) {
+        if (expireMode != MemberPointExpireMode.LAZY) {
+            return;
+        }
+
+        try {
+            self.expireMemberPointOf(memberId);
+        } catch (ConcurrencyFailureException e) {
+            log.info("다른 요청이 먼저 적립금을 만료 처리했습니다. 회원 아이디 : {}, 원인 : {}", memberId, e.getMessage());
+        }
+    }
 }
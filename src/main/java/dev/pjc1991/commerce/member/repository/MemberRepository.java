@@ -1,9 +1,36 @@
 package dev.pjc1991.commerce.member.repository;
 
 import dev.pjc1991.commerce.member.domain.Member;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface MemberRepository extends JpaRepository<Member, Long> {
+
+    /**
+     * 존재하는 회원 아이디만 조회합니다.
+     * 여러 회원의 존재 여부를 한 번의 쿼리로 확인할 때 사용합니다.
+     *
+     * @param ids 회원 아이디 목록
+     * @return 존재하는 회원 아이디 목록
+     */
+    @Query("select m.id from Member m where m.id in :ids")
+    List<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 주어진 아이디보다 큰 회원 아이디를 순서대로 조회합니다.
+     * 회원 아이디를 메모리에 다시 읽어올 때 (MemberExistenceService) 나눠서 조회하기 위해 사용합니다.
+     *
+     * @param afterId  이전에 조회한 마지막 회원 아이디 (처음이라면 0)
+     * @param pageable 조회할 개수 (페이지 번호는 항상 0)
+     * @return 회원 아이디 목록
+     */
+    @Query("select m.id from Member m where m.id > :afterId order by m.id")
+    List<Long> findIdsAfter(@Param("afterId") long afterId, Pageable pageable);
 }
@@ -0,0 +1,34 @@
+package dev.pjc1991.commerce.member.service;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 회원 존재 여부 확인 서비스 인터페이스
+ * 적립, 사용, 내역 조회, 합계 조회마다 회원을 조회하지 않도록, 존재하는 회원 아이디를 메모리에 보관합니다.
+ * 메모리는 처음 확인한 회원을 추가하는 것과, 주기적으로 다시 읽어오는 것 (reload) 으로만 갱신됩니다.
+ */
+public interface MemberExistenceService {
+
+    /**
+     * 회원이 존재하는지 확인합니다.
+     * 메모리에 없는 아이디 (다른 노드에서 가입한 회원 등) 는 데이터베이스에서 확인하고, 존재한다면 메모리에 추가합니다.
+     * @param memberId 회원 아이디
+     * @return 회원이 존재하면 true
+     */
+    boolean exists(long memberId);
+
+    /**
+     * 여러 회원 중 존재하는 회원을 확인합니다.
+     * 메모리에 없는 아이디만 한 번의 쿼리로 데이터베이스에서 확인합니다.
+     * @param memberIds 회원 아이디 목록
+     * @return 존재하는 회원 아이디
+     */
+    Set<Long> filterExisting(Collection<Long> memberIds);
+
+    /**
+     * 존재하는 회원 아이디를 데이터베이스에서 다시 읽어옵니다.
+     * 가입한 회원은 처음 확인할 때 데이터베이스에서 찾아 추가되므로, 탈퇴한 회원은 다시 읽어와야만 메모리에서 삭제됩니다.
+     */
+    void reload();
+}
@@ -2,6 +2,9 @@ package dev.pjc1991.commerce.member.service;
 
 import dev.pjc1991.commerce.member.domain.Member;
 
+import java.util.Collection;
+import java.util.Map;
+
 /**
  * 회원 서비스 인터페이스
  */
@@ -14,14 +17,31 @@ public interface MemberService {
      */
     Member getMemberById(long memberId);
 
+    /**
+     * 회원 존재 여부 확인
+     * 회원을 조회하지 않고, 메모리에 보관된 회원 아이디로 확인합니다. (없을 때만 데이터베이스에서 확인합니다.)
+     * @param memberId 회원 아이디
+     * @throws dev.pjc1991.commerce.member.exception.MemberNotFoundException 회원이 존재하지 않을 때
+     */
+    void checkMemberExists(long memberId);
+
     /**
      * 회원 엔티티 조회 (참조)
-     * 참조체만 반환해서 성능을 향상시킵니다. (영속성 컨텍스트에는 없음)
+     * 회원이 존재하는지 확인한 뒤, 참조체만 반환해서 성능을 향상시킵니다. (데이터베이스를 조회하지 않음)
      * @param memberId 회원 아이디
      * @return 회원 엔티티 (참조)
      */
     Member getMemberReferenceById(long memberId);
 
+    /**
+     * 회원 엔티티 일괄 조회 (참조)
+     * 한 번의 쿼리로 존재하는 회원만 확인하고, 참조체를 반환합니다.
+     * 존재하지 않는 회원은 결과에 포함되지 않습니다.
+     * @param memberIds 회원 아이디 목록
+     * @return 회원 아이디를 키로 하는 회원 엔티티 (참조)
+     */
+    Map<Long, Member> getMemberReferencesByIds(Collection<Long> memberIds);
+
     /**
      * 회원 엔티티 캐시 초기화
      * @param memberId
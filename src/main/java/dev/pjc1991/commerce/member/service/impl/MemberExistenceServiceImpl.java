@@ -0,0 +1,171 @@
+package dev.pjc1991.commerce.member.service.impl;
+
+import dev.pjc1991.commerce.member.component.MemberIdBitSet;
+import dev.pjc1991.commerce.member.repository.MemberRepository;
+import dev.pjc1991.commerce.member.service.MemberExistenceService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StopWatch;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 회원 존재 여부 확인 서비스 구현체
+ * 존재하는 회원 아이디를 비트셋 (MemberIdBitSet) 으로 보관합니다. 비트셋에 있는 회원은 데이터베이스를 조회하지 않습니다.
+ * 비트셋에 없는 아이디만 데이터베이스에서 확인하므로, 다른 노드에서 가입한 회원은 데이터베이스를 한 번 더 조회할 뿐입니다.
+ *
+ * 가입과 탈퇴를 비트셋에 직접 반영하지 않습니다. 가입한 회원은 처음 확인할 때 데이터베이스에서 찾아 추가하고,
+ * 탈퇴한 회원은 member.existence.reload-delay (ms) 마다 데이터베이스에서 다시 읽어올 때 삭제됩니다. (그 전까지는 존재하는 것으로 확인됩니다.)
+ */
+@Slf4j
+@Service
+public class MemberExistenceServiceImpl implements MemberExistenceService {
+
+    // 다시 읽어올 때 한 번에 조회할 회원 아이디의 개수
+    private static final int RELOAD_PAGE_SIZE = 10000;
+
+    private final MemberRepository memberRepository;
+    private final long maxId;
+
+    private volatile MemberIdBitSet members;
+
+    // 다시 읽어오는 중인 비트셋 (읽는 동안 확인한 회원을 함께 반영합니다.)
+    private volatile MemberIdBitSet reloading;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+
+    /**
+     * 생성자
+     *
+     * @param memberRepository 회원 레포지토리
+     * @param maxId            비트셋에 보관할 가장 큰 회원 아이디 (이보다 큰 아이디는 항상 데이터베이스에서 확인합니다.)
+     * @param meterRegistry    지표를 등록할 레지스트리
+     */
+    public MemberExistenceServiceImpl(
+            MemberRepository memberRepository
+            , @Value("${member.existence.max-id:100000000}") long maxId
+            , MeterRegistry meterRegistry
+    ) {
+        this.memberRepository = memberRepository;
+        this.maxId = maxId;
+        this.members = new MemberIdBitSet(maxId);
+
+        FunctionCounter.builder("member.existence.check", hits, LongAdder::sum).tag("result", "hit").register(meterRegistry);
+        FunctionCounter.builder("member.existence.check", fallbacks, LongAdder::sum).tag("result", "fallback").register(meterRegistry);
+        Gauge.builder("member.existence.size", this, service -> service.members.size())
+                .description("비트셋에 보관된 회원 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean exists(long memberId) {
+        if (members.contains(memberId)) {
+            hits.increment();
+            return true;
+        }
+
+        fallbacks.increment();
+        boolean exists = memberRepository.existsById(memberId);
+        if (exists) {
+            addAfterCommit(memberId);
+        }
+        return exists;
+    }
+
+    @Override
+    public Set<Long> filterExisting(Collection<Long> memberIds) {
+        Set<Long> existing = new HashSet<>();
+        List<Long> unknown = new ArrayList<>();
+        for (Long memberId : memberIds) {
+            if (members.contains(memberId)) {
+                existing.add(memberId);
+            } else {
+                unknown.add(memberId);
+            }
+        }
+        hits.add(existing.size());
+        if (unknown.isEmpty()) {
+            return existing;
+        }
+
+        fallbacks.add(unknown.size());
+        for (Long memberId : memberRepository.findIdsByIdIn(unknown)) {
+            addAfterCommit(memberId);
+            existing.add(memberId);
+        }
+        return existing;
+    }
+
+    /**
+     * 회원 아이디 순서로 나눠서 읽어온 뒤, 다 읽으면 비트셋을 교체합니다.
+     * 읽는 동안 데이터베이스에서 확인한 회원은 새 비트셋에도 추가하므로, 교체할 때 빠지지 않습니다.
+     * 애플리케이션이 시작될 때와, 이전 실행이 끝난 뒤 member.existence.reload-delay 만큼 기다렸다가 실행됩니다.
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${member.existence.reload-delay:600000}")
+    public synchronized void reload() {
+        StopWatch stopWatch = new StopWatch();
+        stopWatch.start();
+
+        MemberIdBitSet loaded = new MemberIdBitSet(maxId);
+        reloading = loaded;
+        try {
+            long afterId = 0L;
+            List<Long> ids;
+            do {
+                ids = memberRepository.findIdsAfter(afterId, PageRequest.of(0, RELOAD_PAGE_SIZE));
+                ids.forEach(loaded::add);
+                if (!ids.isEmpty()) {
+                    afterId = ids.get(ids.size() - 1);
+                }
+            } while (ids.size() == RELOAD_PAGE_SIZE);
+            members = loaded;
+        } finally {
+            reloading = null;
+        }
+
+        stopWatch.stop();
+        log.info("회원 아이디 {}개를 다시 읽어왔습니다. ({}ms)", loaded.size(), stopWatch.getTotalTimeMillis());
+    }
+
+    /**
+     * 회원 아이디를 비트셋에 추가합니다.
+     * 같은 트랜잭션에서 저장한 (아직 커밋되지 않은) 회원일 수 있으므로, 트랜잭션 안이라면 커밋된 뒤에 추가합니다.
+     * 롤백된 회원이 존재하는 회원으로 남지 않도록 합니다.
+     */
+    private void addAfterCommit(long memberId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(memberId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add(memberId);
+            }
+        });
+    }
+
+    private void add(long memberId) {
+        members.add(memberId);
+        MemberIdBitSet next = reloading;
+        if (next != null) {
+            next.add(memberId);
+        }
+    }
+}
@@ -3,15 +3,19 @@ package dev.pjc1991.commerce.member.service.impl;
 import dev.pjc1991.commerce.member.domain.Member;
 import dev.pjc1991.commerce.member.exception.MemberNotFoundException;
 import dev.pjc1991.commerce.member.repository.MemberRepository;
+import dev.pjc1991.commerce.member.service.MemberExistenceService;
 import dev.pjc1991.commerce.member.service.MemberService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * 회원 서비스 구현체
@@ -22,6 +26,7 @@ import java.util.Optional;
 public class MemberServiceImpl implements MemberService {
 
     private final MemberRepository memberRepository;
+    private final MemberExistenceService memberExistenceService;
 
     /**
      * 회원 엔티티 조회
@@ -37,24 +42,51 @@ public class MemberServiceImpl implements MemberService {
         return memberRepository.findById(memberId).orElseThrow(() -> new MemberNotFoundException("회원을 찾을 수 없습니다."));
     }
 
+    /**
+     * 회원 존재 여부 확인
+     * 비트셋에 있는 회원은 트랜잭션을 열지 않고 확인합니다.
+     * 비트셋에 없을 때만 레포지토리 (existsById) 가 읽기 전용 트랜잭션을 열어 데이터베이스에서 확인합니다.
+     * @param memberId 회원 아이디
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void checkMemberExists(long memberId) {
+        if (!memberExistenceService.exists(memberId)) {
+            throw new MemberNotFoundException("회원을 찾을 수 없습니다.");
+        }
+    }
+
     /**
      * 회원 엔티티 조회 (참조)
+     * 참조체 (Hibernate 프록시) 는 캐시에 저장하지 않고, 존재 여부만 메모리에서 확인한 뒤 매번 만듭니다.
      * @param memberId 회원 아이디
      * @return
      */
     @Override
     @Transactional(readOnly = true)
-    @Caching(cacheable = {
-            @Cacheable(value = "memberReference", key = "#memberId", unless = "#result == null")
-    })
     public Member getMemberReferenceById(long memberId) {
-        Optional<Member> optional = memberRepository.findById(memberId);
-        if(optional.isEmpty()) {
-            throw new MemberNotFoundException("회원을 찾을 수 없습니다.");
-        }
-
+        checkMemberExists(memberId);
         return memberRepository.getReferenceById(memberId);
+    }
+
+    /**
+     * 회원 엔티티 일괄 조회 (참조)
+     * 회원 수만큼 조회하지 않도록, 메모리에 없는 회원 아이디만 한 번에 조회한 뒤 참조체를 생성합니다.
+     * @param memberIds 회원 아이디 목록
+     * @return 회원 아이디를 키로 하는 회원 엔티티 (참조)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Member> getMemberReferencesByIds(Collection<Long> memberIds) {
+        Map<Long, Member> members = new HashMap<>();
+        if (memberIds.isEmpty()) {
+            return members;
+        }
 
+        for (Long memberId : memberExistenceService.filterExisting(memberIds)) {
+            members.put(memberId, memberRepository.getReferenceById(memberId));
+        }
+        return members;
     }
 
     /**
@@ -64,8 +96,7 @@ public class MemberServiceImpl implements MemberService {
      */
     @Override
     @Caching(evict = {
-            @CacheEvict(value = "member", key = "#memberId"),
-            @CacheEvict(value = "memberReference", key = "#memberId")
+            @CacheEvict(value = "member", key = "#memberId")
     })
     public void resetMemberCache(long memberId) {
         // 이 함수 자체는 아무 일도 하지 않습니다.
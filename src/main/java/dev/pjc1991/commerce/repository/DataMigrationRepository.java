@@ -0,0 +1,9 @@
+package dev.pjc1991.commerce.repository;
+
+import dev.pjc1991.commerce.domain.DataMigration;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DataMigrationRepository extends JpaRepository<DataMigration, Integer> {
+}
@@ -1 +1,3 @@
-INSERT INTO MEMBER (NAME) VALUES ('TEST MEMBER');
\ No newline at end of file
+INSERT INTO MEMBER (NAME) VALUES ('TEST MEMBER');
+
+-- 기존 데이터의 백필은 기동할 때마다 실행되지 않도록 db/migration 의 버전별 스크립트로 한 번만 실행합니다. (DataMigrationRunner)
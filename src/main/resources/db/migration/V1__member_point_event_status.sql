@@ -0,0 +1,7 @@
+-- MEMBER_POINT_EVENT.STATUS 백필
+-- 상태 컬럼이 추가되기 전에 사용 취소된 이벤트 (CANCEL 상세 내역을 가진 이벤트) 를 CANCELLED 로 변경합니다.
+-- 사용 취소된 이벤트는 상태 컬럼과 함께 기록되므로, 컬럼이 추가된 뒤 한 번만 실행합니다. (DataMigrationRunner)
+UPDATE MEMBER_POINT_EVENT SET STATUS = 'ACTIVE' WHERE STATUS IS NULL;
+UPDATE MEMBER_POINT_EVENT SET STATUS = 'CANCELLED'
+WHERE STATUS <> 'CANCELLED'
+  AND ID IN (SELECT MEMBER_POINT_EVENT_ID FROM MEMBER_POINT_DETAIL WHERE TYPE = 'CANCEL');
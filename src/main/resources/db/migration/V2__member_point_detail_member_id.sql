@@ -0,0 +1,10 @@
+-- MEMBER_POINT_DETAIL.MEMBER_ID 백필
+-- 회원 아이디 컬럼은 NULL 을 허용하고 기본값 0 으로 추가됩니다. (스키마 갱신으로 기존 행이 있는 테이블에 추가할 수 있도록)
+-- 컬럼이 추가되기 전의 상세 내역 (NULL 또는 기본값 0) 은 이벤트의 회원 아이디로 채운 뒤, NOT NULL 로 변경합니다.
+-- 회원 아이디는 1부터 시작하므로 0 은 백필되지 않은 행입니다.
+-- NOT NULL 로 변경하면 테이블 전체를 확인하고 (PostgreSQL 에서는 ACCESS EXCLUSIVE 잠금), 이후의 상세 내역은 회원 아이디와 함께 기록되므로 한 번만 실행합니다. (DataMigrationRunner)
+UPDATE MEMBER_POINT_DETAIL SET MEMBER_ID = (
+    SELECT MEMBER_POINT_EVENT.MEMBER_ID FROM MEMBER_POINT_EVENT WHERE MEMBER_POINT_EVENT.ID = MEMBER_POINT_DETAIL.MEMBER_POINT_EVENT_ID
+)
+WHERE MEMBER_ID IS NULL OR MEMBER_ID = 0;
+ALTER TABLE MEMBER_POINT_DETAIL ALTER COLUMN MEMBER_ID SET NOT NULL;
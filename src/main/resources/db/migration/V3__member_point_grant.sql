@@ -0,0 +1,23 @@
+-- MEMBER_POINT_GRANT 백필
+-- 적립 건 테이블이 생기기 전에 적립된 상세 내역 (EARN) 마다 적립 건을 하나씩 만듭니다.
+-- 잔액은 상세 그룹별 합계 (적립 - 사용 - 만료 + 사용 취소) 입니다. 잔액이 남지 않은 적립 건은 CLOSED 로 만듭니다.
+-- 만료 시점이 지났지만 아직 만료 처리되지 않은 적립 건은 잔액이 남아 있으므로 OPEN 으로 두고, 다음 만료 처리에서 만료됩니다.
+-- 이후의 적립은 적립 건과 함께 기록되므로 한 번만 실행합니다. (DataMigrationRunner)
+-- 이미 적립 건이 있는 상세 내역은 건너뛰므로, 실패한 뒤 다시 실행해도 결과가 같습니다. (MEMBER_ID 백필 (V2) 다음에 실행되어야 합니다.)
+INSERT INTO MEMBER_POINT_GRANT (ID, MEMBER_ID, AMOUNT, REMAIN, STATUS, CREATED_AT, EXPIRE_AT, VERSION)
+SELECT EARN.ID
+     , EARN.MEMBER_ID
+     , EARN.AMOUNT
+     , LEDGER.REMAIN
+     , CASE WHEN LEDGER.REMAIN > 0 THEN 'OPEN' ELSE 'CLOSED' END
+     , EARN.CREATED_AT
+     , EARN.EXPIRE_AT
+     , 0
+FROM MEMBER_POINT_DETAIL EARN
+         JOIN (
+    SELECT MEMBER_POINT_DETAIL_GROUP_ID, SUM(AMOUNT) AS REMAIN
+    FROM MEMBER_POINT_DETAIL
+    GROUP BY MEMBER_POINT_DETAIL_GROUP_ID
+) LEDGER ON LEDGER.MEMBER_POINT_DETAIL_GROUP_ID = EARN.ID
+WHERE EARN.TYPE = 'EARN'
+  AND NOT EXISTS (SELECT 1 FROM MEMBER_POINT_GRANT WHERE MEMBER_POINT_GRANT.ID = EARN.ID);
@@ -0,0 +1,4 @@
+-- IDX_MEMBER_POINT_DETAIL_EXPIRE_AT 삭제
+-- 만료 대상은 적립 건 (MEMBER_POINT_GRANT) 의 (STATUS, EXPIRE_AT, ID) 인덱스로 조회하므로, 상세 내역의 만료 시점 인덱스는 읽는 쿼리가 없습니다.
+-- 스키마 갱신 (ddl-auto=update) 은 엔티티에서 지운 인덱스를 삭제하지 않으므로, 이미 만들어진 인덱스를 삭제합니다.
+DROP INDEX IF EXISTS IDX_MEMBER_POINT_DETAIL_EXPIRE_AT;
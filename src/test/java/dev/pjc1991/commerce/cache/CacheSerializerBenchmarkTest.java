@@ -0,0 +1,174 @@
+package dev.pjc1991.commerce.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import dev.pjc1991.commerce.member.component.MemberRedisSerializer;
+import dev.pjc1991.commerce.member.domain.Member;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 캐시 직렬화 벤치마크
+ * 기존 설정 (기본 타입 정보를 포함한 JSON) 과 캐시별 직렬화의 저장 크기, 직렬화/역직렬화 시간 (ns/op) 을 비교합니다.
+ * Redis 없이 직렬화만 측정합니다.
+ * 빌드의 테스트에서는 제외되고, ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+class CacheSerializerBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheSerializerBenchmarkTest.class);
+
+    private static final int WARMUP = 20000;
+    private static final int ITERATIONS = 100000;
+    private static final int LARGE_VALUE_SIZE = 200;
+    private static final int COMPRESSION_THRESHOLD = 1024;
+
+    private final RedisSerializer<Object> json = createJsonSerializer();
+
+    /**
+     * 회원 적립금 합계 : JSON 과 Redis 해시 필드 (10진수 문자열) 를 비교합니다.
+     */
+    @Test
+    void memberPointTotal() {
+        Integer total = 1234567;
+        RedisSerializer<String> string = new StringRedisSerializer();
+
+        Result before = measure("memberPointTotal (JSON)", json, total);
+        Result after = measure("memberPointTotal (hash field)", new RedisSerializer<Integer>() {
+            @Override
+            public byte[] serialize(Integer value) {
+                return string.serialize(String.valueOf(value));
+            }
+
+            @Override
+            public Integer deserialize(byte[] bytes) {
+                return Integer.parseInt(string.deserialize(bytes));
+            }
+        }, total);
+
+        assertTrue(after.bytes <= before.bytes);
+    }
+
+    /**
+     * 회원 : JSON (클래스 이름, 필드 이름 포함) 과 회원 직렬화 (아이디, 이름) 를 비교합니다.
+     */
+    @Test
+    void member() {
+        Member member = createMember(1L);
+
+        Result before = measure("member (JSON)", json, member);
+        Result after = measure("member (binary)", new MemberRedisSerializer(), member);
+
+        assertTrue(after.bytes < before.bytes);
+    }
+
+    /**
+     * 큰 값 : 회원 목록을 JSON 으로 저장할 때 압축 여부를 비교합니다.
+     */
+    @Test
+    void largeValue() {
+        List<Member> members = new ArrayList<>();
+        for (long id = 1; id <= LARGE_VALUE_SIZE; id++) {
+            members.add(createMember(id));
+        }
+
+        Result before = measure("member list (JSON)", json, members);
+        Result after = measure("member list (JSON + Deflate)", new CompressingRedisSerializer<>(json, COMPRESSION_THRESHOLD), members);
+
+        assertTrue(before.bytes >= COMPRESSION_THRESHOLD);
+        assertTrue(after.bytes < before.bytes);
+
+        // 기준 크기보다 작은 값은 압축하지 않고 1 바이트만 늘어납니다.
+        Member small = createMember(1L);
+        byte[] raw = new CompressingRedisSerializer<>(json, COMPRESSION_THRESHOLD).serialize(small);
+        assertEquals(json.serialize(small).length + 1, raw.length);
+    }
+
+    /**
+     * 이 직렬화를 적용하기 전에 저장된 값도 읽을 수 있어야 합니다.
+     */
+    @Test
+    void readsValuesStoredBefore() {
+        Member member = createMember(1L);
+        byte[] stored = json.serialize(member);
+
+        Member read = (Member) new CompressingRedisSerializer<>(json, COMPRESSION_THRESHOLD).deserialize(stored);
+        assertEquals(member.getId(), read.getId());
+
+        // 회원 캐시는 이전 형식을 캐시가 없는 것으로 처리합니다.
+        assertNull(new MemberRedisSerializer().deserialize(stored));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Result measure(String name, RedisSerializer<? super T> serializer, T value) {
+        RedisSerializer<Object> target = (RedisSerializer<Object>) serializer;
+        byte[] bytes = target.serialize(value);
+        assertEqualValue(value, target.deserialize(bytes));
+
+        for (int i = 0; i < WARMUP; i++) {
+            target.deserialize(target.serialize(value));
+        }
+
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            bytes = target.serialize(value);
+        }
+        long serializeNanos = (System.nanoTime() - started) / ITERATIONS;
+
+        started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            target.deserialize(bytes);
+        }
+        long deserializeNanos = (System.nanoTime() - started) / ITERATIONS;
+
+        Result result = new Result(bytes.length, serializeNanos, deserializeNanos);
+        log.info("{} : {} bytes, serialize {} ns/op, deserialize {} ns/op", name, result.bytes, result.serializeNanos, result.deserializeNanos);
+        return result;
+    }
+
+    private static void assertEqualValue(Object expected, Object actual) {
+        if (expected instanceof Member member) {
+            assertEquals(member.getId(), ((Member) actual).getId());
+            assertEquals(member.getName(), ((Member) actual).getName());
+            return;
+        }
+        if (expected instanceof List<?> list) {
+            assertEquals(list.size(), ((List<?>) actual).size());
+            for (int i = 0; i < list.size(); i++) {
+                assertEqualValue(list.get(i), ((List<?>) actual).get(i));
+            }
+            return;
+        }
+        assertEquals(expected, actual);
+    }
+
+    /**
+     * RedisCacheConfig 의 기존 설정과 같은 JSON 직렬화를 생성합니다.
+     */
+    private static RedisSerializer<Object> createJsonSerializer() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.activateDefaultTyping(objectMapper.getPolymorphicTypeValidator(), ObjectMapper.DefaultTyping.NON_FINAL);
+        return new GenericJackson2JsonRedisSerializer(objectMapper);
+    }
+
+    private static Member createMember(long id) {
+        Member member = new Member();
+        member.setId(id);
+        member.setName("member-" + id);
+        return member;
+    }
+
+    private record Result(int bytes, long serializeNanos, long deserializeNanos) {
+    }
+}
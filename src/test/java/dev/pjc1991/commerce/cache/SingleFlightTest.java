@@ -0,0 +1,171 @@
+package dev.pjc1991.commerce.cache;
+
+import dev.pjc1991.commerce.member.point.service.MemberPointService;
+import dev.pjc1991.commerce.member.repository.MemberRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.util.StopWatch;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static dev.pjc1991.commerce.member.point.MemberPointTestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 캐시 미스 요청 합치기 테스트
+ * 캐시가 삭제된 직후 같은 회원의 합계를 동시에 조회해도, 데이터베이스는 한 번만 조회해야 합니다.
+ * 트랜잭션이 커밋되어야 캐시가 갱신되므로 테스트 트랜잭션을 사용하지 않습니다.
+ */
+@SpringBootTest
+class SingleFlightTest {
+
+    private static final Logger log = LoggerFactory.getLogger(SingleFlightTest.class);
+
+    private static final String CACHE_NAME = "memberPointTotal";
+    private static final int CALLERS = 200;
+
+    @Autowired
+    MemberPointService memberPointService;
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    TwoLevelCacheManager cacheManager;
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+    @Autowired
+    RedissonClient redissonClient;
+
+    @Test
+    void concurrentMissesQueryDatabaseOnce() throws Exception {
+        // given
+        long memberId = createDummyMember(memberRepository).getId();
+        memberPointService.earnMemberPoint(getTestMemberPointCreateRequest(memberId, 100));
+        // 회원 존재 여부 등 합계가 아닌 조회는 미리 캐시해 둡니다.
+        assertEquals(100, memberPointService.getMemberPointTotal(memberId));
+
+        // 실행된 SQL 의 개수를 세기 위해 Hibernate 통계를 사용합니다.
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        boolean statisticsEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+
+        SingleFlight singleFlight = cacheManager.getSingleFlight();
+        StopWatch stopWatch = new StopWatch();
+        long single;
+        long concurrent;
+        long loads;
+        long joins;
+        try {
+            // 캐시 미스 한 건이 실행하는 SQL 의 개수입니다.
+            cacheManager.getCache(CACHE_NAME).evict(memberId);
+            statistics.clear();
+            stopWatch.start("1 caller");
+            assertEquals(100, memberPointService.getMemberPointTotal(memberId));
+            stopWatch.stop();
+            single = statistics.getPrepareStatementCount();
+
+            // when
+            cacheManager.getCache(CACHE_NAME).evict(memberId);
+            statistics.clear();
+            long loadsBefore = singleFlight.getLoads();
+            long joinsBefore = singleFlight.getJoins();
+            stopWatch.start(CALLERS + " callers");
+            List<Integer> totals = callConcurrently(() -> memberPointService.getMemberPointTotal(memberId));
+            stopWatch.stop();
+            concurrent = statistics.getPrepareStatementCount();
+            loads = singleFlight.getLoads() - loadsBefore;
+            joins = singleFlight.getJoins() - joinsBefore;
+
+            // then
+            totals.forEach(total -> assertEquals(100, total));
+        } finally {
+            statistics.setStatisticsEnabled(statisticsEnabled);
+        }
+
+        log.info(stopWatch.prettyPrint());
+        log.info("캐시 미스 1건의 SQL : {}개, 동시 조회 {}건의 SQL : {}개, 직접 읽어온 요청 : {}건, 결과를 기다린 요청 : {}건", single, CALLERS, concurrent, loads, joins);
+
+        // 동시에 조회한 요청 중 한 요청만 데이터베이스를 조회해야 합니다. 나머지는 그 결과를 기다리거나 L2 에서 찾습니다.
+        assertTrue(single > 0);
+        assertEquals(single, concurrent);
+    }
+
+    /**
+     * 노드 두 개가 같은 키를 동시에 읽어오면, Redisson 잠금으로 한 노드만 값을 읽어와야 합니다.
+     * 잠금을 기다린 노드는 앞선 노드가 저장한 값 (L2 대신 AtomicReference) 을 사용합니다.
+     */
+    @Test
+    void distributedMissesLoadOnce() throws Exception {
+        // given
+        List<SingleFlight> nodes = List.of(
+                new RedissonSingleFlight(() -> redissonClient, Duration.ofSeconds(5L), Duration.ofSeconds(10L))
+                , new RedissonSingleFlight(() -> redissonClient, Duration.ofSeconds(5L), Duration.ofSeconds(10L))
+        );
+        String key = "test::" + UUID.randomUUID();
+        AtomicReference<Integer> remote = new AtomicReference<>();
+        AtomicInteger loads = new AtomicInteger();
+        AtomicInteger next = new AtomicInteger();
+
+        // when
+        List<Integer> values = callConcurrently(() -> {
+            Integer cached = remote.get();
+            if (cached != null) {
+                return cached;
+            }
+            return nodes.get(next.getAndIncrement() % nodes.size()).execute(key, () -> {
+                Integer stored = remote.get();
+                if (stored != null) {
+                    return stored;
+                }
+                loads.incrementAndGet();
+                Thread.sleep(100L);
+                remote.set(42);
+                return 42;
+            });
+        });
+
+        // then
+        values.forEach(value -> assertEquals(42, value));
+        log.info("노드별 직접 읽어온 요청 : {}건, {}건, 실제로 값을 읽어온 횟수 : {}회", nodes.get(0).getLoads(), nodes.get(1).getLoads(), loads.get());
+        assertEquals(1, loads.get());
+    }
+
+    private static <T> List<T> callConcurrently(Callable<T> call) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<T>> futures = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return call.call();
+                }));
+            }
+            start.countDown();
+
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package dev.pjc1991.commerce.cache;
+
+import dev.pjc1991.commerce.CommerceApplication;
+import dev.pjc1991.commerce.member.domain.Member;
+import dev.pjc1991.commerce.member.point.service.MemberPointService;
+import dev.pjc1991.commerce.member.repository.MemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.StopWatch;
+
+
+import static dev.pjc1991.commerce.member.point.MemberPointTestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 2단계 캐시 테스트
+ * 한 JVM 에서 애플리케이션 컨텍스트 두 개를 노드 두 개로 실행합니다. 두 노드는 같은 H2 데이터베이스와 Redis 를 사용합니다.
+ * L1 캐시의 유효 시간을 길게 설정해서, 다른 노드의 L1 캐시가 pub/sub 메시지로 초기화되는지 확인합니다.
+ */
+class TwoLevelCacheTest {
+
+    private static final Logger log = LoggerFactory.getLogger(TwoLevelCacheTest.class);
+
+    private static final String CACHE_NAME = "memberPointTotal";
+    private static final int READ_COUNT = 10000;
+    private static final long INVALIDATION_TIMEOUT_MILLIS = 5000L;
+
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+
+    @AfterEach
+    void tearDown() {
+        // 먼저 실행한 노드가 내장 Redis 를 실행했으므로, 나중에 실행한 노드부터 종료합니다.
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+    }
+
+    @Test
+    void evictInvalidatesOtherNodeL1() throws InterruptedException {
+        // given
+        nodeA = startNode();
+        nodeB = startNode();
+        MemberPointService memberPointServiceA = nodeA.getBean(MemberPointService.class);
+        MemberPointService memberPointServiceB = nodeB.getBean(MemberPointService.class);
+
+        Member member = createDummyMember(nodeA.getBean(MemberRepository.class));
+        memberPointServiceA.earnMemberPoint(getTestMemberPointCreateRequest(member.getId(), 100));
+
+        // 노드 A 는 처음 두 번만 DB (저장은 L2 에만 합니다.) 와 L2 를 조회하고, 나머지는 L1 에서 찾아야 합니다.
+        StopWatch stopWatch = new StopWatch();
+        stopWatch.start("L1");
+        for (int i = 0; i < READ_COUNT; i++) {
+            assertEquals(100, memberPointServiceA.getMemberPointTotal(member.getId()));
+        }
+        stopWatch.stop();
+
+        // 노드 B 는 노드 A 가 L2 에 저장한 값을 찾아야 합니다. L1 을 거치지 않은 Redis 조회 시간과 비교합니다.
+        TwoLevelCache cacheB = (TwoLevelCache) nodeB.getBean(TwoLevelCacheManager.class).getCache(CACHE_NAME);
+        stopWatch.start("L2");
+        for (int i = 0; i < READ_COUNT; i++) {
+            cacheB.clearLocal();
+            assertEquals(100, memberPointServiceB.getMemberPointTotal(member.getId()));
+        }
+        stopWatch.stop();
+        log.info(stopWatch.prettyPrint());
+
+        assertTrue(getGauge(nodeA, "cache.l1.hit.ratio") >= (double) (READ_COUNT - 2) / READ_COUNT);
+        assertEquals(1.0, getGauge(nodeB, "cache.l2.hit.ratio"));
+        log.info("노드 A L1 적중률 : {}, 노드 B L2 적중률 : {}", getGauge(nodeA, "cache.l1.hit.ratio"), getGauge(nodeB, "cache.l2.hit.ratio"));
+
+        // when
+
+        // 노드 B 에서 적립하면 커밋된 뒤에 L2 에 적립금이 더해지고, 노드 B 의 L1 이 초기화되고, 노드 A 에 초기화 메시지가 전달됩니다.
+        memberPointServiceB.earnMemberPoint(getTestMemberPointCreateRequest(member.getId(), 50));
+
+        // then
+
+        // 노드 A 의 L1 유효 시간은 길게 설정했으므로, 메시지를 받지 못하면 이전 합계를 반환합니다.
+        long deadline = System.currentTimeMillis() + INVALIDATION_TIMEOUT_MILLIS;
+        int total = memberPointServiceA.getMemberPointTotal(member.getId());
+        while (total != 150 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50L);
+            total = memberPointServiceA.getMemberPointTotal(member.getId());
+        }
+        assertEquals(150, total);
+        assertEquals(150, memberPointServiceB.getMemberPointTotal(member.getId()));
+    }
+
+    private static ConfigurableApplicationContext startNode() {
+        // application.properties 보다 우선하도록 명령행 인자로 설정합니다.
+        return new SpringApplicationBuilder(CommerceApplication.class).run(
+                "--server.port=0",
+                "--cache.l1.cache-names=" + CACHE_NAME,
+                "--cache.l1.expire-after-write=10m"
+        );
+    }
+
+    private static double getGauge(ConfigurableApplicationContext node, String name) {
+        return node.getBean(MeterRegistry.class).get(name).tag("cache", CACHE_NAME).gauge().value();
+    }
+}
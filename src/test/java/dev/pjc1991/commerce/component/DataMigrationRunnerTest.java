@@ -0,0 +1,52 @@
+package dev.pjc1991.commerce.component;
+
+import dev.pjc1991.commerce.domain.DataMigration;
+import dev.pjc1991.commerce.repository.DataMigrationRepository;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 데이터 마이그레이션 실행기 테스트
+ * 기동할 때 모든 버전이 한 번씩 실행되고, 기록된 버전은 다시 실행되지 않아야 합니다.
+ * 마이그레이션은 각각의 트랜잭션으로 커밋되므로 테스트 트랜잭션을 사용하지 않습니다.
+ */
+@SpringBootTest
+class DataMigrationRunnerTest {
+
+    private static final Logger log = LoggerFactory.getLogger(DataMigrationRunnerTest.class);
+
+    @Autowired
+    DataMigrationRunner dataMigrationRunner;
+    @Autowired
+    DataMigrationRepository dataMigrationRepository;
+
+    /**
+     * 기동할 때 실행된 버전은 다시 실행되지 않고, 기록이 없는 버전만 실행되어야 합니다.
+     */
+    @Test
+    void migrateRunsEachVersionOnce() throws IOException {
+        // given
+        List<DataMigration> migrations = dataMigrationRepository.findAll();
+        migrations.forEach(migration -> log.info("V{} ({}) : {}", migration.getVersion(), migration.getDescription(), migration.getAppliedAt()));
+        assertFalse(migrations.isEmpty());
+
+        // when
+        int reapplied = dataMigrationRunner.migrate();
+        dataMigrationRepository.deleteById(1);
+        int applied = dataMigrationRunner.migrate();
+
+        // then
+        assertEquals(0, reapplied);
+        assertEquals(1, applied);
+        assertEquals(migrations.size(), dataMigrationRepository.count());
+        assertTrue(dataMigrationRepository.existsById(1));
+    }
+}
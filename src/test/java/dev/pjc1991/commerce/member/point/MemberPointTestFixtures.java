@@ -0,0 +1,88 @@
+package dev.pjc1991.commerce.member.point;
+
+import dev.pjc1991.commerce.member.domain.Member;
+import dev.pjc1991.commerce.member.dto.MemberSignupRequest;
+import dev.pjc1991.commerce.member.point.dto.MemberPointCreateRequest;
+import dev.pjc1991.commerce.member.point.dto.MemberPointUseRequest;
+import dev.pjc1991.commerce.member.repository.MemberRepository;
+
+import java.util.UUID;
+
+/**
+ * 테스트 공용 데이터
+ * 여러 테스트에서 쓰는 더미 회원과 적립금 적립, 사용 요청을 만듭니다.
+ */
+public final class MemberPointTestFixtures {
+
+    private MemberPointTestFixtures() {
+    }
+
+    /**
+     * 테스트를 위해 더미 회원 데이터를 생성합니다.
+     * @param memberRepository 회원을 저장할 저장소 (노드를 여러 개 띄우는 테스트는 노드의 저장소를 넘깁니다.)
+     * @return 더미 회원
+     */
+    public static Member createDummyMember(MemberRepository memberRepository) {
+        return memberRepository.save(Member.signup(getTestMemberSignupRequest()));
+    }
+
+    /**
+     * 이름이 겹치지 않는 회원 가입 요청을 만듭니다.
+     * @return 회원 가입 요청
+     */
+    public static MemberSignupRequest getTestMemberSignupRequest() {
+        MemberSignupRequest memberSignupRequest = new MemberSignupRequest();
+        memberSignupRequest.setName(UUID.randomUUID().toString().substring(0, 10));
+        return memberSignupRequest;
+    }
+
+    /**
+     * 테스트를 위한 적립금 적립 요청을 만듭니다.
+     * @param memberId 회원 ID
+     * @param amount 적립 금액
+     * @return 적립금 적립 요청
+     */
+    public static MemberPointCreateRequest getTestMemberPointCreateRequest(long memberId, int amount) {
+        return getTestMemberPointCreateRequest(memberId, amount, null);
+    }
+
+    /**
+     * 멱등 키가 있는 적립금 적립 요청을 만듭니다.
+     * @param memberId 회원 ID
+     * @param amount 적립 금액
+     * @param idempotencyKey 멱등 키 (없으면 null)
+     * @return 적립금 적립 요청
+     */
+    public static MemberPointCreateRequest getTestMemberPointCreateRequest(long memberId, int amount, String idempotencyKey) {
+        MemberPointCreateRequest memberPointCreateRequest = new MemberPointCreateRequest();
+        memberPointCreateRequest.setMemberId(memberId);
+        memberPointCreateRequest.setAmount(amount);
+        memberPointCreateRequest.setIdempotencyKey(idempotencyKey);
+        return memberPointCreateRequest;
+    }
+
+    /**
+     * 테스트를 위한 적립금 사용 요청을 만듭니다.
+     * @param memberId 회원 ID
+     * @param amount 사용 금액
+     * @return 적립금 사용 요청
+     */
+    public static MemberPointUseRequest getTestMemberPointUseRequest(long memberId, int amount) {
+        return getTestMemberPointUseRequest(memberId, amount, null);
+    }
+
+    /**
+     * 멱등 키가 있는 적립금 사용 요청을 만듭니다.
+     * @param memberId 회원 ID
+     * @param amount 사용 금액
+     * @param idempotencyKey 멱등 키 (없으면 null)
+     * @return 적립금 사용 요청
+     */
+    public static MemberPointUseRequest getTestMemberPointUseRequest(long memberId, int amount, String idempotencyKey) {
+        MemberPointUseRequest memberPointUseRequest = new MemberPointUseRequest();
+        memberPointUseRequest.setMemberId(memberId);
+        memberPointUseRequest.setAmount(amount);
+        memberPointUseRequest.setIdempotencyKey(idempotencyKey);
+        return memberPointUseRequest;
+    }
+}
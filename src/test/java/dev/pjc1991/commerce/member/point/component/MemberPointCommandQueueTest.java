@@ -0,0 +1,198 @@
+package dev.pjc1991.commerce.member.point.component;
+
+import dev.pjc1991.commerce.member.point.dto.MemberPointEventResponse;
+import dev.pjc1991.commerce.member.point.exception.MemberPointCommandNotOwnerException;
+import dev.pjc1991.commerce.member.point.exception.NotEnoughPointException;
+import dev.pjc1991.commerce.member.point.service.MemberPointCommandService;
+import dev.pjc1991.commerce.member.point.service.MemberPointService;
+import dev.pjc1991.commerce.member.repository.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.StopWatch;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static dev.pjc1991.commerce.member.point.MemberPointTestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 회원별 명령 큐 테스트
+ * 같은 회원의 명령이 동시에 들어와도 순서대로 처리되고, 쌓인 명령은 한 트랜잭션으로 묶여서 커밋되어야 합니다.
+ * 작업 스레드가 트랜잭션을 커밋하므로 테스트 트랜잭션을 사용하지 않습니다.
+ */
+@SpringBootTest(properties = "member.point.command.enabled=true")
+class MemberPointCommandQueueTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberPointCommandQueueTest.class);
+
+    private static final int CALLERS = 100;
+
+    @Autowired
+    MemberPointCommandService memberPointCommandService;
+    @Autowired
+    MemberPointService memberPointService;
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    MemberPointCommandQueue memberPointCommandQueue;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    void concurrentCommandsAreGroupCommitted() throws Exception {
+        // given
+        long memberId = createDummyMember(memberRepository).getId();
+        memberPointCommandService.earnMemberPoint(getTestMemberPointCreateRequest(memberId, CALLERS * 10));
+        long commandsBefore = memberPointCommandQueue.getCommands();
+        long transactionsBefore = memberPointCommandQueue.getTransactions();
+
+        // when
+        StopWatch stopWatch = new StopWatch();
+        stopWatch.start(CALLERS + " callers");
+        List<MemberPointEventResponse> responses = callConcurrently(() -> memberPointCommandService.useMemberPoint(getTestMemberPointUseRequest(memberId, 1)));
+        stopWatch.stop();
+        long commands = memberPointCommandQueue.getCommands() - commandsBefore;
+        long transactions = memberPointCommandQueue.getTransactions() - transactionsBefore;
+
+        // then
+        log.info(stopWatch.prettyPrint());
+        log.info("명령 {}건을 트랜잭션 {}번으로 커밋했습니다.", commands, transactions);
+
+        responses.forEach(response -> assertEquals(-1, response.getAmount()));
+        assertEquals(CALLERS, commands);
+        assertTrue(transactions < commands);
+
+        // 잔액과 원장이 같아야 합니다.
+        assertEquals(CALLERS * 9, memberPointService.getMemberPointTotal(memberId));
+        assertEquals(CALLERS * 9, memberPointService.rebuildMemberPointBalance(memberId));
+        memberPointService.checkMemberPoint(memberId);
+    }
+
+    /**
+     * 함께 묶인 명령 중 일부가 실패해도, 나머지 명령은 커밋되어야 합니다.
+     */
+    @Test
+    void failedCommandDoesNotFailItsGroup() throws Exception {
+        // given
+        long memberId = createDummyMember(memberRepository).getId();
+        int earned = CALLERS / 2;
+        memberPointCommandService.earnMemberPoint(getTestMemberPointCreateRequest(memberId, earned));
+
+        // when
+        List<Boolean> used = callConcurrently(() -> {
+            try {
+                memberPointCommandService.useMemberPoint(getTestMemberPointUseRequest(memberId, 1));
+                return true;
+            } catch (NotEnoughPointException e) {
+                return false;
+            }
+        });
+
+        // then
+
+        // 적립한 만큼만 사용에 성공하고, 나머지는 적립금 부족으로 실패해야 합니다.
+        assertEquals(earned, used.stream().filter(Boolean::booleanValue).count());
+        assertEquals(0, memberPointService.getMemberPointTotal(memberId));
+        assertEquals(0, memberPointService.rebuildMemberPointBalance(memberId));
+        memberPointService.checkMemberPoint(memberId);
+    }
+
+    /**
+     * 노드가 추가되면 새 노드가 맡게 될 회원만 담당 노드가 바뀌어야 합니다.
+     */
+    @Test
+    void ringMovesOnlyMembersOfAddedNode() {
+        // given
+        MemberPointCommandRing three = new MemberPointCommandRing(List.of("a", "b", "c"), 128);
+        MemberPointCommandRing four = new MemberPointCommandRing(List.of("a", "b", "c", "d"), 128);
+        int memberCount = 100_000;
+
+        // when
+        int moved = 0;
+        for (long memberId = 1; memberId <= memberCount; memberId++) {
+            String before = three.getOwner(memberId);
+            String after = four.getOwner(memberId);
+            if (!before.equals(after)) {
+                // 다른 노드끼리는 회원을 주고받지 않습니다.
+                assertEquals("d", after);
+                moved++;
+            }
+        }
+
+        // then
+
+        // 노드 4개 중 하나가 맡게 될 만큼 (약 1/4) 만 옮겨져야 합니다.
+        log.info("회원 {}명 중 {}명의 담당 노드가 바뀌었습니다.", memberCount, moved);
+        assertTrue(moved > memberCount * 0.15);
+        assertTrue(moved < memberCount * 0.35);
+    }
+
+    /**
+     * 다른 노드가 담당하는 회원의 명령은 실행하지 않고 거절해야 합니다.
+     */
+    @Test
+    void commandOfOtherNodeIsRejected() {
+        // given
+        MemberPointCommandQueue queue = new MemberPointCommandQueue(transactionManager, 1, 10, 10, Duration.ofSeconds(5L), "a", List.of("a", "b"), 128, new SimpleMeterRegistry());
+        MemberPointCommandRing ring = new MemberPointCommandRing(List.of("a", "b"), 128);
+        try {
+            long owned = findMemberIdOwnedBy(ring, "a");
+            long notOwned = findMemberIdOwnedBy(ring, "b");
+
+            // when, then
+            assertEquals("a", queue.execute(owned, () -> ring.getOwner(owned)));
+            MemberPointCommandNotOwnerException e = assertThrows(MemberPointCommandNotOwnerException.class, () -> queue.execute(notOwned, () -> ring.getOwner(notOwned)));
+            assertEquals("b", e.getOwner());
+        } finally {
+            queue.shutdown();
+        }
+    }
+
+    private static long findMemberIdOwnedBy(MemberPointCommandRing ring, String node) {
+        long memberId = 1L;
+        while (!node.equals(ring.getOwner(memberId))) {
+            memberId++;
+        }
+        return memberId;
+    }
+
+    private static <T> List<T> callConcurrently(Callable<T> call) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<T>> futures = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return call.call();
+                }));
+            }
+            start.countDown();
+
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                try {
+                    results.add(future.get());
+                } catch (ExecutionException e) {
+                    fail(e.getCause());
+                }
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package dev.pjc1991.commerce.member.point.component;
+
+import dev.pjc1991.commerce.CommerceApplication;
+import dev.pjc1991.commerce.member.domain.Member;
+import dev.pjc1991.commerce.member.dto.MemberSignupRequest;
+import dev.pjc1991.commerce.member.point.domain.MemberPointEvent;
+import dev.pjc1991.commerce.member.point.domain.MemberPointExpirePartition;
+import dev.pjc1991.commerce.member.point.domain.MemberPointGrant;
+import dev.pjc1991.commerce.member.point.dto.MemberPointCreateRequest;
+import dev.pjc1991.commerce.member.point.dto.MemberPointEventCursorSearch;
+import dev.pjc1991.commerce.member.point.dto.MemberPointEventResponse;
+import dev.pjc1991.commerce.member.point.exception.MemberPointExpireLeaseLostException;
+import dev.pjc1991.commerce.member.point.repository.MemberPointGrantRepository;
+import dev.pjc1991.commerce.member.point.service.MemberPointService;
+import dev.pjc1991.commerce.member.repository.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 여러 노드의 만료 처리 분배 테스트
+ * 한 JVM 에서 애플리케이션 컨텍스트 두 개를 노드 두 개로 실행합니다. 두 컨텍스트는 같은 H2 데이터베이스와 Redis 를 사용합니다.
+ * 하트비트는 테스트에서 직접 호출하도록 주기를 길게 설정합니다.
+ * 완료된 파티션은 같은 날 다시 처리하지 않으므로, 테스트마다 파티션 개수를 다르게 해서 체크포인트가 겹치지 않도록 합니다.
+ */
+class MemberPointExpireCoordinatorTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberPointExpireCoordinatorTest.class);
+
+    private static final long LEASE_MILLIS = 2000L;
+    private static final int MEMBER_COUNT = 8;
+    private static final int GRANT_PER_MEMBER = 2;
+    private static final int GRANT_AMOUNT = 100;
+
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+
+    @AfterEach
+    void tearDown() {
+        // 먼저 실행한 노드가 내장 Redis 를 실행했으므로, 나중에 실행한 노드부터 종료합니다.
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+    }
+
+    /**
+     * 두 노드가 파티션을 절반씩 나눠 가지고, 각 노드는 자기 파티션의 회원만 만료 처리합니다.
+     */
+    @Test
+    void partitionsAreSplitAcrossNodes() {
+        // given
+        final int PARTITION_COUNT = 4;
+        nodeA = startNode("node-a", PARTITION_COUNT);
+        nodeB = startNode("node-b", PARTITION_COUNT);
+        MemberPointExpireCoordinator coordinatorA = nodeA.getBean(MemberPointExpireCoordinator.class);
+        MemberPointExpireCoordinator coordinatorB = nodeB.getBean(MemberPointExpireCoordinator.class);
+
+        // 먼저 하트비트를 기록한 노드가 모든 파티션을 가져가고, 두 번째 노드가 나타나면 절반을 반납합니다.
+        assertEquals(PARTITION_COUNT, coordinatorA.heartbeat().size());
+        assertTrue(coordinatorB.heartbeat().isEmpty());
+        Set<Integer> ownedA = coordinatorA.heartbeat();
+        Set<Integer> ownedB = coordinatorB.heartbeat();
+        log.info("노드 A 파티션 : {}, 노드 B 파티션 : {}", ownedA, ownedB);
+
+        assertEquals(PARTITION_COUNT / 2, ownedA.size());
+        assertEquals(PARTITION_COUNT / 2, ownedB.size());
+        Set<Integer> all = new HashSet<>(ownedA);
+        all.addAll(ownedB);
+        assertEquals(PARTITION_COUNT, all.size());
+
+        List<Long> memberIds = createExpiredMembers(nodeA);
+        LocalDate today = LocalDate.now();
+
+        // when
+
+        // 노드 B 만 만료 처리합니다.
+        coordinatorB.expireOwnedPartitions(today);
+
+        // then
+
+        // 노드 B 의 파티션에 속한 회원만 만료되어야 합니다.
+        for (MemberPointGrant grant : getGrants(nodeA, memberIds)) {
+            int partition = MemberPointExpirePartition.indexOf(grant.getMemberId(), PARTITION_COUNT);
+            assertEquals(ownedB.contains(partition), !grant.isOpen(), "회원 : " + grant.getMemberId() + ", 파티션 : " + partition);
+        }
+        assertFalse(coordinatorB.isCompleted(today));
+
+        // 노드 A 가 나머지 파티션을 만료 처리하면 모든 파티션이 완료됩니다.
+        coordinatorA.expireOwnedPartitions(today);
+        assertTrue(coordinatorA.isCompleted(today));
+        assertExpiredOnce(nodeB, memberIds);
+    }
+
+    /**
+     * 노드가 하트비트를 멈추면, 임대 기간이 지난 뒤 다른 노드가 그 파티션을 넘겨받아 만료 처리합니다.
+     * 임대를 잃은 노드는 더 이상 그 파티션을 만료 처리할 수 없습니다.
+     */
+    @Test
+    void partitionTakenOverAfterLeaseLapses() throws InterruptedException {
+        // given
+        final int PARTITION_COUNT = 2;
+        nodeA = startNode("node-a", PARTITION_COUNT);
+        nodeB = startNode("node-b", PARTITION_COUNT);
+        MemberPointExpireCoordinator coordinatorA = nodeA.getBean(MemberPointExpireCoordinator.class);
+        MemberPointExpireCoordinator coordinatorB = nodeB.getBean(MemberPointExpireCoordinator.class);
+
+        coordinatorA.heartbeat();
+        coordinatorB.heartbeat();
+        Set<Integer> ownedA = coordinatorA.heartbeat();
+        assertEquals(1, ownedA.size());
+        assertEquals(1, coordinatorB.heartbeat().size());
+
+        List<Long> memberIds = createExpiredMembers(nodeA);
+        LocalDate today = LocalDate.now();
+        coordinatorB.expireOwnedPartitions(today);
+        assertFalse(coordinatorB.isCompleted(today));
+
+        // when
+
+        // 노드 A 가 하트비트를 멈춘 채로 임대 기간이 지납니다.
+        Thread.sleep(LEASE_MILLIS + 500L);
+        Set<Integer> ownedB = coordinatorB.heartbeat();
+
+        // then
+
+        log.info("임대 기간이 지난 뒤 노드 B 파티션 : {}", ownedB);
+        assertEquals(PARTITION_COUNT, ownedB.size());
+
+        // 노드 A 는 임대를 잃었으므로 만료 처리를 시작하지 못합니다.
+        int partitionA = ownedA.iterator().next();
+        MemberPointService memberPointServiceA = nodeA.getBean(MemberPointService.class);
+        assertThrows(MemberPointExpireLeaseLostException.class,
+                () -> memberPointServiceA.expireMemberPoint(MemberPointExpirePartition.of(partitionA, PARTITION_COUNT, coordinatorA.getNodeId())));
+
+        // 노드 B 가 넘겨받은 파티션까지 만료 처리합니다.
+        coordinatorB.expireOwnedPartitions(today);
+        assertTrue(coordinatorB.isCompleted(today));
+        assertExpiredOnce(nodeB, memberIds);
+    }
+
+    private static ConfigurableApplicationContext startNode(String nodeId, int partitionCount) {
+        // application.properties 보다 우선하도록 명령행 인자로 설정합니다.
+        return new SpringApplicationBuilder(CommerceApplication.class).run(
+                "--server.port=0",
+                "--member.point.expire.cluster.enabled=true",
+                "--member.point.expire.cluster.node-id=" + nodeId,
+                "--member.point.expire.cluster.partition-count=" + partitionCount,
+                "--member.point.expire.cluster.lease-duration=" + LEASE_MILLIS + "ms",
+                "--member.point.expire.cluster.heartbeat-interval=3600000"
+        );
+    }
+
+    /**
+     * 만료 시점이 지난 적립 건을 가진 회원을 생성합니다. 회원 아이디가 연속이므로 모든 파티션에 회원이 있습니다.
+     *
+     * @param node 노드
+     * @return 회원 아이디 목록
+     */
+    private static List<Long> createExpiredMembers(ConfigurableApplicationContext node) {
+        MemberRepository memberRepository = node.getBean(MemberRepository.class);
+        MemberPointService memberPointService = node.getBean(MemberPointService.class);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Long> memberIds = new ArrayList<>();
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            MemberSignupRequest memberSignupRequest = new MemberSignupRequest();
+            memberSignupRequest.setName(UUID.randomUUID().toString().substring(0, 10));
+            Member member = memberRepository.save(Member.signup(memberSignupRequest));
+            for (int j = 0; j < GRANT_PER_MEMBER; j++) {
+                MemberPointCreateRequest memberPointCreateRequest = new MemberPointCreateRequest();
+                memberPointCreateRequest.setMemberId(member.getId());
+                memberPointCreateRequest.setAmount(GRANT_AMOUNT);
+                MemberPointEvent event = memberPointService.earnMemberPoint(memberPointCreateRequest);
+                memberPointService.changeExpireAt(event.getId(), now.minusDays(1L), now.minusYears(1L).plusDays(j));
+            }
+            memberIds.add(member.getId());
+        }
+        return memberIds;
+    }
+
+    private static List<MemberPointGrant> getGrants(ConfigurableApplicationContext node, List<Long> memberIds) {
+        Set<Long> targets = new HashSet<>(memberIds);
+        return node.getBean(MemberPointGrantRepository.class).findAll().stream()
+                .filter(grant -> targets.contains(grant.getMemberId()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 모든 적립 건이 한 번씩만 만료되었는지 확인합니다.
+     * 두 노드가 같은 적립 건을 만료 처리했다면 만료 금액이 적립 금액보다 커집니다.
+     *
+     * @param node      노드
+     * @param memberIds 회원 아이디 목록
+     */
+    private static void assertExpiredOnce(ConfigurableApplicationContext node, List<Long> memberIds) {
+        MemberPointService memberPointService = node.getBean(MemberPointService.class);
+
+        assertTrue(getGrants(node, memberIds).stream().noneMatch(MemberPointGrant::isOpen));
+        for (Long memberId : memberIds) {
+            MemberPointEventCursorSearch search = new MemberPointEventCursorSearch();
+            search.setMemberId(memberId);
+            search.setSize(100);
+            int expired = memberPointService.getMemberPointEventCursorResponses(search).getContent().stream()
+                    .filter(event -> MemberPointEvent.MemberPointEventType.EXPIRE.name().equals(event.getType()))
+                    .mapToInt(MemberPointEventResponse::getAmount)
+                    .sum();
+
+            assertEquals(-GRANT_PER_MEMBER * GRANT_AMOUNT, expired, "회원 : " + memberId);
+            assertEquals(0, memberPointService.getMemberPointTotal(memberId));
+            memberPointService.checkMemberPoint(memberId);
+        }
+    }
+}
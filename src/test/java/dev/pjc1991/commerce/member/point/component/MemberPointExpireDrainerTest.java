@@ -0,0 +1,99 @@
+package dev.pjc1991.commerce.member.point.component;
+
+import dev.pjc1991.commerce.member.domain.Member;
+import dev.pjc1991.commerce.member.point.domain.MemberPointEvent;
+import dev.pjc1991.commerce.member.point.service.MemberPointService;
+import dev.pjc1991.commerce.member.repository.MemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.util.StopWatch;
+
+import java.time.LocalDateTime;
+
+import static dev.pjc1991.commerce.member.point.MemberPointTestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 연속 만료 (CONTINUOUS) 모드 테스트
+ * 시간 조각마다 예산만큼만 만료 처리하고, 밀린 만료 건수 지표가 처리한 만큼 줄어드는지 확인합니다.
+ * 초당 1건, 조각 5초로 설정해서 조각 하나의 예산은 5건입니다.
+ * 스케쥴된 밀린 건수 갱신이 테스트 도중 지표를 덮어쓰지 않도록, 갱신 주기를 아주 길게 설정하고 테스트에서 직접 갱신합니다.
+ */
+@SpringBootTest(properties = {
+        "member.point.expire.mode=CONTINUOUS",
+        "member.point.expire.drain-rows-per-second=1",
+        "member.point.expire.drain-slice=5000",
+        "member.point.expire.drain-chunk-size=2",
+        "member.point.expire.backlog-refresh=86400000"
+})
+@Transactional
+@DirtiesContext
+class MemberPointExpireDrainerTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberPointExpireDrainerTest.class);
+
+    private static final int GRANT_COUNT = 12;
+    private static final int GRANT_AMOUNT = 10;
+
+    @Autowired
+    MemberPointExpireDrainer memberPointExpireDrainer;
+    @Autowired
+    MemberPointService memberPointService;
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Test
+    void drainSliceWithinBudget() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        Member member = createDummyMember(memberRepository);
+        for (int i = 0; i < GRANT_COUNT; i++) {
+            MemberPointEvent event = memberPointService.earnMemberPoint(getTestMemberPointCreateRequest(member.getId(), GRANT_AMOUNT));
+            memberPointService.changeExpireAt(event.getId(), now.minusDays(1L), now.minusYears(2L).plusDays(i));
+        }
+        memberPointExpireDrainer.refreshBacklog();
+        long backlog = memberPointExpireDrainer.getBacklog();
+        int budget = memberPointExpireDrainer.getSliceBudget();
+        assertEquals(5, budget);
+        assertTrue(backlog >= GRANT_COUNT);
+        assertEquals(backlog, meterRegistry.get(MemberPointExpireDrainer.BACKLOG_METRIC).gauge().value());
+
+        // when
+        StopWatch stopWatch = new StopWatch();
+        stopWatch.start();
+        int drained = memberPointExpireDrainer.drainSlice(now);
+        stopWatch.stop();
+
+        // then
+
+        // 조각 하나에서는 예산보다 많이 만료 처리하지 않습니다.
+        log.info("조각 하나 : {}ms, 만료 : {}건, 남은 건수 : {}건", stopWatch.getTotalTimeMillis(), drained, memberPointExpireDrainer.getBacklog());
+        assertEquals(budget, drained);
+        assertEquals(backlog - budget, memberPointExpireDrainer.getBacklog());
+        assertEquals(backlog - budget, memberPointService.countMemberPointExpireBacklog(now));
+        assertEquals(budget, meterRegistry.get(MemberPointExpireDrainer.DRAINED_METRIC).counter().count());
+
+        // 밀린 만료 건이 모두 소진될 때까지 조각을 반복합니다.
+        int slices = 1;
+        int last;
+        do {
+            last = memberPointExpireDrainer.drainSlice(now);
+            slices++;
+            assertTrue(last <= budget);
+        } while (last == budget);
+        log.info("조각 {}개로 {}건을 만료 처리했습니다.", slices, backlog);
+
+        memberPointExpireDrainer.refreshBacklog();
+        assertEquals(0, memberPointExpireDrainer.getBacklog());
+        assertEquals(0, memberPointService.getMemberPointTotal(member.getId()));
+        memberPointService.checkMemberPoint(member.getId());
+    }
+}
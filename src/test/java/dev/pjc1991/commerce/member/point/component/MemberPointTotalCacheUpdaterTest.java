@@ -0,0 +1,177 @@
+package dev.pjc1991.commerce.member.point.component;
+
+import dev.pjc1991.commerce.cache.TwoLevelCache;
+import dev.pjc1991.commerce.cache.TwoLevelCacheManager;
+import dev.pjc1991.commerce.member.point.dto.MemberPointTotalSnapshot;
+import dev.pjc1991.commerce.member.point.exception.MemberPointConcurrentException;
+import dev.pjc1991.commerce.member.point.repository.MemberPointDetailRepositoryCustom;
+import dev.pjc1991.commerce.member.point.service.MemberPointService;
+import dev.pjc1991.commerce.member.repository.MemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.util.StopWatch;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static dev.pjc1991.commerce.member.point.MemberPointTestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 회원 적립금 합계 캐시 갱신 테스트
+ * 여러 스레드가 같은 회원의 적립금을 적립, 사용, 사용 취소하는 동안 다른 스레드는 합계를 계속 조회합니다.
+ * 라운드가 끝날 때마다 캐시의 합계가 원장 (상세 내역) 의 합계와 같은지 확인합니다.
+ * 트랜잭션이 커밋되어야 캐시가 갱신되므로 테스트 트랜잭션을 사용하지 않습니다.
+ */
+@SpringBootTest
+class MemberPointTotalCacheUpdaterTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberPointTotalCacheUpdaterTest.class);
+
+    private static final int ROUNDS = 5;
+    private static final int WRITERS = 4;
+    private static final int READERS = 4;
+    private static final int OPERATIONS_PER_WRITER = 20;
+    private static final int INITIAL_AMOUNT = 100000;
+
+    @Autowired
+    MemberPointService memberPointService;
+    @Autowired
+    MemberPointDetailRepositoryCustom memberPointDetailRepositoryCustom;
+    @Autowired
+    MemberPointTotalRedisCache memberPointTotalRedisCache;
+    @Autowired
+    TwoLevelCacheManager cacheManager;
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Test
+    void cachedTotalFollowsLedger() throws Exception {
+        // given
+        long memberId = createDummyMember(memberRepository).getId();
+        memberPointService.earnMemberPoint(getTestMemberPointCreateRequest(memberId, INITIAL_AMOUNT));
+        assertEquals(INITIAL_AMOUNT, memberPointService.getMemberPointTotal(memberId));
+
+        TwoLevelCache cache = (TwoLevelCache) cacheManager.getCache(MemberPointTotalCacheEvictor.CACHE_NAME);
+        long remoteMissesBefore = cache.getRemoteMisses();
+        double appliedBefore = getUpdateCount("APPLIED");
+
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS + READERS);
+        StopWatch stopWatch = new StopWatch();
+        int writes = 0;
+        long reads = 0;
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                // when
+                stopWatch.start("round " + round);
+                CountDownLatch start = new CountDownLatch(1);
+                AtomicBoolean writing = new AtomicBoolean(true);
+
+                List<Future<Integer>> writers = new ArrayList<>();
+                for (int i = 0; i < WRITERS; i++) {
+                    writers.add(executor.submit(() -> write(memberId, start)));
+                }
+                List<Future<Long>> readers = new ArrayList<>();
+                for (int i = 0; i < READERS; i++) {
+                    readers.add(executor.submit(() -> read(memberId, start, writing)));
+                }
+
+                start.countDown();
+                for (Future<Integer> writer : writers) {
+                    writes += writer.get();
+                }
+                writing.set(false);
+                for (Future<Long> reader : readers) {
+                    reads += reader.get();
+                }
+                stopWatch.stop();
+
+                // then
+
+                // 모든 쓰기가 커밋된 뒤에는 캐시의 합계가 원장의 합계와 같아야 합니다.
+                int ledger = memberPointDetailRepositoryCustom.getMemberPointTotal(memberId);
+                Cache.ValueWrapper cached = memberPointTotalRedisCache.get(memberId);
+                log.info("라운드 {} : 원장 {}, 캐시 {}", round, ledger, cached == null ? null : cached.get());
+                if (cached != null) {
+                    assertEquals(ledger, ((MemberPointTotalSnapshot) cached.get()).getTotal());
+                }
+                assertEquals(ledger, memberPointService.getMemberPointTotal(memberId));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        log.info(stopWatch.prettyPrint());
+        log.info("쓰기 : {}건, 조회 : {}건, 데이터베이스 조회 (L2 미스) : {}건", writes, reads, cache.getRemoteMisses() - remoteMissesBefore);
+        for (String result : List.of("APPLIED", "MISSING", "CURRENT", "EVICTED")) {
+            log.info("캐시 갱신 {} : {}건", result, getUpdateCount(result));
+        }
+
+        // 캐시를 삭제하지 않고 변경분을 더했어야 합니다.
+        assertTrue(getUpdateCount("APPLIED") > appliedBefore);
+        memberPointService.checkMemberPoint(memberId);
+    }
+
+    /**
+     * 적립, 사용, 사용 취소 중 하나를 무작위로 실행합니다. 사용 취소는 이 스레드에서 사용한 건을 최근 것부터 취소합니다.
+     *
+     * @return 실행한 쓰기 건수
+     */
+    private int write(long memberId, CountDownLatch start) throws InterruptedException {
+        start.await();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Deque<Long> used = new ArrayDeque<>();
+        int writes = 0;
+        for (int i = 0; i < OPERATIONS_PER_WRITER; i++) {
+            int operation = random.nextInt(3);
+            try {
+                if (operation == 0 || (operation == 2 && used.isEmpty())) {
+                    memberPointService.earnMemberPoint(getTestMemberPointCreateRequest(memberId, random.nextInt(1, 101)));
+                } else if (operation == 1) {
+                    used.push(memberPointService.useMemberPoint(getTestMemberPointUseRequest(memberId, random.nextInt(1, 51))).getId());
+                } else {
+                    memberPointService.rollbackMemberPointUse(used.pop());
+                }
+                writes++;
+            } catch (MemberPointConcurrentException e) {
+                // 사용 잠금을 얻지 못한 요청은 실행되지 않았으므로 건너뜁니다.
+                log.info("사용 잠금을 얻지 못했습니다.");
+            }
+        }
+        return writes;
+    }
+
+    /**
+     * 쓰기가 끝날 때까지 합계를 계속 조회합니다.
+     *
+     * @return 조회 건수
+     */
+    private long read(long memberId, CountDownLatch start, AtomicBoolean writing) throws InterruptedException {
+        start.await();
+        long reads = 0;
+        while (writing.get()) {
+            assertTrue(memberPointService.getMemberPointTotal(memberId) >= 0);
+            reads++;
+        }
+        return reads;
+    }
+
+    private double getUpdateCount(String result) {
+        return meterRegistry.get(MemberPointTotalCacheUpdater.UPDATE_METRIC).tag("result", result).counter().count();
+    }
+}
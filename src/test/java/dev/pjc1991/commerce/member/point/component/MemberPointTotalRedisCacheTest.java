@@ -0,0 +1,152 @@
+package dev.pjc1991.commerce.member.point.component;
+
+import dev.pjc1991.commerce.member.point.domain.MemberPointEvent;
+import dev.pjc1991.commerce.member.point.dto.MemberPointTotalSnapshot;
+import dev.pjc1991.commerce.member.point.repository.MemberPointDetailRepositoryCustom;
+import dev.pjc1991.commerce.member.point.service.MemberPointService;
+import dev.pjc1991.commerce.member.repository.MemberRepository;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static dev.pjc1991.commerce.member.point.MemberPointTestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 회원 적립금 합계 캐시 유효 시간 테스트
+ * 합계 캐시는 합계에 포함된 적립금 중 가장 먼저 만료되는 시점에 만료되어야 합니다.
+ * 캐시를 삭제할 때는 버전만 남겨서, 이전 버전의 합계가 다시 저장되지 않아야 합니다.
+ * 트랜잭션이 커밋되어야 캐시가 갱신되므로 테스트 트랜잭션을 사용하지 않습니다.
+ */
+@SpringBootTest
+class MemberPointTotalRedisCacheTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberPointTotalRedisCacheTest.class);
+
+    private static final Duration EXPIRE_AFTER = Duration.ofSeconds(5L);
+
+    @Autowired
+    MemberPointService memberPointService;
+    @Autowired
+    MemberPointDetailRepositoryCustom memberPointDetailRepositoryCustom;
+    @Autowired
+    MemberPointTotalRedisCache memberPointTotalRedisCache;
+    @Autowired
+    StringRedisTemplate stringRedisTemplate;
+    @Autowired
+    MemberRepository memberRepository;
+    @Value("${member.point.total.cache-max-ttl:1h}")
+    Duration maxTtl;
+
+    @Test
+    void cachedTotalExpiresWithEarliestGrant() throws Exception {
+        // given
+        long memberId = createDummyMember(memberRepository).getId();
+        memberPointService.earnMemberPoint(getTestMemberPointCreateRequest(memberId, 1000));
+
+        // 곧 만료되는 적립금이 없다면 최대 유효 시간 동안 유지됩니다.
+        assertEquals(1000, memberPointService.getMemberPointTotal(memberId));
+        long ttl = getTtlMillis(memberId);
+        log.info("만료 예정 적립금이 없는 합계 캐시 TTL : {}ms", ttl);
+        assertTrue(ttl > maxTtl.minusMinutes(1L).toMillis());
+
+        // 곧 만료되는 적립금을 적립합니다.
+        MemberPointEvent expiring = memberPointService.earnMemberPoint(getTestMemberPointCreateRequest(memberId, 500));
+        LocalDateTime expireAt = LocalDateTime.now().plus(EXPIRE_AFTER);
+        memberPointService.changeExpireAt(expiring.getId(), expireAt, LocalDateTime.now());
+
+        // when
+        assertEquals(1500, memberPointService.getMemberPointTotal(memberId));
+        ttl = getTtlMillis(memberId);
+        log.info("곧 만료되는 적립금이 있는 합계 캐시 TTL : {}ms", ttl);
+
+        // then
+        assertTrue(ttl > 0 && ttl <= EXPIRE_AFTER.toMillis());
+        // 만료 시점은 밀리초 단위로 저장됩니다.
+        LocalDateTime cachedExpireAt = ((MemberPointTotalSnapshot) memberPointTotalRedisCache.get(memberId).get()).getExpireAt();
+        assertTrue(Duration.between(cachedExpireAt, expireAt).abs().toMillis() < 1L);
+
+        // 변경분을 더해도 유효 시간은 연장되지 않습니다.
+        memberPointService.useMemberPoint(getTestMemberPointUseRequest(memberId, 100));
+        assertEquals(1400, memberPointService.getMemberPointTotal(memberId));
+        assertTrue(getTtlMillis(memberId) <= EXPIRE_AFTER.toMillis());
+
+        // 만료 시점이 지나면 캐시가 사라지고, 만료된 적립금을 제외한 합계를 다시 계산합니다.
+        Thread.sleep(Duration.between(LocalDateTime.now(), expireAt).toMillis() + 200L);
+        assertNull(memberPointTotalRedisCache.get(memberId));
+
+        int ledger = memberPointDetailRepositoryCustom.getMemberPointTotal(memberId);
+        log.info("만료 후 원장 합계 : {}", ledger);
+        assertTrue(ledger < 1400);
+        assertEquals(ledger, memberPointService.getMemberPointTotal(memberId));
+    }
+
+    /**
+     * 캐시를 삭제한 뒤에도 삭제 전에 조회한 이전 합계는 저장되지 않고, 변경 후 다시 조회한 합계만 저장되어야 합니다.
+     */
+    @Test
+    void evictLeavesVersionTombstone() {
+        // given
+        long memberId = createDummyMember(memberRepository).getId();
+        memberPointTotalRedisCache.put(memberId, new MemberPointTotalSnapshot(1000, 3L, null));
+
+        // when
+        memberPointTotalRedisCache.evict(memberId);
+
+        // then
+
+        // 버전만 남은 키는 캐시가 없는 것으로 봅니다.
+        assertNull(memberPointTotalRedisCache.get(memberId));
+        assertTrue(getTtlMillis(memberId) > 0);
+
+        // 삭제 전에 조회한 합계는 저장되지 않습니다.
+        memberPointTotalRedisCache.put(memberId, new MemberPointTotalSnapshot(1000, 3L, null));
+        assertNull(memberPointTotalRedisCache.get(memberId));
+
+        // 변경 후 다시 조회한 합계는 저장됩니다.
+        memberPointTotalRedisCache.put(memberId, new MemberPointTotalSnapshot(900, 4L, null));
+        assertEquals(900, ((MemberPointTotalSnapshot) memberPointTotalRedisCache.get(memberId).get()).getTotal());
+    }
+
+    /**
+     * 일괄 초기화는 캐시가 없던 회원에게도 커밋된 잔액 버전을 남겨서, 그보다 이전 버전의 합계가 저장되지 않아야 합니다.
+     */
+    @Test
+    void evictWithVersionsLeavesCommittedVersion() {
+        // given
+        long cachedMemberId = createDummyMember(memberRepository).getId();
+        long missingMemberId = createDummyMember(memberRepository).getId();
+        memberPointTotalRedisCache.put(cachedMemberId, new MemberPointTotalSnapshot(1000, 3L, null));
+
+        // when
+        memberPointTotalRedisCache.evict(Map.of(cachedMemberId, 5L, missingMemberId, 2L));
+
+        // then
+        assertNull(memberPointTotalRedisCache.get(cachedMemberId));
+        assertNull(memberPointTotalRedisCache.get(missingMemberId));
+
+        memberPointTotalRedisCache.put(cachedMemberId, new MemberPointTotalSnapshot(1000, 4L, null));
+        memberPointTotalRedisCache.put(missingMemberId, new MemberPointTotalSnapshot(500, 1L, null));
+        assertNull(memberPointTotalRedisCache.get(cachedMemberId));
+        assertNull(memberPointTotalRedisCache.get(missingMemberId));
+
+        memberPointTotalRedisCache.put(cachedMemberId, new MemberPointTotalSnapshot(800, 5L, null));
+        memberPointTotalRedisCache.put(missingMemberId, new MemberPointTotalSnapshot(600, 2L, null));
+        assertEquals(800, ((MemberPointTotalSnapshot) memberPointTotalRedisCache.get(cachedMemberId).get()).getTotal());
+        assertEquals(600, ((MemberPointTotalSnapshot) memberPointTotalRedisCache.get(missingMemberId).get()).getTotal());
+    }
+
+    private long getTtlMillis(long memberId) {
+        Long ttl = stringRedisTemplate.getExpire(MemberPointTotalCacheEvictor.CACHE_NAME + "::" + memberId, TimeUnit.MILLISECONDS);
+        return ttl == null ? -1L : ttl;
+    }
+}
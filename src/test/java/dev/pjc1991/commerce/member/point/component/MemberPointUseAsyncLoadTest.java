@@ -0,0 +1,148 @@
+package dev.pjc1991.commerce.member.point.component;
+
+import dev.pjc1991.commerce.CommerceApplication;
+import dev.pjc1991.commerce.member.point.service.MemberPointService;
+import dev.pjc1991.commerce.member.repository.MemberRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static dev.pjc1991.commerce.member.point.MemberPointTestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 비동기 적립금 사용 부하 테스트
+ * 한 회원 (hot) 의 잠금을 테스트가 잡고 있는 동안 그 회원에게 적립금 사용 요청을 요청 스레드보다 훨씬 많이 보내고,
+ * 그 사이에 다른 회원의 합계 조회 응답 시간이 평소와 비슷한지 확인합니다.
+ * 사용 요청이 요청 스레드를 점유한 채로 잠금을 기다린다면, 조회는 잠금 대기 시간 (lock-wait) 만큼 늦어집니다.
+ * 응답 시간을 재는 테스트이므로 벤치마크로 분류해서 ./gradlew benchmark 로만 실행합니다.
+ */
+@Tag("benchmark")
+class MemberPointUseAsyncLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberPointUseAsyncLoadTest.class);
+
+    private static final int TOMCAT_THREADS = 16;
+    private static final int USE_REQUESTS = 200;
+    private static final int READ_REQUESTS = 100;
+    private static final Duration LOCK_WAIT = Duration.ofSeconds(2);
+
+    // 사용 요청이 몰리는 동안 조회 응답 시간 중앙값이 평소의 몇 배까지 늦어져도 되는지
+    private static final double READ_SLOWDOWN_LIMIT = 5.0;
+
+    @Test
+    void readLatencyIsNotAffectedByHotMemberUseStorm() throws Exception {
+        try (ConfigurableApplicationContext node = startNode()) {
+            String baseUrl = "http://localhost:" + node.getEnvironment().getProperty("local.server.port");
+            HttpClient useClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+            HttpClient readClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+            MemberPointService memberPointService = node.getBean(MemberPointService.class);
+            long hotMemberId = createDummyMember(node.getBean(MemberRepository.class)).getId();
+            long otherMemberId = createDummyMember(node.getBean(MemberRepository.class)).getId();
+            memberPointService.earnMemberPoint(getTestMemberPointCreateRequest(hotMemberId, USE_REQUESTS));
+            memberPointService.earnMemberPoint(getTestMemberPointCreateRequest(otherMemberId, 1000));
+
+            // JIT 컴파일, 커넥션 풀 등이 준비되도록 먼저 조회해 봅니다.
+            readTotal(readClient, baseUrl, otherMemberId, READ_REQUESTS);
+            long[] baseline = readTotal(readClient, baseUrl, otherMemberId, READ_REQUESTS);
+
+            // when
+            // 테스트가 잠금을 잡고 있으므로, 사용 요청은 모두 잠금을 기다립니다.
+            RLock lock = node.getBean(RedissonClient.class).getLock(RedissonMemberPointUseLock.LOCK_KEY_PREFIX + hotMemberId);
+            lock.lock(LOCK_WAIT.multipliedBy(5).toMillis(), TimeUnit.MILLISECONDS);
+            List<CompletableFuture<HttpResponse<String>>> uses = new ArrayList<>();
+            long[] storm;
+            try {
+                for (int i = 0; i < USE_REQUESTS; i++) {
+                    uses.add(useClient.sendAsync(HttpRequest.newBuilder(URI.create(baseUrl + "/member/" + hotMemberId + "/point/use"))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString("{\"amount\": 1}"))
+                            .build(), HttpResponse.BodyHandlers.ofString()));
+                }
+                storm = readTotal(readClient, baseUrl, otherMemberId, READ_REQUESTS);
+            } finally {
+                lock.unlock();
+            }
+
+            int successes = 0;
+            int failures = 0;
+            for (CompletableFuture<HttpResponse<String>> use : uses) {
+                int status = use.get(LOCK_WAIT.multipliedBy(10).toMillis(), TimeUnit.MILLISECONDS).statusCode();
+                if (status == 201) {
+                    successes++;
+                } else {
+                    // 잠금을 lock-wait 안에 얻지 못한 요청은 409 로 응답해야 합니다.
+                    assertEquals(409, status);
+                    failures++;
+                }
+            }
+
+            // then
+            log.info("요청 스레드 {}개, 한 회원에게 적립금 사용 {}건 (성공 {}, 실패 {}) 중 다른 회원의 합계 조회 {}건\n{}\n{}\n{}",
+                    TOMCAT_THREADS, USE_REQUESTS, successes, failures, READ_REQUESTS,
+                    String.format("%-10s | %8s | %8s | %8s", "read", "p50 (ms)", "p99 (ms)", "max (ms)"),
+                    String.format("%-10s | %8.2f | %8.2f | %8.2f", "baseline", percentile(baseline, 50), percentile(baseline, 99), percentile(baseline, 100)),
+                    String.format("%-10s | %8.2f | %8.2f | %8.2f", "storm", percentile(storm, 50), percentile(storm, 99), percentile(storm, 100)));
+
+            // 요청 스레드가 잠금을 기다리고 있었다면 대부분의 조회가 lock-wait 가까이 늦어지므로, 중앙값이 평소의 몇 배를 넘게 됩니다.
+            // 실행 환경에 따라 응답 시간이 달라지므로, 절대 시간이 아니라 같은 노드의 평소 응답 시간과 비교합니다.
+            double slowdown = percentile(storm, 50) / percentile(baseline, 50);
+            log.info("조회 중앙값이 평소의 {}배입니다.", String.format("%.2f", slowdown));
+            assertTrue(slowdown < READ_SLOWDOWN_LIMIT);
+
+            // 성공한 사용만큼만 잔액이 줄고, 원장으로 다시 계산한 잔액과 같아야 합니다.
+            assertEquals(USE_REQUESTS - successes, memberPointService.getMemberPointTotal(hotMemberId));
+            assertEquals(USE_REQUESTS - successes, memberPointService.rebuildMemberPointBalance(hotMemberId));
+            memberPointService.checkMemberPoint(hotMemberId);
+        }
+    }
+
+    /**
+     * 회원 적립금 합계를 requests 번 조회하고, 정렬된 응답 시간 (나노초) 을 반환합니다.
+     */
+    private static long[] readTotal(HttpClient client, String baseUrl, long memberId, int requests) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/member/" + memberId + "/point/total")).GET().build();
+        long[] latencies = new long[requests];
+        for (int i = 0; i < requests; i++) {
+            long startedAt = System.nanoTime();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            latencies[i] = System.nanoTime() - startedAt;
+            assertEquals(200, response.statusCode());
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private static double percentile(long[] sortedLatencies, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(0, index)] / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private static ConfigurableApplicationContext startNode() {
+        // application.properties 보다 우선하도록 명령행 인자로 설정합니다.
+        return new SpringApplicationBuilder(CommerceApplication.class).run(
+                "--server.port=0",
+                "--server.tomcat.threads.max=" + TOMCAT_THREADS,
+                "--member.point.use.lock-mode=REDISSON",
+                "--member.point.use.lock-wait=" + LOCK_WAIT.toMillis() + "ms",
+                "--member.point.command.enabled=false"
+        );
+    }
+}
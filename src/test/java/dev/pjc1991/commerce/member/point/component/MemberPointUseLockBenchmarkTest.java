@@ -0,0 +1,148 @@
+package dev.pjc1991.commerce.member.point.component;
+
+import dev.pjc1991.commerce.CommerceApplication;
+import dev.pjc1991.commerce.member.point.domain.MemberPointUseLockMode;
+import dev.pjc1991.commerce.member.point.exception.MemberPointConcurrentException;
+import dev.pjc1991.commerce.member.point.service.MemberPointService;
+import dev.pjc1991.commerce.member.repository.MemberRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static dev.pjc1991.commerce.member.point.MemberPointTestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 회원 적립금 사용 동시성 제어 벤치마크
+ * 동시성 제어 방식 (member.point.use.lock-mode) 마다 애플리케이션 컨텍스트를 실행하고,
+ * 같은 회원에게 동시 사용자 1, 10, 100 명이 적립금을 사용할 때의 처리량과 p99 응답 시간을 비교합니다.
+ * 어느 방식이든 사용에 성공한 만큼만 잔액이 줄고, 원장과 잔액이 같아야 합니다.
+ * 트랜잭션이 커밋되어야 잠금이 해제되므로 테스트 트랜잭션을 사용하지 않습니다.
+ * 빌드의 테스트에서는 제외되고, ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+class MemberPointUseLockBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberPointUseLockBenchmarkTest.class);
+
+    private static final int[] USERS = {1, 10, 100};
+    private static final int REQUESTS = 300;
+    private static final int WARM_UP_REQUESTS = 50;
+
+    @Test
+    void useMemberPointBenchmark() throws Exception {
+        List<String> rows = new ArrayList<>();
+        for (MemberPointUseLockMode mode : MemberPointUseLockMode.values()) {
+            try (ConfigurableApplicationContext node = startNode(mode)) {
+                assertEquals(mode != MemberPointUseLockMode.OPTIMISTIC, node.getBean(MemberPointUseLock.class).isBalanceLockRequired());
+
+                // JIT 컴파일, 커넥션 풀 등이 준비되도록 먼저 사용해 봅니다.
+                useConcurrently(node, 1, WARM_UP_REQUESTS);
+
+                for (int users : USERS) {
+                    Result result = useConcurrently(node, users, REQUESTS);
+                    rows.add(String.format("%-10s | %5d | %10.1f | %8.2f | %8.2f | %5d", mode, users, result.getThroughput(), result.getPercentile(50), result.getPercentile(99), result.failures));
+                }
+            }
+        }
+
+        log.info("같은 회원에게 {}건씩 적립금 사용\n{}\n{}", REQUESTS,
+                String.format("%-10s | %5s | %10s | %8s | %8s | %5s", "mode", "users", "req/s", "p50 (ms)", "p99 (ms)", "fail"),
+                String.join("\n", rows));
+    }
+
+    /**
+     * 새 회원에게 사용할 만큼 적립한 뒤, users 명이 나눠서 requests 건의 적립금을 1씩 사용합니다.
+     */
+    private static Result useConcurrently(ConfigurableApplicationContext node, int users, int requests) throws Exception {
+        MemberPointService memberPointService = node.getBean(MemberPointService.class);
+        long memberId = createDummyMember(node.getBean(MemberRepository.class)).getId();
+        memberPointService.earnMemberPoint(getTestMemberPointCreateRequest(memberId, requests));
+
+        AtomicLongArray latencies = new AtomicLongArray(requests);
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(users);
+        long elapsed;
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < users; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    int index;
+                    while ((index = next.getAndIncrement()) < requests) {
+                        long startedAt = System.nanoTime();
+                        try {
+                            memberPointService.useMemberPoint(getTestMemberPointUseRequest(memberId, 1));
+                        } catch (MemberPointConcurrentException e) {
+                            failures.incrementAndGet();
+                        }
+                        latencies.set(index, System.nanoTime() - startedAt);
+                    }
+                    return null;
+                }));
+            }
+
+            long startedAt = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            elapsed = System.nanoTime() - startedAt;
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 성공한 사용만큼만 잔액이 줄고, 원장으로 다시 계산한 잔액과 같아야 합니다.
+        int used = requests - failures.get();
+        assertTrue(used > 0);
+        assertEquals(requests - used, memberPointService.getMemberPointTotal(memberId));
+        assertEquals(requests - used, memberPointService.rebuildMemberPointBalance(memberId));
+        memberPointService.checkMemberPoint(memberId);
+
+        long[] sorted = new long[requests];
+        for (int i = 0; i < requests; i++) {
+            sorted[i] = latencies.get(i);
+        }
+        Arrays.sort(sorted);
+        return new Result(used, failures.get(), elapsed, sorted);
+    }
+
+    private static ConfigurableApplicationContext startNode(MemberPointUseLockMode mode) {
+        // application.properties 보다 우선하도록 명령행 인자로 설정합니다.
+        return new SpringApplicationBuilder(CommerceApplication.class).run(
+                "--server.port=0",
+                "--member.point.use.lock-mode=" + mode.name()
+        );
+    }
+
+    /**
+     * 동시 사용자 수 하나의 측정 결과
+     */
+    private record Result(int successes, int failures, long elapsedNanos, long[] sortedLatencies) {
+
+        double getThroughput() {
+            return successes / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+        }
+
+        double getPercentile(int percentile) {
+            int index = (int) Math.ceil(percentile / 100.0 * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(0, index)] / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+}
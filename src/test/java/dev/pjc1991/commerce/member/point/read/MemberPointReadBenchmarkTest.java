@@ -0,0 +1,204 @@
+package dev.pjc1991.commerce.member.point.read;
+
+import dev.pjc1991.commerce.CommerceApplication;
+import dev.pjc1991.commerce.member.point.service.MemberPointService;
+import dev.pjc1991.commerce.member.repository.MemberRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static dev.pjc1991.commerce.member.point.MemberPointTestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 회원 적립금 읽기 API 벤치마크 (MVC + JDBC, WebFlux + R2DBC)
+ * 같은 프로세스에서 실행되는 두 API 에 동시 연결 16, 64, 256 개로 적립금 합계와 적립/사용 내역을 조회하고,
+ * 코어당 처리량 (req/s/core, 프로세스 CPU 시간당 처리량) 과 동시 연결당 메모리 (서버 스레드 개수, 연결을 유지한 채 GC 한 뒤의 힙 증가량) 를 비교합니다.
+ *
+ * 클라이언트 (HttpClient) 도 같은 프로세스에서 실행되므로 CPU 시간과 힙에는 클라이언트의 몫이 두 API 에 똑같이 포함됩니다.
+ * 쓰기 애플리케이션의 합계 조회는 합계 캐시를 거치고, 읽기 전용 API 는 항상 데이터베이스를 조회합니다. 내역 조회는 두 API 모두 데이터베이스를 조회합니다.
+ * 빌드의 테스트에서는 제외되고, ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+class MemberPointReadBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberPointReadBenchmarkTest.class);
+
+    private static final int[] CONNECTIONS = {16, 64, 256};
+    private static final Duration RUN = Duration.ofSeconds(2);
+    private static final Duration WARM_UP = Duration.ofSeconds(1);
+
+    // 서버 스레드의 이름 (Tomcat : http-nio-{port}-exec-N 등, Netty : reactor-http-nio-N 등)
+    private static final String MVC_THREAD_PREFIX = "http-nio-";
+    private static final String REACTIVE_THREAD_PREFIX = "reactor-http-";
+
+    @Test
+    void readBenchmark() throws Exception {
+        try (ConfigurableApplicationContext node = startNode()) {
+            String mvcUrl = "http://localhost:" + node.getEnvironment().getProperty("local.server.port");
+            String reactiveUrl = "http://localhost:" + node.getBean(MemberPointReadServer.class).getPort();
+            long memberId = createMemberWithEvents(node);
+
+            List<String> rows = new ArrayList<>();
+            int[] peakThreads = new int[2];
+            for (String path : new String[]{"/member/" + memberId + "/point/total", "/member/" + memberId + "/point"}) {
+                for (int server = 0; server < 2; server++) {
+                    String baseUrl = server == 0 ? mvcUrl : reactiveUrl;
+                    String threadPrefix = server == 0 ? MVC_THREAD_PREFIX : REACTIVE_THREAD_PREFIX;
+
+                    // JIT 컴파일, 커넥션 풀 등이 준비되도록 먼저 조회해 봅니다.
+                    readConcurrently(baseUrl + path, CONNECTIONS[0], WARM_UP, threadPrefix);
+
+                    for (int connections : CONNECTIONS) {
+                        Result result = readConcurrently(baseUrl + path, connections, RUN, threadPrefix);
+                        assertEquals(0, result.failures);
+                        assertTrue(result.successes > 0);
+                        peakThreads[server] = Math.max(peakThreads[server], result.serverThreads);
+                        rows.add(String.format("%-9s | %-8s | %5d | %9.1f | %10.1f | %9.1f | %7d | %14.1f",
+                                server == 0 ? "mvc" : "reactive", path.endsWith("total") ? "total" : "events", connections,
+                                result.getThroughput(), result.getThroughputPerCore(), result.getThroughputPerCpuSecond(),
+                                result.serverThreads, result.getRetainedHeapPerConnection()));
+                    }
+                }
+            }
+
+            log.info("코어 {}개, 연결 수마다 {}초씩 조회\n{}\n{}", Runtime.getRuntime().availableProcessors(), RUN.toSeconds(),
+                    String.format("%-9s | %-8s | %5s | %9s | %10s | %9s | %7s | %14s", "server", "api", "conns", "req/s", "req/s/core", "req/cpu-s", "threads", "heap/conn (KB)"),
+                    String.join("\n", rows));
+
+            // 읽기 전용 API 는 연결 수와 상관없이 이벤트 루프 스레드만 사용해야 합니다.
+            assertTrue(peakThreads[1] < peakThreads[0]);
+        }
+    }
+
+    /**
+     * connections 개의 연결이 duration 동안 각자 응답을 받자마자 다음 요청을 보냅니다.
+     */
+    private static Result readConcurrently(String url, int connections, Duration duration, String threadPrefix) throws Exception {
+        MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        com.sun.management.OperatingSystemMXBean operatingSystemMXBean = (com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+
+        // 클라이언트 스레드가 서버 스레드 개수에 섞이지 않도록 정해진 스레드만 사용합니다.
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(4);
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).executor(clientExecutor).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url)).GET().build();
+        try {
+            System.gc();
+            long heapBefore = memoryMXBean.getHeapMemoryUsage().getUsed();
+            AtomicInteger serverThreads = new AtomicInteger(countThreads(threadMXBean, threadPrefix));
+            sampler.scheduleAtFixedRate(() -> serverThreads.accumulateAndGet(countThreads(threadMXBean, threadPrefix), Math::max), 0L, 20L, TimeUnit.MILLISECONDS);
+
+            LongAdder successes = new LongAdder();
+            LongAdder failures = new LongAdder();
+            long cpuBefore = operatingSystemMXBean.getProcessCpuTime();
+            long startedAt = System.nanoTime();
+            long deadline = startedAt + duration.toNanos();
+            List<CompletableFuture<Void>> users = new ArrayList<>(connections);
+            for (int i = 0; i < connections; i++) {
+                users.add(read(client, request, deadline, successes, failures));
+            }
+            CompletableFuture.allOf(users.toArray(CompletableFuture[]::new)).get(duration.multipliedBy(10).toMillis(), TimeUnit.MILLISECONDS);
+            long elapsed = System.nanoTime() - startedAt;
+            long cpu = operatingSystemMXBean.getProcessCpuTime() - cpuBefore;
+            sampler.shutdownNow();
+
+            // 연결이 열려 있는 동안 GC 한 뒤에 남은 힙을 연결 수로 나눕니다.
+            System.gc();
+            long heapAfter = memoryMXBean.getHeapMemoryUsage().getUsed();
+            return new Result(successes.intValue(), failures.intValue(), connections, elapsed, cpu, serverThreads.get(), heapAfter - heapBefore);
+        } finally {
+            sampler.shutdownNow();
+            clientExecutor.shutdownNow();
+        }
+    }
+
+    private static CompletableFuture<Void> read(HttpClient client, HttpRequest request, long deadline, LongAdder successes, LongAdder failures) {
+        return client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).thenCompose(response -> {
+            if (response.statusCode() == 200) {
+                successes.increment();
+            } else {
+                failures.increment();
+            }
+            return System.nanoTime() < deadline ? read(client, request, deadline, successes, failures) : CompletableFuture.completedFuture(null);
+        });
+    }
+
+    private static int countThreads(ThreadMXBean threadMXBean, String prefix) {
+        int count = 0;
+        for (ThreadInfo threadInfo : threadMXBean.getThreadInfo(threadMXBean.getAllThreadIds(), 0)) {
+            if (threadInfo != null && threadInfo.getThreadName().startsWith(prefix)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static ConfigurableApplicationContext startNode() {
+        // application.properties 보다 우선하도록 명령행 인자로 설정합니다.
+        return new SpringApplicationBuilder(CommerceApplication.class).run(
+                "--server.port=0",
+                "--member.point.read.enabled=true",
+                "--member.point.read.port=0"
+        );
+    }
+
+    /**
+     * 내역 한 페이지를 채울 만큼 적립, 사용한 회원을 생성합니다.
+     */
+    private static long createMemberWithEvents(ConfigurableApplicationContext node) {
+        long memberId = createDummyMember(node.getBean(MemberRepository.class)).getId();
+
+        MemberPointService memberPointService = node.getBean(MemberPointService.class);
+        for (int i = 0; i < 10; i++) {
+            memberPointService.earnMemberPoint(getTestMemberPointCreateRequest(memberId, 1000));
+            memberPointService.useMemberPoint(getTestMemberPointUseRequest(memberId, 300));
+        }
+        return memberId;
+    }
+
+    /**
+     * 연결 수 하나의 측정 결과
+     */
+    private record Result(int successes, int failures, int connections, long elapsedNanos, long cpuNanos, int serverThreads, long retainedHeapBytes) {
+
+        double getThroughput() {
+            return successes / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+        }
+
+        double getThroughputPerCore() {
+            return getThroughput() / Runtime.getRuntime().availableProcessors();
+        }
+
+        double getThroughputPerCpuSecond() {
+            return successes / (cpuNanos / (double) TimeUnit.SECONDS.toNanos(1));
+        }
+
+        double getRetainedHeapPerConnection() {
+            return Math.max(0L, retainedHeapBytes) / 1024.0 / connections;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package dev.pjc1991.commerce.member.point.read;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import dev.pjc1991.commerce.member.point.dto.MemberPointEventResponse;
+import dev.pjc1991.commerce.member.point.dto.MemberPointEventSearch;
+import dev.pjc1991.commerce.member.point.service.MemberPointService;
+import dev.pjc1991.commerce.member.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static dev.pjc1991.commerce.member.point.MemberPointTestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 회원 적립금 읽기 전용 API 테스트
+ * 읽기 전용 API (WebFlux + R2DBC) 는 쓰기 애플리케이션 (JPA) 이 기록한 적립금을 쓰기 API 와 같은 값으로 조회해야 합니다.
+ * 읽기 전용 API 는 커밋된 데이터만 볼 수 있으므로 테스트 트랜잭션을 사용하지 않습니다.
+ */
+@SpringBootTest(properties = {
+        "member.point.read.enabled=true",
+        "member.point.read.port=0"
+})
+class MemberPointReadServerTest {
+
+    @Autowired
+    MemberPointReadServer memberPointReadServer;
+    @Autowired
+    MemberPointService memberPointService;
+    @Autowired
+    MemberRepository memberRepository;
+
+    WebTestClient webTestClient;
+
+    @BeforeEach
+    void setUp() {
+        webTestClient = WebTestClient.bindToServer().baseUrl("http://localhost:" + memberPointReadServer.getPort()).build();
+    }
+
+    @Test
+    void totalIsSameAsWriteApplication() {
+        // given
+        long memberId = createDummyMember(memberRepository).getId();
+        memberPointService.earnMemberPoint(getTestMemberPointCreateRequest(memberId, 1000));
+        memberPointService.earnMemberPoint(getTestMemberPointCreateRequest(memberId, 500));
+        memberPointService.useMemberPoint(getTestMemberPointUseRequest(memberId, 300));
+
+        // when, then
+        webTestClient.get().uri("/member/{memberId}/point/total", memberId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.memberId").isEqualTo(memberId)
+                .jsonPath("$.totalPoint").isEqualTo(memberPointService.getMemberPointTotal(memberId));
+
+        // 적립금이 없는 회원은 잔액이 없으므로 상세 내역을 합산합니다.
+        long emptyMemberId = createDummyMember(memberRepository).getId();
+        webTestClient.get().uri("/member/{memberId}/point/total", emptyMemberId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.totalPoint").isEqualTo(0);
+    }
+
+    @Test
+    void eventsAreSameAsWriteApplication() {
+        // given
+        long memberId = createDummyMember(memberRepository).getId();
+        memberPointService.earnMemberPoint(getTestMemberPointCreateRequest(memberId, 1000));
+        memberPointService.useMemberPoint(getTestMemberPointUseRequest(memberId, 100));
+        memberPointService.useMemberPoint(getTestMemberPointUseRequest(memberId, 200));
+        long rollbackedEventId = memberPointService.useMemberPoint(getTestMemberPointUseRequest(memberId, 300)).getId();
+        memberPointService.rollbackMemberPointUse(rollbackedEventId);
+
+        for (int page = 0; page < 2; page++) {
+            MemberPointEventSearch search = new MemberPointEventSearch();
+            search.setMemberId(memberId);
+            search.setPage(page);
+            search.setSize(2);
+            Page<MemberPointEventResponse> expected = memberPointService.getMemberPointEventResponses(search);
+
+            // when
+            JsonNode actual = webTestClient.get().uri("/member/{memberId}/point?page={page}&size={size}", memberId, page, 2)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody(JsonNode.class)
+                    .returnResult()
+                    .getResponseBody();
+
+            // then
+            // 사용 취소된 내역은 제외하고, 최신순으로 같은 내역을 반환해야 합니다.
+            assertNotNull(actual);
+            assertEquals(3, actual.get("totalElements").asLong());
+            assertEquals(expected.getTotalElements(), actual.get("totalElements").asLong());
+            List<Long> actualIds = new ArrayList<>();
+            actual.get("content").forEach(event -> actualIds.add(event.get("id").asLong()));
+            assertEquals(expected.getContent().stream().map(MemberPointEventResponse::getId).toList(), actualIds);
+            assertFalse(actualIds.contains(rollbackedEventId));
+        }
+    }
+
+    @Test
+    void badRequests() {
+        // 존재하지 않는 회원은 404 로 응답해야 합니다.
+        webTestClient.get().uri("/member/{memberId}/point/total", Long.MAX_VALUE)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.name").isEqualTo("MemberNotFoundException");
+        webTestClient.get().uri("/member/{memberId}/point", Long.MAX_VALUE)
+                .exchange()
+                .expectStatus().isNotFound();
+
+        // 잘못된 페이지 사이즈는 400 으로 응답해야 합니다.
+        long memberId = createDummyMember(memberRepository).getId();
+        webTestClient.get().uri("/member/{memberId}/point?size=0", memberId)
+                .exchange()
+                .expectStatus().isBadRequest();
+        webTestClient.get().uri("/member/{memberId}/point?page=first", memberId)
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+}
@@ -0,0 +1,127 @@
+package dev.pjc1991.commerce.member.point.service;
+
+import dev.pjc1991.commerce.member.point.dto.MemberPointEarnBatchRequest;
+import dev.pjc1991.commerce.member.point.dto.MemberPointEarnBatchResponse;
+import dev.pjc1991.commerce.member.point.repository.MemberPointBalanceRepository;
+import dev.pjc1991.commerce.member.point.repository.MemberPointDetailRepositoryCustom;
+import dev.pjc1991.commerce.member.repository.MemberRepository;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static dev.pjc1991.commerce.member.point.MemberPointTestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 회원 적립금 첫 기록 테스트
+ * 잔액이 아직 없는 회원의 첫 적립이 동시에 들어오면 잠금과 함께 조회할 행이 없으므로, 두 요청 모두 잔액을 생성하려고 합니다.
+ * 한 요청만 생성하고, 다른 요청은 생성된 잔액을 잠금과 함께 다시 조회해서 두 적립이 모두 반영되어야 합니다.
+ * 잔액은 새 트랜잭션으로 생성되므로 테스트 트랜잭션을 사용하지 않습니다.
+ */
+@SpringBootTest
+class MemberPointFirstWriteTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberPointFirstWriteTest.class);
+
+    // 두 요청이 실제로 겹치도록 새 회원마다 반복합니다.
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    MemberPointService memberPointService;
+    @Autowired
+    MemberPointBalanceRepository memberPointBalanceRepository;
+    @Autowired
+    MemberPointDetailRepositoryCustom memberPointDetailRepositoryCustom;
+    @Autowired
+    MemberRepository memberRepository;
+
+    /**
+     * 새 회원에게 두 스레드가 동시에 처음 적립해도 둘 다 성공해야 합니다.
+     */
+    @Test
+    void concurrentFirstEarnCreatesBalanceOnce() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            // given
+            long memberId = createDummyMember(memberRepository).getId();
+
+            // when
+            runConcurrently(
+                    () -> memberPointService.earnMemberPoint(getTestMemberPointCreateRequest(memberId, 100)),
+                    () -> memberPointService.earnMemberPoint(getTestMemberPointCreateRequest(memberId, 200))
+            );
+
+            // then
+            assertBalance(memberId, 300);
+        }
+    }
+
+    /**
+     * 새 회원에게 단건 적립과 그 회원을 포함한 일괄 적립이 동시에 처음 들어와도 둘 다 성공해야 합니다.
+     */
+    @Test
+    void concurrentFirstEarnAndBatchEarnCreateBalanceOnce() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            // given
+            long memberId = createDummyMember(memberRepository).getId();
+            long otherMemberId = createDummyMember(memberRepository).getId();
+            MemberPointEarnBatchRequest request = new MemberPointEarnBatchRequest();
+            request.setItems(List.of(
+                    getTestMemberPointCreateRequest(memberId, 200),
+                    getTestMemberPointCreateRequest(otherMemberId, 300)
+            ));
+
+            // when
+            runConcurrently(
+                    () -> memberPointService.earnMemberPoint(getTestMemberPointCreateRequest(memberId, 100)),
+                    () -> {
+                        MemberPointEarnBatchResponse response = memberPointService.earnMemberPointBatch(request);
+                        assertEquals(2, response.getSuccessCount());
+                        return response;
+                    }
+            );
+
+            // then
+            assertBalance(memberId, 300);
+            assertBalance(otherMemberId, 300);
+        }
+    }
+
+    private static void runConcurrently(Callable<?> first, Callable<?> second) throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        try {
+            Future<?> firstFuture = executorService.submit(() -> {
+                barrier.await();
+                return first.call();
+            });
+            Future<?> secondFuture = executorService.submit(() -> {
+                barrier.await();
+                return second.call();
+            });
+
+            // 잔액 생성이 충돌한 요청도 실패하지 않아야 합니다.
+            firstFuture.get(30, TimeUnit.SECONDS);
+            secondFuture.get(30, TimeUnit.SECONDS);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void assertBalance(long memberId, int expected) {
+        int balance = memberPointBalanceRepository.findById(memberId).orElseThrow().getBalance();
+        log.info("회원 : {}, 원장 합계 : {}, 잔액 : {}", memberId, memberPointDetailRepositoryCustom.getMemberPointTotal(memberId), balance);
+        assertEquals(expected, memberPointDetailRepositoryCustom.getMemberPointTotal(memberId));
+        assertEquals(expected, balance);
+        memberPointService.checkMemberPoint(memberId);
+    }
+}
@@ -0,0 +1,257 @@
+package dev.pjc1991.commerce.member.point.service;
+
+import dev.pjc1991.commerce.member.point.component.MemberPointHoldSweeper;
+import dev.pjc1991.commerce.member.point.dto.MemberPointEventResponse;
+import dev.pjc1991.commerce.member.point.dto.MemberPointEventSearch;
+import dev.pjc1991.commerce.member.point.dto.MemberPointHoldResponse;
+import dev.pjc1991.commerce.member.point.dto.MemberPointReserveRequest;
+import dev.pjc1991.commerce.member.point.exception.MemberPointConcurrentException;
+import dev.pjc1991.commerce.member.point.exception.MemberPointHoldCapturedException;
+import dev.pjc1991.commerce.member.point.exception.MemberPointHoldNotFoundException;
+import dev.pjc1991.commerce.member.point.exception.NotEnoughPointException;
+import dev.pjc1991.commerce.member.repository.MemberRepository;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static dev.pjc1991.commerce.member.point.MemberPointTestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 회원 적립금 예약 서비스 테스트
+ * 예약된 적립금은 다른 예약과 사용에 쓸 수 없고, 확정은 한 번만, 해제는 원장을 변경하지 않아야 합니다.
+ * 예약은 사용 트랜잭션이 커밋된 뒤에 지워지므로 테스트 트랜잭션을 사용하지 않습니다.
+ */
+@SpringBootTest
+class MemberPointHoldServiceTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberPointHoldServiceTest.class);
+
+    private static final int CALLERS = 10;
+
+    @Autowired
+    MemberPointHoldService memberPointHoldService;
+    @Autowired
+    MemberPointService memberPointService;
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    MemberPointHoldSweeper memberPointHoldSweeper;
+
+    @Test
+    void heldPointCannotBeReservedOrUsed() {
+        // given
+        long memberId = createDummyMember(memberRepository).getId();
+        memberPointService.earnMemberPoint(getTestMemberPointCreateRequest(memberId, 1000));
+
+        // when
+        memberPointHoldService.reserveMemberPoint(getTestMemberPointReserveRequest(memberId, 700, null));
+
+        // then
+
+        // 예약되지 않은 300 까지만 예약하거나 사용할 수 있어야 합니다.
+        assertThrows(NotEnoughPointException.class, () -> memberPointHoldService.reserveMemberPoint(getTestMemberPointReserveRequest(memberId, 301, null)));
+        assertThrows(NotEnoughPointException.class, () -> memberPointService.useMemberPoint(getTestMemberPointUseRequest(memberId, 301)));
+        memberPointService.useMemberPoint(getTestMemberPointUseRequest(memberId, 300));
+
+        // 예약은 원장을 변경하지 않으므로 합계는 사용한 금액만큼만 줄어야 합니다.
+        assertEquals(700, memberPointService.getMemberPointTotal(memberId));
+    }
+
+    /**
+     * 같은 예약을 동시에 여러 번 확정해도 적립금은 한 번만 사용되어야 합니다.
+     */
+    @Test
+    void holdIsCapturedOnce() throws Exception {
+        // given
+        long memberId = createDummyMember(memberRepository).getId();
+        memberPointService.earnMemberPoint(getTestMemberPointCreateRequest(memberId, 1000));
+        MemberPointHoldResponse hold = memberPointHoldService.reserveMemberPoint(getTestMemberPointReserveRequest(memberId, 500, null));
+
+        // when
+        List<Long> capturedEventIds = captureConcurrently(memberId, hold.getHoldId());
+
+        // then
+        log.info("확정 요청 {}건 중 {}건이 사용 내역을 받았습니다.", CALLERS, capturedEventIds.size());
+        assertFalse(capturedEventIds.isEmpty());
+        assertEquals(1, new HashSet<>(capturedEventIds).size());
+
+        // 다시 확정하면 같은 사용 내역을 반환해야 합니다.
+        MemberPointEventResponse again = memberPointHoldService.captureMemberPoint(memberId, hold.getHoldId());
+        assertEquals(capturedEventIds.get(0), again.getId());
+        assertEquals(-500, again.getAmount());
+
+        // 확정된 예약은 해제할 수 없습니다.
+        assertThrows(MemberPointHoldCapturedException.class, () -> memberPointHoldService.releaseMemberPoint(memberId, hold.getHoldId()));
+
+        // 한 번만 사용되었고, 예약이 지워졌으므로 남은 적립금은 모두 사용할 수 있어야 합니다.
+        assertEquals(500, memberPointService.getMemberPointTotal(memberId));
+        assertEquals(500, memberPointService.rebuildMemberPointBalance(memberId));
+        memberPointService.checkMemberPoint(memberId);
+        memberPointService.useMemberPoint(getTestMemberPointUseRequest(memberId, 500));
+    }
+
+    /**
+     * 해제된 예약은 원장에 아무 내역도 남기지 않아야 합니다.
+     */
+    @Test
+    void releasedHoldLeavesNoLedgerRows() {
+        // given
+        long memberId = createDummyMember(memberRepository).getId();
+        memberPointService.earnMemberPoint(getTestMemberPointCreateRequest(memberId, 1000));
+        long eventsBefore = countMemberPointEvents(memberId);
+        MemberPointHoldResponse hold = memberPointHoldService.reserveMemberPoint(getTestMemberPointReserveRequest(memberId, 1000, null));
+
+        // when
+        MemberPointHoldResponse released = memberPointHoldService.releaseMemberPoint(memberId, hold.getHoldId());
+
+        // then
+        assertEquals(MemberPointHoldResponse.Status.RELEASED.name(), released.getStatus());
+        assertEquals(1000, released.getAmount());
+        assertEquals(eventsBefore, countMemberPointEvents(memberId));
+        assertEquals(1000, memberPointService.getMemberPointTotal(memberId));
+
+        // 해제된 예약은 확정하거나 다시 해제할 수 없습니다.
+        assertThrows(MemberPointHoldNotFoundException.class, () -> memberPointHoldService.captureMemberPoint(memberId, hold.getHoldId()));
+        assertThrows(MemberPointHoldNotFoundException.class, () -> memberPointHoldService.releaseMemberPoint(memberId, hold.getHoldId()));
+
+        // 해제된 금액은 다시 예약할 수 있어야 합니다.
+        memberPointHoldService.reserveMemberPoint(getTestMemberPointReserveRequest(memberId, 1000, null));
+    }
+
+    /**
+     * 유효 시간이 지난 예약은 확정할 수 없고, 예약된 금액은 다시 사용할 수 있어야 합니다.
+     */
+    @Test
+    void expiredHoldIsReleased() throws InterruptedException {
+        // given
+        long memberId = createDummyMember(memberRepository).getId();
+        memberPointService.earnMemberPoint(getTestMemberPointCreateRequest(memberId, 1000));
+        MemberPointHoldResponse hold = memberPointHoldService.reserveMemberPoint(getTestMemberPointReserveRequest(memberId, 1000, 1L));
+
+        // when
+        Thread.sleep(1100L);
+        memberPointHoldSweeper.sweep();
+
+        // then
+        assertThrows(MemberPointHoldNotFoundException.class, () -> memberPointHoldService.captureMemberPoint(memberId, hold.getHoldId()));
+        memberPointService.useMemberPoint(getTestMemberPointUseRequest(memberId, 1000));
+        assertEquals(0, memberPointService.getMemberPointTotal(memberId));
+    }
+
+    /**
+     * 예약과 사용이 동시에 들어와도, 예약된 금액과 사용된 금액의 합은 적립금을 넘지 않아야 합니다.
+     */
+    @Test
+    void concurrentReserveAndUseDoNotOvercommit() throws Exception {
+        // given
+        long memberId = createDummyMember(memberRepository).getId();
+        memberPointService.earnMemberPoint(getTestMemberPointCreateRequest(memberId, 1000));
+        int amount = 100;
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS * 2);
+        int reserved = 0;
+        int used = 0;
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> reserves = new ArrayList<>();
+            List<Future<Integer>> uses = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                reserves.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        return memberPointHoldService.reserveMemberPoint(getTestMemberPointReserveRequest(memberId, amount, null)).getAmount();
+                    } catch (NotEnoughPointException e) {
+                        return 0;
+                    }
+                }));
+                uses.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        return -memberPointService.useMemberPoint(getTestMemberPointUseRequest(memberId, amount)).getAmount();
+                    } catch (NotEnoughPointException | MemberPointConcurrentException e) {
+                        return 0;
+                    }
+                }));
+            }
+            start.countDown();
+
+            for (Future<Integer> future : reserves) {
+                reserved += future.get();
+            }
+            for (Future<Integer> future : uses) {
+                used += future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        log.info("예약 : {}, 사용 : {}", reserved, used);
+        assertTrue(reserved + used <= 1000);
+        assertEquals(1000 - used, memberPointService.getMemberPointTotal(memberId));
+        memberPointService.checkMemberPoint(memberId);
+    }
+
+    private List<Long> captureConcurrently(long memberId, String holdId) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Long>> futures = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        return memberPointHoldService.captureMemberPoint(memberId, holdId).getId();
+                    } catch (MemberPointConcurrentException e) {
+                        // 다른 요청이 확정하는 중이었습니다.
+                        return null;
+                    }
+                }));
+            }
+            start.countDown();
+
+            List<Long> eventIds = new ArrayList<>();
+            for (Future<Long> future : futures) {
+                try {
+                    Long eventId = future.get();
+                    if (eventId != null) {
+                        eventIds.add(eventId);
+                    }
+                } catch (ExecutionException e) {
+                    fail(e.getCause());
+                }
+            }
+            return eventIds;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private long countMemberPointEvents(long memberId) {
+        MemberPointEventSearch search = new MemberPointEventSearch();
+        search.setMemberId(memberId);
+        return memberPointService.getMemberPointEventResponses(search).getTotalElements();
+    }
+
+    private static MemberPointReserveRequest getTestMemberPointReserveRequest(long memberId, int amount, Long ttlSeconds) {
+        MemberPointReserveRequest memberPointReserveRequest = new MemberPointReserveRequest();
+        memberPointReserveRequest.setMemberId(memberId);
+        memberPointReserveRequest.setAmount(amount);
+        memberPointReserveRequest.setTtlSeconds(ttlSeconds);
+        return memberPointReserveRequest;
+    }
+}
@@ -0,0 +1,181 @@
+package dev.pjc1991.commerce.member.point.service;
+
+import dev.pjc1991.commerce.member.point.dto.MemberPointEventResponse;
+import dev.pjc1991.commerce.member.point.exception.MemberPointIdempotencyKeyReusedException;
+import dev.pjc1991.commerce.member.repository.MemberRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.util.StopWatch;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static dev.pjc1991.commerce.member.point.MemberPointTestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 회원 적립금 멱등 키 테스트
+ * 같은 멱등 키로 다시 요청된 적립/사용은 원장에 한 번만 기록되고, 처음 응답을 그대로 반환해야 합니다.
+ * 응답은 커밋된 뒤에 저장되므로 테스트 트랜잭션을 사용하지 않습니다.
+ */
+@SpringBootTest
+class MemberPointIdempotencyTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberPointIdempotencyTest.class);
+
+    private static final int CALLERS = 10;
+
+    @Autowired
+    MemberPointCommandService memberPointCommandService;
+    @Autowired
+    MemberPointService memberPointService;
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    /**
+     * 다시 요청된 사용은 저장된 응답을 반환하고, 데이터베이스를 거치지 않아야 합니다.
+     */
+    @Test
+    void replayDoesNotTouchDatabase() {
+        // given
+        long memberId = createDummyMember(memberRepository).getId();
+        memberPointCommandService.earnMemberPoint(getTestMemberPointCreateRequest(memberId, 1000, null));
+        String idempotencyKey = UUID.randomUUID().toString();
+        MemberPointEventResponse first = memberPointCommandService.useMemberPoint(getTestMemberPointUseRequest(memberId, 300, idempotencyKey));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        boolean statisticsEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        StopWatch stopWatch = new StopWatch();
+        stopWatch.start("replay");
+        MemberPointEventResponse replayed = memberPointCommandService.useMemberPoint(getTestMemberPointUseRequest(memberId, 300, idempotencyKey));
+        stopWatch.stop();
+        long prepareStatementCount = statistics.getPrepareStatementCount();
+        statistics.setStatisticsEnabled(statisticsEnabled);
+
+        // then
+        log.info(stopWatch.prettyPrint());
+        log.info("다시 요청된 사용의 쿼리 : {}건", prepareStatementCount);
+
+        assertEquals(0, prepareStatementCount);
+        assertEquals(first.getId(), replayed.getId());
+        assertEquals(-300, replayed.getAmount());
+        assertEquals(700, memberPointService.getMemberPointTotal(memberId));
+    }
+
+    /**
+     * 같은 멱등 키의 사용이 동시에 들어와도 한 번만 기록되어야 합니다.
+     */
+    @Test
+    void concurrentRetriesAreRecordedOnce() throws Exception {
+        // given
+        long memberId = createDummyMember(memberRepository).getId();
+        memberPointCommandService.earnMemberPoint(getTestMemberPointCreateRequest(memberId, 1000, null));
+        String idempotencyKey = UUID.randomUUID().toString();
+
+        // when
+        List<Long> eventIds = callConcurrently(() -> memberPointCommandService.useMemberPoint(getTestMemberPointUseRequest(memberId, 100, idempotencyKey)).getId());
+
+        // then
+        assertEquals(1, new HashSet<>(eventIds).size());
+        assertEquals(900, memberPointService.getMemberPointTotal(memberId));
+        assertEquals(900, memberPointService.rebuildMemberPointBalance(memberId));
+        memberPointService.checkMemberPoint(memberId);
+    }
+
+    /**
+     * 저장된 응답이 사라진 뒤에 다시 요청해도, 원장에서 같은 키로 기록된 이벤트를 찾아서 반환해야 합니다.
+     * 이미 기록된 요청이므로 만료 처리나 잔액 갱신 없이 반환해야 합니다.
+     */
+    @Test
+    void retryWithoutStoredResponseFindsRecordedEvent() {
+        // given
+        long memberId = createDummyMember(memberRepository).getId();
+        String idempotencyKey = UUID.randomUUID().toString();
+        String useIdempotencyKey = UUID.randomUUID().toString();
+        MemberPointEventResponse first = memberPointCommandService.earnMemberPoint(getTestMemberPointCreateRequest(memberId, 1000, idempotencyKey));
+        MemberPointEventResponse firstUse = memberPointCommandService.useMemberPoint(getTestMemberPointUseRequest(memberId, 300, useIdempotencyKey));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        boolean statisticsEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        // 저장된 응답을 거치지 않도록 회원 적립금 서비스를 바로 호출합니다.
+        MemberPointEventResponse retried = memberPointService.earnMemberPointResponse(getTestMemberPointCreateRequest(memberId, 1000, idempotencyKey));
+        MemberPointEventResponse retriedUse = memberPointService.useMemberPointResponse(getTestMemberPointUseRequest(memberId, 300, useIdempotencyKey));
+        long writes = statistics.getEntityInsertCount() + statistics.getEntityUpdateCount() + statistics.getEntityDeleteCount();
+        statistics.setStatisticsEnabled(statisticsEnabled);
+
+        // then
+        log.info("다시 요청된 적립, 사용의 쓰기 : {}건", writes);
+        assertEquals(0, writes);
+        assertEquals(first.getId(), retried.getId());
+        assertEquals(firstUse.getId(), retriedUse.getId());
+        assertEquals(700, memberPointService.getMemberPointTotal(memberId));
+        assertEquals(700, memberPointService.rebuildMemberPointBalance(memberId));
+    }
+
+    /**
+     * 다른 요청에 사용된 멱등 키로 요청하면 예외가 발생해야 합니다.
+     */
+    @Test
+    void reusedKeyIsRejected() {
+        // given
+        long memberId = createDummyMember(memberRepository).getId();
+        String idempotencyKey = UUID.randomUUID().toString();
+        memberPointCommandService.earnMemberPoint(getTestMemberPointCreateRequest(memberId, 1000, idempotencyKey));
+
+        // when, then
+        assertThrows(MemberPointIdempotencyKeyReusedException.class, () -> memberPointCommandService.earnMemberPoint(getTestMemberPointCreateRequest(memberId, 500, idempotencyKey)));
+        assertThrows(MemberPointIdempotencyKeyReusedException.class, () -> memberPointCommandService.useMemberPoint(getTestMemberPointUseRequest(memberId, 1000, idempotencyKey)));
+        assertEquals(1000, memberPointService.getMemberPointTotal(memberId));
+    }
+
+    private static <T> List<T> callConcurrently(Callable<T> call) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<T>> futures = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return call.call();
+                }));
+            }
+            start.countDown();
+
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                try {
+                    results.add(future.get());
+                } catch (ExecutionException e) {
+                    fail(e.getCause());
+                }
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package dev.pjc1991.commerce.member.point.service;
+
+import dev.pjc1991.commerce.member.domain.Member;
+import dev.pjc1991.commerce.member.point.domain.MemberPointEvent;
+import dev.pjc1991.commerce.member.point.dto.MemberPointEventCursorResponse;
+import dev.pjc1991.commerce.member.point.dto.MemberPointEventCursorSearch;
+import dev.pjc1991.commerce.member.point.dto.MemberPointEventResponse;
+import dev.pjc1991.commerce.member.repository.MemberRepository;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static dev.pjc1991.commerce.member.point.MemberPointTestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 지연 만료 (LAZY) 모드 테스트
+ * 회원이 접근할 때 만료 처리한 결과가 자정에 한 번에 만료 처리 (EAGER) 한 결과와 같은지 확인합니다.
+ * 지연 만료는 내역 조회 트랜잭션과 별도의 트랜잭션으로 커밋되므로, 테스트 트랜잭션을 사용하지 않습니다.
+ */
+@SpringBootTest(properties = "member.point.expire.mode=LAZY")
+@DirtiesContext
+class MemberPointLazyExpireTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberPointLazyExpireTest.class);
+
+    // 적립 건별 적립 금액입니다. 앞의 두 적립 건은 만료됩니다.
+    private static final int[] EARN_AMOUNTS = {100, 200, 300};
+    private static final int EXPIRED_GRANT_COUNT = 2;
+    private static final int USE_AMOUNT = 150;
+    private static final int NOT_EXPIRED_AMOUNT = 400;
+    private static final int CONCURRENT_READ_COUNT = 8;
+
+    @Autowired
+    MemberPointService memberPointService;
+    @Autowired
+    MemberRepository memberRepository;
+
+    /**
+     * 한 회원은 만료 처리 (EAGER) 로 만료하고, 그 뒤에 내역을 만든 다른 회원은 내역 조회로 지연 만료합니다.
+     * 두 회원의 내역이 각각 직접 계산한 기대 원장과 같아야 하고, 잔액과 선입선출 검사 결과도 같아야 합니다.
+     */
+    @Test
+    void lazyExpireMatchesEagerExpire() {
+        // given
+
+        // 만료 처리 (EAGER) 는 모든 회원을 대상으로 하므로, 지연 만료할 회원의 내역을 만들기 전에 실행합니다.
+        Member eagerMember = createDummyMember(memberRepository);
+        createExpiredHistory(eagerMember);
+        memberPointService.expireMemberPoint();
+
+        Member lazyMember = createDummyMember(memberRepository);
+        createExpiredHistory(lazyMember);
+
+        // when
+
+        // 지연 만료 모드에서는 내역을 조회할 때 만료 처리됩니다.
+        MemberPointEventCursorResponse lazyHistory = getHistory(lazyMember);
+        MemberPointEventCursorResponse eagerHistory = getHistory(eagerMember);
+
+        // then
+
+        List<String> expectedLedger = getExpectedLedger();
+        log.info("기대 원장 : {}, 지연 만료 원장 : {}, 즉시 만료 원장 : {}", expectedLedger, getLedger(lazyHistory), getLedger(eagerHistory));
+
+        assertEquals(expectedLedger, getLedger(eagerHistory));
+        assertEquals(expectedLedger, getLedger(lazyHistory));
+
+        int expectedTotal = EARN_AMOUNTS[2] + NOT_EXPIRED_AMOUNT;
+        assertEquals(expectedTotal, memberPointService.getMemberPointTotal(eagerMember.getId()));
+        assertEquals(expectedTotal, memberPointService.getMemberPointTotal(lazyMember.getId()));
+        assertEquals(memberPointService.rebuildMemberPointBalance(eagerMember.getId()), memberPointService.rebuildMemberPointBalance(lazyMember.getId()));
+
+        memberPointService.checkMemberPoint(lazyMember.getId());
+        memberPointService.checkMemberPoint(eagerMember.getId());
+    }
+
+    /**
+     * 같은 회원의 내역을 동시에 조회해도 만료는 한 번만 기록되고, 버전 충돌이 조회 실패로 이어지지 않아야 합니다.
+     */
+    @Test
+    void concurrentReadsExpireOnce() throws Exception {
+        // given
+        Member member = createDummyMember(memberRepository);
+        createExpiredHistory(member);
+
+        // when
+        ExecutorService executorService = Executors.newFixedThreadPool(CONCURRENT_READ_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<MemberPointEventCursorResponse>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < CONCURRENT_READ_COUNT; i++) {
+                futures.add(executorService.submit(() -> {
+                    start.await();
+                    return getHistory(member);
+                }));
+            }
+            start.countDown();
+
+            // then
+
+            // 조회가 하나라도 실패하면 예외가 발생합니다.
+            for (Future<MemberPointEventCursorResponse> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertEquals(getExpectedLedger(), getLedger(getHistory(member)));
+        assertEquals(EARN_AMOUNTS[2] + NOT_EXPIRED_AMOUNT, memberPointService.getMemberPointTotal(member.getId()));
+        memberPointService.checkMemberPoint(member.getId());
+    }
+
+    /**
+     * 지연 만료 모드에서는 적립할 때도 만료 시점이 지난 적립 건을 먼저 만료 처리합니다.
+     */
+    @Test
+    void earnMemberPointExpiresLazily() {
+        // given
+        Member member = createDummyMember(memberRepository);
+        createExpiredHistory(member);
+
+        // when
+        MemberPointEvent earn = memberPointService.earnMemberPoint(getTestMemberPointCreateRequest(member.getId(), 100));
+
+        // then
+
+        // 적립보다 먼저 만료 이벤트가 기록되어야 합니다.
+        List<MemberPointEventResponse> content = getHistory(member).getContent();
+        assertEquals(earn.getId(), content.get(0).getId());
+        assertTrue(content.stream().anyMatch(event -> MemberPointEvent.MemberPointEventType.EXPIRE.name().equals(event.getType())));
+        assertEquals(0, memberPointService.expireMemberPointOf(member.getId()));
+        assertEquals(EARN_AMOUNTS[2] + NOT_EXPIRED_AMOUNT + 100, memberPointService.getMemberPointTotal(member.getId()));
+        memberPointService.checkMemberPoint(member.getId());
+    }
+
+    /**
+     * 적립 건 3개를 적립하고 일부를 사용한 뒤, 만료되지 않을 적립 건을 하나 더 적립하고 앞의 두 적립 건의 만료 시점을 과거로 설정합니다.
+     * 첫 번째 적립 건은 모두 사용되었으므로, 두 번째 적립 건의 남은 금액만 만료되어야 합니다.
+     *
+     * @param member 회원
+     */
+    private void createExpiredHistory(Member member) {
+        LocalDateTime now = LocalDateTime.now();
+        List<MemberPointEvent> earns = new ArrayList<>();
+        for (int i = 0; i < EARN_AMOUNTS.length; i++) {
+            MemberPointEvent event = memberPointService.earnMemberPoint(getTestMemberPointCreateRequest(member.getId(), EARN_AMOUNTS[i]));
+            memberPointService.changeExpireAt(event.getId(), now.plusYears(1L), now.minusYears(2L).plusDays(i));
+            earns.add(event);
+        }
+        memberPointService.useMemberPoint(getTestMemberPointUseRequest(member.getId(), USE_AMOUNT));
+        memberPointService.earnMemberPoint(getTestMemberPointCreateRequest(member.getId(), NOT_EXPIRED_AMOUNT));
+
+        // 적립과 사용은 만료 처리를 일으키므로, 마지막에 만료 시점을 변경합니다.
+        for (int i = 0; i < EXPIRED_GRANT_COUNT; i++) {
+            memberPointService.changeExpireAt(earns.get(i).getId(), now.minusDays(1L), now.minusYears(2L).plusDays(i));
+        }
+    }
+
+    private MemberPointEventCursorResponse getHistory(Member member) {
+        MemberPointEventCursorSearch search = new MemberPointEventCursorSearch();
+        search.setMemberId(member.getId());
+        search.setSize(100);
+        return memberPointService.getMemberPointEventCursorResponses(search);
+    }
+
+    /**
+     * 내역을 "유형:금액" 으로 바꿔 정렬합니다.
+     *
+     * @param history 회원 적립금 내역
+     * @return 정렬된 원장
+     */
+    private static List<String> getLedger(MemberPointEventCursorResponse history) {
+        return history.getContent().stream()
+                .map(event -> event.getType() + ":" + event.getAmount())
+                .sorted()
+                .toList();
+    }
+
+    /**
+     * createExpiredHistory 로 만든 내역이 만료된 뒤의 원장을 직접 계산합니다.
+     * 첫 번째 적립 건은 사용으로 모두 소진되었으므로, 두 번째 적립 건의 남은 금액만 만료됩니다.
+     *
+     * @return 정렬된 기대 원장
+     */
+    private static List<String> getExpectedLedger() {
+        List<String> ledger = new ArrayList<>();
+        for (int amount : EARN_AMOUNTS) {
+            ledger.add(MemberPointEvent.MemberPointEventType.EARN.name() + ":" + amount);
+        }
+        ledger.add(MemberPointEvent.MemberPointEventType.USE.name() + ":" + -USE_AMOUNT);
+        ledger.add(MemberPointEvent.MemberPointEventType.EARN.name() + ":" + NOT_EXPIRED_AMOUNT);
+
+        int expiredAmount = EARN_AMOUNTS[0] + EARN_AMOUNTS[1] - USE_AMOUNT;
+        ledger.add(MemberPointEvent.MemberPointEventType.EXPIRE.name() + ":" + -expiredAmount);
+        return ledger.stream().sorted().toList();
+    }
+}
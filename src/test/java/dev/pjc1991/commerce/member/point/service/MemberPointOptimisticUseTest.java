@@ -0,0 +1,94 @@
+package dev.pjc1991.commerce.member.point.service;
+
+import dev.pjc1991.commerce.member.point.component.MemberPointUseLock;
+import dev.pjc1991.commerce.member.point.domain.MemberPointUseLockMode;
+import dev.pjc1991.commerce.member.point.repository.MemberPointBalanceRepository;
+import dev.pjc1991.commerce.member.point.repository.MemberPointDetailRepositoryCustom;
+import dev.pjc1991.commerce.member.repository.MemberRepository;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static dev.pjc1991.commerce.member.point.MemberPointTestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 낙관적 잠금 (OPTIMISTIC) 모드 테스트
+ * 잔액이 아직 없는 회원의 첫 사용이 동시에 들어와도, 잔액 생성 충돌은 다시 시도되고 모든 사용이 반영되어야 합니다.
+ * 다시 시도는 새 트랜잭션에서 하므로 테스트 트랜잭션을 사용하지 않습니다.
+ */
+@SpringBootTest(properties = "member.point.use.lock-mode=OPTIMISTIC")
+@DirtiesContext
+class MemberPointOptimisticUseTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberPointOptimisticUseTest.class);
+
+    private static final int CALLERS = 8;
+    private static final int EARN_AMOUNT = 1000;
+    private static final int USE_AMOUNT = 10;
+
+    @Autowired
+    MemberPointService memberPointService;
+    @Autowired
+    MemberPointUseLock memberPointUseLock;
+    @Autowired
+    MemberPointBalanceRepository memberPointBalanceRepository;
+    @Autowired
+    MemberPointDetailRepositoryCustom memberPointDetailRepositoryCustom;
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Test
+    void concurrentFirstUseCreatesBalanceOnce() throws Exception {
+        // given
+        assertEquals(MemberPointUseLockMode.OPTIMISTIC, memberPointUseLock.getMode());
+        assertFalse(memberPointUseLock.isBalanceLockRequired());
+
+        long memberId = createDummyMember(memberRepository).getId();
+        memberPointService.earnMemberPoint(getTestMemberPointCreateRequest(memberId, EARN_AMOUNT));
+
+        // 잔액이 아직 만들어지지 않은 회원처럼, 적립으로 생성된 잔액을 지웁니다.
+        memberPointBalanceRepository.deleteById(memberId);
+
+        // when
+        ExecutorService executorService = Executors.newFixedThreadPool(CALLERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < CALLERS; i++) {
+                futures.add(executorService.submit(() -> {
+                    start.await();
+                    return memberPointService.useMemberPoint(getTestMemberPointUseRequest(memberId, USE_AMOUNT));
+                }));
+            }
+            start.countDown();
+
+            // then
+
+            // 잔액 생성이 충돌한 사용도 다시 시도되어 성공해야 합니다.
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        int expected = EARN_AMOUNT - CALLERS * USE_AMOUNT;
+        int balance = memberPointBalanceRepository.findById(memberId).orElseThrow().getBalance();
+        log.info("원장 합계 : {}, 잔액 : {}", memberPointDetailRepositoryCustom.getMemberPointTotal(memberId), balance);
+        assertEquals(expected, memberPointDetailRepositoryCustom.getMemberPointTotal(memberId));
+        assertEquals(expected, balance);
+        memberPointService.checkMemberPoint(memberId);
+    }
+}
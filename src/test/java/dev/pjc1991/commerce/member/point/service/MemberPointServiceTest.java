@@ -1,21 +1,36 @@
 package dev.pjc1991.commerce.member.point.service;
 
 import dev.pjc1991.commerce.member.domain.Member;
-import dev.pjc1991.commerce.member.dto.MemberSignupRequest;
+import dev.pjc1991.commerce.member.point.component.MemberPointDetailIdGenerator;
 import dev.pjc1991.commerce.member.point.domain.MemberPointEvent;
+import dev.pjc1991.commerce.member.point.domain.MemberPointExpireCheckpoint;
+import dev.pjc1991.commerce.member.point.domain.MemberPointExpirePartition;
+import dev.pjc1991.commerce.member.point.domain.MemberPointGrant;
 import dev.pjc1991.commerce.member.point.dto.MemberPointCreateRequest;
+import dev.pjc1991.commerce.member.point.dto.MemberPointEarnBatchRequest;
+import dev.pjc1991.commerce.member.point.dto.MemberPointEarnBatchResponse;
+import dev.pjc1991.commerce.member.point.dto.MemberPointEarnBatchResult;
+import dev.pjc1991.commerce.member.point.dto.MemberPointEventCursorResponse;
+import dev.pjc1991.commerce.member.point.dto.MemberPointEventCursorSearch;
 import dev.pjc1991.commerce.member.point.dto.MemberPointEventResponse;
 import dev.pjc1991.commerce.member.point.dto.MemberPointEventSearch;
+import dev.pjc1991.commerce.member.point.dto.MemberPointExpireReport;
 import dev.pjc1991.commerce.member.point.dto.MemberPointUseRequest;
+import dev.pjc1991.commerce.member.point.exception.BadMemberPointCursorException;
 import dev.pjc1991.commerce.member.point.exception.MemberPointAlreadyRollbackedException;
 import dev.pjc1991.commerce.member.point.repository.MemberPointDetailRepository;
+import dev.pjc1991.commerce.member.point.repository.MemberPointDetailRepositoryCustom;
 import dev.pjc1991.commerce.member.point.repository.MemberPointEventRepository;
+import dev.pjc1991.commerce.member.point.repository.MemberPointGrantRepository;
 import dev.pjc1991.commerce.member.repository.MemberRepository;
 import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
@@ -25,13 +40,23 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.domain.Page;
 import org.springframework.test.annotation.Rollback;
 import org.springframework.util.StopWatch;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
+import static dev.pjc1991.commerce.member.point.MemberPointTestFixtures.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
@@ -47,8 +72,12 @@ class MemberPointServiceTest {
     @Autowired
     MemberPointDetailRepository memberPointDetailRepository;
     @Autowired
+    MemberPointDetailRepositoryCustom memberPointDetailRepositoryCustom;
+    @Autowired
     MemberPointService memberPointService;
     @Autowired
+    MemberPointGrantRepository memberPointGrantRepository;
+    @Autowired
     MemberRepository memberRepository;
     @Autowired
     EntityManager entityManager;
@@ -63,24 +92,12 @@ class MemberPointServiceTest {
         // 테스트가 시작되기 전에 더미 데이터를 생성합니다.
         int testCount = 100;
         for (int i = 0; i < testCount; i++) {
-            Member member = createDummyMember();
+            Member member = createDummyMember(memberRepository);
             MemberPointCreateRequest memberPointCreateRequest = getTestMemberPointCreateRequest(member.getId(), Math.toIntExact(Math.round(Math.random() * TEST_POINT_AMOUNT)) + 1);
             MemberPointEvent event = memberPointService.earnMemberPoint(memberPointCreateRequest);
         }
     }
 
-
-    /**
-     * 테스트를 위해 더미 회원 데이터를 생성합니다.
-     * @return 더미 회원
-     */
-    private Member createDummyMember() {
-        MemberSignupRequest memberSignupRequest = new MemberSignupRequest();
-        memberSignupRequest.setName(UUID.randomUUID().toString().substring(0, 10));
-        Member member = memberRepository.save(Member.signup(memberSignupRequest));
-        return member;
-    }
-
     /**
      * 테스트가 끝난 후에는 실행됩니다.
      * 캐시를 제거하고, 적립금이 선입선출로 사용되었는지 확인합니다.
@@ -193,6 +210,54 @@ class MemberPointServiceTest {
         assertEquals(expectedSize, after.getSize());
     }
 
+    /**
+     * 적립금 적립/사용 내역을 커서로 조회합니다.
+     * 커서를 따라 끝까지 조회했을 때, 내역이 중복되거나 누락되지 않아야 합니다.
+     */
+    @Test
+    void getMemberPointEventsByCursor() {
+        // given
+
+        // 적립금 적립/사용 내역을 가진 회원을 생성합니다.
+        Member member = createDummyMember(memberRepository);
+        int testCount = 25;
+        for (int i = 0; i < testCount; i++) {
+            memberPointService.earnMemberPoint(getTestMemberPointCreateRequest(member.getId(), Math.toIntExact(Math.round(Math.random() * TEST_POINT_AMOUNT)) + 1));
+        }
+
+        MemberPointEventCursorSearch search = new MemberPointEventCursorSearch();
+        search.setMemberId(member.getId());
+        search.setSize(10);
+        search.setWithTotal(true);
+
+        // when
+
+        // 다음 페이지가 없을 때까지 커서를 따라 조회합니다.
+        Set<Long> ids = new HashSet<>();
+        int pageCount = 0;
+        MemberPointEventCursorResponse response;
+        do {
+            response = memberPointService.getMemberPointEventCursorResponses(search);
+            response.getContent().forEach(event -> assertTrue(ids.add(event.getId())));
+            search.setCursor(response.getNextCursor());
+            pageCount++;
+        } while (response.isHasNext());
+
+        // then
+
+        // 모든 내역이 한 번씩 조회되었는지 확인합니다.
+        log.info("조회된 페이지 수 : {}", pageCount);
+        log.info("조회된 내역 수 : {}", ids.size());
+        assertEquals(testCount, ids.size());
+        assertEquals(3, pageCount);
+        assertEquals(testCount, response.getTotalCount().longValue());
+        assertNull(response.getNextCursor());
+
+        // 잘못된 커서는 예외를 발생시킵니다.
+        search.setCursor("broken-cursor");
+        assertThrows(BadMemberPointCursorException.class, () -> memberPointService.getMemberPointEventCursorResponses(search));
+    }
+
     /**
      * 적립금 적립/사용 내역을 조회합니다.
      */
@@ -443,6 +508,303 @@ class MemberPointServiceTest {
     }
 
 
+    /**
+     * 많은 적립 건에 걸친 적립금 사용이 묶음 INSERT 로 저장되는지 확인합니다.
+     * 상세 내역의 ID 를 미리 발급받으므로, 상세 내역마다 INSERT 와 UPDATE 를 따로 실행하지 않아야 합니다.
+     */
+    @Test
+    void useMemberPointBatchInsert() {
+        // given
+
+        // 사용할 적립 건의 개수입니다.
+        final int GRANT_COUNT = 200;
+
+        Member member = createDummyMember(memberRepository);
+        for (int i = 0; i < GRANT_COUNT; i++) {
+            memberPointService.earnMemberPoint(getTestMemberPointCreateRequest(member.getId(), 1));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // 실행된 SQL 의 개수를 세기 위해 Hibernate 통계를 사용합니다.
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        boolean statisticsEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+
+        // 모든 적립 건에 걸쳐서 적립금을 사용합니다.
+        MemberPointEvent use = memberPointService.useMemberPoint(getTestMemberPointUseRequest(member.getId(), GRANT_COUNT));
+        entityManager.flush();
+        long prepareStatementCount = statistics.getPrepareStatementCount();
+        long insertCount = statistics.getEntityInsertCount();
+        statistics.setStatisticsEnabled(statisticsEnabled);
+
+        // then
+
+        log.info("적립 건 {}개를 사용할 때 준비된 SQL 의 개수 : {}", GRANT_COUNT, prepareStatementCount);
+        log.info("저장된 엔티티의 개수 : {}", insertCount);
+
+        // 사용 이벤트 1개와 상세 내역 GRANT_COUNT 개가 저장되어야 합니다.
+        assertEquals(GRANT_COUNT + 1, insertCount);
+        // 상세 내역마다 SQL 을 실행했다면 GRANT_COUNT 개 이상이어야 합니다.
+        assertTrue(prepareStatementCount < GRANT_COUNT / 5);
+
+        // 환불 아이디가 자신의 아이디로 저장되었는지 확인합니다.
+        entityManager.clear();
+        memberPointService.getMemberPointEvent(use.getId()).getMemberPointDetails()
+                .forEach(detail -> assertEquals(detail.getId(), detail.getMemberPointDetailRefundId()));
+        assertEquals(0, memberPointService.getMemberPointTotal(member.getId()));
+    }
+
+    /**
+     * 캠페인 지급처럼 많은 회원에게 한 번에 적립금을 적립합니다.
+     * 잘못된 요청은 건별로 실패하고, 나머지 요청은 모두 적립되어야 합니다.
+     * 적립 속도 (건/초) 를 로그로 남깁니다. 목표는 H2 에서 초당 1만 건 이상입니다.
+     */
+    @Test
+    void earnMemberPointBatch() {
+        // given
+
+        // 적립할 회원 수와 회원별 적립 건수입니다.
+        final int MEMBER_COUNT = 1000;
+        final int EARN_PER_MEMBER = 10;
+
+        List<Member> members = new ArrayList<>(MEMBER_COUNT);
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            members.add(createDummyMember(memberRepository));
+        }
+
+        List<MemberPointCreateRequest> items = new ArrayList<>(MEMBER_COUNT * EARN_PER_MEMBER + 2);
+        for (int i = 0; i < EARN_PER_MEMBER; i++) {
+            for (Member member : members) {
+                MemberPointCreateRequest item = getTestMemberPointCreateRequest(member.getId(), i + 1);
+                item.setReason("earnMemberPointBatch");
+                items.add(item);
+            }
+        }
+        // 존재하지 않는 회원과 음수 금액은 실패해야 합니다.
+        items.add(getTestMemberPointCreateRequest(Long.MAX_VALUE, 100));
+        items.add(getTestMemberPointCreateRequest(members.get(0).getId(), -100));
+
+        MemberPointEarnBatchRequest request = new MemberPointEarnBatchRequest();
+        request.setItems(items);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+
+        StopWatch stopWatch = new StopWatch();
+        stopWatch.start();
+        MemberPointEarnBatchResponse response = memberPointService.earnMemberPointBatch(request);
+        entityManager.flush();
+        stopWatch.stop();
+
+        // then
+
+        long grantsPerSecond = Math.round(response.getSuccessCount() / stopWatch.getTotalTimeSeconds());
+        log.info("적립 {}건 소요 시간 : {}ms, 초당 {}건", response.getSuccessCount(), stopWatch.getTotalTimeMillis(), grantsPerSecond);
+
+        assertEquals(MEMBER_COUNT * EARN_PER_MEMBER, response.getSuccessCount());
+        assertEquals(2, response.getFailureCount());
+        assertEquals(items.size(), response.getResults().size());
+
+        // 결과는 요청 순서대로 정렬되어야 합니다.
+        for (int i = 0; i < items.size(); i++) {
+            assertEquals(i, response.getResults().get(i).getIndex());
+        }
+        MemberPointEarnBatchResult unknownMember = response.getResults().get(items.size() - 2);
+        assertFalse(unknownMember.isSuccess());
+        assertNull(unknownMember.getMemberPointEventId());
+        assertFalse(response.getResults().get(items.size() - 1).isSuccess());
+
+        // 회원별 적립금 합계는 1 + 2 + ... + EARN_PER_MEMBER 만큼 늘어나야 합니다.
+        entityManager.clear();
+        int expectedPoint = EARN_PER_MEMBER * (EARN_PER_MEMBER + 1) / 2;
+        for (Member member : List.of(members.get(0), members.get(MEMBER_COUNT / 2), members.get(MEMBER_COUNT - 1))) {
+            assertEquals(expectedPoint, memberPointService.getMemberPointTotal(member.getId()));
+            assertEquals(expectedPoint, memberPointService.rebuildMemberPointBalance(member.getId()));
+        }
+
+        // 적립 사유가 저장되었는지 확인합니다.
+        MemberPointEvent event = memberPointService.getMemberPointEvent(response.getResults().get(0).getMemberPointEventId());
+        assertEquals("earnMemberPointBatch", event.getReason());
+    }
+
+    /**
+     * 회원 적립금 상세 내역의 회원별 조회 실행 계획과 소요 시간을 비교합니다.
+     * 이벤트와 조인해서 회원을 찾는 이전 쿼리와, 상세 내역의 회원 아이디로 찾는 현재 쿼리를 같은 데이터에서 실행합니다.
+     * 기본값은 빌드 시간을 줄이기 위해 20만 건이며, -Dbenchmark.detail.rows=10000000 으로 1,000만 건에서 실행할 수 있습니다.
+     * 빌드의 테스트에서는 제외되고, ./gradlew benchmark 로 실행합니다.
+     */
+    @Test
+    @Tag("benchmark")
+    void memberPointDetailQueryPlanBenchmark() {
+        // given
+
+        // 생성할 상세 내역의 개수와 회원 수입니다.
+        final int ROWS = Integer.getInteger("benchmark.detail.rows", 200000);
+        final int MEMBER_COUNT = 10000;
+        // 조회 시간을 측정할 횟수입니다.
+        final int QUERY_COUNT = 100;
+
+        StopWatch stopWatch = new StopWatch();
+        stopWatch.start("Seed " + ROWS + " rows");
+
+        // 회원과 회원별 적립 이벤트를 한 번에 생성합니다. (H2 SYSTEM_RANGE)
+        String name = UUID.randomUUID().toString().substring(0, 8);
+        entityManager.createNativeQuery("INSERT INTO MEMBER (NAME) SELECT '" + name + "' FROM SYSTEM_RANGE(1, " + MEMBER_COUNT + ")").executeUpdate();
+        long firstMemberId = ((Number) entityManager.createNativeQuery("SELECT MIN(ID) FROM MEMBER WHERE NAME = '" + name + "'").getSingleResult()).longValue();
+        entityManager.createNativeQuery(
+                "INSERT INTO MEMBER_POINT_EVENT (ID, MEMBER_ID, AMOUNT, CREATED_AT, EXPIRE_AT, TYPE, STATUS) " +
+                        "SELECT NEXT VALUE FOR MEMBER_POINT_EVENT_SEQ, ID, 0, LOCALTIMESTAMP, DATEADD('YEAR', 1, LOCALTIMESTAMP), 'EARN', 'ACTIVE' FROM MEMBER WHERE NAME = '" + name + "'"
+        ).executeUpdate();
+
+        // 상세 내역을 한 번에 생성합니다.
+        // 상세 내역은 MEMBER_COUNT 명의 이벤트에 나눠지고, 만료 시점은 1년 전부터 1년 후까지 분포합니다.
+        entityManager.createNativeQuery(
+                "INSERT INTO MEMBER_POINT_DETAIL (ID, MEMBER_POINT_EVENT_ID, MEMBER_POINT_DETAIL_GROUP_ID, MEMBER_ID, AMOUNT, CREATED_AT, EXPIRE_AT, TYPE) " +
+                        "SELECT NEXT VALUE FOR " + MemberPointDetailIdGenerator.SEQUENCE_NAME + ", E.ID, R.X, E.MEMBER_ID, 1, " +
+                        "DATEADD('SECOND', -R.X, LOCALTIMESTAMP), DATEADD('DAY', MOD(R.X, 730) - 365, LOCALTIMESTAMP), 'EARN' " +
+                        "FROM SYSTEM_RANGE(1, " + ROWS + ") R " +
+                        "INNER JOIN MEMBER_POINT_EVENT E ON E.MEMBER_ID = " + firstMemberId + " + MOD(R.X, " + MEMBER_COUNT + ")"
+        ).executeUpdate();
+        stopWatch.stop();
+
+        // 조회할 회원입니다.
+        long memberId = firstMemberId + MEMBER_COUNT / 2;
+
+        // 이전 쿼리 (이벤트와 조인해서 회원을 찾습니다.)
+        String joinQuery = "SELECT SUM(D.AMOUNT) FROM MEMBER_POINT_DETAIL D " +
+                "INNER JOIN MEMBER_POINT_EVENT E ON D.MEMBER_POINT_EVENT_ID = E.ID " +
+                "WHERE E.MEMBER_ID = " + memberId + " AND D.EXPIRE_AT > LOCALTIMESTAMP";
+        // 현재 쿼리 (상세 내역의 회원 아이디로 찾습니다.)
+        String memberIdQuery = "SELECT SUM(D.AMOUNT) FROM MEMBER_POINT_DETAIL D " +
+                "WHERE D.MEMBER_ID = " + memberId + " AND D.EXPIRE_AT > LOCALTIMESTAMP";
+
+        // when
+
+        stopWatch.start("Join Query");
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            entityManager.createNativeQuery(joinQuery).getSingleResult();
+        }
+        stopWatch.stop();
+
+        stopWatch.start("Member Id Query");
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            memberPointDetailRepositoryCustom.getMemberPointTotal(memberId);
+        }
+        stopWatch.stop();
+
+        // then
+
+        // stopWatch.prettyPrint()를 통해 측정된 시간을 기록합니다.
+        log.info(stopWatch.prettyPrint());
+
+        log.info("상세 내역 개수 : {}건", ROWS);
+        log.info("이전 쿼리 실행 계획 : {}", entityManager.createNativeQuery("EXPLAIN " + joinQuery).getSingleResult());
+        log.info("현재 쿼리 실행 계획 : {}", entityManager.createNativeQuery("EXPLAIN " + memberIdQuery).getSingleResult());
+        log.info("이전 쿼리 1회 조회에 소요된 시간 : {}ms", stopWatch.getTaskInfo()[1].getTimeMillis() / QUERY_COUNT);
+        log.info("현재 쿼리 1회 조회에 소요된 시간 : {}ms", stopWatch.getTaskInfo()[2].getTimeMillis() / QUERY_COUNT);
+
+        // 두 쿼리의 결과는 같아야 합니다.
+        Object joinResult = entityManager.createNativeQuery(joinQuery).getSingleResult();
+        int memberIdResult = memberPointDetailRepositoryCustom.getMemberPointTotal(memberId);
+        log.info("이전 쿼리 결과 : {}", joinResult);
+        log.info("현재 쿼리 결과 : {}", memberIdResult);
+        assertEquals(((Number) joinResult).intValue(), memberIdResult);
+
+        // 현재 쿼리는 회원 아이디와 만료 시점으로 구성된 인덱스를 사용해야 합니다.
+        assertTrue(String.valueOf(entityManager.createNativeQuery("EXPLAIN " + memberIdQuery).getSingleResult()).contains("IDX_MEMBER_POINT_DETAIL_MEMBER_ID_EXPIRE_AT_AMOUNT"));
+    }
+
+    /**
+     * 모두 사용된 적립 건이 많은 회원의 적립금 사용을 테스트합니다.
+     * 선입선출 조회는 사용 가능한 (OPEN) 적립 건만 키셋 페이징으로 읽으므로, 모두 사용된 적립 건의 수와 관계없이
+     * 적립 건을 조회하는 쿼리의 개수와 읽어온 적립 건의 개수가 모두 사용된 적립 건이 없는 회원과 같아야 합니다.
+     * 시간 대신 Hibernate 통계로 비교하므로, 모두 사용된 적립 건은 페이지 크기 (100) 보다 충분히 많기만 하면 됩니다.
+     */
+    @Test
+    void useMemberPointWithManyDepletedGrants() {
+        // given
+
+        // 모두 사용된 적립 건의 개수입니다.
+        final int DEPLETED_GRANTS = 2000;
+        // 영속성 컨텍스트를 비우는 주기입니다.
+        final int FLUSH_INTERVAL = 500;
+        // 사용 횟수입니다.
+        final int USE_COUNT = 20;
+
+        Member depletedMember = createDummyMember(memberRepository);
+        Member freshMember = createDummyMember(memberRepository);
+
+        // 1원짜리 적립 건을 생성하고, 모두 사용합니다.
+        for (int i = 0; i < DEPLETED_GRANTS; i++) {
+            memberPointService.earnMemberPoint(getTestMemberPointCreateRequest(depletedMember.getId(), 1));
+            if ((i + 1) % FLUSH_INTERVAL == 0) {
+                memberPointService.useMemberPoint(getTestMemberPointUseRequest(depletedMember.getId(), FLUSH_INTERVAL));
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        assertEquals(0, memberPointService.getMemberPointTotal(depletedMember.getId()));
+
+        // 두 회원에게 같은 적립금을 적립합니다.
+        for (int i = 0; i < USE_COUNT; i++) {
+            memberPointService.earnMemberPoint(getTestMemberPointCreateRequest(depletedMember.getId(), TEST_POINT_AMOUNT));
+            memberPointService.earnMemberPoint(getTestMemberPointCreateRequest(freshMember.getId(), TEST_POINT_AMOUNT));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // 실행된 쿼리와 읽어온 적립 건의 개수를 세기 위해 Hibernate 통계를 사용합니다.
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        boolean statisticsEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+
+        // when
+
+        // 모두 사용된 적립 건이 없는 회원의 적립금을 사용합니다.
+        statistics.clear();
+        for (int i = 0; i < USE_COUNT; i++) {
+            memberPointService.useMemberPoint(getTestMemberPointUseRequest(freshMember.getId(), TEST_POINT_AMOUNT / 2));
+        }
+        entityManager.flush();
+        long freshQueries = statistics.getQueryExecutionCount();
+        long freshGrantLoads = statistics.getEntityStatistics(MemberPointGrant.class.getName()).getLoadCount();
+        entityManager.clear();
+
+        // 모두 사용된 적립 건이 많은 회원의 적립금을 사용합니다.
+        statistics.clear();
+        for (int i = 0; i < USE_COUNT; i++) {
+            memberPointService.useMemberPoint(getTestMemberPointUseRequest(depletedMember.getId(), TEST_POINT_AMOUNT / 2));
+        }
+        entityManager.flush();
+        long depletedQueries = statistics.getQueryExecutionCount();
+        long depletedGrantLoads = statistics.getEntityStatistics(MemberPointGrant.class.getName()).getLoadCount();
+        statistics.setStatisticsEnabled(statisticsEnabled);
+
+        // then
+
+        log.info("모두 사용된 적립 건의 개수 : {}건", DEPLETED_GRANTS);
+        log.info("적립 건이 없는 회원 : 쿼리 {}회, 읽어온 적립 건 {}건", freshQueries, freshGrantLoads);
+        log.info("적립 건이 많은 회원 : 쿼리 {}회, 읽어온 적립 건 {}건", depletedQueries, depletedGrantLoads);
+
+        // 모두 사용된 적립 건은 조회 범위에 포함되지 않아야 합니다.
+        assertEquals(freshQueries, depletedQueries);
+        assertEquals(freshGrantLoads, depletedGrantLoads);
+        assertTrue(depletedGrantLoads <= USE_COUNT);
+
+        // 적립금 합계가 예상한 값과 같은지 확인합니다.
+        int expectedPoint = USE_COUNT * TEST_POINT_AMOUNT / 2;
+        assertEquals(expectedPoint, memberPointService.getMemberPointTotal(freshMember.getId()));
+        assertEquals(expectedPoint, memberPointService.getMemberPointTotal(depletedMember.getId()));
+
+        // 선입선출로 사용되었는지 확인합니다.
+        memberPointService.checkMemberPoint(depletedMember.getId());
+    }
+
     /**
      * 회원 적립금 만료 기능을 테스트합니다.
      * 만료될 적립금이 필요하므로, 임의로 만료 시점이 과거인 적립금을 생성합니다.
@@ -507,6 +869,166 @@ class MemberPointServiceTest {
     }
 
 
+    /**
+     * 중단된 만료 처리를 체크포인트부터 이어서 처리합니다.
+     * 첫 번째 청크만 처리된 상태에서 다시 실행하면, 같은 기준 시점으로 나머지 적립금만 만료 처리해야 합니다.
+     */
+    @Test
+    void expireMemberPointResume() {
+        // given
+
+        // 만료 처리할 적립 건의 개수와 중단되기 전에 처리할 청크 크기입니다.
+        final int EXPIRE_COUNT = 30;
+        final int FIRST_CHUNK_SIZE = 10;
+        final int NOT_EXPIRED_AMOUNT = 1000;
+
+        Member member = createDummyMember(memberRepository);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < EXPIRE_COUNT; i++) {
+            MemberPointEvent event = memberPointService.earnMemberPoint(getTestMemberPointCreateRequest(member.getId(), 100));
+            memberPointService.changeExpireAt(event.getId(), now.minusDays(1L), now.minusYears(1L));
+        }
+        memberPointService.earnMemberPoint(getTestMemberPointCreateRequest(member.getId(), NOT_EXPIRED_AMOUNT));
+
+        // 첫 번째 청크만 처리하고 중단된 상황을 만듭니다.
+        MemberPointExpireCheckpoint checkpoint = memberPointService.startMemberPointExpire(MemberPointExpirePartition.ALL, LocalDateTime.now());
+        LocalDateTime cutoff = checkpoint.getCutoff();
+        assertEquals(FIRST_CHUNK_SIZE, memberPointService.expireMemberPointChunk(MemberPointExpirePartition.ALL, FIRST_CHUNK_SIZE));
+
+        // when
+
+        // 만료 처리를 다시 실행합니다.
+        MemberPointExpireReport report = memberPointService.expireMemberPoint();
+
+        // then
+
+        log.info("만료 처리 결과 : {}", report);
+        assertTrue(report.isResumed());
+        assertEquals(cutoff, report.getCutoff());
+        assertTrue(report.getExpiredCount() >= EXPIRE_COUNT - FIRST_CHUNK_SIZE);
+        assertFalse(checkpoint.isRunning());
+        assertEquals(report.getExpiredCount() + FIRST_CHUNK_SIZE, checkpoint.getExpiredCount());
+
+        // 만료되지 않은 적립금만 남아야 합니다.
+        assertEquals(NOT_EXPIRED_AMOUNT, memberPointService.getMemberPointTotal(member.getId()));
+        assertEquals(NOT_EXPIRED_AMOUNT, memberPointService.rebuildMemberPointBalance(member.getId()));
+        memberPointService.checkMemberPoint(member.getId());
+
+        // 다시 실행하면 새 기준 시점으로 시작하고, 만료 처리할 적립금이 없어야 합니다.
+        MemberPointExpireReport next = memberPointService.expireMemberPoint();
+        assertFalse(next.isResumed());
+        assertEquals(0, next.getExpiredCount());
+    }
+
+    /**
+     * 만료 처리는 만료 시점이 지난 적립 건 중 잔액이 남은 적립 건만 처리합니다.
+     * 만료 전에 모두 사용된 적립 건은 CLOSED 이므로 만료 이벤트가 생성되지 않아야 합니다.
+     */
+    @Test
+    void expireMemberPointOnlyOpenGrants() {
+        // given
+
+        // 적립 건의 개수와 만료 전에 모두 사용할 적립 건의 개수입니다.
+        final int GRANT_COUNT = 20;
+        final int USED_COUNT = 10;
+        final int AMOUNT = 100;
+
+        Member member = createDummyMember(memberRepository);
+        LocalDateTime now = LocalDateTime.now();
+        List<MemberPointEvent> earns = new ArrayList<>(GRANT_COUNT);
+        for (int i = 0; i < GRANT_COUNT; i++) {
+            MemberPointEvent event = memberPointService.earnMemberPoint(getTestMemberPointCreateRequest(member.getId(), AMOUNT));
+            // 적립 순서가 분명하도록 생성 시점을 하루씩 차이나게 설정합니다.
+            memberPointService.changeExpireAt(event.getId(), now.plusYears(1L), now.minusYears(2L).plusDays(i));
+            earns.add(event);
+        }
+
+        // 가장 먼저 적립된 USED_COUNT 개의 적립 건을 모두 사용합니다.
+        memberPointService.useMemberPoint(getTestMemberPointUseRequest(member.getId(), USED_COUNT * AMOUNT));
+
+        // 모든 적립 건의 만료 시점을 과거로 설정합니다.
+        for (int i = 0; i < GRANT_COUNT; i++) {
+            memberPointService.changeExpireAt(earns.get(i).getId(), now.minusDays(1L), now.minusYears(2L).plusDays(i));
+        }
+
+        // when
+        MemberPointExpireReport report = memberPointService.expireMemberPoint();
+
+        // then
+
+        log.info("만료 처리 결과 : {}", report);
+        long expireEventCount = memberPointService.getMemberPointEvents(getMemberPointEventSearch(member.getId(), 0, GRANT_COUNT * 2)).getContent().stream()
+                .filter(event -> event.getType() == MemberPointEvent.MemberPointEventType.EXPIRE)
+                .count();
+        assertEquals(GRANT_COUNT - USED_COUNT, expireEventCount);
+        assertEquals(0, memberPointService.getMemberPointTotal(member.getId()));
+    }
+
+    /**
+     * 적립 건 테이블이 생기기 전의 원장으로부터 적립 건을 백필 (V3__member_point_grant.sql) 한 뒤에도 사용, 만료가 원장과 같아야 합니다.
+     * 적립 건을 삭제해서 백필 이전 상태를 만들고, 적립 건 백필을 두 번 실행합니다.
+     */
+    @Test
+    void useAndExpireMemberPointAfterGrantBackfill() throws IOException {
+        // given
+
+        Member member = createDummyMember(memberRepository);
+        LocalDateTime now = LocalDateTime.now();
+        MemberPointEvent depleted = memberPointService.earnMemberPoint(getTestMemberPointCreateRequest(member.getId(), 100));
+        memberPointService.changeExpireAt(depleted.getId(), now.plusYears(1L), now.minusYears(3L));
+        MemberPointEvent partial = memberPointService.earnMemberPoint(getTestMemberPointCreateRequest(member.getId(), 200));
+        memberPointService.changeExpireAt(partial.getId(), now.plusYears(1L), now.minusYears(2L));
+        MemberPointEvent untouched = memberPointService.earnMemberPoint(getTestMemberPointCreateRequest(member.getId(), 300));
+        memberPointService.useMemberPoint(getTestMemberPointUseRequest(member.getId(), 150));
+
+        long depletedGrantId = depleted.getMemberPointDetails().stream().findFirst().orElseThrow().getId();
+        long partialGrantId = partial.getMemberPointDetails().stream().findFirst().orElseThrow().getId();
+        long untouchedGrantId = untouched.getMemberPointDetails().stream().findFirst().orElseThrow().getId();
+
+        // 적립 건 테이블이 생기기 전처럼 원장만 남깁니다.
+        entityManager.flush();
+        entityManager.createNativeQuery("DELETE FROM MEMBER_POINT_GRANT WHERE MEMBER_ID = :memberId")
+                .setParameter("memberId", member.getId())
+                .executeUpdate();
+        entityManager.clear();
+
+        // when
+
+        String backfill = getGrantBackfillStatement();
+        int inserted = entityManager.createNativeQuery(backfill).executeUpdate();
+        int reinserted = entityManager.createNativeQuery(backfill).executeUpdate();
+        entityManager.clear();
+
+        // then
+
+        // 적립 건마다 한 번만 생성되어야 합니다.
+        assertTrue(inserted >= 3);
+        assertEquals(0, reinserted);
+
+        // 잔액은 원장의 그룹별 합계와 같고, 잔액이 없는 적립 건만 CLOSED 여야 합니다.
+        MemberPointGrant depletedGrant = memberPointGrantRepository.findById(depletedGrantId).orElseThrow();
+        MemberPointGrant partialGrant = memberPointGrantRepository.findById(partialGrantId).orElseThrow();
+        MemberPointGrant untouchedGrant = memberPointGrantRepository.findById(untouchedGrantId).orElseThrow();
+        assertEquals(0, depletedGrant.getRemain());
+        assertFalse(depletedGrant.isOpen());
+        assertEquals(150, partialGrant.getRemain());
+        assertTrue(partialGrant.isOpen());
+        assertEquals(300, untouchedGrant.getRemain());
+        assertTrue(untouchedGrant.isOpen());
+        memberPointService.checkMemberPoint(member.getId());
+
+        // 백필된 적립 건에서 선입선출로 사용하고, 남은 금액을 만료 처리합니다.
+        memberPointService.useMemberPoint(getTestMemberPointUseRequest(member.getId(), 100));
+        assertEquals(50, memberPointGrantRepository.findById(partialGrantId).orElseThrow().getRemain());
+        memberPointService.changeExpireAt(partial.getId(), now.minusDays(1L), now.minusYears(2L));
+        memberPointService.expireMemberPoint();
+
+        assertEquals(300, memberPointService.getMemberPointTotal(member.getId()));
+        assertEquals(300, memberPointService.rebuildMemberPointBalance(member.getId()));
+        assertFalse(memberPointGrantRepository.findById(partialGrantId).orElseThrow().isOpen());
+        memberPointService.checkMemberPoint(member.getId());
+    }
+
     @Test
     void rollbackMemberPointUseResponse() {
         // given
@@ -549,6 +1071,8 @@ class MemberPointServiceTest {
         assertFalse(memberPointEventsAfterRollback.getContent().stream().anyMatch(event -> event.getId() == use.getId()));
         // 사용 이후와 롤백 이후 조회되는 이벤트 갯수가 같아서는 안됩니다.
         assertNotEquals(memberPointEventsAfterUse.getTotalElements(), memberPointEventsAfterRollback.getTotalElements());
+        // 사용 취소된 이벤트의 상태가 CANCELLED 인지 확인합니다.
+        assertEquals(MemberPointEvent.MemberPointEventStatus.CANCELLED, memberPointService.getMemberPointEvent(use.getId()).getStatus());
         // 한번 더 롤백을 수행하면 실패해야 합니다.
         entityManager.flush();
         entityManager.clear();
@@ -557,6 +1081,37 @@ class MemberPointServiceTest {
         });
     }
 
+    /**
+     * 회원 적립금 잔액을 원장으로부터 다시 계산합니다.
+     * 적립/사용/사용 취소로 갱신된 잔액과 다시 계산한 잔액이 모두 원장의 합계와 같아야 합니다.
+     */
+    @Test
+    void rebuildMemberPointBalance() {
+        // given
+
+        // 적립, 사용, 사용 취소를 수행해 잔액을 갱신합니다.
+        memberPointService.earnMemberPoint(getTestMemberPointCreateRequest(TEST_MEMBER_ID, 10000));
+        MemberPointEvent use = memberPointService.useMemberPoint(getTestMemberPointUseRequest(TEST_MEMBER_ID, 3000));
+        memberPointService.useMemberPoint(getTestMemberPointUseRequest(TEST_MEMBER_ID, 1000));
+        memberPointService.rollbackMemberPointUseResponse(TEST_MEMBER_ID, use.getId());
+        int balance = memberPointService.getMemberPointTotal(TEST_MEMBER_ID);
+
+        // when
+
+        // 원장으로부터 잔액을 다시 계산합니다.
+        int rebuilt = memberPointService.rebuildMemberPointBalance(TEST_MEMBER_ID);
+
+        // then
+
+        // 갱신된 잔액과 다시 계산된 잔액이 원장의 합계와 같은지 확인합니다.
+        int ledger = memberPointDetailRepositoryCustom.getMemberPointTotal(TEST_MEMBER_ID);
+        log.info("원장 합계 : {}", ledger);
+        log.info("갱신된 잔액 : {}", balance);
+        log.info("다시 계산된 잔액 : {}", rebuilt);
+        assertEquals(ledger, balance);
+        assertEquals(ledger, rebuilt);
+    }
+
     @Execution(value = ExecutionMode.CONCURRENT)
     @Rollback(value = false)
     @RepeatedTest(30)
@@ -595,33 +1150,21 @@ class MemberPointServiceTest {
      * 이하는 테스트용 유틸리티 메소드들입니다.
      */
 
-
-    /**
-     * 테스트용 적립금 생성 요청 DTO를 생성합니다.
-     *
-     * @param amount   적립할 회원 적립금 금액
-     * @param memberId 적립할 회원 ID
-     * @return 적립금 생성 요청 DTO
-     */
-    private static MemberPointUseRequest getTestMemberPointUseRequest(long memberId, int amount) {
-        MemberPointUseRequest memberPointUseRequest = new MemberPointUseRequest();
-        memberPointUseRequest.setMemberId(memberId);
-        memberPointUseRequest.setAmount(amount);
-        return memberPointUseRequest;
-    }
-
     /**
-     * 테스트용 적립금 사용 요청 DTO를 생성합니다.
+     * 데이터 마이그레이션에서 적립 건 백필 (INSERT INTO MEMBER_POINT_GRANT) 문장만 읽어옵니다.
      *
-     * @param amount   사용할 회원 적립금 금액
-     * @param memberId 사용할 회원 ID
-     * @return 적립금 사용 요청 DTO
+     * @return 적립 건 백필 SQL
      */
-    private static MemberPointCreateRequest getTestMemberPointCreateRequest(long memberId, int amount) {
-        MemberPointCreateRequest memberPointCreateRequest = new MemberPointCreateRequest();
-        memberPointCreateRequest.setMemberId(memberId);
-        memberPointCreateRequest.setAmount(amount);
-        return memberPointCreateRequest;
+    private static String getGrantBackfillStatement() throws IOException {
+        String script = new ClassPathResource("db/migration/V3__member_point_grant.sql").getContentAsString(StandardCharsets.UTF_8)
+                .lines()
+                .filter(line -> !line.trim().startsWith("--"))
+                .collect(Collectors.joining("\n"));
+        return Arrays.stream(script.split(";"))
+                .map(String::trim)
+                .filter(statement -> statement.startsWith("INSERT INTO MEMBER_POINT_GRANT"))
+                .findFirst()
+                .orElseThrow();
     }
 
     /**
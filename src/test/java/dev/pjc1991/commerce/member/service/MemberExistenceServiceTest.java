@@ -0,0 +1,191 @@
+package dev.pjc1991.commerce.member.service;
+
+import dev.pjc1991.commerce.member.domain.Member;
+import dev.pjc1991.commerce.member.exception.MemberNotFoundException;
+import dev.pjc1991.commerce.member.repository.MemberRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.util.StopWatch;
+
+import java.util.List;
+import java.util.Set;
+
+import static dev.pjc1991.commerce.member.point.MemberPointTestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 회원 존재 여부 확인 테스트
+ * 비트셋에 있는 회원은 SQL 을 실행하지 않고, 없는 회원만 데이터베이스에서 확인해야 합니다.
+ * 커밋된 뒤에 비트셋에 추가되므로 테스트 트랜잭션을 사용하지 않습니다.
+ */
+@SpringBootTest
+class MemberExistenceServiceTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberExistenceServiceTest.class);
+
+    private static final int CHECK_COUNT = 10000;
+
+    @Autowired
+    MemberService memberService;
+    @Autowired
+    MemberExistenceService memberExistenceService;
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private boolean statisticsEnabled;
+
+    @BeforeEach
+    void setUp() {
+        // 실행된 SQL 의 개수를 세기 위해 Hibernate 통계를 사용합니다.
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statisticsEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(statisticsEnabled);
+    }
+
+    @Test
+    void signedUpMemberIsCheckedWithoutQuery() {
+        // given
+        Member member = createRegisteredMember();
+
+        // when
+        statistics.clear();
+        memberService.checkMemberExists(member.getId());
+        long transactions = statistics.getTransactionCount();
+        Member reference = memberService.getMemberReferenceById(member.getId());
+
+        // then
+
+        // 비트셋에 있는 회원은 트랜잭션도 열지 않아야 합니다.
+        assertEquals(0, transactions);
+        assertEquals(member.getId(), reference.getId());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void unknownMemberFallsBackToDatabase() {
+        // given
+
+        // 다른 노드에서 가입한 회원처럼, 이 노드의 비트셋을 거치지 않고 저장합니다.
+        Member member = createDummyMember(memberRepository);
+
+        // when
+        statistics.clear();
+        memberService.checkMemberExists(member.getId());
+        long first = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        memberService.checkMemberExists(member.getId());
+        long second = statistics.getPrepareStatementCount();
+
+        // then
+
+        // 처음에는 데이터베이스에서 확인하고, 그 뒤로는 비트셋에서 찾아야 합니다.
+        assertEquals(1, first);
+        assertEquals(0, second);
+
+        // 존재하지 않는 회원은 예외가 발생해야 합니다.
+        assertThrows(MemberNotFoundException.class, () -> memberService.checkMemberExists(Long.MAX_VALUE));
+        assertThrows(MemberNotFoundException.class, () -> memberService.getMemberReferenceById(member.getId() + 1_000_000L));
+    }
+
+    /**
+     * 탈퇴한 회원은 다시 읽어온 뒤에 존재하지 않는 것으로 확인되어야 합니다.
+     */
+    @Test
+    void deletedMemberIsRemovedOnReload() {
+        // given
+        Member member = createRegisteredMember();
+        memberRepository.deleteById(member.getId());
+
+        // when
+        statistics.clear();
+        boolean beforeReload = memberExistenceService.exists(member.getId());
+        long beforeReloadStatements = statistics.getPrepareStatementCount();
+        memberExistenceService.reload();
+        statistics.clear();
+        boolean afterReload = memberExistenceService.exists(member.getId());
+
+        // then
+
+        // 다시 읽어오기 전에는 비트셋에 남아 있으므로 존재하는 것으로 확인됩니다.
+        assertTrue(beforeReload);
+        assertEquals(0, beforeReloadStatements);
+
+        // 다시 읽어온 뒤에는 데이터베이스에서 확인하고, 존재하지 않아야 합니다.
+        assertFalse(afterReload);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void filterExistingQueriesOnlyUnknownMembers() {
+        // given
+        Member known = createRegisteredMember();
+        Member unknown = createDummyMember(memberRepository);
+
+        // when
+        statistics.clear();
+        Set<Long> existing = memberExistenceService.filterExisting(List.of(known.getId(), unknown.getId(), Long.MAX_VALUE));
+
+        // then
+        assertEquals(Set.of(known.getId(), unknown.getId()), existing);
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        statistics.clear();
+        assertEquals(Set.of(known.getId(), unknown.getId()), memberExistenceService.filterExisting(List.of(known.getId(), unknown.getId())));
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    /**
+     * 비트셋으로 확인하는 시간과 데이터베이스 (기본 키 조회) 로 확인하는 시간을 비교합니다.
+     */
+    @Test
+    void checkBenchmark() {
+        // given
+        Member member = createRegisteredMember();
+        StopWatch stopWatch = new StopWatch();
+
+        // when
+        stopWatch.start("bitset");
+        for (int i = 0; i < CHECK_COUNT; i++) {
+            memberService.checkMemberExists(member.getId());
+        }
+        stopWatch.stop();
+
+        stopWatch.start("findById");
+        for (int i = 0; i < CHECK_COUNT; i++) {
+            assertTrue(memberRepository.findById(member.getId()).isPresent());
+        }
+        stopWatch.stop();
+
+        // then
+        log.info(stopWatch.prettyPrint());
+        log.info("회원 존재 여부 확인 {}회 : 비트셋 {}ms, findById {}ms", CHECK_COUNT, stopWatch.getTaskInfo()[0].getTimeMillis(), stopWatch.getTaskInfo()[1].getTimeMillis());
+        assertTrue(stopWatch.getTaskInfo()[0].getTimeNanos() < stopWatch.getTaskInfo()[1].getTimeNanos());
+    }
+
+    /**
+     * 회원을 저장한 뒤, 한 번 확인해서 비트셋에 추가합니다.
+     * @return 더미 회원
+     */
+    private Member createRegisteredMember() {
+        Member member = createDummyMember(memberRepository);
+        assertTrue(memberExistenceService.exists(member.getId()));
+        return member;
+    }
+}